@@ -0,0 +1,52 @@
+package org.selfstudy.taskmaster.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Argon2 cost settings. {@code memory} (KiB) and {@code iterations} are the
+ * floor; with {@code calibrate} on, startup raises them until one hash takes
+ * about {@code targetVerifyTime} on the host. Stored hashes whose cost is
+ * more than {@code rehashTolerance} times off the current cost, or below the
+ * floor, are re-hashed on the next successful login. {@code poolMemory}
+ * keeps one set of Argon2 block memory per hashing thread between hashes.
+ */
+@ConfigurationProperties(prefix = "taskmaster.hashing.argon2")
+public record Argon2Properties(
+
+    @DefaultValue("true")
+    boolean calibrate,
+
+    @DefaultValue("100ms")
+    Duration targetVerifyTime,
+
+    @DefaultValue("16")
+    int saltLength,
+
+    @DefaultValue("32")
+    int hashLength,
+
+    @DefaultValue("1")
+    int parallelism,
+
+    @DefaultValue("4096")
+    int memory,
+
+    @DefaultValue("3")
+    int iterations,
+
+    @DefaultValue("65536")
+    int maxMemory,
+
+    @DefaultValue("10")
+    int maxIterations,
+
+    @DefaultValue("2.0")
+    double rehashTolerance,
+
+    @DefaultValue("true")
+    boolean poolMemory
+
+) {}
@@ -0,0 +1,42 @@
+package org.selfstudy.taskmaster.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Committed user changes wait in a buffer of {@code bufferCapacity} entries,
+ * a power of two, until the writer appends them to {@code directory} up to
+ * {@code batchSize} at a time, forcing each batch to disk when
+ * {@code fsync} is set. A change that finds the buffer full for
+ * {@code offerTimeout} is dropped and counted. A new segment file is
+ * started every {@code segmentSize}.
+ */
+@ConfigurationProperties(prefix = "taskmaster.audit-log")
+public record AuditLogProperties(
+
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("audit")
+    Path directory,
+
+    @DefaultValue("64MB")
+    DataSize segmentSize,
+
+    @DefaultValue("8192")
+    int bufferCapacity,
+
+    @DefaultValue("512")
+    int batchSize,
+
+    @DefaultValue("true")
+    boolean fsync,
+
+    @DefaultValue("100ms")
+    Duration offerTimeout
+
+) {}
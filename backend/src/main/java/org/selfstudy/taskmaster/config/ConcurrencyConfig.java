@@ -0,0 +1,72 @@
+package org.selfstudy.taskmaster.config;
+
+import org.selfstudy.taskmaster.datasource.AdmissionControlledDataSource;
+import org.selfstudy.taskmaster.util.AdmissionLimiter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Admission limits for the two resources request threads block on. They
+ * matter most with spring.threads.virtual.enabled, where nothing else bounds
+ * how many requests reach the connection pool or the hashing executor.
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyProperties.class)
+public class ConcurrencyConfig {
+
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public AdmissionLimiter dbAdmissionLimiter(
+        ConcurrencyProperties properties,
+        Environment environment
+    ) {
+        final int permits = properties.dbPermits() > 0
+            ? properties.dbPermits()
+            : environment.getProperty(
+                "spring.datasource.hikari.maximum-pool-size",
+                Integer.class,
+                HIKARI_DEFAULT_POOL_SIZE
+            );
+        return new AdmissionLimiter("db", permits, properties.dbAcquireTimeout());
+    }
+
+    @Bean
+    public AdmissionLimiter hashingAdmissionLimiter(
+        ConcurrencyProperties properties,
+        PasswordHashingProperties hashingProperties
+    ) {
+        final int permits = properties.hashingPermits() > 0
+            ? properties.hashingPermits()
+            : hashingProperties.effectiveThreads();
+        return new AdmissionLimiter("hashing", permits, properties.hashingAcquireTimeout());
+    }
+
+    // Wraps the auto-configured pool. With replicas configured, "dataSource"
+    // is the routing proxy instead and DataSourceRoutingConfig wraps the
+    // primary pool behind it, which is what the permits are sized for
+    @Bean
+    public static BeanPostProcessor dataSourceAdmissionPostProcessor(
+        @Qualifier("dbAdmissionLimiter") ObjectProvider<AdmissionLimiter> dbAdmissionLimiter
+    ) {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof HikariDataSource dataSource) {
+                    return new AdmissionControlledDataSource(dataSource, dbAdmissionLimiter.getObject());
+                }
+                return bean;
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,77 @@
+package org.selfstudy.taskmaster.config;
+
+import java.util.Map;
+
+import org.selfstudy.taskmaster.security.AdaptiveConcurrencyLimiter;
+import org.selfstudy.taskmaster.security.ConcurrencyLimitFilter;
+import org.selfstudy.taskmaster.security.ConcurrencyLimitFilter.EndpointClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(
+    prefix = "taskmaster.concurrency-limit",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter hashingConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return new AdaptiveConcurrencyLimiter(
+            "hashing",
+            properties.hashingInitialLimit(),
+            properties.minLimit(),
+            properties.hashingMaxLimit()
+        );
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter writeConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return new AdaptiveConcurrencyLimiter(
+            "write",
+            properties.writeInitialLimit(),
+            properties.minLimit(),
+            properties.writeMaxLimit()
+        );
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter readConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return new AdaptiveConcurrencyLimiter(
+            "read",
+            properties.readInitialLimit(),
+            properties.minLimit(),
+            properties.readMaxLimit()
+        );
+    }
+
+    // Ordered just ahead of the Spring Security filter chain
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+        AdaptiveConcurrencyLimiter hashingConcurrencyLimiter,
+        AdaptiveConcurrencyLimiter writeConcurrencyLimiter,
+        AdaptiveConcurrencyLimiter readConcurrencyLimiter,
+        ConcurrencyLimitProperties properties
+    ) {
+        final FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+            new ConcurrencyLimitFilter(
+                Map.of(
+                    EndpointClass.HASHING, hashingConcurrencyLimiter,
+                    EndpointClass.WRITE, writeConcurrencyLimiter,
+                    EndpointClass.READ, readConcurrencyLimiter
+                ),
+                properties.retryAfter()
+            )
+        );
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+}
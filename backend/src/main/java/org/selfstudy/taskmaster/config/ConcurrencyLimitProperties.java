@@ -0,0 +1,38 @@
+package org.selfstudy.taskmaster.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "taskmaster.concurrency-limit")
+public record ConcurrencyLimitProperties(
+
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("1")
+    int minLimit,
+
+    @DefaultValue("4")
+    int hashingInitialLimit,
+
+    @DefaultValue("64")
+    int hashingMaxLimit,
+
+    @DefaultValue("20")
+    int writeInitialLimit,
+
+    @DefaultValue("200")
+    int writeMaxLimit,
+
+    @DefaultValue("50")
+    int readInitialLimit,
+
+    @DefaultValue("1000")
+    int readMaxLimit,
+
+    @DefaultValue("1s")
+    Duration retryAfter
+
+) {}
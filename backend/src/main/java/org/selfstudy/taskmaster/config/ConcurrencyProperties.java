@@ -0,0 +1,23 @@
+package org.selfstudy.taskmaster.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "taskmaster.concurrency")
+public record ConcurrencyProperties(
+
+    @DefaultValue("0")
+    int dbPermits,
+
+    @DefaultValue("2s")
+    Duration dbAcquireTimeout,
+
+    @DefaultValue("0")
+    int hashingPermits,
+
+    @DefaultValue("2s")
+    Duration hashingAcquireTimeout
+
+) {}
@@ -0,0 +1,99 @@
+package org.selfstudy.taskmaster.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.selfstudy.taskmaster.datasource.AdmissionControlledDataSource;
+import org.selfstudy.taskmaster.datasource.ReadYourWritesTracker;
+import org.selfstudy.taskmaster.datasource.ReplicaRoutingDataSource;
+import org.selfstudy.taskmaster.util.AdmissionLimiter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Replaces the auto-configured DataSource once at least one replica is
+ * configured. Flyway keeps migrating the primary directly.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "taskmaster.datasource", name = "replicas[0].url")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        final HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties properties) {
+        return new ReadYourWritesTracker(
+            properties.readYourWritesWindow(),
+            properties.maxTrackedCallers()
+        );
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(
+        HikariDataSource primaryDataSource,
+        DataSourceProperties dataSourceProperties,
+        DataSourceRoutingProperties properties,
+        ReadYourWritesTracker readYourWritesTracker,
+        @Qualifier("dbAdmissionLimiter") AdmissionLimiter dbAdmissionLimiter,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        final List<HikariDataSource> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : properties.replicas()) {
+            final HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + replicas.size());
+            dataSource.setJdbcUrl(replica.url());
+            dataSource.setUsername(
+                replica.username() != null ? replica.username() : dataSourceProperties.determineUsername()
+            );
+            dataSource.setPassword(
+                replica.password() != null ? replica.password() : dataSourceProperties.determinePassword()
+            );
+            dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            dataSource.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            meterRegistry.ifAvailable(
+                registry -> dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry))
+            );
+            replicas.add(dataSource);
+        }
+        // The db permits are sized for the primary pool; replicas have their own
+        return new ReplicaRoutingDataSource(
+            new AdmissionControlledDataSource(primaryDataSource, dbAdmissionLimiter),
+            replicas,
+            readYourWritesTracker
+        );
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+}
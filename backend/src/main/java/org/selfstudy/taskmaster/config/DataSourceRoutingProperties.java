@@ -0,0 +1,36 @@
+package org.selfstudy.taskmaster.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "taskmaster.datasource")
+public record DataSourceRoutingProperties(
+
+    @DefaultValue
+    List<Replica> replicas,
+
+    @DefaultValue("5s")
+    Duration readYourWritesWindow,
+
+    @DefaultValue("100000")
+    int maxTrackedCallers
+
+) {
+
+    /**
+     * Username and password fall back to {@code spring.datasource} when unset.
+     */
+    public record Replica(
+
+        String url,
+
+        String username,
+
+        String password
+
+    ) {}
+
+}
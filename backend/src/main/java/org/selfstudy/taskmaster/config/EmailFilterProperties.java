@@ -0,0 +1,18 @@
+package org.selfstudy.taskmaster.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "taskmaster.email-filter")
+public record EmailFilterProperties(
+
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("1000000")
+    long expectedInsertions,
+
+    @DefaultValue("0.01")
+    double falsePositiveRate
+
+) {}
@@ -0,0 +1,84 @@
+package org.selfstudy.taskmaster.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.selfstudy.taskmaster.security.Argon2MemoryPool;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Dedicated executor for Argon2 work, so that hashing never runs while a
+ * pooled JDBC connection is held and its concurrency is bounded by cores
+ * rather than by request threads.
+ */
+@Configuration
+@EnableConfigurationProperties({ PasswordHashingProperties.class, Argon2Properties.class })
+public class PasswordHashingConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor(
+        PasswordHashingProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        final int threads = properties.effectiveThreads();
+        final Counter rejected = Counter
+            .builder("taskmaster.hashing.rejected")
+            .description("Password hashing tasks rejected because the queue was full")
+            .register(meterRegistry);
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.queueCapacity()),
+            hashingThreadFactory(),
+            (task, pool) -> {
+                rejected.increment();
+                throw new RejectedExecutionException(
+                    "Password hashing queue is full"
+                );
+            }
+        );
+
+        new ExecutorServiceMetrics(executor, "password-hashing", Tags.empty())
+            .bindTo(meterRegistry);
+
+        return executor;
+    }
+
+    @Bean
+    public Argon2MemoryPool argon2MemoryPool(
+        PasswordHashingProperties properties,
+        Argon2Properties argon2Properties
+    ) {
+        return new Argon2MemoryPool(
+            argon2Properties.poolMemory() ? properties.effectiveThreads() : 0,
+            argon2Properties.maxMemory()
+        );
+    }
+
+    private static ThreadFactory hashingThreadFactory() {
+        final AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(
+                runnable,
+                "password-hashing-" + counter.incrementAndGet()
+            );
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
@@ -0,0 +1,26 @@
+package org.selfstudy.taskmaster.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "taskmaster.hashing")
+public record PasswordHashingProperties(
+
+    @DefaultValue("0")
+    int threads,
+
+    @DefaultValue("64")
+    int queueCapacity,
+
+    @DefaultValue("5s")
+    Duration timeout
+
+) {
+
+    public int effectiveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+}
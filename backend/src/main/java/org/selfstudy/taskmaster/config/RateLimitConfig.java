@@ -0,0 +1,34 @@
+package org.selfstudy.taskmaster.config;
+
+import org.selfstudy.taskmaster.security.TokenBucketLimiter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public TokenBucketLimiter ipRateLimiter(RateLimitProperties properties) {
+        return new TokenBucketLimiter(
+            "ip",
+            properties.ipCapacity(),
+            properties.ipRefillPeriod(),
+            properties.maxTrackedKeys(),
+            properties.stripes()
+        );
+    }
+
+    @Bean
+    public TokenBucketLimiter emailRateLimiter(RateLimitProperties properties) {
+        return new TokenBucketLimiter(
+            "email",
+            properties.emailCapacity(),
+            properties.emailRefillPeriod(),
+            properties.maxTrackedKeys(),
+            properties.stripes()
+        );
+    }
+
+}
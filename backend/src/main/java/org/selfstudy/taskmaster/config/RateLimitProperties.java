@@ -0,0 +1,36 @@
+package org.selfstudy.taskmaster.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "taskmaster.rate-limit")
+public record RateLimitProperties(
+
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("20")
+    int ipCapacity,
+
+    @DefaultValue("1m")
+    Duration ipRefillPeriod,
+
+    @DefaultValue("5")
+    int emailCapacity,
+
+    @DefaultValue("1m")
+    Duration emailRefillPeriod,
+
+    @DefaultValue("65536")
+    int maxTrackedKeys,
+
+    @DefaultValue("64")
+    int stripes,
+
+    @DefaultValue("8KB")
+    DataSize maxBodySize
+
+) {}
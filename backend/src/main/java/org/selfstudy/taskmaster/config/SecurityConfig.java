@@ -2,25 +2,56 @@ package org.selfstudy.taskmaster.config;
 
 import java.util.List;
 
+import org.selfstudy.taskmaster.security.AdaptiveArgon2PasswordEncoder;
+import org.selfstudy.taskmaster.security.Argon2MemoryPool;
+import org.selfstudy.taskmaster.security.AuthRateLimitFilter;
+import org.selfstudy.taskmaster.security.TimedPasswordEncoder;
+import org.selfstudy.taskmaster.security.TokenBucketLimiter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(
+        HttpSecurity http,
+        JwtAuthenticationConverter jwtAuthenticationConverter,
+        RateLimitProperties rateLimitProperties,
+        TokenBucketLimiter ipRateLimiter,
+        TokenBucketLimiter emailRateLimiter,
+        ObjectMapper objectMapper
+    ) throws Exception {
+        if (rateLimitProperties.enabled()) {
+            http.addFilterBefore(
+                new AuthRateLimitFilter(
+                    ipRateLimiter,
+                    emailRateLimiter,
+                    objectMapper,
+                    (int) rateLimitProperties.maxBodySize()
+                        .toBytes()
+                ),
+                BearerTokenAuthenticationFilter.class
+            );
+        }
+
         return http
             .csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -35,21 +66,41 @@ public class SecurityConfig {
                     .permitAll()
                     .requestMatchers("/actuator/info")
                     .permitAll()
+                    // Scraped without credentials; only served on the
+                    // management port
+                    .requestMatchers("/actuator/prometheus")
+                    .permitAll()
 
                     // Auth endpoints
                     .requestMatchers(HttpMethod.POST, "/api/auth/register")
                     .permitAll()
                     .requestMatchers(HttpMethod.POST, "/api/auth/login")
                     .permitAll()
+                    .requestMatchers(HttpMethod.POST, "/api/auth/refresh")
+                    .permitAll()
 
                     // Admin endpoints
                     .requestMatchers("/api/admin/**")
                     .hasRole("ADMIN")
 
+                    // User lookups: listings are for admins, a single account
+                    // for its owner (the token subject) or an admin
+                    .requestMatchers(HttpMethod.GET, "/api/users", "/api/users/recent")
+                    .hasRole("ADMIN")
+                    .requestMatchers(HttpMethod.GET, "/api/users/{id}")
+                    .access(new WebExpressionAuthorizationManager("#id == authentication.name or hasRole('ADMIN')"))
+
                     // All other requests must be authenticated
                     .anyRequest()
                     .authenticated()
             )
+            .oauth2ResourceServer(
+                oauth2 -> oauth2
+                    .jwt(
+                        jwt -> jwt
+                            .jwtAuthenticationConverter(jwtAuthenticationConverter)
+                    )
+            )
             .sessionManagement(
                 session -> session
                     .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
@@ -65,8 +116,15 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new Argon2PasswordEncoder(16, 32, 1, 1 << 12, 3);
+    public PasswordEncoder passwordEncoder(
+        Argon2Properties argon2Properties,
+        Argon2MemoryPool argon2MemoryPool,
+        MeterRegistry meterRegistry
+    ) {
+        return new TimedPasswordEncoder(
+            AdaptiveArgon2PasswordEncoder.create(argon2Properties, argon2MemoryPool),
+            meterRegistry
+        );
     }
 
     public CorsConfigurationSource corsConfigurationSource() {
@@ -0,0 +1,42 @@
+package org.selfstudy.taskmaster.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * The scheduler holds reminders due within {@code horizon} and extends it
+ * every {@code refillInterval}, which must be shorter. On startup it also
+ * loads reminders missed up to {@code catchUp} ago; older ones are dropped.
+ * {@code tick} bounds how late a reminder fires, and {@code wheelSize} to
+ * the power of {@code levels} ticks should cover the horizon.
+ */
+@ConfigurationProperties(prefix = "taskmaster.task-reminders")
+public record TaskReminderProperties(
+
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("1s")
+    Duration tick,
+
+    @DefaultValue("64")
+    int wheelSize,
+
+    @DefaultValue("3")
+    int levels,
+
+    @DefaultValue("1h")
+    Duration horizon,
+
+    @DefaultValue("15m")
+    Duration refillInterval,
+
+    @DefaultValue("1h")
+    Duration catchUp,
+
+    @DefaultValue("500")
+    int batchSize
+
+) {}
@@ -0,0 +1,24 @@
+package org.selfstudy.taskmaster.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * {@code maxMemory} bounds the estimated size of all in-memory task indexes
+ * together; the least valuable users' indexes are evicted past it and
+ * rebuilt on their next search. Disabled, search falls back to SQL LIKE.
+ */
+@ConfigurationProperties(prefix = "taskmaster.task-search")
+public record TaskSearchProperties(
+
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("64MB")
+    DataSize maxMemory,
+
+    @DefaultValue("true")
+    boolean warmOnStartup
+
+) {}
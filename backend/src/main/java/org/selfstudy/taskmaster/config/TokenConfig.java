@@ -0,0 +1,114 @@
+package org.selfstudy.taskmaster.config;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.selfstudy.taskmaster.security.TokenDenyList;
+import org.selfstudy.taskmaster.service.AuthService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.util.StringUtils;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+
+@Configuration
+@EnableConfigurationProperties(TokenProperties.class)
+public class TokenConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenConfig.class);
+
+    private static final int MIN_KEY_BYTES = 32;
+
+    @Bean
+    public SecretKey tokenSigningKey(TokenProperties properties) {
+        final byte[] keyBytes;
+        if (StringUtils.hasText(properties.secret())) {
+            keyBytes = Base64.getDecoder()
+                .decode(properties.secret());
+            if (keyBytes.length < MIN_KEY_BYTES) {
+                throw new IllegalStateException(
+                    "taskmaster.auth.token.secret must be at least 256 bits"
+                );
+            }
+        }
+        else {
+            log.warn(
+                "taskmaster.auth.token.secret is not set; using a random key, "
+                    + "issued tokens will not survive a restart"
+            );
+            keyBytes = new byte[MIN_KEY_BYTES];
+            new SecureRandom().nextBytes(keyBytes);
+        }
+        return new SecretKeySpec(keyBytes, "HmacSHA256");
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder(SecretKey tokenSigningKey) {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(tokenSigningKey));
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(
+        SecretKey tokenSigningKey,
+        TokenProperties properties,
+        TokenDenyList tokenDenyList
+    ) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder
+            .withSecretKey(tokenSigningKey)
+            .macAlgorithm(MacAlgorithm.HS256)
+            .build();
+
+        decoder.setJwtValidator(
+            new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefaultWithIssuer(properties.issuer()),
+                jwt -> AuthService.ACCESS_TOKEN_TYPE
+                    .equals(jwt.getClaimAsString(AuthService.TOKEN_TYPE_CLAIM))
+                        ? OAuth2TokenValidatorResult.success()
+                        : invalidToken("Not an access token"),
+                jwt -> tokenDenyList.isRevoked(
+                    Long.valueOf(jwt.getSubject()),
+                    TokenDenyList.issuedAt(jwt)
+                )
+                    ? invalidToken("Token has been revoked")
+                    : OAuth2TokenValidatorResult.success()
+            )
+        );
+
+        return decoder;
+    }
+
+    @Bean
+    public JwtAuthenticationConverter jwtAuthenticationConverter() {
+        JwtGrantedAuthoritiesConverter authorities = new JwtGrantedAuthoritiesConverter();
+        authorities.setAuthoritiesClaimName(AuthService.ROLES_CLAIM);
+        authorities.setAuthorityPrefix("ROLE_");
+
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(authorities);
+        return converter;
+    }
+
+    private static OAuth2TokenValidatorResult invalidToken(String description) {
+        return OAuth2TokenValidatorResult.failure(
+            new OAuth2Error("invalid_token", description, null)
+        );
+    }
+
+}
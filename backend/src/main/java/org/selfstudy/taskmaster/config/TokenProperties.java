@@ -0,0 +1,22 @@
+package org.selfstudy.taskmaster.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "taskmaster.auth.token")
+public record TokenProperties(
+
+    String secret,
+
+    @DefaultValue("taskmaster")
+    String issuer,
+
+    @DefaultValue("15m")
+    Duration accessTokenTtl,
+
+    @DefaultValue("7d")
+    Duration refreshTokenTtl
+
+) {}
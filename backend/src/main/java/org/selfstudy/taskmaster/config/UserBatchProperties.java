@@ -0,0 +1,20 @@
+package org.selfstudy.taskmaster.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "taskmaster.user-batch")
+public record UserBatchProperties(
+
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("2ms")
+    Duration window,
+
+    @DefaultValue("100")
+    int maxBatchSize
+
+) {}
@@ -0,0 +1,20 @@
+package org.selfstudy.taskmaster.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "taskmaster.user-cache")
+public record UserCacheProperties(
+
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("100000")
+    long maximumSize,
+
+    @DefaultValue("10m")
+    Duration expireAfterWrite
+
+) {}
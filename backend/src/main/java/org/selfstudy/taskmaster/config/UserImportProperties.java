@@ -0,0 +1,12 @@
+package org.selfstudy.taskmaster.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "taskmaster.user-import")
+public record UserImportProperties(
+
+    @DefaultValue("500")
+    int batchSize
+
+) {}
@@ -0,0 +1,34 @@
+package org.selfstudy.taskmaster.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Changes are always written to the outbox; {@code relayEnabled} decides
+ * whether this instance drains it. Delivered rows are kept for
+ * {@code retention} and then deleted {@code pruneChunkSize} at a time.
+ */
+@ConfigurationProperties(prefix = "taskmaster.user-outbox")
+public record UserOutboxProperties(
+
+    @DefaultValue("true")
+    boolean relayEnabled,
+
+    @DefaultValue("500ms")
+    Duration pollInterval,
+
+    @DefaultValue("500")
+    int batchSize,
+
+    @DefaultValue("1h")
+    Duration retention,
+
+    @DefaultValue("1m")
+    Duration pruneInterval,
+
+    @DefaultValue("1000")
+    int pruneChunkSize
+
+) {}
@@ -0,0 +1,85 @@
+package org.selfstudy.taskmaster.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+
+import org.selfstudy.taskmaster.entities.user.dto.UserAuditRecord;
+import org.selfstudy.taskmaster.entities.user.dto.UserImportResult;
+import org.selfstudy.taskmaster.entities.user.dto.UserStatusCounts;
+import org.selfstudy.taskmaster.entities.user.enums.UserImportFormat;
+import org.selfstudy.taskmaster.exception.InvalidQueryParameterException;
+import org.selfstudy.taskmaster.service.AuditLogService;
+import org.selfstudy.taskmaster.service.UserImportService;
+import org.selfstudy.taskmaster.service.UserStatusCountService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("api/admin/users")
+@CrossOrigin(origins = "http://localhost:3030")
+public class AdminUserController {
+
+    public static final int DEFAULT_AUDIT_LIMIT = 100;
+    public static final int MAX_AUDIT_LIMIT = 1000;
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final UserImportService userImportService;
+    private final UserStatusCountService userStatusCountService;
+    private final AuditLogService auditLogService;
+
+    public AdminUserController(
+        UserImportService userImportService,
+        UserStatusCountService userStatusCountService,
+        AuditLogService auditLogService
+    ) {
+        this.userImportService      = userImportService;
+        this.userStatusCountService = userStatusCountService;
+        this.auditLogService        = auditLogService;
+    }
+
+    @GetMapping("/status-counts")
+    public UserStatusCounts statusCounts() {
+        return userStatusCountService.getCounts();
+    }
+
+    // Oldest first; the next page passes the last entry's sequence as
+    // afterSequence, since several entries can share an occurredAt
+    @GetMapping("/{id}/audit")
+    public List<UserAuditRecord> audit(
+        @PathVariable Long id,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+        @RequestParam(required = false) Long afterSequence,
+        @RequestParam(defaultValue = "" + DEFAULT_AUDIT_LIMIT) int limit
+    ) {
+        if (limit < 1 || limit > MAX_AUDIT_LIMIT) {
+            throw new InvalidQueryParameterException("Limit must be between 1 and " + MAX_AUDIT_LIMIT);
+        }
+        return auditLogService.findByUser(id, from, to, afterSequence, limit);
+    }
+
+    @PostMapping(path = "/import", consumes = TEXT_CSV_VALUE)
+    public UserImportResult importCsv(InputStream body) throws IOException {
+        try (body) {
+            return userImportService.importUsers(body, UserImportFormat.CSV);
+        }
+    }
+
+    @PostMapping(path = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public UserImportResult importNdjson(InputStream body) throws IOException {
+        try (body) {
+            return userImportService.importUsers(body, UserImportFormat.NDJSON);
+        }
+    }
+
+}
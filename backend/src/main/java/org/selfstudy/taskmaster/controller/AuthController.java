@@ -0,0 +1,49 @@
+package org.selfstudy.taskmaster.controller;
+
+import org.selfstudy.taskmaster.entities.auth.dto.LoginRequest;
+import org.selfstudy.taskmaster.entities.auth.dto.RefreshTokenRequest;
+import org.selfstudy.taskmaster.entities.auth.dto.TokenResponse;
+import org.selfstudy.taskmaster.entities.user.dto.UserCreateRequest;
+import org.selfstudy.taskmaster.entities.user.dto.UserResponse;
+import org.selfstudy.taskmaster.service.AuthService;
+import org.selfstudy.taskmaster.service.UserService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("api/auth")
+@CrossOrigin(origins = "http://localhost:3030")
+public class AuthController {
+
+    private final AuthService authService;
+    private final UserService userService;
+
+    public AuthController(AuthService authService, UserService userService) {
+        this.authService = authService;
+        this.userService = userService;
+    }
+
+    @PostMapping("/register")
+    @ResponseStatus(HttpStatus.CREATED)
+    public UserResponse register(@Valid @RequestBody UserCreateRequest request) {
+        return UserResponse.from(userService.createUser(request));
+    }
+
+    @PostMapping("/login")
+    public TokenResponse login(@Valid @RequestBody LoginRequest request) {
+        return authService.login(request);
+    }
+
+    @PostMapping("/refresh")
+    public TokenResponse refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return authService.refresh(request);
+    }
+
+}
@@ -0,0 +1,153 @@
+package org.selfstudy.taskmaster.controller;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import org.selfstudy.taskmaster.entities.task.dto.TaskCreateRequest;
+import org.selfstudy.taskmaster.entities.task.dto.TaskPage;
+import org.selfstudy.taskmaster.entities.task.dto.TaskPosition;
+import org.selfstudy.taskmaster.entities.task.dto.TaskResponse;
+import org.selfstudy.taskmaster.entities.task.dto.TaskUpdateRequest;
+import org.selfstudy.taskmaster.entities.task.enums.TaskStatus;
+import org.selfstudy.taskmaster.exception.InvalidQueryParameterException;
+import org.selfstudy.taskmaster.exception.TaskNotFoundException;
+import org.selfstudy.taskmaster.service.TaskSearchService;
+import org.selfstudy.taskmaster.service.TaskService;
+import org.selfstudy.taskmaster.util.CursorCodec;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+
+// Every task is looked up through the caller's own id, taken from the access
+// token, so other users' tasks are indistinguishable from missing ones
+@RestController
+@RequestMapping("api/tasks")
+@CrossOrigin(origins = "http://localhost:3030")
+public class TaskController {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskService taskService;
+    private final TaskSearchService taskSearchService;
+
+    public TaskController(TaskService taskService, TaskSearchService taskSearchService) {
+        this.taskService       = taskService;
+        this.taskSearchService = taskSearchService;
+    }
+
+    @GetMapping("/{id}")
+    public TaskResponse getTask(@AuthenticationPrincipal Jwt jwt, @PathVariable Long id) {
+        return taskService.findTask(ownerId(jwt), id)
+            .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
+    }
+
+    @GetMapping
+    public TaskPage getTasks(
+        @AuthenticationPrincipal Jwt jwt,
+        @RequestParam TaskStatus status,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit
+    ) {
+        TaskPosition after = null;
+        if (cursor != null) {
+            final String[] position = CursorCodec.decode(cursor, 2);
+            after = new TaskPosition(
+                position[0].isEmpty() ? null : parseDueAt(position[0]),
+                parseId(position[1])
+            );
+        }
+        final int size = pageSize(limit);
+        final List<TaskResponse> tasks = taskService.findTasksAfter(ownerId(jwt), status, after, size);
+        String next = null;
+        if (tasks.size() == size) {
+            final TaskResponse last = tasks.getLast();
+            next = CursorCodec.encode(
+                last.dueAt() == null ? "" : last.dueAt()
+                    .toString(),
+                String.valueOf(last.id())
+            );
+        }
+        return new TaskPage(tasks, next);
+    }
+
+    @GetMapping("/search")
+    public List<TaskResponse> searchTasks(
+        @AuthenticationPrincipal Jwt jwt,
+        @RequestParam String q,
+        @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit
+    ) {
+        return taskSearchService.search(ownerId(jwt), q, pageSize(limit));
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public TaskResponse createTask(
+        @AuthenticationPrincipal Jwt jwt,
+        @Valid @RequestBody TaskCreateRequest request
+    ) {
+        return taskService.createTask(ownerId(jwt), request);
+    }
+
+    @PatchMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void updateTask(
+        @AuthenticationPrincipal Jwt jwt,
+        @PathVariable Long id,
+        @Valid @RequestBody TaskUpdateRequest request
+    ) {
+        taskService.updateTask(ownerId(jwt), id, request);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteTask(@AuthenticationPrincipal Jwt jwt, @PathVariable Long id) {
+        taskService.deleteTask(ownerId(jwt), id);
+    }
+
+    private static Long ownerId(Jwt jwt) {
+        return Long.valueOf(jwt.getSubject());
+    }
+
+    private static int pageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidQueryParameterException(
+                "Page size must be between 1 and " + MAX_PAGE_SIZE
+            );
+        }
+        return limit;
+    }
+
+    private static long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        }
+        catch (NumberFormatException e) {
+            throw new InvalidQueryParameterException("Malformed cursor", e);
+        }
+    }
+
+    private static LocalDateTime parseDueAt(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        }
+        catch (DateTimeParseException e) {
+            throw new InvalidQueryParameterException("Malformed cursor", e);
+        }
+    }
+
+}
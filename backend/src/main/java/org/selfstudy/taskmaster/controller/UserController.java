@@ -1,11 +1,205 @@
 package org.selfstudy.taskmaster.controller;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.selfstudy.taskmaster.entities.user.dto.UserPage;
+import org.selfstudy.taskmaster.entities.user.dto.UserResponse;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+import org.selfstudy.taskmaster.exception.InvalidQueryParameterException;
+import org.selfstudy.taskmaster.exception.UserNotFoundException;
 import org.selfstudy.taskmaster.service.UserService;
+import org.selfstudy.taskmaster.util.CursorCodec;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("api/users")
 @CrossOrigin(origins = "http://localhost:3030")
-public class UserController {}
+public class UserController {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private static final Map<String, Function<UserResponse, Object>> FIELDS = fields();
+
+    private final UserService userService;
+
+    public UserController(UserService userService) {
+        this.userService = userService;
+    }
+
+    // The ETag is checked before the body is written, so a match costs one
+    // cache lookup and no serialization
+    @GetMapping("/{id}")
+    public ResponseEntity<UserResponse> getUser(@PathVariable Long id, WebRequest request) {
+        final UserResponse user = userService.findUserById(id)
+            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + id));
+        final String etag = etag(user);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .body(user);
+    }
+
+    @GetMapping(params = "ids")
+    public UserPage getUsers(
+        @RequestParam List<Long> ids,
+        @RequestParam(required = false) String fields
+    ) {
+        final List<String> selected = selectFields(fields);
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new InvalidQueryParameterException(
+                "At most " + MAX_BATCH_SIZE + " ids may be requested at once"
+            );
+        }
+        return page(userService.findUsersByIds(ids), selected, null);
+    }
+
+    @GetMapping(params = "status")
+    public UserPage getUsersByStatus(
+        @RequestParam UserStatus status,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+        @RequestParam(required = false) String fields
+    ) {
+        final List<String> selected = selectFields(fields);
+        final long afterId = cursor == null ? 0L : parseId(CursorCodec.decode(cursor, 1)[0]);
+        final int size = pageSize(limit);
+        final List<UserResponse> users = userService.findUsersByStatusAfter(status, afterId, size);
+        final String next = users.size() < size ? null : CursorCodec.encode(
+            String.valueOf(
+                users.getLast()
+                    .id()
+            )
+        );
+        return page(users, selected, next);
+    }
+
+    @GetMapping("/recent")
+    public UserPage getRecentUsers(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit,
+        @RequestParam(required = false) String fields
+    ) {
+        final List<String> selected = selectFields(fields);
+        LocalDateTime afterCreatedAt = since;
+        // No row ties with since on id, so the first page is createdAt > since
+        long afterId = Long.MAX_VALUE;
+        if (cursor != null) {
+            final String[] position = CursorCodec.decode(cursor, 2);
+            afterCreatedAt = parseCreatedAt(position[0]);
+            afterId        = parseId(position[1]);
+        }
+        final int size = pageSize(limit);
+        final List<UserResponse> users = userService.findRecentUsersAfter(afterCreatedAt, afterId, size);
+        String next = null;
+        if (users.size() == size) {
+            final UserResponse last = users.getLast();
+            next = CursorCodec.encode(
+                last.createdAt()
+                    .toString(),
+                String.valueOf(last.id())
+            );
+        }
+        return page(users, selected, next);
+    }
+
+    private static UserPage page(List<UserResponse> users, List<String> selected, String nextCursor) {
+        return new UserPage(
+            users.stream()
+                .map(user -> project(user, selected))
+                .toList(),
+            nextCursor
+        );
+    }
+
+    private static Map<String, Object> project(UserResponse user, List<String> selected) {
+        final Map<String, Object> item = new LinkedHashMap<>();
+        for (String field : selected) {
+            item.put(field, FIELDS.get(field)
+                .apply(user));
+        }
+        return item;
+    }
+
+    private static List<String> selectFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return List.copyOf(FIELDS.keySet());
+        }
+        final List<String> selected = Arrays.stream(fields.split(","))
+            .map(String::trim)
+            .filter(field -> !field.isEmpty())
+            .distinct()
+            .toList();
+        for (String field : selected) {
+            if (!FIELDS.containsKey(field)) {
+                throw new InvalidQueryParameterException("Unknown field: " + field);
+            }
+        }
+        return selected;
+    }
+
+    private static int pageSize(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidQueryParameterException(
+                "Page size must be between 1 and " + MAX_PAGE_SIZE
+            );
+        }
+        return limit;
+    }
+
+    private static long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        }
+        catch (NumberFormatException e) {
+            throw new InvalidQueryParameterException("Malformed cursor", e);
+        }
+    }
+
+    private static LocalDateTime parseCreatedAt(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        }
+        catch (DateTimeParseException e) {
+            throw new InvalidQueryParameterException("Malformed cursor", e);
+        }
+    }
+
+    // Writes always move lastModified forward; rows never updated fall back
+    // to createdAt
+    private static String etag(UserResponse user) {
+        final LocalDateTime version = user.lastModified() != null ? user.lastModified() : user.createdAt();
+        final long micros = version.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + version.getNano() / 1_000;
+        return "\"" + user.id() + "-" + Long.toString(micros, 36) + "\"";
+    }
+
+    private static Map<String, Function<UserResponse, Object>> fields() {
+        final Map<String, Function<UserResponse, Object>> fields = new LinkedHashMap<>();
+        fields.put("id", UserResponse::id);
+        fields.put("email", UserResponse::email);
+        fields.put("status", UserResponse::status);
+        fields.put("createdAt", UserResponse::createdAt);
+        fields.put("lastModified", UserResponse::lastModified);
+        return fields;
+    }
+
+}
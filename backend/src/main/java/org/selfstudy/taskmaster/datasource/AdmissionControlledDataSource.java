@@ -0,0 +1,86 @@
+package org.selfstudy.taskmaster.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.selfstudy.taskmaster.util.AdmissionLimiter;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Holds an admission permit for as long as a connection is checked out. With
+ * as many permits as the pool has connections, admitted callers never wait
+ * inside Hikari, and the excess fails fast instead of timing out together.
+ */
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+
+    private final AdmissionLimiter limiter;
+
+    public AdmissionControlledDataSource(DataSource target, AdmissionLimiter limiter) {
+        super(target);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        admit();
+        try {
+            return releasing(obtainTargetDataSource().getConnection());
+        }
+        catch (SQLException | RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        admit();
+        try {
+            return releasing(obtainTargetDataSource().getConnection(username, password));
+        }
+        catch (SQLException | RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
+    }
+
+    private void admit() throws SQLTransientConnectionException {
+        if (!limiter.tryAcquire()) {
+            throw new SQLTransientConnectionException(
+                "Database admission timed out after " + limiter.timeout()
+            );
+        }
+    }
+
+    private Connection releasing(Connection target) {
+        final AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                    try {
+                        target.close();
+                    }
+                    finally {
+                        limiter.release();
+                    }
+                    return null;
+                }
+                try {
+                    return method.invoke(target, args);
+                }
+                catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            }
+        );
+    }
+
+}
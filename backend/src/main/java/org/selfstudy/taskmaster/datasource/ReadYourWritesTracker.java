@@ -0,0 +1,81 @@
+package org.selfstudy.taskmaster.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Remembers which callers committed a write recently so their reads can stay
+ * on the primary until replicas have caught up. A caller is the authenticated
+ * principal, or the client address for anonymous requests such as register.
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final int maxCallers;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window, int maxCallers) {
+        this(window, maxCallers, System::nanoTime);
+    }
+
+    ReadYourWritesTracker(Duration window, int maxCallers, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.maxCallers  = maxCallers;
+        this.nanoClock   = nanoClock;
+    }
+
+    public void recordWrite(String caller) {
+        if (caller == null || windowNanos <= 0) {
+            return;
+        }
+        final long now = nanoClock.getAsLong();
+        lastWrites.put(caller, now);
+        if (lastWrites.size() > maxCallers) {
+            lastWrites.values()
+                .removeIf(writtenAt -> now - writtenAt >= windowNanos);
+        }
+    }
+
+    public boolean wroteRecently(String caller) {
+        if (caller == null) {
+            return false;
+        }
+        final Long writtenAt = lastWrites.get(caller);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (nanoClock.getAsLong() - writtenAt < windowNanos) {
+            return true;
+        }
+        lastWrites.remove(caller, writtenAt);
+        return false;
+    }
+
+    public int trackedCallers() {
+        return lastWrites.size();
+    }
+
+    public static String currentCaller() {
+        final Authentication authentication = SecurityContextHolder.getContext()
+            .getAuthentication();
+        if (authentication != null
+            && authentication.isAuthenticated()
+            && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return "ip:" + attributes.getRequest()
+                .getRemoteAddr();
+        }
+        return null;
+    }
+
+}
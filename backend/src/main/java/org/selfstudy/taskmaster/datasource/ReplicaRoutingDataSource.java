@@ -0,0 +1,133 @@
+package org.selfstudy.taskmaster.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Sends read-only transactions to the replicas in turn and everything else to
+ * the primary. A caller that committed a write within the read-your-writes
+ * window keeps reading from the primary.
+ *
+ * The routing decision needs the transaction's read-only flag, which is only
+ * set after the transaction manager has begun, so this must sit behind a
+ * LazyConnectionDataSourceProxy.
+ */
+public final class ReplicaRoutingDataSource extends AbstractRoutingDataSource
+    implements MeterBinder, AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final List<HikariDataSource> replicas;
+    private final String[] replicaKeys;
+    private final ReadYourWritesTracker tracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder nonTransactional = new LongAdder();
+    private final LongAdder readYourWrites = new LongAdder();
+    private final LongAdder replicaReads = new LongAdder();
+
+    public ReplicaRoutingDataSource(
+        DataSource primary,
+        List<HikariDataSource> replicas,
+        ReadYourWritesTracker tracker
+    ) {
+        this.replicas    = List.copyOf(replicas);
+        this.replicaKeys = new String[replicas.size()];
+        this.tracker     = tracker;
+
+        final Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            replicaKeys[i] = "replica-" + i;
+            targets.put(replicaKeys[i], replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            nonTransactional.increment();
+            return PRIMARY;
+        }
+
+        final String caller = ReadYourWritesTracker.currentCaller();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            recordWriteOnCommit(caller);
+            return PRIMARY;
+        }
+        if (replicaKeys.length == 0 || tracker.wroteRecently(caller)) {
+            readYourWrites.increment();
+            return PRIMARY;
+        }
+
+        replicaReads.increment();
+        return replicaKeys[Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.length)];
+    }
+
+    private void recordWriteOnCommit(String caller) {
+        if (caller == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    tracker.recordWrite(caller);
+                }
+
+            }
+        );
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindRoute(registry, PRIMARY, "write", writes);
+        bindRoute(registry, PRIMARY, "no_transaction", nonTransactional);
+        bindRoute(registry, PRIMARY, "read_your_writes", readYourWrites);
+        bindRoute(registry, "replica", "read", replicaReads);
+
+        Gauge.builder("taskmaster.datasource.routing.tracked.callers", tracker, ReadYourWritesTracker::trackedCallers)
+            .description("Callers currently pinned to the primary after a write")
+            .register(registry);
+    }
+
+    private static void bindRoute(
+        MeterRegistry registry,
+        String target,
+        String reason,
+        LongAdder counter
+    ) {
+        FunctionCounter.builder("taskmaster.datasource.routing", counter, LongAdder::sum)
+            .description("Connections routed to the primary or a replica")
+            .tag("target", target)
+            .tag("reason", reason)
+            .register(registry);
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+
+}
@@ -0,0 +1,10 @@
+package org.selfstudy.taskmaster.entities.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+
+    @NotBlank(message = "Refresh token is required")
+    String refreshToken
+
+) {}
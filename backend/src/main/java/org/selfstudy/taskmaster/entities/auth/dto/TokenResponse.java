@@ -0,0 +1,10 @@
+package org.selfstudy.taskmaster.entities.auth.dto;
+
+public record TokenResponse(
+
+    String accessToken,
+    String refreshToken,
+    String tokenType,
+    long expiresIn
+
+) {}
@@ -0,0 +1,185 @@
+package org.selfstudy.taskmaster.entities.task;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.selfstudy.taskmaster.entities.task.dto.TaskCreateRequest;
+import org.selfstudy.taskmaster.entities.task.enums.TaskStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "tasks")
+public class Task {
+
+    public static final int TITLE_MAX_LENGTH = 200;
+    public static final int DESCRIPTION_MAX_LENGTH = 4000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
+    private Long id;
+
+    // A plain id rather than a User association: every query is already
+    // scoped by owner, and none of them needs the user loaded
+    @Column(name = "owner_id", nullable = false, updatable = false)
+    private Long ownerId;
+
+    @Column(nullable = false, length = TITLE_MAX_LENGTH)
+    private String title;
+
+    @Column(length = DESCRIPTION_MAX_LENGTH)
+    private String description;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt = now();
+
+    @Column(name = "last_modified")
+    private LocalDateTime lastModified;
+
+    // Written only by the reminder scheduler's claim and cleared by bulk
+    // updates of the due date
+    @Column(name = "reminded_at", insertable = false, updatable = false)
+    private LocalDateTime remindedAt;
+
+    @PreUpdate
+    protected void onUpdate() {
+        lastModified = now();
+    }
+
+    protected Task() {
+    }
+
+    protected Task(
+        Long id,
+        Long ownerId,
+        String title,
+        String description,
+        TaskStatus status,
+        LocalDateTime dueAt,
+        LocalDateTime createdAt,
+        LocalDateTime lastModified
+    ) {
+        this.id           = id;
+        this.ownerId      = ownerId;
+        this.title        = title;
+        this.description  = description;
+        this.status       = status;
+        this.dueAt        = dueAt;
+        this.createdAt    = createdAt;
+        this.lastModified = lastModified;
+    }
+
+    public static Task createFromDto(Long ownerId, TaskCreateRequest request) {
+        return new Task(
+            null,
+            ownerId,
+            request.title(),
+            request.description(),
+            TaskStatus.TODO,
+            truncate(request.dueAt()),
+            now(),
+            null
+        );
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
+
+    public LocalDateTime getRemindedAt() {
+        return remindedAt;
+    }
+
+    // Match the column precision so keyset cursors taken from an entity that
+    // was just persisted compare equal to the stored row
+    public static LocalDateTime truncate(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static LocalDateTime now() {
+        return truncate(LocalDateTime.now());
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((id == null) ? 0 : id.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        Task other = (Task) obj;
+        if (id == null) {
+            if (other.id != null) {
+                return false;
+            }
+        }
+        else if (!id.equals(other.id)) {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "Task [id=" + id + ", ownerId=" + ownerId + ", title=" + title + ", status=" + status +
+               ", dueAt=" + dueAt + ", createdAt=" + createdAt + ", lastModified=" + lastModified + "]";
+    }
+
+}
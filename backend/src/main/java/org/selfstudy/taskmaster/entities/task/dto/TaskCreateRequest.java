@@ -0,0 +1,21 @@
+package org.selfstudy.taskmaster.entities.task.dto;
+
+import java.time.LocalDateTime;
+
+import org.selfstudy.taskmaster.entities.task.Task;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record TaskCreateRequest(
+
+    @NotBlank(message = "Title is required")
+    @Size(max = Task.TITLE_MAX_LENGTH, message = "Title must be at most 200 characters long")
+    String title,
+
+    @Size(max = Task.DESCRIPTION_MAX_LENGTH, message = "Description must be at most 4000 characters long")
+    String description,
+
+    LocalDateTime dueAt
+
+) {}
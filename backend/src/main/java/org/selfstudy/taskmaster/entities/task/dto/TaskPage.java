@@ -0,0 +1,11 @@
+package org.selfstudy.taskmaster.entities.task.dto;
+
+import java.util.List;
+
+public record TaskPage(
+
+    List<TaskResponse> items,
+
+    String nextCursor
+
+) {}
@@ -0,0 +1,14 @@
+package org.selfstudy.taskmaster.entities.task.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The last task of a page. Tasks are listed by due date, then id, with
+ * undated tasks last; a {@code null} dueAt places the position among those.
+ */
+public record TaskPosition(
+
+    LocalDateTime dueAt,
+    long id
+
+) {}
@@ -0,0 +1,11 @@
+package org.selfstudy.taskmaster.entities.task.dto;
+
+import java.time.LocalDateTime;
+
+public record TaskReminder(
+
+    Long taskId,
+    Long ownerId,
+    LocalDateTime dueAt
+
+) {}
@@ -0,0 +1,32 @@
+package org.selfstudy.taskmaster.entities.task.dto;
+
+import java.time.LocalDateTime;
+
+import org.selfstudy.taskmaster.entities.task.Task;
+import org.selfstudy.taskmaster.entities.task.enums.TaskStatus;
+
+public record TaskResponse(
+
+    Long id,
+    String title,
+    String description,
+    TaskStatus status,
+    LocalDateTime dueAt,
+    LocalDateTime createdAt,
+    LocalDateTime lastModified
+
+) {
+
+    public static TaskResponse from(Task task) {
+        return new TaskResponse(
+            task.getId(),
+            task.getTitle(),
+            task.getDescription(),
+            task.getStatus(),
+            task.getDueAt(),
+            task.getCreatedAt(),
+            task.getLastModified()
+        );
+    }
+
+}
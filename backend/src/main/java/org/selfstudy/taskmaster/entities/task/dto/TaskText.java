@@ -0,0 +1,10 @@
+package org.selfstudy.taskmaster.entities.task.dto;
+
+public record TaskText(
+
+    Long id,
+    Long ownerId,
+    String title,
+    String description
+
+) {}
@@ -0,0 +1,88 @@
+package org.selfstudy.taskmaster.entities.task.dto;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.selfstudy.taskmaster.entities.task.Task;
+import org.selfstudy.taskmaster.entities.task.enums.TaskStatus;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * A partial update: {@code null} leaves a field unchanged. The optional
+ * fields can also be cleared, which JSON expresses as an explicit
+ * {@code null} and which arrives here as {@link Optional#empty()}.
+ */
+@JsonDeserialize(using = TaskUpdateRequest.Deserializer.class)
+public record TaskUpdateRequest(
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "Title must not be blank")
+    @Size(max = Task.TITLE_MAX_LENGTH, message = "Title must be at most 200 characters long")
+    String title,
+
+    Optional<
+        @Size(max = Task.DESCRIPTION_MAX_LENGTH, message = "Description must be at most 4000 characters long")
+        String> description,
+
+    TaskStatus status,
+
+    Optional<LocalDateTime> dueAt
+
+) {
+
+    public boolean isEmpty() {
+        return title == null && description == null && status == null && dueAt == null;
+    }
+
+    // Jackson hands records an empty Optional for absent properties too, so
+    // presence is read from the tree instead
+    static final class Deserializer extends StdDeserializer<TaskUpdateRequest> {
+
+        Deserializer() {
+            super(TaskUpdateRequest.class);
+        }
+
+        @Override
+        public TaskUpdateRequest deserialize(
+            JsonParser parser,
+            DeserializationContext context
+        ) throws IOException {
+            final JsonNode body = context.readTree(parser);
+            return new TaskUpdateRequest(
+                value(body, "title", String.class, context),
+                optional(body, "description", String.class, context),
+                value(body, "status", TaskStatus.class, context),
+                optional(body, "dueAt", LocalDateTime.class, context)
+            );
+        }
+
+        private static <T> T value(
+            JsonNode body,
+            String field,
+            Class<T> type,
+            DeserializationContext context
+        ) throws IOException {
+            final JsonNode node = body.get(field);
+            return node == null || node.isNull() ? null : context.readTreeAsValue(node, type);
+        }
+
+        private static <T> Optional<T> optional(
+            JsonNode body,
+            String field,
+            Class<T> type,
+            DeserializationContext context
+        ) throws IOException {
+            return body.has(field) ? Optional.ofNullable(value(body, field, type, context)) : null;
+        }
+
+    }
+
+}
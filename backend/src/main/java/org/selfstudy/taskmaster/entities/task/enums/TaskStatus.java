@@ -0,0 +1,19 @@
+package org.selfstudy.taskmaster.entities.task.enums;
+
+public enum TaskStatus {
+
+    TODO("To Do"),
+    IN_PROGRESS("In Progress"),
+    DONE("Done");
+
+    private final String description;
+
+    TaskStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+}
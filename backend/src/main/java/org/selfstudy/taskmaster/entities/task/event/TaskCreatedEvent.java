@@ -0,0 +1,13 @@
+package org.selfstudy.taskmaster.entities.task.event;
+
+import java.time.LocalDateTime;
+
+public record TaskCreatedEvent(
+
+    Long ownerId,
+    Long taskId,
+    String title,
+    String description,
+    LocalDateTime dueAt
+
+) {}
@@ -0,0 +1,8 @@
+package org.selfstudy.taskmaster.entities.task.event;
+
+public record TaskDeletedEvent(
+
+    Long ownerId,
+    Long taskId
+
+) {}
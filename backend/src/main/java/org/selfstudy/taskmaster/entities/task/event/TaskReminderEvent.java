@@ -0,0 +1,17 @@
+package org.selfstudy.taskmaster.entities.task.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published once per due date, inside the transaction that claims the
+ * reminder, so a listener that writes in that transaction delivers exactly
+ * once. {@code firedAt} minus {@code dueAt} is the firing lag.
+ */
+public record TaskReminderEvent(
+
+    Long ownerId,
+    Long taskId,
+    LocalDateTime dueAt,
+    LocalDateTime firedAt
+
+) {}
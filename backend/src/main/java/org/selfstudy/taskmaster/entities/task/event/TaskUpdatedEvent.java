@@ -0,0 +1,18 @@
+package org.selfstudy.taskmaster.entities.task.event;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Published when a task's text or due date changes. As in the update
+ * request, {@code null} means unchanged and an empty optional was cleared.
+ */
+public record TaskUpdatedEvent(
+
+    Long ownerId,
+    Long taskId,
+    String title,
+    Optional<String> description,
+    Optional<LocalDateTime> dueAt
+
+) {}
@@ -1,8 +1,10 @@
 package org.selfstudy.taskmaster.entities.user;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 import org.selfstudy.taskmaster.entities.user.dto.UserCreateRequest;
+import org.selfstudy.taskmaster.entities.user.enums.UserRole;
 import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -14,14 +16,18 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "users")
 public class User {
 
+    // A pooled sequence lets Hibernate assign ids without a round trip per
+    // insert, which IDENTITY requires and which disables JDBC batching
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -31,7 +37,7 @@ public class User {
     private String passwordHash;
 
     @Column(name = "created_at", nullable = false, updatable = false)
-    private LocalDateTime createdAt = LocalDateTime.now();
+    private LocalDateTime createdAt = now();
 
     @Column(name = "last_modified")
     private LocalDateTime lastModified;
@@ -40,9 +46,14 @@ public class User {
     @Enumerated(EnumType.STRING)
     private UserStatus status;
 
+    // Granted in the database only; new accounts get the column default
+    @Column(nullable = false, insertable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private UserRole role = UserRole.USER;
+
     @PreUpdate
     protected void onUpdate() {
-        lastModified = LocalDateTime.now();
+        lastModified = now();
     }
 
     protected User() {
@@ -73,7 +84,7 @@ public class User {
             null,
             email,
             passwordEncoder.encode(password),
-            LocalDateTime.now(),
+            now(),
             null,
             UserStatus.ACTIVE
         );
@@ -87,7 +98,21 @@ public class User {
             null,
             request.email(),
             passwordEncoder.encode(request.password()),
-            LocalDateTime.now(),
+            now(),
+            null,
+            UserStatus.ACTIVE
+        );
+    }
+
+    public static User createWithPasswordHash(
+        String email,
+        String passwordHash
+    ) {
+        return new User(
+            null,
+            email,
+            passwordHash,
+            now(),
             null,
             UserStatus.ACTIVE
         );
@@ -117,6 +142,10 @@ public class User {
         return status;
     }
 
+    public UserRole getRole() {
+        return role;
+    }
+
     public void changeEmail(String email) {
         this.email = email;
     }
@@ -125,10 +154,21 @@ public class User {
         this.passwordHash = passwordEncoder.encode(password);
     }
 
+    public void changePasswordHash(String passwordHash) {
+        this.passwordHash = passwordHash;
+    }
+
     public void changeStatus(UserStatus status) {
         this.status = status;
     }
 
+    // Match the column precision so keyset cursors taken from an entity that
+    // was just persisted compare equal to the stored row
+    private static LocalDateTime now() {
+        return LocalDateTime.now()
+            .truncatedTo(ChronoUnit.MICROS);
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -0,0 +1,111 @@
+package org.selfstudy.taskmaster.entities.user;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.selfstudy.taskmaster.entities.user.enums.UserChangeType;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * One user change, inserted by the transaction that made it. Rows are
+ * immutable apart from {@code deliveredAt}, which the relay sets with a bulk
+ * update once every subscriber has seen the change.
+ */
+@Entity
+@Table(name = "user_outbox")
+public class UserOutboxEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_outbox_seq")
+    @SequenceGenerator(name = "user_outbox_seq", sequenceName = "user_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private UserChangeType type;
+
+    @Column(name = "previous_status", updatable = false)
+    @Enumerated(EnumType.STRING)
+    private UserStatus previousStatus;
+
+    @Column(updatable = false)
+    @Enumerated(EnumType.STRING)
+    private UserStatus status;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "delivered_at", insertable = false, updatable = false)
+    private LocalDateTime deliveredAt;
+
+    protected UserOutboxEntry() {
+    }
+
+    protected UserOutboxEntry(
+        Long userId,
+        UserChangeType type,
+        UserStatus previousStatus,
+        UserStatus status
+    ) {
+        this.userId         = userId;
+        this.type           = type;
+        this.previousStatus = previousStatus;
+        this.status         = status;
+        this.occurredAt     = LocalDateTime.now()
+            .truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public static UserOutboxEntry created(Long userId, UserStatus status) {
+        return new UserOutboxEntry(userId, UserChangeType.CREATED, null, status);
+    }
+
+    public static UserOutboxEntry statusChanged(Long userId, UserStatus previousStatus, UserStatus status) {
+        return new UserOutboxEntry(userId, UserChangeType.STATUS_CHANGED, previousStatus, status);
+    }
+
+    public static UserOutboxEntry passwordChanged(Long userId) {
+        return new UserOutboxEntry(userId, UserChangeType.PASSWORD_CHANGED, null, null);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public UserChangeType getType() {
+        return type;
+    }
+
+    public UserStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public UserStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public LocalDateTime getDeliveredAt() {
+        return deliveredAt;
+    }
+
+}
@@ -0,0 +1,22 @@
+package org.selfstudy.taskmaster.entities.user.dto;
+
+import java.time.Instant;
+
+import org.selfstudy.taskmaster.entities.user.enums.UserChangeType;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+
+/**
+ * One entry of the user audit log. {@code sequence} is assigned when the
+ * entry is written and increases in write order; it is {@code null} until
+ * then.
+ */
+public record UserAuditRecord(
+
+    Long sequence,
+    Long userId,
+    UserChangeType type,
+    UserStatus previousStatus,
+    UserStatus status,
+    Instant occurredAt
+
+) {}
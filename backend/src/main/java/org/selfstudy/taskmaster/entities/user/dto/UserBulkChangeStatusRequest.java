@@ -0,0 +1,18 @@
+package org.selfstudy.taskmaster.entities.user.dto;
+
+import java.util.List;
+
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public record UserBulkChangeStatusRequest(
+
+    @NotEmpty(message = "At least one ID is required")
+    List<@NotNull Long> ids,
+
+    @NotNull(message = "Status is required")
+    UserStatus status
+
+) {}
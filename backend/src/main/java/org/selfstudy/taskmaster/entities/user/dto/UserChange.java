@@ -0,0 +1,22 @@
+package org.selfstudy.taskmaster.entities.user.dto;
+
+import java.time.LocalDateTime;
+
+import org.selfstudy.taskmaster.entities.user.enums.UserChangeType;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+
+/**
+ * A change as subscribers receive it. {@code id} increases with insertion
+ * but not strictly with commit order, and the same change can be delivered
+ * more than once.
+ */
+public record UserChange(
+
+    Long id,
+    Long userId,
+    UserChangeType type,
+    UserStatus previousStatus,
+    UserStatus status,
+    LocalDateTime occurredAt
+
+) {}
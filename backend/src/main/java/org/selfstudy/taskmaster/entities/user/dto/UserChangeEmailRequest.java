@@ -0,0 +1,16 @@
+package org.selfstudy.taskmaster.entities.user.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record UserChangeEmailRequest(
+
+    @NotNull(message = "ID is required")
+    Long id,
+
+    @NotBlank(message = "Email is required")
+    @Email(message = "Email must be valid")
+    String email
+
+) {}
@@ -0,0 +1,7 @@
+package org.selfstudy.taskmaster.entities.user.dto;
+
+public record UserId(
+
+    Long id
+
+) {}
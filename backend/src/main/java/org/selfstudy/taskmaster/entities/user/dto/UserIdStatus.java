@@ -0,0 +1,11 @@
+package org.selfstudy.taskmaster.entities.user.dto;
+
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+
+public record UserIdStatus(
+
+    Long id,
+
+    UserStatus status
+
+) {}
@@ -0,0 +1,15 @@
+package org.selfstudy.taskmaster.entities.user.dto;
+
+import org.selfstudy.taskmaster.entities.user.enums.UserImportErrorReason;
+
+public record UserImportError(
+
+    long line,
+
+    String email,
+
+    UserImportErrorReason reason,
+
+    String message
+
+) {}
@@ -0,0 +1,13 @@
+package org.selfstudy.taskmaster.entities.user.dto;
+
+import java.util.List;
+
+public record UserImportResult(
+
+    long received,
+
+    long imported,
+
+    List<UserImportError> errors
+
+) {}
@@ -0,0 +1,12 @@
+package org.selfstudy.taskmaster.entities.user.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record UserPage(
+
+    List<Map<String, Object>> items,
+
+    String nextCursor
+
+) {}
@@ -2,6 +2,7 @@ package org.selfstudy.taskmaster.entities.user.dto;
 
 import java.time.LocalDateTime;
 
+import org.selfstudy.taskmaster.entities.user.User;
 import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
 
 public record UserResponse(
@@ -12,4 +13,16 @@ public record UserResponse(
     LocalDateTime createdAt,
     LocalDateTime lastModified
 
-) {}
+) {
+
+    public static UserResponse from(User user) {
+        return new UserResponse(
+            user.getId(),
+            user.getEmail(),
+            user.getStatus(),
+            user.getCreatedAt(),
+            user.getLastModified()
+        );
+    }
+
+}
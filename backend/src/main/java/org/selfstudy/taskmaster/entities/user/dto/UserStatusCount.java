@@ -0,0 +1,10 @@
+package org.selfstudy.taskmaster.entities.user.dto;
+
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+
+public record UserStatusCount(
+
+    UserStatus status,
+    long count
+
+) {}
@@ -0,0 +1,18 @@
+package org.selfstudy.taskmaster.entities.user.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+
+/**
+ * {@code reconciledAt} is when the counts were last checked against the
+ * database, or {@code null} before the first check has finished.
+ */
+public record UserStatusCounts(
+
+    Map<UserStatus, Long> counts,
+    long total,
+    Instant reconciledAt
+
+) {}
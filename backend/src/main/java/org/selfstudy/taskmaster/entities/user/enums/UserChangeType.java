@@ -0,0 +1,9 @@
+package org.selfstudy.taskmaster.entities.user.enums;
+
+public enum UserChangeType {
+
+    CREATED,
+    STATUS_CHANGED,
+    PASSWORD_CHANGED
+
+}
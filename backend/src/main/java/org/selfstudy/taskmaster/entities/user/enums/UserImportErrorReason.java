@@ -0,0 +1,10 @@
+package org.selfstudy.taskmaster.entities.user.enums;
+
+public enum UserImportErrorReason {
+
+    MALFORMED,
+    INVALID,
+    DUPLICATE,
+    EMAIL_TAKEN
+
+}
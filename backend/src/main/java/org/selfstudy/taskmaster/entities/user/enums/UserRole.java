@@ -0,0 +1,8 @@
+package org.selfstudy.taskmaster.entities.user.enums;
+
+public enum UserRole {
+
+    USER,
+    ADMIN
+
+}
@@ -0,0 +1,10 @@
+package org.selfstudy.taskmaster.entities.user.event;
+
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+
+public record UserCreatedEvent(
+
+    Long userId,
+    UserStatus status
+
+) {}
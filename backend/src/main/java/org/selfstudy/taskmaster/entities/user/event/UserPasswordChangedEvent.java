@@ -0,0 +1,7 @@
+package org.selfstudy.taskmaster.entities.user.event;
+
+public record UserPasswordChangedEvent(
+
+    Long userId
+
+) {}
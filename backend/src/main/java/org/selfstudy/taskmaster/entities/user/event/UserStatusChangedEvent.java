@@ -0,0 +1,11 @@
+package org.selfstudy.taskmaster.entities.user.event;
+
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+
+public record UserStatusChangedEvent(
+
+    Long userId,
+    UserStatus previousStatus,
+    UserStatus status
+
+) {}
@@ -0,0 +1,16 @@
+package org.selfstudy.taskmaster.entities.user.event;
+
+import java.util.List;
+
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+
+/**
+ * Published once per batch insert for the rows that started out in
+ * {@code status}.
+ */
+public record UsersCreatedEvent(
+
+    List<Long> userIds,
+    UserStatus status
+
+) {}
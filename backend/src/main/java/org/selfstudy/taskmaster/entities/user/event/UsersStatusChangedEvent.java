@@ -0,0 +1,19 @@
+package org.selfstudy.taskmaster.entities.user.event;
+
+import java.util.List;
+
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+
+/**
+ * Published once per bulk UPDATE. {@code userIds} are the rows the UPDATE
+ * moved from {@code previousStatus} to {@code status}; {@code changed} is
+ * the count it reported.
+ */
+public record UsersStatusChangedEvent(
+
+    List<Long> userIds,
+    UserStatus previousStatus,
+    UserStatus status,
+    int changed
+
+) {}
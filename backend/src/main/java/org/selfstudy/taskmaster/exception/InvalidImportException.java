@@ -0,0 +1,13 @@
+package org.selfstudy.taskmaster.exception;
+
+public class InvalidImportException extends RuntimeException {
+
+    public InvalidImportException(String message) {
+        super(message);
+    }
+
+    public InvalidImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,13 @@
+package org.selfstudy.taskmaster.exception;
+
+public class InvalidQueryParameterException extends RuntimeException {
+
+    public InvalidQueryParameterException(String message) {
+        super(message);
+    }
+
+    public InvalidQueryParameterException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,13 @@
+package org.selfstudy.taskmaster.exception;
+
+public class TaskNotFoundException extends RuntimeException {
+
+    public TaskNotFoundException(String message) {
+        super(message);
+    }
+
+    public TaskNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,127 @@
+package org.selfstudy.taskmaster.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.selfstudy.taskmaster.entities.task.Task;
+import org.selfstudy.taskmaster.entities.task.dto.TaskReminder;
+import org.selfstudy.taskmaster.entities.task.dto.TaskResponse;
+import org.selfstudy.taskmaster.entities.task.enums.TaskStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+
+    String STREAM_FETCH_SIZE = "500";
+
+    <T> Optional<T> findByIdAndOwnerId(Long id, Long ownerId, Class<T> type);
+
+    <T> List<T> findByOwnerIdAndIdIn(Long ownerId, Collection<Long> ids, Class<T> type);
+
+    boolean existsByIdAndOwnerId(Long id, Long ownerId);
+
+    // Keyset pages over idx_tasks_owner_status_due_at: dated tasks in
+    // (dueAt, id) order, then undated ones by id. Both read only the rows
+    // they return, however deep the page. The redundant dueAt >= :dueAt
+    // gives the index scan a start key, which the OR alone does not, and
+    // ordering by the leading index columns too, constant as they are, is
+    // what lets H2 stop after the limit instead of sorting every match.
+
+    @Query("""
+        select new org.selfstudy.taskmaster.entities.task.dto.TaskResponse(
+            t.id, t.title, t.description, t.status, t.dueAt, t.createdAt, t.lastModified
+        )
+        from Task t
+        where t.ownerId = :ownerId and t.status = :status
+            and t.dueAt >= :dueAt and (t.dueAt > :dueAt or t.id > :id)
+        order by t.ownerId asc, t.status asc, t.dueAt asc, t.id asc
+        """)
+    List<TaskResponse> findDatedAfter(
+        Long ownerId,
+        TaskStatus status,
+        LocalDateTime dueAt,
+        Long id,
+        Limit limit
+    );
+
+    @Query("""
+        select new org.selfstudy.taskmaster.entities.task.dto.TaskResponse(
+            t.id, t.title, t.description, t.status, t.dueAt, t.createdAt, t.lastModified
+        )
+        from Task t
+        where t.ownerId = :ownerId and t.status = :status and t.dueAt is null and t.id > :id
+        order by t.ownerId asc, t.status asc, t.dueAt asc, t.id asc
+        """)
+    List<TaskResponse> findUndatedAfter(
+        Long ownerId,
+        TaskStatus status,
+        Long id,
+        Limit limit
+    );
+
+    // Due dates across all owners in [dueAt, until), keyset over
+    // idx_tasks_due_at. Done tasks are included: marking a task done does not
+    // touch the scheduler, and the claim below skips them.
+    @Query("""
+        select new org.selfstudy.taskmaster.entities.task.dto.TaskReminder(t.id, t.ownerId, t.dueAt)
+        from Task t
+        where t.dueAt >= :dueAt and (t.dueAt > :dueAt or t.id > :id) and t.dueAt < :until
+            and t.remindedAt is null
+        order by t.dueAt asc, t.id asc
+        """)
+    List<TaskReminder> findRemindersAfter(LocalDateTime dueAt, Long id, LocalDateTime until, Limit limit);
+
+    // Succeeds for exactly one caller per due date, and not at all once the
+    // task is done, deleted or due at another time
+    @Modifying
+    @Query("""
+        update Task t set t.remindedAt = :remindedAt
+        where t.id = :id and t.dueAt = :dueAt and t.remindedAt is null
+            and t.status <> org.selfstudy.taskmaster.entities.task.enums.TaskStatus.DONE
+        """)
+    int claimReminder(Long id, LocalDateTime dueAt, LocalDateTime remindedAt);
+
+    // Substring match that reads every task the owner has; what search does
+    // when the in-memory index is disabled. Callers lower-case the pattern and
+    // escape it with '!', which unlike a backslash means the same to H2 and
+    // MariaDB.
+    @Query("""
+        select new org.selfstudy.taskmaster.entities.task.dto.TaskResponse(
+            t.id, t.title, t.description, t.status, t.dueAt, t.createdAt, t.lastModified
+        )
+        from Task t
+        where t.ownerId = :ownerId
+            and (lower(t.title) like :pattern escape '!' or lower(t.description) like :pattern escape '!')
+        order by t.id desc
+        """)
+    List<TaskResponse> searchByOwnerIdAndPattern(Long ownerId, String pattern, Limit limit);
+
+    // Streams must be consumed inside a transaction and closed by the caller
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    <T> Stream<T> streamAllByOrderByOwnerIdAsc(Class<T> type);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    <T> Stream<T> streamByOwnerId(Long ownerId, Class<T> type);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.id = :id and t.ownerId = :ownerId")
+    int deleteByIdAndOwnerId(Long id, Long ownerId);
+
+}
@@ -0,0 +1,23 @@
+package org.selfstudy.taskmaster.repository;
+
+import java.time.LocalDateTime;
+
+import org.selfstudy.taskmaster.entities.task.dto.TaskUpdateRequest;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Writes the fields {@code changes} sets, and lastModified, in a single
+     * UPDATE without loading the task first.
+     *
+     * @return the number of rows updated: 0 when the task does not exist or
+     *         belongs to someone else
+     */
+    int updateByIdAndOwnerId(
+        Long id,
+        Long ownerId,
+        TaskUpdateRequest changes,
+        LocalDateTime modifiedAt
+    );
+
+}
@@ -0,0 +1,70 @@
+package org.selfstudy.taskmaster.repository;
+
+import java.time.LocalDateTime;
+
+import org.selfstudy.taskmaster.entities.task.Task;
+import org.selfstudy.taskmaster.entities.task.dto.TaskUpdateRequest;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    TaskRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // Bulk updates bypass @PreUpdate, so lastModified is set here. Like the
+    // @Modifying queries, pending changes are flushed first and the
+    // persistence context is cleared afterwards so no stale entity survives.
+    @Override
+    public int updateByIdAndOwnerId(
+        Long id,
+        Long ownerId,
+        TaskUpdateRequest changes,
+        LocalDateTime modifiedAt
+    ) {
+        final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        final CriteriaUpdate<Task> update = builder.createCriteriaUpdate(Task.class);
+        final Root<Task> task = update.from(Task.class);
+
+        if (changes.title() != null) {
+            update.set(task.get("title"), changes.title());
+        }
+        if (changes.description() != null) {
+            update.set(
+                task.<String>get("description"),
+                changes.description()
+                    .orElse(null)
+            );
+        }
+        if (changes.status() != null) {
+            update.set(task.get("status"), changes.status());
+        }
+        if (changes.dueAt() != null) {
+            update.set(
+                task.<LocalDateTime>get("dueAt"),
+                Task.truncate(changes.dueAt()
+                    .orElse(null))
+            );
+            // A new due date gets a reminder of its own
+            update.set(task.<LocalDateTime>get("remindedAt"), (LocalDateTime) null);
+        }
+        update.set(task.get("lastModified"), modifiedAt);
+        update.where(
+            builder.equal(task.get("id"), id),
+            builder.equal(task.get("ownerId"), ownerId)
+        );
+
+        entityManager.flush();
+        final int updated = entityManager.createQuery(update)
+            .executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+}
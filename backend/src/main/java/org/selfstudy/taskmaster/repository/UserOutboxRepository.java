@@ -0,0 +1,45 @@
+package org.selfstudy.taskmaster.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.selfstudy.taskmaster.entities.user.UserOutboxEntry;
+import org.selfstudy.taskmaster.entities.user.dto.UserChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserOutboxRepository extends JpaRepository<UserOutboxEntry, Long> {
+
+    // Keyset over the NULL range of idx_user_outbox_delivered_at; ordering by
+    // deliveredAt too keeps H2 on the index instead of sorting
+    @Query("""
+        select new org.selfstudy.taskmaster.entities.user.dto.UserChange(
+            e.id, e.userId, e.type, e.previousStatus, e.status, e.occurredAt
+        )
+        from UserOutboxEntry e
+        where e.deliveredAt is null and e.id > :id
+        order by e.deliveredAt asc, e.id asc
+        """)
+    List<UserChange> findPendingAfter(Long id, Limit limit);
+
+    @Modifying
+    @Query("update UserOutboxEntry e set e.deliveredAt = :deliveredAt where e.id in :ids")
+    int markDelivered(Collection<Long> ids, LocalDateTime deliveredAt);
+
+    @Query("""
+        select e.id from UserOutboxEntry e
+        where e.deliveredAt < :before
+        order by e.deliveredAt asc, e.id asc
+        """)
+    List<Long> findDeliveredBefore(LocalDateTime before, Limit limit);
+
+    @Modifying
+    @Query("delete from UserOutboxEntry e where e.id in :ids")
+    int deleteByIdIn(Collection<Long> ids);
+
+}
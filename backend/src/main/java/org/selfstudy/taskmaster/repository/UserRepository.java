@@ -1,17 +1,33 @@
 package org.selfstudy.taskmaster.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.selfstudy.taskmaster.entities.user.User;
+import org.selfstudy.taskmaster.entities.user.dto.UserResponse;
+import org.selfstudy.taskmaster.entities.user.dto.UserStatusCount;
 import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    String STREAM_FETCH_SIZE = "500";
+
     Optional<User> findById(Long id);
 
     Optional<User> findByEmail(String email);
@@ -29,8 +45,172 @@ public interface UserRepository extends JpaRepository<User, Long> {
         UserStatus status
     );
 
+    // Projection variants: pass a DTO such as UserResponse to read only the
+    // columns it needs without loading managed entities
+
+    <T> Optional<T> findById(Long id, Class<T> type);
+
+    <T> Optional<T> findByEmail(String email, Class<T> type);
+
+    <T> List<T> findByEmailIn(Collection<String> emails, Class<T> type);
+
+    <T> List<T> findByIdIn(Collection<Long> ids, Class<T> type);
+
+    <T> List<T> findByIdInAndStatus(
+        Collection<Long> ids,
+        UserStatus status,
+        Class<T> type
+    );
+
+    <T> List<T> findAllByOrderByIdAsc(Class<T> type);
+
+    <T> List<T> findByStatusOrderByIdAsc(UserStatus status, Class<T> type);
+
+    <T> List<T> findByStatusInOrderByIdAsc(
+        List<UserStatus> status,
+        Class<T> type
+    );
+
+    <T> List<T> findByCreatedAtAfterOrderByIdAsc(
+        LocalDateTime date,
+        Class<T> type
+    );
+
+    <T> List<T> findByCreatedAtAfterAndStatusOrderByIdAsc(
+        LocalDateTime date,
+        UserStatus status,
+        Class<T> type
+    );
+
+    <T> Window<T> findAllByOrderByIdAsc(
+        ScrollPosition position,
+        Limit limit,
+        Class<T> type
+    );
+
+    <T> Window<T> findByStatusOrderByIdAsc(
+        UserStatus status,
+        ScrollPosition position,
+        Limit limit,
+        Class<T> type
+    );
+
+    <T> Window<T> findByStatusInOrderByIdAsc(
+        List<UserStatus> status,
+        ScrollPosition position,
+        Limit limit,
+        Class<T> type
+    );
+
+    <T> Window<T> findByCreatedAtAfterOrderByCreatedAtAscIdAsc(
+        LocalDateTime date,
+        ScrollPosition position,
+        Limit limit,
+        Class<T> type
+    );
+
+    <T> Window<T> findByCreatedAtAfterAndStatusOrderByCreatedAtAscIdAsc(
+        LocalDateTime date,
+        UserStatus status,
+        ScrollPosition position,
+        Limit limit,
+        Class<T> type
+    );
+
+    <T> Window<T> findByCreatedAtBeforeAndStatusOrderByIdAsc(
+        LocalDateTime date,
+        UserStatus status,
+        ScrollPosition position,
+        Limit limit,
+        Class<T> type
+    );
+
+    // Keyset pages that read exactly the rows they return; a full page means
+    // the caller should ask for the next one
+
+    <T> List<T> findByStatusAndIdGreaterThanOrderByIdAsc(
+        UserStatus status,
+        Long id,
+        Limit limit,
+        Class<T> type
+    );
+
+    @Query("""
+        select new org.selfstudy.taskmaster.entities.user.dto.UserResponse(
+            u.id, u.email, u.status, u.createdAt, u.lastModified
+        )
+        from User u
+        where u.createdAt > :createdAt or (u.createdAt = :createdAt and u.id > :id)
+        order by u.createdAt asc, u.id asc
+        """)
+    List<UserResponse> findByCreatedAtAndIdAfter(
+        LocalDateTime createdAt,
+        Long id,
+        Limit limit
+    );
+
+    // Streams must be consumed inside a transaction and closed by the caller
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    <T> Stream<T> streamAllByOrderByIdAsc(Class<T> type);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    <T> Stream<T> streamByStatusOrderByIdAsc(UserStatus status, Class<T> type);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    <T> Stream<T> streamByStatusInOrderByIdAsc(
+        List<UserStatus> status,
+        Class<T> type
+    );
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    <T> Stream<T> streamByCreatedAtAfterOrderByIdAsc(
+        LocalDateTime date,
+        Class<T> type
+    );
+
+    // Bulk updates bypass @PreUpdate, so callers pass lastModified explicitly.
+    // The status guard makes the count exact if a row changed since it was read.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update User u
+        set u.status = :status, u.lastModified = :modifiedAt
+        where u.id in :ids and u.status = :currentStatus
+        """)
+    int updateStatusByIdInAndStatus(
+        Collection<Long> ids,
+        UserStatus currentStatus,
+        UserStatus status,
+        LocalDateTime modifiedAt
+    );
+
+    // Re-hashing leaves lastModified alone so refresh tokens stay valid, and
+    // the hash guard skips a password that was changed in the meantime
+    @Transactional
+    @Modifying
+    @Query("update User u set u.passwordHash = :newHash where u.id = :id and u.passwordHash = :currentHash")
+    int updatePasswordHash(Long id, String currentHash, String newHash);
+
     boolean existsByEmail(String email);
 
     long countByStatus(UserStatus status);
 
+    @Query("""
+        select new org.selfstudy.taskmaster.entities.user.dto.UserStatusCount(u.status, count(u))
+        from User u
+        group by u.status
+        """)
+    List<UserStatusCount> countGroupedByStatus();
+
 }
@@ -0,0 +1,225 @@
+package org.selfstudy.taskmaster.security;
+
+import java.util.Arrays;
+import java.util.function.ToLongFunction;
+
+import org.selfstudy.taskmaster.config.Argon2Properties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Argon2 encoder whose cost is tuned to the host at startup. Every hash
+ * carries its own {@code m}, {@code t} and {@code p}, and verification reads
+ * them from the hash, so a cost change never breaks existing passwords; it
+ * only makes {@link #upgradeEncoding} ask for a re-hash.
+ */
+public class AdaptiveArgon2PasswordEncoder implements PasswordEncoder {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveArgon2PasswordEncoder.class);
+
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+    private static final int SAMPLES = 3;
+
+    public record Parameters(int memory, int iterations, int parallelism) {
+
+        long cost() {
+            return (long) memory * iterations;
+        }
+
+        Parameters withMemory(int memory) {
+            return new Parameters(memory, iterations, parallelism);
+        }
+
+        Parameters withIterations(int iterations) {
+            return new Parameters(memory, iterations, parallelism);
+        }
+
+        /**
+         * @return the parameters of a PHC-formatted Argon2 hash such as
+         *         {@code $argon2id$v=19$m=4096,t=3,p=1$salt$hash}, or
+         *         {@code null} if it is not one
+         */
+        static Parameters parse(String encodedPassword) {
+            if (encodedPassword == null || !encodedPassword.startsWith("$argon2")) {
+                return null;
+            }
+            for (String section : encodedPassword.split("\\$")) {
+                if (!section.startsWith("m=")) {
+                    continue;
+                }
+                int memory = -1;
+                int iterations = -1;
+                int parallelism = -1;
+                try {
+                    for (String pair : section.split(",")) {
+                        final int value = Integer.parseInt(pair.substring(2));
+                        switch (pair.charAt(0)) {
+                            case 'm' -> memory = value;
+                            case 't' -> iterations = value;
+                            case 'p' -> parallelism = value;
+                            default -> {
+                            }
+                        }
+                    }
+                }
+                catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+                    return null;
+                }
+                return memory > 0 && iterations > 0 && parallelism > 0
+                    ? new Parameters(memory, iterations, parallelism)
+                    : null;
+            }
+            return null;
+        }
+
+    }
+
+    private final PooledArgon2PasswordEncoder delegate;
+    private final Parameters floor;
+    private final Parameters parameters;
+    private final double rehashTolerance;
+
+    AdaptiveArgon2PasswordEncoder(
+        Argon2Properties properties,
+        Parameters parameters,
+        Argon2MemoryPool pool
+    ) {
+        this.delegate        = encoder(properties, parameters, pool);
+        this.floor           = new Parameters(
+            properties.memory(),
+            properties.iterations(),
+            properties.parallelism()
+        );
+        this.parameters      = parameters;
+        this.rehashTolerance = properties.rehashTolerance();
+    }
+
+    public static AdaptiveArgon2PasswordEncoder create(
+        Argon2Properties properties,
+        Argon2MemoryPool pool
+    ) {
+        final Parameters floor = new Parameters(
+            properties.memory(),
+            properties.iterations(),
+            properties.parallelism()
+        );
+        if (!properties.calibrate()) {
+            return new AdaptiveArgon2PasswordEncoder(properties, floor, pool);
+        }
+        final long started = System.nanoTime();
+        final Parameters calibrated = calibrate(
+            properties,
+            sample -> measure(properties, sample, pool)
+        );
+        log.info(
+            "Calibrated Argon2 to m={} KiB, t={}, p={} for a {} ms target in {} ms",
+            calibrated.memory(),
+            calibrated.iterations(),
+            calibrated.parallelism(),
+            properties.targetVerifyTime()
+                .toMillis(),
+            (System.nanoTime() - started) / 1_000_000L
+        );
+        return new AdaptiveArgon2PasswordEncoder(properties, calibrated, pool);
+    }
+
+    /**
+     * Raises memory first, in powers of two, since that is what makes
+     * parallel cracking hardware expensive, then iterations, stopping before
+     * either step would exceed the target. Never goes below the configured
+     * floor, even on a host too slow to meet the target with it.
+     */
+    static Parameters calibrate(Argon2Properties properties, ToLongFunction<Parameters> nanosPerHash) {
+        final long target = properties.targetVerifyTime()
+            .toNanos();
+        Parameters best = new Parameters(
+            properties.memory(),
+            properties.iterations(),
+            properties.parallelism()
+        );
+        while ((long) best.memory() * 2 <= properties.maxMemory()) {
+            final Parameters next = best.withMemory(best.memory() * 2);
+            if (nanosPerHash.applyAsLong(next) > target) {
+                break;
+            }
+            best = next;
+        }
+        while (best.iterations() < properties.maxIterations()) {
+            final Parameters next = best.withIterations(best.iterations() + 1);
+            if (nanosPerHash.applyAsLong(next) > target) {
+                break;
+            }
+            best = next;
+        }
+        return best;
+    }
+
+    public Parameters parameters() {
+        return parameters;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    /**
+     * True for anything that is not an Argon2 hash, for hashes below the
+     * floor, and for hashes whose cost is more than the tolerance cheaper or
+     * more expensive than the current one. The tolerance keeps small swings
+     * between calibrations from re-hashing every account.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        final Parameters stored = Parameters.parse(encodedPassword);
+        if (stored == null) {
+            return true;
+        }
+        if (stored.memory() < floor.memory() || stored.iterations() < floor.iterations()) {
+            return true;
+        }
+        final double ratio = (double) stored.cost() / parameters.cost();
+        return ratio * rehashTolerance < 1.0 || ratio > rehashTolerance;
+    }
+
+    // Median of a few runs after one warm-up, so a single GC pause or JIT
+    // compilation does not decide the cost for the lifetime of the process
+    private static long measure(
+        Argon2Properties properties,
+        Parameters parameters,
+        Argon2MemoryPool pool
+    ) {
+        final PooledArgon2PasswordEncoder encoder = encoder(properties, parameters, pool);
+        encoder.encode(SAMPLE_PASSWORD);
+        final long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            final long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+
+    private static PooledArgon2PasswordEncoder encoder(
+        Argon2Properties properties,
+        Parameters parameters,
+        Argon2MemoryPool pool
+    ) {
+        return new PooledArgon2PasswordEncoder(
+            properties.saltLength(),
+            properties.hashLength(),
+            parameters.parallelism(),
+            parameters.memory(),
+            parameters.iterations(),
+            pool
+        );
+    }
+
+}
@@ -0,0 +1,142 @@
+package org.selfstudy.taskmaster.security;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Concurrency limit tuned after TCP Vegas. The lowest recent latency is taken
+ * as the no-load latency, and {@code limit * (1 - noLoad / sample)} estimates
+ * how many requests are queued rather than being served. The limit grows
+ * while that queue is short, shrinks once it is long, and backs off
+ * multiplicatively when a request is dropped. The no-load latency is
+ * re-measured every {@code probeMultiplier * limit} samples so it can follow
+ * a slower baseline.
+ */
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    private static final double DROP_BACKOFF = 0.9;
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private long noLoadRttNanos;
+    private long samplesUntilProbe;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit) {
+        this.name              = name;
+        this.minLimit          = minLimit;
+        this.maxLimit          = maxLimit;
+        this.limit             = initialLimit;
+        this.estimatedLimit    = initialLimit;
+        this.samplesUntilProbe = (long) PROBE_MULTIPLIER * initialLimit;
+    }
+
+    /**
+     * @return the number of requests in flight including this one, or
+     *         {@code 0} when the limit is reached and the call is rejected
+     */
+    public int tryAcquire() {
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * @param inFlightAtStart the value {@link #tryAcquire()} returned
+     * @param rttNanos        how long the request took, or {@code 0} if its
+     *                        latency should not move the limit
+     * @param dropped         whether the request failed from overload
+     */
+    public void release(int inFlightAtStart, long rttNanos, boolean dropped) {
+        inFlight.decrementAndGet();
+        if (rttNanos > 0) {
+            update(inFlightAtStart, rttNanos, dropped);
+        }
+    }
+
+    private synchronized void update(int inFlightAtStart, long rttNanos, boolean dropped) {
+        if (--samplesUntilProbe <= 0) {
+            samplesUntilProbe = (long) PROBE_MULTIPLIER * limit;
+            noLoadRttNanos    = rttNanos;
+            return;
+        }
+        if (noLoadRttNanos == 0 || rttNanos < noLoadRttNanos) {
+            noLoadRttNanos = rttNanos;
+        }
+
+        final double step = Math.max(1.0, Math.log10(estimatedLimit));
+        double next = estimatedLimit;
+        if (dropped) {
+            next = estimatedLimit * DROP_BACKOFF;
+        }
+        // With fewer than half the slots in use the latency says nothing
+        // about the limit, so leave it where it is
+        else if (inFlightAtStart * 2 >= estimatedLimit) {
+            final double queued = estimatedLimit * (1.0 - (double) noLoadRttNanos / rttNanos);
+            if (queued <= step) {
+                next = estimatedLimit + 3 * step;
+            }
+            else if (queued < 3 * step) {
+                next = estimatedLimit + step;
+            }
+            else if (queued > 6 * step) {
+                next = estimatedLimit - step;
+            }
+        }
+
+        estimatedLimit = Math.min(maxLimit, Math.max(minLimit, next));
+        limit          = (int) estimatedLimit;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("taskmaster.concurrency.limit", this, AdaptiveConcurrencyLimiter::limit)
+            .description("Current adaptive concurrency limit")
+            .tag("endpoint_class", name)
+            .register(registry);
+        Gauge.builder("taskmaster.concurrency.inflight", this, AdaptiveConcurrencyLimiter::inFlight)
+            .description("Requests currently admitted by the limiter")
+            .tag("endpoint_class", name)
+            .register(registry);
+        FunctionCounter.builder("taskmaster.concurrency.requests", accepted, LongAdder::sum)
+            .description("Requests seen by the adaptive limiter by outcome")
+            .tag("endpoint_class", name)
+            .tag("outcome", "accepted")
+            .register(registry);
+        FunctionCounter.builder("taskmaster.concurrency.requests", rejected, LongAdder::sum)
+            .description("Requests seen by the adaptive limiter by outcome")
+            .tag("endpoint_class", name)
+            .tag("outcome", "rejected")
+            .register(registry);
+    }
+
+}
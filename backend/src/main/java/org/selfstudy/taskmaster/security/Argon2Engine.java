@@ -0,0 +1,389 @@
+package org.selfstudy.taskmaster.security;
+
+import java.util.Arrays;
+
+import org.bouncycastle.crypto.digests.Blake2bDigest;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.bouncycastle.util.Pack;
+
+/**
+ * Argon2 (RFC 9106) over one flat {@code long[]} that is kept between hashes.
+ * It follows BouncyCastle's {@code Argon2BytesGenerator} step for step, so the
+ * output is byte-identical, but it owns its block memory, scratch blocks and
+ * digests instead of allocating them on every call. An engine is not
+ * thread-safe; {@link Argon2MemoryPool} hands each one to a single caller.
+ */
+final class Argon2Engine {
+
+    static final int BLOCK_SIZE = 1024;
+
+    private static final int QWORDS_IN_BLOCK = BLOCK_SIZE / 8;
+    private static final int SYNC_POINTS = 4;
+    private static final int PREHASH_DIGEST_LENGTH = 64;
+    private static final int PREHASH_SEED_LENGTH = 72;
+    private static final long M32L = 0xFFFFFFFFL;
+
+    // A Java array cannot hold more, whatever the heap size
+    static final int MAX_BLOCKS = (Integer.MAX_VALUE - 8) / QWORDS_IN_BLOCK;
+
+    private final long[] r = new long[QWORDS_IN_BLOCK];
+    private final long[] z = new long[QWORDS_IN_BLOCK];
+    private final long[] addressBlock = new long[QWORDS_IN_BLOCK];
+    private final long[] inputBlock = new long[QWORDS_IN_BLOCK];
+    private final byte[] blockBytes = new byte[BLOCK_SIZE];
+    private final byte[] seedZeros = new byte[PREHASH_SEED_LENGTH];
+    private final byte[] seedOnes = new byte[PREHASH_SEED_LENGTH];
+    private final byte[] digestBuffer = new byte[PREHASH_DIGEST_LENGTH];
+    private final byte[] lengthBytes = new byte[4];
+    private final Blake2bDigest[] digests = new Blake2bDigest[PREHASH_DIGEST_LENGTH + 1];
+
+    private long[] memory = new long[0];
+    private int used;
+
+    private int type;
+    private int lanes;
+    private int iterations;
+    private int segmentLength;
+    private int laneLength;
+    private int memoryBlocks;
+
+    /**
+     * @return the block count Argon2 actually fills for the given memory cost
+     *         and parallelism, after rounding to whole segments
+     */
+    static int memoryBlocks(int memoryKiB, int lanes) {
+        final int blocks = Math.max(memoryKiB, 2 * SYNC_POINTS * lanes);
+        return blocks / (SYNC_POINTS * lanes) * SYNC_POINTS * lanes;
+    }
+
+    /**
+     * @return the memory currently held by this engine, in bytes
+     */
+    long capacity() {
+        return (long) memory.length * Long.BYTES;
+    }
+
+    void hash(
+        int type,
+        int version,
+        int memoryKiB,
+        int iterations,
+        int lanes,
+        byte[] password,
+        byte[] salt,
+        byte[] out
+    ) {
+        this.type          = type;
+        this.lanes         = lanes;
+        this.iterations    = iterations;
+        this.memoryBlocks  = memoryBlocks(memoryKiB, lanes);
+        this.segmentLength = memoryBlocks / (SYNC_POINTS * lanes);
+        this.laneLength    = segmentLength * SYNC_POINTS;
+
+        final int words = memoryBlocks * QWORDS_IN_BLOCK;
+        if (memory.length < words) {
+            memory = new long[words];
+        }
+        used = words;
+
+        initialize(password, salt, memoryKiB, version, out.length);
+        fillMemoryBlocks(version);
+        digest(out);
+    }
+
+    /**
+     * Zeroes everything derived from the last password, as BouncyCastle does
+     * after each hash, so a pooled engine never holds secrets while idle.
+     */
+    void clear() {
+        Arrays.fill(memory, 0, used, 0L);
+        Arrays.fill(r, 0L);
+        Arrays.fill(z, 0L);
+        Arrays.fill(addressBlock, 0L);
+        Arrays.fill(inputBlock, 0L);
+        Arrays.fill(blockBytes, (byte) 0);
+        Arrays.fill(seedZeros, (byte) 0);
+        Arrays.fill(seedOnes, (byte) 0);
+        Arrays.fill(digestBuffer, (byte) 0);
+        used = 0;
+    }
+
+    private void initialize(byte[] password, byte[] salt, int memoryKiB, int version, int outLength) {
+        final Blake2bDigest blake = digest(PREHASH_DIGEST_LENGTH);
+
+        Pack.intToLittleEndian(lanes, blockBytes, 0);
+        Pack.intToLittleEndian(outLength, blockBytes, 4);
+        Pack.intToLittleEndian(memoryKiB, blockBytes, 8);
+        Pack.intToLittleEndian(iterations, blockBytes, 12);
+        Pack.intToLittleEndian(version, blockBytes, 16);
+        Pack.intToLittleEndian(type, blockBytes, 20);
+        blake.update(blockBytes, 0, 24);
+
+        addByteString(blake, password);
+        addByteString(blake, salt);
+        addByteString(blake, null);
+        addByteString(blake, null);
+        blake.doFinal(seedZeros, 0);
+
+        System.arraycopy(seedZeros, 0, seedOnes, 0, PREHASH_DIGEST_LENGTH);
+        Pack.intToLittleEndian(0, seedZeros, PREHASH_DIGEST_LENGTH);
+        Pack.intToLittleEndian(1, seedOnes, PREHASH_DIGEST_LENGTH);
+
+        for (int lane = 0; lane < lanes; lane++) {
+            Pack.intToLittleEndian(lane, seedZeros, PREHASH_DIGEST_LENGTH + 4);
+            Pack.intToLittleEndian(lane, seedOnes, PREHASH_DIGEST_LENGTH + 4);
+
+            hashLong(seedZeros, blockBytes, 0, BLOCK_SIZE);
+            Pack.littleEndianToLong(blockBytes, 0, memory, lane * laneLength * QWORDS_IN_BLOCK, QWORDS_IN_BLOCK);
+
+            hashLong(seedOnes, blockBytes, 0, BLOCK_SIZE);
+            Pack.littleEndianToLong(blockBytes, 0, memory, (lane * laneLength + 1) * QWORDS_IN_BLOCK, QWORDS_IN_BLOCK);
+        }
+    }
+
+    private void addByteString(Blake2bDigest digest, byte[] octets) {
+        final int length = octets == null ? 0 : octets.length;
+        Pack.intToLittleEndian(length, blockBytes, 0);
+        digest.update(blockBytes, 0, 4);
+        if (length > 0) {
+            digest.update(octets, 0, length);
+        }
+    }
+
+    private void fillMemoryBlocks(int version) {
+        for (int pass = 0; pass < iterations; pass++) {
+            for (int slice = 0; slice < SYNC_POINTS; slice++) {
+                for (int lane = 0; lane < lanes; lane++) {
+                    fillSegment(pass, slice, lane, version);
+                }
+            }
+        }
+    }
+
+    private void fillSegment(int pass, int slice, int lane, int version) {
+        final boolean dataIndependent = type == Argon2Parameters.ARGON2_i
+            || type == Argon2Parameters.ARGON2_id && pass == 0 && slice < SYNC_POINTS / 2;
+        final int startingIndex = pass == 0 && slice == 0 ? 2 : 0;
+        int currentOffset = lane * laneLength + slice * segmentLength + startingIndex;
+        int prevOffset = currentOffset % laneLength == 0
+            ? currentOffset + laneLength - 1
+            : currentOffset - 1;
+
+        if (dataIndependent) {
+            Arrays.fill(addressBlock, 0L);
+            Arrays.fill(inputBlock, 0L);
+            inputBlock[0] = pass & M32L;
+            inputBlock[1] = lane & M32L;
+            inputBlock[2] = slice & M32L;
+            inputBlock[3] = memoryBlocks & M32L;
+            inputBlock[4] = iterations & M32L;
+            inputBlock[5] = type & M32L;
+            if (pass == 0 && slice == 0) {
+                nextAddresses();
+            }
+        }
+
+        final boolean withXor = pass != 0 && version != Argon2Parameters.ARGON2_VERSION_10;
+
+        for (int index = startingIndex; index < segmentLength; index++) {
+            final long pseudoRandom;
+            if (dataIndependent) {
+                final int addressIndex = index % QWORDS_IN_BLOCK;
+                if (addressIndex == 0) {
+                    nextAddresses();
+                }
+                pseudoRandom = addressBlock[addressIndex];
+            }
+            else {
+                pseudoRandom = memory[prevOffset * QWORDS_IN_BLOCK];
+            }
+
+            final int refLane = pass == 0 && slice == 0
+                ? lane
+                : (int) ((pseudoRandom >>> 32) % lanes);
+            final int refColumn = refColumn(pass, slice, index, pseudoRandom, refLane == lane);
+
+            fillBlock(
+                prevOffset * QWORDS_IN_BLOCK,
+                (laneLength * refLane + refColumn) * QWORDS_IN_BLOCK,
+                currentOffset * QWORDS_IN_BLOCK,
+                withXor
+            );
+
+            prevOffset = currentOffset;
+            currentOffset++;
+        }
+    }
+
+    private int refColumn(int pass, int slice, int index, long pseudoRandom, boolean sameLane) {
+        final int startPosition;
+        final int referenceAreaSize;
+        if (pass == 0) {
+            startPosition     = 0;
+            referenceAreaSize = sameLane
+                ? slice * segmentLength + index - 1
+                : slice * segmentLength + (index == 0 ? -1 : 0);
+        }
+        else {
+            startPosition     = (slice + 1) * segmentLength % laneLength;
+            referenceAreaSize = sameLane
+                ? laneLength - segmentLength + index - 1
+                : laneLength - segmentLength + (index == 0 ? -1 : 0);
+        }
+
+        long relativePosition = pseudoRandom & M32L;
+        relativePosition = relativePosition * relativePosition >>> 32;
+        relativePosition = referenceAreaSize - 1 - (referenceAreaSize * relativePosition >>> 32);
+
+        return (int) (startPosition + relativePosition) % laneLength;
+    }
+
+    private void nextAddresses() {
+        inputBlock[6]++;
+        compress(inputBlock, addressBlock);
+        compress(addressBlock, addressBlock);
+    }
+
+    // G(0, y) for the address generator: z = P(y), current = y ^ z
+    private void compress(long[] y, long[] current) {
+        System.arraycopy(y, 0, z, 0, QWORDS_IN_BLOCK);
+        applyBlake();
+        for (int i = 0; i < QWORDS_IN_BLOCK; i++) {
+            current[i] = y[i] ^ z[i];
+        }
+    }
+
+    // G(x, y) into memory, xor-ed into the old block from the second pass on
+    private void fillBlock(int prev, int ref, int current, boolean withXor) {
+        final long[] m = memory;
+        for (int i = 0; i < QWORDS_IN_BLOCK; i++) {
+            r[i] = m[prev + i] ^ m[ref + i];
+        }
+        System.arraycopy(r, 0, z, 0, QWORDS_IN_BLOCK);
+        applyBlake();
+        if (withXor) {
+            for (int i = 0; i < QWORDS_IN_BLOCK; i++) {
+                m[current + i] ^= r[i] ^ z[i];
+            }
+        }
+        else {
+            for (int i = 0; i < QWORDS_IN_BLOCK; i++) {
+                m[current + i] = r[i] ^ z[i];
+            }
+        }
+    }
+
+    private void applyBlake() {
+        for (int i = 0; i < 8; i++) {
+            final int i16 = 16 * i;
+            roundFunction(
+                z,
+                i16, i16 + 1, i16 + 2, i16 + 3,
+                i16 + 4, i16 + 5, i16 + 6, i16 + 7,
+                i16 + 8, i16 + 9, i16 + 10, i16 + 11,
+                i16 + 12, i16 + 13, i16 + 14, i16 + 15
+            );
+        }
+        for (int i = 0; i < 8; i++) {
+            final int i2 = 2 * i;
+            roundFunction(
+                z,
+                i2, i2 + 1, i2 + 16, i2 + 17,
+                i2 + 32, i2 + 33, i2 + 48, i2 + 49,
+                i2 + 64, i2 + 65, i2 + 80, i2 + 81,
+                i2 + 96, i2 + 97, i2 + 112, i2 + 113
+            );
+        }
+    }
+
+    private static void roundFunction(
+        long[] v,
+        int v0, int v1, int v2, int v3,
+        int v4, int v5, int v6, int v7,
+        int v8, int v9, int v10, int v11,
+        int v12, int v13, int v14, int v15
+    ) {
+        mix(v, v0, v4, v8, v12);
+        mix(v, v1, v5, v9, v13);
+        mix(v, v2, v6, v10, v14);
+        mix(v, v3, v7, v11, v15);
+
+        mix(v, v0, v5, v10, v15);
+        mix(v, v1, v6, v11, v12);
+        mix(v, v2, v7, v8, v13);
+        mix(v, v3, v4, v9, v14);
+    }
+
+    private static void mix(long[] v, int a, int b, int c, int d) {
+        quarterRound(v, a, b, d, 32);
+        quarterRound(v, c, d, b, 24);
+        quarterRound(v, a, b, d, 16);
+        quarterRound(v, c, d, b, 63);
+    }
+
+    // BlaMka: a = a + b + 2 * lo(a) * lo(b), then rotate (c ^ a) right
+    private static void quarterRound(long[] v, int x, int y, int z, int s) {
+        long a = v[x];
+        final long b = v[y];
+        a     += b + 2 * (a & M32L) * (b & M32L);
+        v[x]   = a;
+        v[z]   = Long.rotateRight(v[z] ^ a, s);
+    }
+
+    private void digest(byte[] out) {
+        final int last = (laneLength - 1) * QWORDS_IN_BLOCK;
+        for (int lane = 1; lane < lanes; lane++) {
+            final int other = (lane * laneLength + laneLength - 1) * QWORDS_IN_BLOCK;
+            for (int i = 0; i < QWORDS_IN_BLOCK; i++) {
+                memory[last + i] ^= memory[other + i];
+            }
+        }
+        Pack.longToLittleEndian(memory, last, QWORDS_IN_BLOCK, blockBytes, 0);
+        hashLong(blockBytes, out, 0, out.length);
+    }
+
+    // H', the variable-length hash built from chained 64-byte Blake2b digests
+    private void hashLong(byte[] input, byte[] out, int outOff, int outLen) {
+        Pack.intToLittleEndian(outLen, lengthBytes, 0);
+        if (outLen <= PREHASH_DIGEST_LENGTH) {
+            final Blake2bDigest blake = digest(outLen);
+            blake.update(lengthBytes, 0, 4);
+            blake.update(input, 0, input.length);
+            blake.doFinal(out, outOff);
+            return;
+        }
+
+        final Blake2bDigest blake = digest(PREHASH_DIGEST_LENGTH);
+        blake.update(lengthBytes, 0, 4);
+        blake.update(input, 0, input.length);
+        blake.doFinal(digestBuffer, 0);
+
+        final int halfLength = PREHASH_DIGEST_LENGTH / 2;
+        int outPos = outOff;
+        System.arraycopy(digestBuffer, 0, out, outPos, halfLength);
+        outPos += halfLength;
+
+        final int rounds = (outLen + 31) / 32 - 2;
+        for (int i = 2; i <= rounds; i++, outPos += halfLength) {
+            blake.update(digestBuffer, 0, PREHASH_DIGEST_LENGTH);
+            blake.doFinal(digestBuffer, 0);
+            System.arraycopy(digestBuffer, 0, out, outPos, halfLength);
+        }
+
+        final Blake2bDigest lastBlake = digest(outLen - 32 * rounds);
+        lastBlake.update(digestBuffer, 0, PREHASH_DIGEST_LENGTH);
+        lastBlake.doFinal(out, outPos);
+    }
+
+    // Blake2b fixes its output length at construction and resets itself on
+    // doFinal, so one instance per length is enough
+    private Blake2bDigest digest(int length) {
+        Blake2bDigest digest = digests[length];
+        if (digest == null) {
+            digest          = new Blake2bDigest(length * 8);
+            digests[length] = digest;
+        }
+        return digest;
+    }
+
+}
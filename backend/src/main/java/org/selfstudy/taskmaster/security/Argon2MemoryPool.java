@@ -0,0 +1,78 @@
+package org.selfstudy.taskmaster.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Keeps idle {@link Argon2Engine}s, and with them their block memory, for the
+ * next hash. Size it to the hashing thread count: that many hashes can run at
+ * once, so the pool then covers every concurrent caller without holding more
+ * than the busiest moment needs. Callers beyond that get a fresh engine that
+ * is dropped afterwards, as are engines grown past {@code maxRetainedKiB} by
+ * an unusually expensive hash.
+ *
+ * The pool is a plain queue rather than a {@link ThreadLocal} so that it
+ * bounds retained memory and still works when hashing runs on virtual threads.
+ */
+public class Argon2MemoryPool implements MeterBinder {
+
+    private final BlockingQueue<Argon2Engine> idle;
+    private final long maxRetainedBytes;
+    private final LongAdder reused = new LongAdder();
+    private final LongAdder allocated = new LongAdder();
+
+    /**
+     * @param capacity       engines kept while idle; 0 disables pooling
+     * @param maxRetainedKiB largest block memory an engine may keep
+     */
+    public Argon2MemoryPool(int capacity, int maxRetainedKiB) {
+        this.idle             = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.maxRetainedBytes = capacity > 0 ? (long) maxRetainedKiB * Argon2Engine.BLOCK_SIZE : -1;
+    }
+
+    Argon2Engine acquire() {
+        final Argon2Engine engine = idle.poll();
+        if (engine != null) {
+            reused.increment();
+            return engine;
+        }
+        allocated.increment();
+        return new Argon2Engine();
+    }
+
+    void release(Argon2Engine engine) {
+        engine.clear();
+        if (engine.capacity() <= maxRetainedBytes) {
+            idle.offer(engine);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("taskmaster.hashing.memory.reused", reused, LongAdder::sum)
+            .description("Argon2 hashes that ran on pooled block memory")
+            .register(registry);
+        FunctionCounter.builder("taskmaster.hashing.memory.allocated", allocated, LongAdder::sum)
+            .description("Argon2 hashes that had to allocate block memory")
+            .register(registry);
+        Gauge.builder("taskmaster.hashing.memory.retained", idle, Argon2MemoryPool::retainedBytes)
+            .description("Block memory held by idle pooled engines")
+            .baseUnit("bytes")
+            .register(registry);
+    }
+
+    private static double retainedBytes(BlockingQueue<Argon2Engine> idle) {
+        long bytes = 0;
+        for (Argon2Engine engine : idle) {
+            bytes += engine.capacity();
+        }
+        return bytes;
+    }
+
+}
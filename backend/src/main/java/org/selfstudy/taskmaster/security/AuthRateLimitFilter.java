@@ -0,0 +1,191 @@
+package org.selfstudy.taskmaster.security;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Throttles the endpoints that run Argon2 by client address and by the email
+ * in the request body. Runs ahead of authentication so that rejected calls
+ * cost a map lookup instead of a hash.
+ */
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> THROTTLED_PATHS = Set.of(
+        "/api/auth/login",
+        "/api/auth/register"
+    );
+
+    private final TokenBucketLimiter ipLimiter;
+    private final TokenBucketLimiter emailLimiter;
+    private final ObjectMapper objectMapper;
+    private final int maxBodyBytes;
+
+    public AuthRateLimitFilter(
+        TokenBucketLimiter ipLimiter,
+        TokenBucketLimiter emailLimiter,
+        ObjectMapper objectMapper,
+        int maxBodyBytes
+    ) {
+        this.ipLimiter    = ipLimiter;
+        this.emailLimiter = emailLimiter;
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+            || !THROTTLED_PATHS.contains(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        final long ipWait = ipLimiter.tryAcquire(request.getRemoteAddr());
+        if (ipWait > 0L) {
+            reject(response, ipWait);
+            return;
+        }
+
+        final byte[] body = request.getInputStream()
+            .readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+
+        final String email = extractEmail(body);
+        if (email != null) {
+            final long emailWait = emailLimiter.tryAcquire(email);
+            if (emailWait > 0L) {
+                reject(response, emailWait);
+                return;
+            }
+        }
+
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            final JsonNode email = objectMapper.readTree(body)
+                .path("email");
+            return email.isTextual()
+                ? email.asText()
+                    .trim()
+                    .toLowerCase(Locale.ROOT)
+                : null;
+        }
+        catch (IOException e) {
+            // Malformed bodies are left to request validation downstream
+            return null;
+        }
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        final long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1L);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.getWriter()
+            .write(
+                "{\"status\":429,\"title\":\"Too Many Requests\","
+                    + "\"detail\":\"Too many attempts, retry later\"}"
+            );
+    }
+
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            final ByteArrayInputStream source = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+
+                @Override
+                public int read() throws IOException {
+                    return source.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return source.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return source.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The whole body is already in memory, so the listener hears
+                // about all of it at once
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    if (listener == null) {
+                        throw new NullPointerException("Listener must not be null");
+                    }
+                    if (!isAsyncStarted()) {
+                        throw new IllegalStateException("Read listeners require an asynchronous request");
+                    }
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    }
+                    catch (IOException | RuntimeException e) {
+                        listener.onError(e);
+                    }
+                }
+
+            };
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package org.selfstudy.taskmaster.security;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sheds load per endpoint class before the security chain runs, so a burst
+ * of signups fills only the hashing limit and leaves reads and writes alone.
+ * A downstream 503 or an exception counts as a drop. Only successful
+ * responses are latency samples: a 4xx or 304 usually returns before the
+ * class's real work, and its latency would pass for the no-load baseline.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public enum EndpointClass {
+
+        HASHING,
+        WRITE,
+        READ
+
+    }
+
+    private static final Set<String> HASHING_PATHS = Set.of(
+        "/api/auth/login",
+        "/api/auth/register"
+    );
+
+    // Streams for minutes; its latency would drag any limit down
+    private static final String IMPORT_PATH = "/api/admin/users/import";
+
+    private final Map<EndpointClass, AdaptiveConcurrencyLimiter> limiters;
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(
+        Map<EndpointClass, AdaptiveConcurrencyLimiter> limiters,
+        Duration retryAfter
+    ) {
+        this.limiters          = Map.copyOf(limiters);
+        this.retryAfterSeconds = Math.max(1L, retryAfter.toSeconds());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        final String path = request.getServletPath();
+        return path.startsWith("/actuator") || path.equals(IMPORT_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        final AdaptiveConcurrencyLimiter limiter = limiters.get(classify(request));
+        final int inFlight = limiter.tryAcquire();
+        if (inFlight == 0) {
+            reject(response);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        boolean dropped = true;
+        boolean sampled = true;
+        try {
+            filterChain.doFilter(request, response);
+            final HttpStatus status = HttpStatus.resolve(response.getStatus());
+            dropped = status == HttpStatus.SERVICE_UNAVAILABLE;
+            sampled = dropped || status != null && status.is2xxSuccessful();
+        }
+        finally {
+            limiter.release(inFlight, sampled ? System.nanoTime() - start : 0, dropped);
+        }
+    }
+
+    static EndpointClass classify(HttpServletRequest request) {
+        final String method = request.getMethod();
+        if (HttpMethod.POST.matches(method) && HASHING_PATHS.contains(request.getServletPath())) {
+            return EndpointClass.HASHING;
+        }
+        if (HttpMethod.GET.matches(method)
+            || HttpMethod.HEAD.matches(method)
+            || HttpMethod.OPTIONS.matches(method)) {
+            return EndpointClass.READ;
+        }
+        return EndpointClass.WRITE;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.getWriter()
+            .write(
+                "{\"status\":503,\"title\":\"Service Unavailable\","
+                    + "\"detail\":\"Server is at capacity, retry later\"}"
+            );
+    }
+
+}
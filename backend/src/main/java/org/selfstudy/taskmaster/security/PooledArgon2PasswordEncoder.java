@@ -0,0 +1,194 @@
+package org.selfstudy.taskmaster.security;
+
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+
+import org.bouncycastle.crypto.PasswordConverter;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.keygen.BytesKeyGenerator;
+import org.springframework.security.crypto.keygen.KeyGenerators;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Drop-in replacement for Spring's {@code Argon2PasswordEncoder}: same
+ * Argon2id defaults, same PHC string and the same bytes for the same salt, so
+ * hashes move freely between the two. The difference is that block memory
+ * comes from an {@link Argon2MemoryPool} instead of being allocated, several
+ * MiB at a time, on every call.
+ */
+public class PooledArgon2PasswordEncoder implements PasswordEncoder {
+
+    private static final Logger log = LoggerFactory.getLogger(PooledArgon2PasswordEncoder.class);
+
+    private static final Base64.Encoder B64_ENCODER = Base64.getEncoder()
+        .withoutPadding();
+    private static final Base64.Decoder B64_DECODER = Base64.getDecoder();
+
+    private static final int MIN_HASH_LENGTH = 4;
+
+    private final BytesKeyGenerator saltGenerator;
+    private final int hashLength;
+    private final int parallelism;
+    private final int memory;
+    private final int iterations;
+    private final Argon2MemoryPool pool;
+
+    public PooledArgon2PasswordEncoder(
+        int saltLength,
+        int hashLength,
+        int parallelism,
+        int memory,
+        int iterations,
+        Argon2MemoryPool pool
+    ) {
+        this.saltGenerator = KeyGenerators.secureRandom(saltLength);
+        this.hashLength    = hashLength;
+        this.parallelism   = parallelism;
+        this.memory        = memory;
+        this.iterations    = iterations;
+        this.pool          = pool;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        final byte[] salt = saltGenerator.generateKey();
+        final byte[] hash = new byte[hashLength];
+        hash(
+            rawPassword,
+            Argon2Parameters.ARGON2_id,
+            Argon2Parameters.ARGON2_VERSION_13,
+            memory,
+            iterations,
+            parallelism,
+            salt,
+            hash
+        );
+        return "$argon2id$v=" + Argon2Parameters.ARGON2_VERSION_13
+            + "$m=" + memory + ",t=" + iterations + ",p=" + parallelism
+            + "$" + B64_ENCODER.encodeToString(salt)
+            + "$" + B64_ENCODER.encodeToString(hash);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            log.warn("password hash is null");
+            return false;
+        }
+        final Hash stored;
+        try {
+            stored = Hash.decode(encodedPassword);
+        }
+        catch (IllegalArgumentException e) {
+            log.warn("Malformed password hash", e);
+            return false;
+        }
+        final byte[] actual = new byte[stored.hash().length];
+        hash(
+            rawPassword,
+            stored.type(),
+            stored.version(),
+            stored.memory(),
+            stored.iterations(),
+            stored.parallelism(),
+            stored.salt(),
+            actual
+        );
+        return MessageDigest.isEqual(stored.hash(), actual);
+    }
+
+    private void hash(
+        CharSequence rawPassword,
+        int type,
+        int version,
+        int memory,
+        int iterations,
+        int parallelism,
+        byte[] salt,
+        byte[] out
+    ) {
+        final char[] chars = rawPassword.toString()
+            .toCharArray();
+        final byte[] password = PasswordConverter.UTF8.convert(chars);
+        final Argon2Engine engine = pool.acquire();
+        try {
+            engine.hash(type, version, memory, iterations, parallelism, password, salt, out);
+        }
+        finally {
+            pool.release(engine);
+            Arrays.fill(chars, '\0');
+            Arrays.fill(password, (byte) 0);
+        }
+    }
+
+    private record Hash(
+
+        int type,
+        int version,
+        int memory,
+        int iterations,
+        int parallelism,
+        byte[] salt,
+        byte[] hash
+
+    ) {
+
+        /**
+         * Parses {@code $argon2<type>[$v=<version>]$m=<m>,t=<t>,p=<p>$<salt>$<hash>}
+         * the way Spring does, and additionally rejects parameters that
+         * BouncyCastle would fail on or that could not fit in memory.
+         */
+        static Hash decode(String encodedPassword) {
+            final String[] parts = encodedPassword.split("\\$");
+            if (parts.length < 4) {
+                throw new IllegalArgumentException("Invalid encoded Argon2-hash");
+            }
+            int part = 1;
+            final int type = switch (parts[part++]) {
+                case "argon2d" -> Argon2Parameters.ARGON2_d;
+                case "argon2i" -> Argon2Parameters.ARGON2_i;
+                case "argon2id" -> Argon2Parameters.ARGON2_id;
+                default -> throw new IllegalArgumentException("Invalid algorithm type: " + parts[1]);
+            };
+            int version = Argon2Parameters.ARGON2_VERSION_13;
+            if (parts[part].startsWith("v=")) {
+                version = Integer.parseInt(parts[part++].substring(2));
+                if (version != Argon2Parameters.ARGON2_VERSION_10
+                    && version != Argon2Parameters.ARGON2_VERSION_13) {
+                    throw new IllegalArgumentException("Unsupported Argon2 version: " + version);
+                }
+            }
+            if (parts.length != part + 3) {
+                throw new IllegalArgumentException("Invalid encoded Argon2-hash");
+            }
+            final String[] performance = parts[part++].split(",");
+            if (performance.length != 3
+                || !performance[0].startsWith("m=")
+                || !performance[1].startsWith("t=")
+                || !performance[2].startsWith("p=")) {
+                throw new IllegalArgumentException("Invalid performance parameters");
+            }
+            final int memory = Integer.parseInt(performance[0].substring(2));
+            final int iterations = Integer.parseInt(performance[1].substring(2));
+            final int parallelism = Integer.parseInt(performance[2].substring(2));
+            if (memory < 1 || iterations < 1 || parallelism < 1
+                || parallelism > Argon2Engine.MAX_BLOCKS / 8) {
+                throw new IllegalArgumentException("Invalid performance parameters");
+            }
+            if (Argon2Engine.memoryBlocks(memory, parallelism) > Argon2Engine.MAX_BLOCKS) {
+                throw new IllegalArgumentException("Argon2 memory cost is too large: " + memory);
+            }
+            final byte[] salt = B64_DECODER.decode(parts[part++]);
+            final byte[] hash = B64_DECODER.decode(parts[part]);
+            if (hash.length < MIN_HASH_LENGTH) {
+                throw new IllegalArgumentException("Argon2 hash is too short");
+            }
+            return new Hash(type, version, memory, iterations, parallelism, salt, hash);
+        }
+
+    }
+
+}
@@ -0,0 +1,179 @@
+package org.selfstudy.taskmaster.security;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Keyed token buckets split over independently locked stripes. Each stripe is
+ * an access-ordered map capped at its share of {@code maxKeys}, so memory is
+ * bounded and the least recently seen keys are evicted first.
+ */
+public class TokenBucketLimiter implements MeterBinder {
+
+    private final String name;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final int maxKeysPerStripe;
+    private final Stripe[] stripes;
+    private final LongSupplier nanoClock;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TokenBucketLimiter(
+        String name,
+        int capacity,
+        Duration refillPeriod,
+        int maxKeys,
+        int stripeCount
+    ) {
+        this(name, capacity, refillPeriod, maxKeys, stripeCount, System::nanoTime);
+    }
+
+    TokenBucketLimiter(
+        String name,
+        int capacity,
+        Duration refillPeriod,
+        int maxKeys,
+        int stripeCount,
+        LongSupplier nanoClock
+    ) {
+        final int stripeTotal = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+
+        this.name             = name;
+        this.capacity         = capacity;
+        this.tokensPerNano    = capacity / (double) refillPeriod.toNanos();
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeTotal);
+        this.stripes          = new Stripe[stripeTotal];
+        this.nanoClock        = nanoClock;
+
+        for (int i = 0; i < stripeTotal; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Takes one token for {@code key}.
+     *
+     * @return {@code 0} when the call is permitted, otherwise the number of
+     *         nanoseconds until a token becomes available
+     */
+    public long tryAcquire(String key) {
+        final Stripe stripe = stripeFor(key);
+        final long now = nanoClock.getAsLong();
+        final long waitNanos;
+
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.put(key, bucket);
+            }
+            else {
+                bucket.refill(now, capacity, tokensPerNano);
+            }
+
+            if (bucket.tokens >= 1.0d) {
+                bucket.tokens -= 1.0d;
+                waitNanos = 0L;
+            }
+            else {
+                waitNanos = Math.max(1L, (long) Math.ceil((1.0d - bucket.tokens) / tokensPerNano));
+            }
+        }
+        finally {
+            stripe.lock.unlock();
+        }
+
+        (waitNanos == 0L ? allowed : rejected).increment();
+        return waitNanos;
+    }
+
+    public int trackedKeys() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                total += stripe.size();
+            }
+            finally {
+                stripe.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("taskmaster.ratelimit.requests", allowed, LongAdder::sum)
+            .tag("limiter", name)
+            .tag("outcome", "allowed")
+            .register(registry);
+        FunctionCounter.builder("taskmaster.ratelimit.requests", rejected, LongAdder::sum)
+            .tag("limiter", name)
+            .tag("outcome", "rejected")
+            .register(registry);
+        FunctionCounter.builder("taskmaster.ratelimit.evictions", evictions, LongAdder::sum)
+            .tag("limiter", name)
+            .register(registry);
+        Gauge.builder("taskmaster.ratelimit.keys", this, TokenBucketLimiter::trackedKeys)
+            .tag("limiter", name)
+            .register(registry);
+    }
+
+    private Stripe stripeFor(String key) {
+        final int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        Bucket(double tokens, long now) {
+            this.tokens          = tokens;
+            this.lastRefillNanos = now;
+        }
+
+        void refill(long now, double capacity, double tokensPerNano) {
+            final long elapsed = now - lastRefillNanos;
+            if (elapsed > 0L) {
+                tokens          = Math.min(capacity, tokens + elapsed * tokensPerNano);
+                lastRefillNanos = now;
+            }
+        }
+
+    }
+
+    private final class Stripe extends LinkedHashMap<String, Bucket> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        Stripe() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            if (size() > maxKeysPerStripe) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,76 @@
+package org.selfstudy.taskmaster.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.selfstudy.taskmaster.config.TokenProperties;
+import org.selfstudy.taskmaster.service.AuthService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-user revocation watermarks for access tokens. A token is rejected
+ * unless it was issued after the user's watermark, compared in
+ * milliseconds; one from the watermark's own millisecond may predate the
+ * change and is rejected too. Entries only need to live as long as an
+ * access token does, so the map stays small.
+ */
+@Component
+public class TokenDenyList {
+
+    private final Map<Long, Instant> revokedBefore = new ConcurrentHashMap<>();
+    private final Duration retention;
+    private final Clock clock;
+
+    @Autowired
+    public TokenDenyList(TokenProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    TokenDenyList(TokenProperties properties, Clock clock) {
+        this.retention = properties.accessTokenTtl();
+        this.clock     = clock;
+    }
+
+    public void revoke(Long userId) {
+        final Instant now = clock.instant()
+            .truncatedTo(ChronoUnit.MILLIS);
+        revokedBefore.merge(userId, now, (a, b) -> a.isAfter(b) ? a : b);
+        prune(now);
+    }
+
+    public boolean isRevoked(Long userId, Instant issuedAt) {
+        final Instant watermark = revokedBefore.get(userId);
+        if (watermark == null) {
+            return false;
+        }
+        return issuedAt == null || !issuedAt.isAfter(watermark);
+    }
+
+    /**
+     * When {@code jwt} was issued, to the millisecond; tokens from before the
+     * millisecond claim existed fall back to {@code iat}, which rounds down
+     * and so only ever makes them look older.
+     */
+    public static Instant issuedAt(Jwt jwt) {
+        final Object millis = jwt.getClaims()
+            .get(AuthService.ISSUED_AT_MILLIS_CLAIM);
+        return millis instanceof Number number ? Instant.ofEpochMilli(number.longValue()) : jwt.getIssuedAt();
+    }
+
+    public int size() {
+        return revokedBefore.size();
+    }
+
+    private void prune(Instant now) {
+        final Instant cutoff = now.minus(retention);
+        revokedBefore.values()
+            .removeIf(watermark -> watermark.isBefore(cutoff));
+    }
+
+}
@@ -0,0 +1,40 @@
+package org.selfstudy.taskmaster.security;
+
+import org.selfstudy.taskmaster.entities.user.event.UserPasswordChangedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UserStatusChangedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UsersStatusChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class TokenRevocationListener {
+
+    private final TokenDenyList tokenDenyList;
+
+    public TokenRevocationListener(TokenDenyList tokenDenyList) {
+        this.tokenDenyList = tokenDenyList;
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(UserStatusChangedEvent event) {
+        if (!event.status()
+            .isCanLogin()) {
+            tokenDenyList.revoke(event.userId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onStatusesChanged(UsersStatusChangedEvent event) {
+        if (!event.status()
+            .isCanLogin()) {
+            event.userIds()
+                .forEach(tokenDenyList::revoke);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPasswordChanged(UserPasswordChangedEvent event) {
+        tokenDenyList.revoke(event.userId());
+    }
+
+}
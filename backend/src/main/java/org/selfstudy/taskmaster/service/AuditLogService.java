@@ -0,0 +1,18 @@
+package org.selfstudy.taskmaster.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.selfstudy.taskmaster.entities.user.dto.UserAuditRecord;
+
+public interface AuditLogService {
+
+    /**
+     * Reads a user's audit entries that occurred in {@code [from, to)}, in
+     * the order they were written, starting after the entry with sequence
+     * {@code afterSequence}; {@code null} leaves a bound open. Entries still
+     * waiting in the buffer are not visible yet.
+     */
+    List<UserAuditRecord> findByUser(Long userId, Instant from, Instant to, Long afterSequence, int limit);
+
+}
@@ -0,0 +1,25 @@
+package org.selfstudy.taskmaster.service;
+
+import org.selfstudy.taskmaster.entities.auth.dto.LoginRequest;
+import org.selfstudy.taskmaster.entities.auth.dto.RefreshTokenRequest;
+import org.selfstudy.taskmaster.entities.auth.dto.TokenResponse;
+
+public interface AuthService {
+
+    String TOKEN_TYPE_CLAIM = "token_type";
+
+    String ROLES_CLAIM = "roles";
+
+    // iat in milliseconds; iat itself has whole seconds, too coarse to order
+    // a token against an account change
+    String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
+    String ACCESS_TOKEN_TYPE = "access";
+
+    String REFRESH_TOKEN_TYPE = "refresh";
+
+    TokenResponse login(LoginRequest request);
+
+    TokenResponse refresh(RefreshTokenRequest request);
+
+}
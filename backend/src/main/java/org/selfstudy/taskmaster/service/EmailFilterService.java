@@ -0,0 +1,13 @@
+package org.selfstudy.taskmaster.service;
+
+public interface EmailFilterService {
+
+    boolean mightBeTaken(String email);
+
+    void recordTaken(String email);
+
+    void recordFalsePositive();
+
+    boolean isReady();
+
+}
@@ -0,0 +1,22 @@
+package org.selfstudy.taskmaster.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface PasswordHashingService {
+
+    String encode(CharSequence rawPassword);
+
+    List<String> encodeAll(List<? extends CharSequence> rawPasswords);
+
+    boolean matches(CharSequence rawPassword, String encodedPassword);
+
+    boolean upgradeEncoding(String encodedPassword);
+
+    /**
+     * Hashes on the hashing executor without waiting for capacity; the
+     * future fails if the executor is saturated.
+     */
+    CompletableFuture<String> encodeInBackground(CharSequence rawPassword);
+
+}
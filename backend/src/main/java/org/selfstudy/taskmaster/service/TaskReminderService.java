@@ -0,0 +1,16 @@
+package org.selfstudy.taskmaster.service;
+
+public interface TaskReminderService {
+
+    /**
+     * Loads the reminders that fall due between the end of the last load and
+     * the end of the horizon from now.
+     */
+    void refill();
+
+    /**
+     * Reminders held in memory and not yet fired.
+     */
+    int pending();
+
+}
@@ -0,0 +1,15 @@
+package org.selfstudy.taskmaster.service;
+
+import java.util.List;
+
+import org.selfstudy.taskmaster.entities.task.dto.TaskResponse;
+
+public interface TaskSearchService {
+
+    /**
+     * Tasks of {@code ownerId} whose title or description has a word starting
+     * with each word of {@code query}, newest first.
+     */
+    List<TaskResponse> search(Long ownerId, String query, int limit);
+
+}
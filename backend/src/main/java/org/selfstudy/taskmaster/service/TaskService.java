@@ -0,0 +1,33 @@
+package org.selfstudy.taskmaster.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.selfstudy.taskmaster.entities.task.dto.TaskCreateRequest;
+import org.selfstudy.taskmaster.entities.task.dto.TaskPosition;
+import org.selfstudy.taskmaster.entities.task.dto.TaskResponse;
+import org.selfstudy.taskmaster.entities.task.dto.TaskUpdateRequest;
+import org.selfstudy.taskmaster.entities.task.enums.TaskStatus;
+
+public interface TaskService {
+
+    Optional<TaskResponse> findTask(Long ownerId, Long id);
+
+    /**
+     * @param after the last task of the previous page, or {@code null} for
+     *              the first page
+     */
+    List<TaskResponse> findTasksAfter(
+        Long ownerId,
+        TaskStatus status,
+        TaskPosition after,
+        int limit
+    );
+
+    TaskResponse createTask(Long ownerId, TaskCreateRequest request);
+
+    void updateTask(Long ownerId, Long id, TaskUpdateRequest request);
+
+    void deleteTask(Long ownerId, Long id);
+
+}
@@ -0,0 +1,17 @@
+package org.selfstudy.taskmaster.service;
+
+import java.util.List;
+
+import org.selfstudy.taskmaster.entities.user.dto.UserChange;
+
+/**
+ * Receives user changes from the outbox relay in batches, at least once: a
+ * batch is offered to every subscriber again until all of them have
+ * returned normally, so handling must be idempotent. Any bean implementing
+ * this is subscribed.
+ */
+public interface UserChangeSubscriber {
+
+    void onUserChanges(List<UserChange> changes);
+
+}
@@ -0,0 +1,12 @@
+package org.selfstudy.taskmaster.service;
+
+import java.io.InputStream;
+
+import org.selfstudy.taskmaster.entities.user.dto.UserImportResult;
+import org.selfstudy.taskmaster.entities.user.enums.UserImportFormat;
+
+public interface UserImportService {
+
+    UserImportResult importUsers(InputStream input, UserImportFormat format);
+
+}
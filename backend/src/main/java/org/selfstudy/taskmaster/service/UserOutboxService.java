@@ -0,0 +1,19 @@
+package org.selfstudy.taskmaster.service;
+
+public interface UserOutboxService {
+
+    /**
+     * Delivers every pending change to the subscribers, in batches.
+     *
+     * @return the number of changes delivered
+     */
+    int relay();
+
+    /**
+     * Deletes delivered changes older than the retention period.
+     *
+     * @return the number of rows deleted
+     */
+    int prune();
+
+}
@@ -1,37 +1,106 @@
 package org.selfstudy.taskmaster.service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.selfstudy.taskmaster.entities.user.User;
+import org.selfstudy.taskmaster.entities.user.dto.UserBulkChangeStatusRequest;
+import org.selfstudy.taskmaster.entities.user.dto.UserChangeEmailRequest;
 import org.selfstudy.taskmaster.entities.user.dto.UserChangePasswordRequest;
 import org.selfstudy.taskmaster.entities.user.dto.UserChangeStatusRequest;
 import org.selfstudy.taskmaster.entities.user.dto.UserCreateRequest;
+import org.selfstudy.taskmaster.entities.user.dto.UserResponse;
 import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 public interface UserService {
 
-    Optional<User> findUserById(Long id);
+    Optional<UserResponse> findUserById(Long id);
 
-    Optional<User> findUserByEmail(String email);
+    Optional<UserResponse> findUserByEmail(String email);
 
-    List<User> findAllUsers();
+    List<UserResponse> findUsersByIds(Collection<Long> ids);
 
-    List<User> findUsersByStatus(UserStatus status);
+    List<UserResponse> findAllUsers();
 
-    List<User> findRecentUsers(LocalDateTime since);
+    List<UserResponse> findUsersByStatus(UserStatus status);
 
-    List<User> findRecentUsersByStatus(LocalDateTime since, UserStatus status);
+    List<UserResponse> findRecentUsers(LocalDateTime since);
 
-    List<User> findUsersByMultipleStatus(List<UserStatus> status);
+    List<UserResponse> findRecentUsersByStatus(LocalDateTime since, UserStatus status);
+
+    List<UserResponse> findUsersByMultipleStatus(List<UserStatus> status);
+
+    Window<UserResponse> findAllUsers(ScrollPosition position, int limit);
+
+    Window<UserResponse> findUsersByStatus(
+        UserStatus status,
+        ScrollPosition position,
+        int limit
+    );
+
+    Window<UserResponse> findUsersByMultipleStatus(
+        List<UserStatus> status,
+        ScrollPosition position,
+        int limit
+    );
+
+    Window<UserResponse> findRecentUsers(
+        LocalDateTime since,
+        ScrollPosition position,
+        int limit
+    );
+
+    Window<UserResponse> findRecentUsersByStatus(
+        LocalDateTime since,
+        UserStatus status,
+        ScrollPosition position,
+        int limit
+    );
+
+    List<UserResponse> findUsersByStatusAfter(
+        UserStatus status,
+        long afterId,
+        int limit
+    );
+
+    List<UserResponse> findRecentUsersAfter(
+        LocalDateTime afterCreatedAt,
+        long afterId,
+        int limit
+    );
+
+    void forEachUser(Consumer<UserResponse> action);
+
+    void forEachUserByStatus(UserStatus status, Consumer<UserResponse> action);
+
+    void forEachUserByMultipleStatus(
+        List<UserStatus> status,
+        Consumer<UserResponse> action
+    );
+
+    void forEachRecentUser(LocalDateTime since, Consumer<UserResponse> action);
 
     boolean isEmailTaken(String email);
 
     User createUser(UserCreateRequest request);
 
+    void changeUserEmail(UserChangeEmailRequest request);
+
     void changeUserPassword(UserChangePasswordRequest request);
 
     void changeUserStatus(UserChangeStatusRequest request);
 
+    long changeUserStatuses(UserBulkChangeStatusRequest request);
+
+    long changeStatusOfUsersCreatedBefore(
+        LocalDateTime before,
+        UserStatus currentStatus,
+        UserStatus status
+    );
+
 }
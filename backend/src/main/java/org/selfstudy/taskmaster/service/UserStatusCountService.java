@@ -0,0 +1,11 @@
+package org.selfstudy.taskmaster.service;
+
+import org.selfstudy.taskmaster.entities.user.dto.UserStatusCounts;
+
+public interface UserStatusCountService {
+
+    UserStatusCounts getCounts();
+
+    void reconcile();
+
+}
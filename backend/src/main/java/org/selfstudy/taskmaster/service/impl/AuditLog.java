@@ -0,0 +1,367 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import org.selfstudy.taskmaster.entities.user.dto.UserAuditRecord;
+import org.selfstudy.taskmaster.entities.user.enums.UserChangeType;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+
+/**
+ * Append-only log of {@link UserAuditRecord}s in segment files of a fixed
+ * size, written through a memory mapping. A segment is named after the
+ * sequence of its first record and starts with a header holding the lowest
+ * and highest occurrence time in it, so a time-range scan skips whole
+ * segments; records are fixed-size and each ends in a CRC-32C of its
+ * contents.
+ *
+ * The writer fills a segment front to back, so the first record that is
+ * blank, out of sequence or fails its checksum marks the end of the data:
+ * on reopening, the log resumes there, over whatever a crash left half
+ * written. Enum constants are stored by ordinal and must only ever be added
+ * at the end.
+ *
+ * Appending is single-threaded; {@link #scan} maps the files afresh and may
+ * run concurrently with it.
+ */
+final class AuditLog implements Closeable {
+
+    static final int HEADER_BYTES = 32;
+    static final int RECORD_BYTES = 32;
+
+    private static final int MAGIC = 0x54414c47;
+    private static final short VERSION = 1;
+
+    // Header layout
+    private static final int BASE_SEQUENCE_AT = 8;
+    private static final int MIN_MICROS_AT = 16;
+    private static final int MAX_MICROS_AT = 24;
+
+    // Record layout; the checksum covers everything before it
+    private static final int USER_ID_AT = 8;
+    private static final int MICROS_AT = 16;
+    private static final int TYPE_AT = 24;
+    private static final int PREVIOUS_STATUS_AT = 25;
+    private static final int STATUS_AT = 26;
+    private static final int CHECKSUM_AT = 28;
+
+    private static final String SUFFIX = ".audit";
+    private static final Pattern SEGMENT_NAME = Pattern.compile("\\d{20}\\" + SUFFIX);
+    private static final UserChangeType[] TYPES = UserChangeType.values();
+    private static final UserStatus[] STATUSES = UserStatus.values();
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final boolean fsync;
+    private final CRC32C crc = new CRC32C();
+
+    private MappedByteBuffer segment;
+    private int position;
+    private int synced;
+    private long nextSequence;
+    private long minMicros;
+    private long maxMicros;
+
+    private AuditLog(Path directory, int segmentBytes, boolean fsync) {
+        this.directory    = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsync        = fsync;
+    }
+
+    /**
+     * Opens the log in {@code directory}, creating it if needed, and
+     * positions it after the last intact record.
+     *
+     * @param fsync whether {@link #flush} and rotation force the written
+     *              records to disk
+     */
+    static AuditLog open(Path directory, long segmentBytes, boolean fsync) throws IOException {
+        if (segmentBytes < HEADER_BYTES + RECORD_BYTES || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Unsupported segment size: " + segmentBytes);
+        }
+        Files.createDirectories(directory);
+        final AuditLog log = new AuditLog(directory, (int) segmentBytes, fsync);
+        log.recover();
+        return log;
+    }
+
+    /**
+     * @return the sequence assigned to the record
+     */
+    long append(Long userId, UserChangeType type, UserStatus previousStatus, UserStatus status, Instant occurredAt)
+        throws IOException {
+        if (position + RECORD_BYTES > segment.capacity()) {
+            rotate();
+        }
+        final long micros = micros(occurredAt);
+        segment.putLong(position, nextSequence)
+            .putLong(position + USER_ID_AT, userId)
+            .putLong(position + MICROS_AT, micros)
+            .put(position + TYPE_AT, code(type))
+            .put(position + PREVIOUS_STATUS_AT, code(previousStatus))
+            .put(position + STATUS_AT, code(status))
+            .putInt(position + CHECKSUM_AT, checksum(segment, position));
+        minMicros = Math.min(minMicros, micros);
+        maxMicros = Math.max(maxMicros, micros);
+        position += RECORD_BYTES;
+        return nextSequence++;
+    }
+
+    /**
+     * Publishes the active segment's time bounds and, with {@code fsync},
+     * forces what was appended since the last flush to disk.
+     */
+    void flush() {
+        segment.putLong(MIN_MICROS_AT, minMicros)
+            .putLong(MAX_MICROS_AT, maxMicros);
+        if (fsync && position > synced) {
+            segment.force(0, HEADER_BYTES);
+            segment.force(synced, position - synced);
+            synced = position;
+        }
+    }
+
+    long nextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * Reads the records of {@code userId} that occurred in
+     * {@code [from, to)} and come after {@code afterSequence}, in sequence
+     * order; a {@code null} bound is open.
+     */
+    List<UserAuditRecord> scan(Long userId, Instant from, Instant to, Long afterSequence, int limit)
+        throws IOException {
+        final long fromMicros = from == null ? Long.MIN_VALUE : micros(from);
+        final long toMicros = to == null ? Long.MAX_VALUE : micros(to);
+        final long firstSequence = afterSequence == null ? Long.MIN_VALUE : afterSequence + 1;
+        final List<UserAuditRecord> records = new ArrayList<>();
+        final List<Path> segments = segments(directory);
+        for (int i = 0; i < segments.size() && records.size() < limit; i++) {
+            // Every sequence in this segment is below the next one's base
+            if (i + 1 < segments.size() && base(segments.get(i + 1)) <= firstSequence) {
+                continue;
+            }
+            final long size = Files.size(segments.get(i));
+            if (size < HEADER_BYTES + RECORD_BYTES) {
+                continue;
+            }
+            final MappedByteBuffer buffer = map(segments.get(i), FileChannel.MapMode.READ_ONLY, size);
+            if (buffer.getInt(0) != MAGIC) {
+                continue;
+            }
+            // Only sealed segments have final bounds; the active one can
+            // gain records outside them at any moment
+            final boolean sealed = i < segments.size() - 1;
+            if (sealed
+                && (buffer.getLong(MAX_MICROS_AT) < fromMicros || buffer.getLong(MIN_MICROS_AT) >= toMicros)) {
+                continue;
+            }
+            long sequence = buffer.getLong(BASE_SEQUENCE_AT);
+            for (int at = HEADER_BYTES; at + RECORD_BYTES <= buffer.capacity(); at += RECORD_BYTES, sequence++) {
+                if (buffer.getLong(at) != sequence || buffer.get(at + TYPE_AT) == 0) {
+                    break;
+                }
+                final long micros = buffer.getLong(at + MICROS_AT);
+                if (sequence < firstSequence
+                    || buffer.getLong(at + USER_ID_AT) != userId
+                    || micros < fromMicros
+                    || micros >= toMicros) {
+                    continue;
+                }
+                // A match is checked before it is returned; the rest only
+                // needs checking when the log is reopened
+                if (buffer.getInt(at + CHECKSUM_AT) != checksum(new CRC32C(), buffer, at)) {
+                    break;
+                }
+                records.add(read(buffer, at, micros));
+                if (records.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return records;
+    }
+
+    @Override
+    public void close() {
+        if (segment != null) {
+            flush();
+            segment = null;
+        }
+    }
+
+    private void recover() throws IOException {
+        final List<Path> segments = segments(directory);
+        if (segments.isEmpty()) {
+            startSegment(0);
+            return;
+        }
+        final Path last = segments.getLast();
+        final long base = base(last);
+        final long size = Files.size(last);
+        if (size < HEADER_BYTES + RECORD_BYTES) {
+            startSegment(base);
+            return;
+        }
+        segment      = map(last, FileChannel.MapMode.READ_WRITE, size);
+        nextSequence = base;
+        minMicros    = Long.MAX_VALUE;
+        maxMicros    = Long.MIN_VALUE;
+        position     = HEADER_BYTES;
+        if (segment.getInt(0) == MAGIC) {
+            while (position + RECORD_BYTES <= segment.capacity() && intact(position, nextSequence)) {
+                final long micros = segment.getLong(position + MICROS_AT);
+                minMicros = Math.min(minMicros, micros);
+                maxMicros = Math.max(maxMicros, micros);
+                position += RECORD_BYTES;
+                nextSequence++;
+            }
+        }
+        else {
+            writeHeader(base);
+        }
+        // Blank out a torn record, and anything left after it when pages
+        // reached the disk out of order, so readers stop at the end of the
+        // data and nothing stale ever lines up with a new sequence
+        final byte[] blank = new byte[RECORD_BYTES];
+        for (int at = position; at + RECORD_BYTES <= segment.capacity(); at += RECORD_BYTES) {
+            if (segment.getLong(at) != 0 || segment.get(at + TYPE_AT) != 0) {
+                segment.put(at, blank);
+            }
+        }
+        synced = 0;
+        flush();
+    }
+
+    private boolean intact(int at, long sequence) {
+        return segment.getLong(at) == sequence
+            && segment.get(at + TYPE_AT) != 0
+            && segment.getInt(at + CHECKSUM_AT) == checksum(segment, at);
+    }
+
+    private void rotate() throws IOException {
+        flush();
+        startSegment(nextSequence);
+    }
+
+    private void startSegment(long base) throws IOException {
+        segment      = map(directory.resolve(name(base)), FileChannel.MapMode.READ_WRITE, segmentBytes);
+        nextSequence = base;
+        minMicros    = Long.MAX_VALUE;
+        maxMicros    = Long.MIN_VALUE;
+        position     = HEADER_BYTES;
+        synced       = 0;
+        writeHeader(base);
+        if (fsync) {
+            segment.force(0, HEADER_BYTES);
+            // Makes the new file's directory entry durable too
+            try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+                dir.force(true);
+            }
+            catch (IOException e) {
+                // Not every platform can open a directory; the data itself
+                // is still forced
+            }
+        }
+    }
+
+    private void writeHeader(long base) {
+        segment.putInt(0, MAGIC)
+            .putShort(4, VERSION)
+            .putShort(6, (short) RECORD_BYTES)
+            .putLong(BASE_SEQUENCE_AT, base)
+            .putLong(MIN_MICROS_AT, Long.MAX_VALUE)
+            .putLong(MAX_MICROS_AT, Long.MIN_VALUE);
+    }
+
+    private int checksum(MappedByteBuffer buffer, int at) {
+        return checksum(crc, buffer, at);
+    }
+
+    private static int checksum(CRC32C crc, MappedByteBuffer buffer, int at) {
+        crc.reset();
+        crc.update(buffer.slice(at, CHECKSUM_AT));
+        return (int) crc.getValue();
+    }
+
+    private static UserAuditRecord read(MappedByteBuffer buffer, int at, long micros) {
+        return new UserAuditRecord(
+            buffer.getLong(at),
+            buffer.getLong(at + USER_ID_AT),
+            TYPES[buffer.get(at + TYPE_AT) - 1],
+            status(buffer.get(at + PREVIOUS_STATUS_AT)),
+            status(buffer.get(at + STATUS_AT)),
+            Instant.EPOCH.plus(micros, ChronoUnit.MICROS)
+        );
+    }
+
+    private static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(
+                file -> SEGMENT_NAME.matcher(
+                    file.getFileName()
+                        .toString()
+                )
+                    .matches()
+            )
+                .sorted()
+                .toList();
+        }
+    }
+
+    private static MappedByteBuffer map(Path file, FileChannel.MapMode mode, long size) throws IOException {
+        final boolean write = mode == FileChannel.MapMode.READ_WRITE;
+        try (
+            FileChannel channel = write
+                ? FileChannel.open(
+                    file,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE
+                )
+                : FileChannel.open(file, StandardOpenOption.READ)
+        ) {
+            // The mapping stays valid after the channel is closed
+            return channel.map(mode, 0, size);
+        }
+    }
+
+    private static long base(Path segment) {
+        return Long.parseLong(
+            segment.getFileName()
+                .toString()
+                .substring(0, 20)
+        );
+    }
+
+    private static String name(long base) {
+        return String.format("%020d%s", base, SUFFIX);
+    }
+
+    private static long micros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    // Zero is kept for "none", which also makes a blank record invalid
+    private static byte code(Enum<?> constant) {
+        return (byte) (constant == null ? 0 : constant.ordinal() + 1);
+    }
+
+    private static UserStatus status(byte code) {
+        return code == 0 ? null : STATUSES[code - 1];
+    }
+
+}
@@ -0,0 +1,280 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.selfstudy.taskmaster.config.AuditLogProperties;
+import org.selfstudy.taskmaster.entities.user.dto.UserAuditRecord;
+import org.selfstudy.taskmaster.entities.user.enums.UserChangeType;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+import org.selfstudy.taskmaster.entities.user.event.UserCreatedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UserPasswordChangedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UserStatusChangedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UsersCreatedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UsersStatusChangedEvent;
+import org.selfstudy.taskmaster.service.AuditLogService;
+import org.selfstudy.taskmaster.util.RingBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Audit trail of registrations, status changes and password changes, kept
+ * off the transactions that make them. Once a change commits, its event is
+ * put in a {@link RingBuffer}, which costs the committing thread one CAS;
+ * a single writer thread drains the buffer in batches into the
+ * memory-mapped {@link AuditLog} and, if configured, forces each batch to
+ * disk before taking the next.
+ *
+ * What is still in the buffer when the process dies is lost, as is a
+ * change that finds the buffer full for longer than the offer timeout;
+ * those are counted rather than allowed to hold up the caller.
+ */
+@Service
+@EnableConfigurationProperties(AuditLogProperties.class)
+public class AuditLogServiceImpl implements AuditLogService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogServiceImpl.class);
+
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AuditLogProperties properties;
+    private final Clock clock;
+    private final RingBuffer<UserAuditRecord> buffer;
+    private final AuditLog auditLog;
+    // Drained but not yet written, owned by the writer
+    private final List<UserAuditRecord> batch = new ArrayList<>();
+
+    private final Timer flushes;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile Thread writer;
+    private volatile boolean writerIdle;
+    private volatile boolean running;
+
+    @Autowired
+    public AuditLogServiceImpl(AuditLogProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    AuditLogServiceImpl(AuditLogProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.clock      = clock;
+        this.buffer     = new RingBuffer<>(properties.bufferCapacity());
+        this.auditLog   = properties.enabled() ? open(properties) : null;
+        this.flushes    = Timer.builder("taskmaster.audit.flush")
+            .description("Time to append a batch of audit records and force it to disk")
+            .register(meterRegistry);
+        FunctionCounter.builder("taskmaster.audit.records", written, LongAdder::sum)
+            .description("Audit records appended to the log")
+            .tag("outcome", "written")
+            .register(meterRegistry);
+        FunctionCounter.builder("taskmaster.audit.records", dropped, LongAdder::sum)
+            .description("Audit records dropped because the buffer stayed full")
+            .tag("outcome", "dropped")
+            .register(meterRegistry);
+        Gauge.builder("taskmaster.audit.buffered", buffer, RingBuffer::size)
+            .description("Audit records waiting to be written")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public List<UserAuditRecord> findByUser(Long userId, Instant from, Instant to, Long afterSequence, int limit) {
+        if (auditLog == null) {
+            return List.of();
+        }
+        try {
+            return auditLog.scan(userId, from, to, afterSequence, limit);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Audit log could not be read", e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onUserCreated(UserCreatedEvent event) {
+        record(event.userId(), UserChangeType.CREATED, null, event.status());
+    }
+
+    @TransactionalEventListener
+    public void onUsersCreated(UsersCreatedEvent event) {
+        for (Long userId : event.userIds()) {
+            record(userId, UserChangeType.CREATED, null, event.status());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(UserStatusChangedEvent event) {
+        record(event.userId(), UserChangeType.STATUS_CHANGED, event.previousStatus(), event.status());
+    }
+
+    @TransactionalEventListener
+    public void onStatusesChanged(UsersStatusChangedEvent event) {
+        for (Long userId : event.userIds()) {
+            record(userId, UserChangeType.STATUS_CHANGED, event.previousStatus(), event.status());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPasswordChanged(UserPasswordChangedEvent event) {
+        record(event.userId(), UserChangeType.PASSWORD_CHANGED, null, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startAsync() {
+        if (auditLog == null) {
+            return;
+        }
+        running = true;
+        final Thread thread = new Thread(this::run, "audit-log-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    // Writes out what is still buffered before the log is closed
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        final Thread thread = writer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        if (auditLog != null) {
+            while (drain() > 0) {
+                // until empty
+            }
+            synchronized (this) {
+                auditLog.close();
+            }
+        }
+    }
+
+    /**
+     * Writes the next batch from the buffer, together with anything a
+     * previous attempt could not write.
+     *
+     * @return the number of records written
+     */
+    synchronized int drain() {
+        buffer.drain(batch, properties.batchSize() - batch.size());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        final long started = System.nanoTime();
+        int appended = 0;
+        try {
+            for (UserAuditRecord record : batch) {
+                auditLog.append(
+                    record.userId(),
+                    record.type(),
+                    record.previousStatus(),
+                    record.status(),
+                    record.occurredAt()
+                );
+                appended++;
+            }
+            auditLog.flush();
+        }
+        catch (IOException | RuntimeException e) {
+            // What was appended stays in the log; the rest is kept for the
+            // next attempt
+            log.error("Audit log write failed; {} records will be retried", batch.size() - appended, e);
+            batch.subList(0, appended)
+                .clear();
+            written.add(appended);
+            return appended;
+        }
+        flushes.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        batch.clear();
+        written.add(appended);
+        return appended;
+    }
+
+    private void record(Long userId, UserChangeType type, UserStatus previousStatus, UserStatus status) {
+        if (auditLog == null) {
+            return;
+        }
+        final UserAuditRecord record = new UserAuditRecord(null, userId, type, previousStatus, status, clock.instant());
+        if (!buffer.offer(record)) {
+            final long deadline = System.nanoTime() + properties.offerTimeout()
+                .toNanos();
+            do {
+                wakeWriter();
+                LockSupport.parkNanos(FULL_WAIT_NANOS);
+                if (System.nanoTime() - deadline > 0) {
+                    dropped.increment();
+                    log.warn("Audit buffer full; dropped {} of user {}", type, userId);
+                    return;
+                }
+            }
+            while (!buffer.offer(record));
+        }
+        if (writerIdle) {
+            wakeWriter();
+        }
+    }
+
+    private void wakeWriter() {
+        final Thread thread = writer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (drain() > 0) {
+                    continue;
+                }
+            }
+            catch (RuntimeException e) {
+                log.error("Audit log writer failed", e);
+            }
+            // Producers wake the writer once they see it idle; checking the
+            // buffer again after saying so closes the gap in between
+            writerIdle = true;
+            if (buffer.isEmpty() && running) {
+                LockSupport.parkNanos(IDLE_WAIT_NANOS);
+            }
+            writerIdle = false;
+        }
+    }
+
+    private static AuditLog open(AuditLogProperties properties) {
+        try {
+            return AuditLog.open(
+                properties.directory(),
+                properties.segmentSize()
+                    .toBytes(),
+                properties.fsync()
+            );
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Audit log could not be opened in " + properties.directory(), e);
+        }
+    }
+
+}
@@ -0,0 +1,239 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import javax.crypto.SecretKey;
+
+import org.selfstudy.taskmaster.config.TokenProperties;
+import org.selfstudy.taskmaster.entities.auth.dto.LoginRequest;
+import org.selfstudy.taskmaster.entities.auth.dto.RefreshTokenRequest;
+import org.selfstudy.taskmaster.entities.auth.dto.TokenResponse;
+import org.selfstudy.taskmaster.entities.user.User;
+import org.selfstudy.taskmaster.entities.user.enums.UserRole;
+import org.selfstudy.taskmaster.exception.InvalidCredentialsException;
+import org.selfstudy.taskmaster.repository.UserRepository;
+import org.selfstudy.taskmaster.security.TokenDenyList;
+import org.selfstudy.taskmaster.service.AuthService;
+import org.selfstudy.taskmaster.service.PasswordHashingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.annotation.Timed;
+
+@Service
+@Timed("taskmaster.service")
+public class AuthServiceImpl implements AuthService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthServiceImpl.class);
+
+    private static final String INVALID_CREDENTIALS = "Invalid email or password";
+    private static final String INVALID_REFRESH_TOKEN = "Invalid refresh token";
+
+    private static final Executor REHASH_WRITER = task -> Thread.ofVirtual()
+        .name("password-rehash-writer")
+        .start(task);
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final JwtEncoder jwtEncoder;
+    private final NimbusJwtDecoder refreshTokenDecoder;
+    private final TokenProperties properties;
+    private final Clock clock;
+
+    // Verified against when the email is unknown, so that the response takes
+    // as long as a wrong password and does not reveal which emails exist
+    private volatile String dummyHash;
+
+    @Autowired
+    public AuthServiceImpl(
+        UserRepository userRepository,
+        PasswordHashingService passwordHashingService,
+        JwtEncoder jwtEncoder,
+        SecretKey tokenSigningKey,
+        TokenProperties properties
+    ) {
+        this(
+            userRepository,
+            passwordHashingService,
+            jwtEncoder,
+            tokenSigningKey,
+            properties,
+            Clock.systemUTC()
+        );
+    }
+
+    AuthServiceImpl(
+        UserRepository userRepository,
+        PasswordHashingService passwordHashingService,
+        JwtEncoder jwtEncoder,
+        SecretKey tokenSigningKey,
+        TokenProperties properties,
+        Clock clock
+    ) {
+        this.userRepository         = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.jwtEncoder             = jwtEncoder;
+        this.properties             = properties;
+        this.clock                  = clock;
+        this.refreshTokenDecoder    = NimbusJwtDecoder
+            .withSecretKey(tokenSigningKey)
+            .macAlgorithm(MacAlgorithm.HS256)
+            .build();
+        this.refreshTokenDecoder.setJwtValidator(
+            new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefaultWithIssuer(properties.issuer()),
+                jwt -> REFRESH_TOKEN_TYPE.equals(jwt.getClaimAsString(TOKEN_TYPE_CLAIM))
+                    ? OAuth2TokenValidatorResult.success()
+                    : OAuth2TokenValidatorResult.failure(
+                        new OAuth2Error("invalid_token", "Not a refresh token", null)
+                    )
+            )
+        );
+    }
+
+    // Verification is the only place Argon2 runs for an authenticated
+    // session; every later request is checked against the signed token.
+    @Override
+    public TokenResponse login(LoginRequest request) {
+        final User user = userRepository.findByEmail(request.email())
+            .orElse(null);
+        if (user == null) {
+            passwordHashingService.matches(request.password(), dummyHash());
+            throw new InvalidCredentialsException(INVALID_CREDENTIALS);
+        }
+
+        if (!passwordHashingService.matches(request.password(), user.getPasswordHash())
+            || !user.getStatus()
+                .isCanLogin()) {
+            throw new InvalidCredentialsException(INVALID_CREDENTIALS);
+        }
+
+        if (passwordHashingService.upgradeEncoding(user.getPasswordHash())) {
+            rehashInBackground(user, request.password());
+        }
+        return issueTokens(user);
+    }
+
+    @Override
+    public TokenResponse refresh(RefreshTokenRequest request) {
+        final Jwt refreshToken;
+        try {
+            refreshToken = refreshTokenDecoder.decode(request.refreshToken());
+        }
+        catch (JwtException e) {
+            throw new InvalidCredentialsException(INVALID_REFRESH_TOKEN, e);
+        }
+
+        final User user = userRepository.findById(Long.valueOf(refreshToken.getSubject()))
+            .orElseThrow(() -> new InvalidCredentialsException(INVALID_REFRESH_TOKEN));
+
+        if (!user.getStatus()
+            .isCanLogin() || modifiedAfter(user, TokenDenyList.issuedAt(refreshToken))) {
+            throw new InvalidCredentialsException(INVALID_REFRESH_TOKEN);
+        }
+
+        return issueTokens(user);
+    }
+
+    // Best effort: if the hashing executor is busy or the write fails, the
+    // next login tries again. The write waits on a connection, so it runs on
+    // a virtual thread of its own rather than holding a hashing thread.
+    private void rehashInBackground(User user, String rawPassword) {
+        final Long id = user.getId();
+        final String currentHash = user.getPasswordHash();
+        passwordHashingService.encodeInBackground(rawPassword)
+            .thenAcceptAsync(hash -> userRepository.updatePasswordHash(id, currentHash, hash), REHASH_WRITER)
+            .exceptionally(e -> {
+                log.debug("Skipped re-hashing password of user {}", id, e);
+                return null;
+            });
+    }
+
+    // Re-created when the hashing parameters move, so it keeps costing what
+    // a real account's hash does
+    private String dummyHash() {
+        String hash = dummyHash;
+        if (hash == null || passwordHashingService.upgradeEncoding(hash)) {
+            hash      = passwordHashingService.encode(UUID.randomUUID()
+                .toString());
+            dummyHash = hash;
+        }
+        return hash;
+    }
+
+    private TokenResponse issueTokens(User user) {
+        final Instant now = clock.instant();
+        return new TokenResponse(
+            encode(user, ACCESS_TOKEN_TYPE, now, now.plus(properties.accessTokenTtl())),
+            encode(user, REFRESH_TOKEN_TYPE, now, now.plus(properties.refreshTokenTtl())),
+            "Bearer",
+            properties.accessTokenTtl()
+                .toSeconds()
+        );
+    }
+
+    private String encode(User user, String tokenType, Instant issuedAt, Instant expiresAt) {
+        final JwtClaimsSet claims = JwtClaimsSet.builder()
+            .issuer(properties.issuer())
+            .subject(String.valueOf(user.getId()))
+            .issuedAt(issuedAt)
+            .expiresAt(expiresAt)
+            .claim("email", user.getEmail())
+            .claim(TOKEN_TYPE_CLAIM, tokenType)
+            .claim(ROLES_CLAIM, roles(user))
+            .claim(ISSUED_AT_MILLIS_CLAIM, issuedAt.toEpochMilli())
+            .build();
+
+        return jwtEncoder.encode(
+            JwtEncoderParameters.from(
+                JwsHeader.with(MacAlgorithm.HS256)
+                    .build(),
+                claims
+            )
+        )
+            .getTokenValue();
+    }
+
+    private static List<String> roles(User user) {
+        return user.getRole() == UserRole.ADMIN
+            ? List.of(UserRole.USER.name(), UserRole.ADMIN.name())
+            : List.of(UserRole.USER.name());
+    }
+
+    // Any change to the account (status, password) invalidates refresh
+    // tokens issued before it. Both sides are compared in milliseconds, and a
+    // token from the change's own millisecond is taken to predate it, as the
+    // access token deny list does.
+    private static boolean modifiedAfter(User user, Instant issuedAt) {
+        if (user.getLastModified() == null) {
+            return false;
+        }
+        return issuedAt == null || !issuedAt.isAfter(
+            user.getLastModified()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .truncatedTo(ChronoUnit.MILLIS)
+        );
+    }
+
+}
@@ -0,0 +1,157 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.selfstudy.taskmaster.config.EmailFilterProperties;
+import org.selfstudy.taskmaster.entities.user.dto.UserEmail;
+import org.selfstudy.taskmaster.repository.UserRepository;
+import org.selfstudy.taskmaster.service.EmailFilterService;
+import org.selfstudy.taskmaster.util.BloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Answers "definitely not registered" for emails without a database round
+ * trip. Until the startup scan finishes, or when disabled, every email is
+ * reported as a possible match so callers fall back to the database.
+ *
+ * Only writes made through this instance are added after the scan; with
+ * several application instances an email registered elsewhere is caught by
+ * the unique key on insert rather than by the pre-check.
+ */
+@Service
+@Timed("taskmaster.service")
+@EnableConfigurationProperties(EmailFilterProperties.class)
+public class EmailFilterServiceImpl implements EmailFilterService, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailFilterServiceImpl.class);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final EmailFilterProperties properties;
+    private final BloomFilter filter;
+
+    private final LongAdder definitelyFree = new LongAdder();
+    private final LongAdder possibleMatches = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    private volatile boolean ready;
+
+    public EmailFilterServiceImpl(
+        UserRepository userRepository,
+        PlatformTransactionManager transactionManager,
+        EmailFilterProperties properties
+    ) {
+        this.userRepository      = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.properties          = properties;
+        this.filter              = BloomFilter.create(
+            properties.expectedInsertions(),
+            properties.falsePositiveRate()
+        );
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAsync() {
+        if (!properties.enabled()) {
+            return;
+        }
+        final Thread loader = new Thread(this::load, "email-filter-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    void load() {
+        final long started = System.nanoTime();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<UserEmail> emails = userRepository.streamAllByOrderByIdAsc(UserEmail.class)) {
+                    emails.forEach(row -> filter.put(normalize(row.email())));
+                }
+            });
+            ready = true;
+            log.info(
+                "Email filter loaded ~{} emails in {} ms ({} bytes, {} hash functions)",
+                filter.approximateElementCount(),
+                (System.nanoTime() - started) / 1_000_000L,
+                filter.sizeInBytes(),
+                filter.hashFunctions()
+            );
+        }
+        catch (RuntimeException e) {
+            log.error("Email filter could not be loaded; falling back to database checks", e);
+        }
+    }
+
+    @Override
+    public boolean mightBeTaken(String email) {
+        if (!ready || filter.mightContain(normalize(email))) {
+            possibleMatches.increment();
+            return true;
+        }
+        definitelyFree.increment();
+        return false;
+    }
+
+    // Must be called before the email becomes visible in the database so the
+    // filter never has a false negative; a rolled-back write only costs a
+    // false positive.
+    @Override
+    public void recordTaken(String email) {
+        filter.put(normalize(email));
+    }
+
+    @Override
+    public void recordFalsePositive() {
+        if (ready) {
+            falsePositives.increment();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("taskmaster.email.filter.lookups", definitelyFree, LongAdder::sum)
+            .tag("outcome", "definitely_free")
+            .register(registry);
+        FunctionCounter.builder("taskmaster.email.filter.lookups", possibleMatches, LongAdder::sum)
+            .tag("outcome", "possible_match")
+            .register(registry);
+        FunctionCounter.builder("taskmaster.email.filter.false.positives", falsePositives, LongAdder::sum)
+            .register(registry);
+        Gauge.builder("taskmaster.email.filter.size", filter, BloomFilter::sizeInBytes)
+            .baseUnit("bytes")
+            .register(registry);
+        Gauge.builder("taskmaster.email.filter.elements", filter, BloomFilter::approximateElementCount)
+            .register(registry);
+        Gauge.builder("taskmaster.email.filter.expected.fpp", filter, BloomFilter::expectedFalsePositiveRate)
+            .register(registry);
+        Gauge.builder("taskmaster.email.filter.configured.fpp", properties, EmailFilterProperties::falsePositiveRate)
+            .register(registry);
+    }
+
+    private static String normalize(String email) {
+        return email.trim()
+            .toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,222 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.selfstudy.taskmaster.config.PasswordHashingProperties;
+import org.selfstudy.taskmaster.exception.PasswordHashingUnavailableException;
+import org.selfstudy.taskmaster.service.PasswordHashingService;
+import org.selfstudy.taskmaster.util.AdmissionLimiter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.annotation.Timed;
+
+@Service
+@Timed("taskmaster.service")
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+
+    private static final long RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService passwordHashingExecutor;
+    private final AdmissionLimiter admissionLimiter;
+    private final Duration timeout;
+    private final int bulkParallelism;
+
+    public PasswordHashingServiceImpl(
+        PasswordEncoder passwordEncoder,
+        @Qualifier("passwordHashingExecutor") ExecutorService passwordHashingExecutor,
+        @Qualifier("hashingAdmissionLimiter") AdmissionLimiter admissionLimiter,
+        PasswordHashingProperties properties
+    ) {
+        this.passwordEncoder         = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.admissionLimiter        = admissionLimiter;
+        this.timeout                 = properties.timeout();
+        this.bulkParallelism         = properties.effectiveThreads();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Hashes a batch in parallel while keeping at most one task per hashing
+     * thread in flight, so bulk work leaves the queue free for logins. Each
+     * password takes an admission permit like any other hash, and when the
+     * executor is saturated the batch waits for a free thread for up to the
+     * hashing timeout before it fails.
+     */
+    @Override
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        final Semaphore inFlight = new Semaphore(bulkParallelism);
+        final List<CompletableFuture<String>> futures = new ArrayList<>(rawPasswords.size());
+
+        for (CharSequence rawPassword : rawPasswords) {
+            acquire(inFlight);
+            if (!admissionLimiter.tryAcquire()) {
+                inFlight.release();
+                throw new PasswordHashingUnavailableException(
+                    "Timed out waiting for password hashing capacity"
+                );
+            }
+            final CompletableFuture<String> future;
+            try {
+                future = submitWhenFree(() -> passwordEncoder.encode(rawPassword));
+            }
+            catch (RuntimeException e) {
+                admissionLimiter.release();
+                inFlight.release();
+                throw e;
+            }
+            future.whenComplete((hash, failure) -> {
+                admissionLimiter.release();
+                inFlight.release();
+            });
+            futures.add(future);
+        }
+
+        final List<String> hashes = new ArrayList<>(futures.size());
+        for (CompletableFuture<String> future : futures) {
+            hashes.add(await(future));
+        }
+        return hashes;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // Skips the admission limiter: background work should only use capacity
+    // that is free right now, never wait for it
+    @Override
+    public CompletableFuture<String> encodeInBackground(CharSequence rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(
+                () -> passwordEncoder.encode(rawPassword),
+                passwordHashingExecutor
+            );
+        }
+        catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private <T> T submit(Callable<T> task) {
+        if (!admissionLimiter.tryAcquire()) {
+            throw new PasswordHashingUnavailableException(
+                "Timed out waiting for password hashing capacity"
+            );
+        }
+        try {
+            final Future<T> future;
+            try {
+                future = passwordHashingExecutor.submit(task);
+            }
+            catch (RejectedExecutionException e) {
+                throw new PasswordHashingUnavailableException(
+                    "Password hashing capacity exceeded",
+                    e
+                );
+            }
+            return await(future);
+        }
+        finally {
+            admissionLimiter.release();
+        }
+    }
+
+    private CompletableFuture<String> submitWhenFree(Supplier<String> task) {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            try {
+                return CompletableFuture.supplyAsync(task, passwordHashingExecutor);
+            }
+            catch (RejectedExecutionException e) {
+                if (System.nanoTime() - deadline > 0) {
+                    throw new PasswordHashingUnavailableException(
+                        "Password hashing capacity exceeded",
+                        e
+                    );
+                }
+                LockSupport.parkNanos(RETRY_NANOS);
+                if (Thread.interrupted()) {
+                    Thread.currentThread()
+                        .interrupt();
+                    throw new PasswordHashingUnavailableException(
+                        "Interrupted while waiting for password hashing",
+                        e
+                    );
+                }
+            }
+        }
+    }
+
+    private void acquire(Semaphore semaphore) {
+        try {
+            if (!semaphore.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new PasswordHashingUnavailableException(
+                    "Password hashing timed out after " + timeout
+                );
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new PasswordHashingUnavailableException(
+                "Interrupted while waiting for password hashing",
+                e
+            );
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread()
+                .interrupt();
+            throw new PasswordHashingUnavailableException(
+                "Interrupted while waiting for password hashing",
+                e
+            );
+        }
+        catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingUnavailableException(
+                "Password hashing timed out after " + timeout,
+                e
+            );
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+}
@@ -0,0 +1,352 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over one user's task titles and descriptions. Terms are
+ * kept sorted so that a query term matches every indexed term it is a
+ * prefix of; each term maps to the sorted ids of the tasks containing it.
+ * Every query term must match, and results come newest (highest id) first.
+ *
+ * The index also remembers each task's tokens per field, which is what lets
+ * an update that names only one field replace that field's terms.
+ */
+final class TaskIndex {
+
+    static final int MAX_TOKEN_LENGTH = 32;
+    static final int MAX_QUERY_TERMS = 8;
+
+    // Rough heap cost of the structures behind each counter, used to weigh
+    // the index against the memory budget
+    private static final int TERM_BYTES = 40 + 40 + 32;
+    private static final int POSTING_BYTES = 8;
+    private static final int DOCUMENT_BYTES = 32 + 16 + 24 + 32;
+    private static final int DOCUMENT_TOKEN_BYTES = 4;
+
+    private static final String[] NO_TOKENS = new String[0];
+
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long termChars;
+    private long postings;
+    private long documentTokens;
+
+    void put(long taskId, String title, String description) {
+        write(() -> replace(taskId, new Document(tokenize(title), tokenize(description))));
+    }
+
+    /**
+     * Applies a partial change; {@code null} leaves a field as it is. A task
+     * the index does not know is added only if both fields are given.
+     */
+    void update(long taskId, String title, Optional<String> description) {
+        write(() -> {
+            final Document current = documents.get(taskId);
+            if (current == null && (title == null || description == null)) {
+                return;
+            }
+            replace(
+                taskId,
+                new Document(
+                    title == null ? current.title() : tokenize(title),
+                    description == null ? current.description() : tokenize(description.orElse(null))
+                )
+            );
+        });
+    }
+
+    void remove(long taskId) {
+        write(() -> replace(taskId, null));
+    }
+
+    /**
+     * @return ids of the tasks matching every term, highest first
+     */
+    List<Long> search(List<String> queryTerms, int limit) {
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock()
+            .lock();
+        try {
+            final List<long[]> matches = new ArrayList<>(queryTerms.size());
+            for (String term : queryTerms) {
+                final long[] ids = matching(term);
+                if (ids.length == 0) {
+                    return List.of();
+                }
+                matches.add(ids);
+            }
+            matches.sort((a, b) -> Integer.compare(a.length, b.length));
+            long[] result = matches.getFirst();
+            for (int i = 1; i < matches.size() && result.length > 0; i++) {
+                result = intersect(result, matches.get(i));
+            }
+            final List<Long> newest = new ArrayList<>(Math.min(limit, result.length));
+            for (int i = result.length - 1; i >= 0 && newest.size() < limit; i--) {
+                newest.add(result[i]);
+            }
+            return newest;
+        }
+        finally {
+            lock.readLock()
+                .unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock()
+            .lock();
+        try {
+            return documents.size();
+        }
+        finally {
+            lock.readLock()
+                .unlock();
+        }
+    }
+
+    /**
+     * Estimated heap footprint in bytes; an estimate rather than a
+     * measurement, but proportional to what the index actually holds.
+     */
+    int weight() {
+        lock.readLock()
+            .lock();
+        try {
+            final long bytes = terms.size() * (long) TERM_BYTES
+                + termChars
+                + postings * POSTING_BYTES
+                + documents.size() * (long) DOCUMENT_BYTES
+                + documentTokens * DOCUMENT_TOKEN_BYTES;
+            return (int) Math.min(Integer.MAX_VALUE, bytes);
+        }
+        finally {
+            lock.readLock()
+                .unlock();
+        }
+    }
+
+    /**
+     * Lower-cased runs of letters and digits, each cut to
+     * {@value #MAX_TOKEN_LENGTH} characters, without duplicates.
+     */
+    static String[] tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return NO_TOKENS;
+        }
+        final Set<String> tokens = new LinkedHashSet<>();
+        final StringBuilder token = new StringBuilder();
+        for (int i = 0; i < text.length(); ) {
+            final int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (token.length() < MAX_TOKEN_LENGTH) {
+                    token.appendCodePoint(Character.toLowerCase(codePoint));
+                }
+            }
+            else if (!token.isEmpty()) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (!token.isEmpty()) {
+            tokens.add(token.toString());
+        }
+        return tokens.toArray(NO_TOKENS);
+    }
+
+    static List<String> queryTerms(String query) {
+        final String[] tokens = tokenize(query);
+        return List.of(Arrays.copyOf(tokens, Math.min(tokens.length, MAX_QUERY_TERMS)));
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock()
+            .lock();
+        try {
+            change.run();
+        }
+        finally {
+            lock.writeLock()
+                .unlock();
+        }
+    }
+
+    private void replace(long taskId, Document document) {
+        final Document previous = document == null ? documents.remove(taskId) : documents.put(taskId, document);
+        final Set<String> before = previous == null ? Set.of() : previous.tokens();
+        final Set<String> after = document == null ? Set.of() : document.tokens();
+        for (String token : before) {
+            if (!after.contains(token)) {
+                unindex(token, taskId);
+            }
+        }
+        for (String token : after) {
+            if (!before.contains(token)) {
+                index(token, taskId);
+            }
+        }
+        documentTokens += (document == null ? 0 : document.tokenCount())
+            - (previous == null ? 0 : previous.tokenCount());
+    }
+
+    private void index(String token, long taskId) {
+        Postings ids = terms.get(token);
+        if (ids == null) {
+            ids = new Postings();
+            terms.put(token, ids);
+            termChars += token.length();
+        }
+        if (ids.add(taskId)) {
+            postings++;
+        }
+    }
+
+    private void unindex(String token, long taskId) {
+        final Postings ids = terms.get(token);
+        if (ids == null || !ids.remove(taskId)) {
+            return;
+        }
+        postings--;
+        if (ids.size == 0) {
+            terms.remove(token);
+            termChars -= token.length();
+        }
+    }
+
+    // Union of the postings of every term starting with prefix. Concatenating
+    // and sorting once stays O(n log n) for short prefixes that match
+    // thousands of terms, where merging pairwise would be quadratic.
+    private long[] matching(String prefix) {
+        final NavigableMap<String, Postings> range = terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        if (range.size() == 1) {
+            return range.firstEntry()
+                .getValue()
+                .toArray();
+        }
+        int total = 0;
+        for (Postings ids : range.values()) {
+            total += ids.size;
+        }
+        final long[] all = new long[total];
+        int n = 0;
+        for (Postings ids : range.values()) {
+            System.arraycopy(ids.ids, 0, all, n, ids.size);
+            n += ids.size;
+        }
+        Arrays.sort(all);
+        int distinct = 0;
+        for (int i = 0; i < all.length; i++) {
+            if (i == 0 || all[i] != all[i - 1]) {
+                all[distinct++] = all[i];
+            }
+        }
+        return distinct == all.length ? all : Arrays.copyOf(all, distinct);
+    }
+
+    private static long[] intersect(long[] a, long[] b) {
+        final long[] common = new long[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            }
+            else if (a[i] > b[j]) {
+                j++;
+            }
+            else {
+                common[n++] = a[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(common, n);
+    }
+
+    private record Document(
+
+        String[] title,
+        String[] description
+
+    ) {
+
+        Set<String> tokens() {
+            final Set<String> tokens = new LinkedHashSet<>(title.length + description.length);
+            tokens.addAll(Arrays.asList(title));
+            tokens.addAll(Arrays.asList(description));
+            return tokens;
+        }
+
+        int tokenCount() {
+            return title.length + description.length;
+        }
+
+    }
+
+    // Sorted task ids in a growable primitive array: 8 bytes per posting
+    // instead of the ~50 a boxed set would take
+    private static final class Postings {
+
+        private long[] ids = new long[2];
+        private int size;
+
+        boolean add(long id) {
+            // Ids are assigned in increasing order, so this is usually an append
+            if (size > 0 && ids[size - 1] < id) {
+                grow();
+                ids[size++] = id;
+                return true;
+            }
+            final int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at >= 0) {
+                return false;
+            }
+            final int insert = -at - 1;
+            grow();
+            System.arraycopy(ids, insert, ids, insert + 1, size - insert);
+            ids[insert] = id;
+            size++;
+            return true;
+        }
+
+        boolean remove(long id) {
+            final int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+            if (size > 8 && size < ids.length / 4) {
+                ids = Arrays.copyOf(ids, ids.length / 2);
+            }
+            return true;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        private void grow() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+        }
+
+    }
+
+}
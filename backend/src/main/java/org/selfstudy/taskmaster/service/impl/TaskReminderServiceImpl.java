@@ -0,0 +1,376 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.selfstudy.taskmaster.config.TaskReminderProperties;
+import org.selfstudy.taskmaster.entities.task.dto.TaskReminder;
+import org.selfstudy.taskmaster.entities.task.event.TaskCreatedEvent;
+import org.selfstudy.taskmaster.entities.task.event.TaskDeletedEvent;
+import org.selfstudy.taskmaster.entities.task.event.TaskReminderEvent;
+import org.selfstudy.taskmaster.entities.task.event.TaskUpdatedEvent;
+import org.selfstudy.taskmaster.repository.TaskRepository;
+import org.selfstudy.taskmaster.service.TaskReminderService;
+import org.selfstudy.taskmaster.util.TimingWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Fires a {@link TaskReminderEvent} when a task falls due, without polling
+ * the tasks table. Only reminders due within the horizon are held, in a
+ * {@link TimingWheel} that a single thread advances every tick; a keyset
+ * scan extends the horizon each refill interval, and committed task changes
+ * move, add or cancel reminders inside it.
+ *
+ * A reminder is claimed by setting the task's {@code reminded_at} in the
+ * transaction that publishes its event, and the claim only succeeds while
+ * the task is still due at that time and not done. A restart therefore
+ * reloads what had not fired, including what fell due while it was down, up
+ * to the catch-up window; another instance racing for the same reminder
+ * loses the claim; and a stale entry in the wheel, as a refill can load
+ * moments before a change is applied, fires nothing.
+ */
+@Service
+@EnableConfigurationProperties(TaskReminderProperties.class)
+public class TaskReminderServiceImpl implements TaskReminderService, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskReminderServiceImpl.class);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskReminderProperties properties;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TimingWheel<Long, TaskReminder> wheel;
+    // Exclusive end of what the wheel holds; null until the first refill
+    private LocalDateTime loadedUntil;
+
+    private final Timer lag;
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    private volatile Thread ticker;
+
+    @Autowired
+    public TaskReminderServiceImpl(
+        TaskRepository taskRepository,
+        PlatformTransactionManager transactionManager,
+        ApplicationEventPublisher eventPublisher,
+        TaskReminderProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this(
+            taskRepository,
+            transactionManager,
+            eventPublisher,
+            properties,
+            meterRegistry,
+            Clock.systemDefaultZone()
+        );
+    }
+
+    TaskReminderServiceImpl(
+        TaskRepository taskRepository,
+        PlatformTransactionManager transactionManager,
+        ApplicationEventPublisher eventPublisher,
+        TaskReminderProperties properties,
+        MeterRegistry meterRegistry,
+        Clock clock
+    ) {
+        this.taskRepository = taskRepository;
+        this.transaction    = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.properties     = properties;
+        this.clock          = clock;
+        this.wheel          = new TimingWheel<>(
+            properties.tick(),
+            properties.wheelSize(),
+            properties.levels(),
+            clock.millis()
+        );
+        this.lag            = Timer.builder("taskmaster.task.reminder.lag")
+            .description("Time from a task's due date to its reminder firing")
+            .register(meterRegistry);
+        FunctionCounter.builder("taskmaster.task.reminders", fired, LongAdder::sum)
+            .description("Reminders claimed and published")
+            .tag("outcome", "fired")
+            .register(meterRegistry);
+        FunctionCounter.builder("taskmaster.task.reminders", skipped, LongAdder::sum)
+            .description("Reminders dropped because the task was done, deleted, rescheduled or already reminded")
+            .tag("outcome", "skipped")
+            .register(meterRegistry);
+    }
+
+    // Bound once the service is constructed, so the gauge never sees it
+    // half-built
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("taskmaster.task.reminders.pending", this, TaskReminderServiceImpl::pending)
+            .description("Reminders held in memory and not yet fired")
+            .register(registry);
+    }
+
+    // Runs outside a transaction, which routes the scan to the primary
+    @Override
+    @Scheduled(fixedDelayString = "${taskmaster.task-reminders.refill-interval:15m}")
+    public synchronized void refill() {
+        if (!properties.enabled()) {
+            return;
+        }
+        final LocalDateTime until = now().plus(properties.horizon());
+        final LocalDateTime from;
+        lock.lock();
+        try {
+            from        = loadedUntil == null ? earliest() : loadedUntil;
+            // Published first, so changes committed during the scan are
+            // applied to the wheel rather than missed by both
+            loadedUntil = until;
+        }
+        finally {
+            lock.unlock();
+        }
+
+        try {
+            final Limit batch = Limit.of(properties.batchSize());
+            LocalDateTime dueAt = from;
+            long id = 0;
+            int loaded = 0;
+            List<TaskReminder> page;
+            do {
+                page = taskRepository.findRemindersAfter(dueAt, id, until, batch);
+                lock.lock();
+                try {
+                    // Never over an entry a change has just put there
+                    for (TaskReminder reminder : page) {
+                        wheel.scheduleIfAbsent(reminder.taskId(), reminder, millis(reminder.dueAt()));
+                    }
+                }
+                finally {
+                    lock.unlock();
+                }
+                loaded += page.size();
+                if (!page.isEmpty()) {
+                    dueAt = page.getLast()
+                        .dueAt();
+                    id    = page.getLast()
+                        .taskId();
+                }
+            } while (page.size() == properties.batchSize());
+            log.debug("Loaded {} task reminders due before {}", loaded, until);
+        }
+        catch (RuntimeException e) {
+            lock.lock();
+            try {
+                loadedUntil = from;
+            }
+            finally {
+                lock.unlock();
+            }
+            log.warn("Task reminders could not be loaded; retrying at the next refill", e);
+        }
+    }
+
+    @Override
+    public int pending() {
+        lock.lock();
+        try {
+            return wheel.size();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startAsync() {
+        if (!properties.enabled()) {
+            return;
+        }
+        final Thread thread = new Thread(this::run, "task-reminder-wheel");
+        thread.setDaemon(true);
+        ticker = thread;
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        final Thread thread = ticker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTaskCreated(TaskCreatedEvent event) {
+        if (event.dueAt() != null) {
+            schedule(new TaskReminder(event.taskId(), event.ownerId(), event.dueAt()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTaskUpdated(TaskUpdatedEvent event) {
+        if (event.dueAt() == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            wheel.cancel(event.taskId());
+        }
+        finally {
+            lock.unlock();
+        }
+        event.dueAt()
+            .ifPresent(dueAt -> schedule(new TaskReminder(event.taskId(), event.ownerId(), dueAt)));
+    }
+
+    @TransactionalEventListener
+    public void onTaskDeleted(TaskDeletedEvent event) {
+        lock.lock();
+        try {
+            wheel.cancel(event.taskId());
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advances the wheel to now and claims and publishes whatever expired.
+     */
+    void fireDue() {
+        final List<TaskReminder> due;
+        lock.lock();
+        try {
+            due = wheel.advance(clock.millis());
+        }
+        finally {
+            lock.unlock();
+        }
+        for (int from = 0; from < due.size(); from += properties.batchSize()) {
+            fire(due.subList(from, Math.min(due.size(), from + properties.batchSize())));
+        }
+    }
+
+    private void fire(List<TaskReminder> reminders) {
+        final LocalDateTime firedAt = now();
+        final List<TaskReminder> claimed = new ArrayList<>(reminders.size());
+        try {
+            transaction.executeWithoutResult(status -> {
+                claimed.clear();
+                for (TaskReminder reminder : reminders) {
+                    if (taskRepository.claimReminder(reminder.taskId(), reminder.dueAt(), firedAt) > 0) {
+                        eventPublisher.publishEvent(
+                            new TaskReminderEvent(reminder.ownerId(), reminder.taskId(), reminder.dueAt(), firedAt)
+                        );
+                        claimed.add(reminder);
+                    }
+                }
+            });
+        }
+        catch (RuntimeException e) {
+            // Nothing was claimed; put them back to be retried next tick
+            lock.lock();
+            try {
+                for (TaskReminder reminder : reminders) {
+                    wheel.scheduleIfAbsent(reminder.taskId(), reminder, millis(reminder.dueAt()));
+                }
+            }
+            finally {
+                lock.unlock();
+            }
+            log.warn("{} task reminders could not be claimed; retrying", reminders.size(), e);
+            return;
+        }
+        for (TaskReminder reminder : claimed) {
+            lag.record(Duration.between(reminder.dueAt(), firedAt));
+        }
+        fired.add(claimed.size());
+        skipped.add(reminders.size() - claimed.size());
+    }
+
+    private void run() {
+        while (!Thread.currentThread()
+            .isInterrupted()) {
+            final long wait;
+            lock.lock();
+            try {
+                wait = wheel.nextTickMillis() - clock.millis();
+            }
+            finally {
+                lock.unlock();
+            }
+            try {
+                if (wait > 0) {
+                    Thread.sleep(wait);
+                }
+                fireDue();
+            }
+            catch (InterruptedException e) {
+                return;
+            }
+            catch (RuntimeException e) {
+                log.error("Task reminder tick failed", e);
+            }
+        }
+    }
+
+    private void schedule(TaskReminder reminder) {
+        lock.lock();
+        try {
+            // Outside the horizon the next refill loads it; before the
+            // catch-up window it is never reminded, as after a restart
+            if (loadedUntil != null
+                && reminder.dueAt()
+                    .isBefore(loadedUntil)
+                && !reminder.dueAt()
+                    .isBefore(earliest())) {
+                wheel.schedule(reminder.taskId(), reminder, millis(reminder.dueAt()));
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private LocalDateTime earliest() {
+        return now().minus(properties.catchUp());
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock)
+            .truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private long millis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone())
+            .toInstant()
+            .toEpochMilli();
+    }
+
+}
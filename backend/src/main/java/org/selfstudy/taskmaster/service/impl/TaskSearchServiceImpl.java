@@ -0,0 +1,251 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.selfstudy.taskmaster.config.TaskSearchProperties;
+import org.selfstudy.taskmaster.entities.task.dto.TaskResponse;
+import org.selfstudy.taskmaster.entities.task.dto.TaskText;
+import org.selfstudy.taskmaster.entities.task.event.TaskCreatedEvent;
+import org.selfstudy.taskmaster.entities.task.event.TaskDeletedEvent;
+import org.selfstudy.taskmaster.entities.task.event.TaskUpdatedEvent;
+import org.selfstudy.taskmaster.repository.TaskRepository;
+import org.selfstudy.taskmaster.service.TaskSearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Searches tasks through a {@link TaskIndex} per user instead of a
+ * {@code LIKE '%term%'} scan over everything the user owns. Indexes live in
+ * a cache weighed by their estimated size, so cold users are evicted once
+ * the memory budget is reached; a user without an index gets one built by
+ * streaming their tasks on their next search. Committed task changes are
+ * applied to indexes already in memory and ignored otherwise.
+ *
+ * Indexes are built from the primary and inside the cache's per-key
+ * compute, which a change event for the same user waits on. Every commit is
+ * therefore either in the rows read or applied afterwards. The startup warm
+ * reads one long snapshot instead, so users changed while it runs are
+ * dropped when it finishes and rebuilt on demand.
+ *
+ * A user whose index alone exceeds the budget is still served, but their
+ * index is rebuilt for every search.
+ */
+@Service
+@Timed("taskmaster.service")
+@EnableConfigurationProperties(TaskSearchProperties.class)
+public class TaskSearchServiceImpl implements TaskSearchService, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchServiceImpl.class);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final TaskSearchProperties properties;
+    private final Cache<Long, TaskIndex> indexes;
+
+    // Owners whose tasks changed while the startup warm runs; null otherwise
+    private volatile Set<Long> changedDuringWarm;
+
+    public TaskSearchServiceImpl(
+        TaskRepository taskRepository,
+        PlatformTransactionManager transactionManager,
+        TaskSearchProperties properties
+    ) {
+        this.taskRepository     = taskRepository;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.properties         = properties;
+        this.indexes            = Caffeine.newBuilder()
+            .maximumWeight(
+                properties.maxMemory()
+                    .toBytes()
+            )
+            .weigher((Long ownerId, TaskIndex index) -> index.weight())
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public List<TaskResponse> search(Long ownerId, String query, int limit) {
+        final List<String> terms = TaskIndex.queryTerms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        if (!properties.enabled()) {
+            return taskRepository.searchByOwnerIdAndPattern(ownerId, likePattern(query), Limit.of(limit));
+        }
+
+        final List<Long> ids = indexes.get(ownerId, this::load)
+            .search(terms, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // A task deleted since the index was read simply drops out here
+        final Map<Long, TaskResponse> found = taskRepository.findByOwnerIdAndIdIn(ownerId, ids, TaskResponse.class)
+            .stream()
+            .collect(Collectors.toMap(TaskResponse::id, Function.identity()));
+        return ids.stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmAsync() {
+        if (!properties.enabled() || !properties.warmOnStartup()) {
+            return;
+        }
+        final Thread warmer = new Thread(this::warm, "task-search-warmer");
+        warmer.setDaemon(true);
+        warmer.start();
+    }
+
+    /**
+     * Builds indexes owner by owner from one ordered stream until the memory
+     * budget is full; owners past that point are indexed on first search.
+     */
+    void warm() {
+        final long started = System.nanoTime();
+        final long budget = properties.maxMemory()
+            .toBytes();
+        changedDuringWarm = ConcurrentHashMap.newKeySet();
+        try {
+            final int warmed = primaryTransaction.execute(status -> {
+                try (Stream<TaskText> rows = taskRepository.streamAllByOrderByOwnerIdAsc(TaskText.class)) {
+                    int owners = 0;
+                    long used = 0;
+                    Long ownerId = null;
+                    TaskIndex index = null;
+                    for (final var iterator = rows.iterator(); iterator.hasNext() && used < budget; ) {
+                        final TaskText row = iterator.next();
+                        if (!row.ownerId()
+                            .equals(ownerId)) {
+                            if (index != null) {
+                                indexes.asMap()
+                                    .putIfAbsent(ownerId, index);
+                                used += index.weight();
+                                owners++;
+                            }
+                            ownerId = row.ownerId();
+                            index   = new TaskIndex();
+                        }
+                        index.put(row.id(), row.title(), row.description());
+                    }
+                    if (index != null && used < budget) {
+                        indexes.asMap()
+                            .putIfAbsent(ownerId, index);
+                        owners++;
+                    }
+                    return owners;
+                }
+            });
+            log.info(
+                "Task search indexes warmed for {} users in {} ms",
+                warmed,
+                (System.nanoTime() - started) / 1_000_000L
+            );
+        }
+        catch (RuntimeException e) {
+            log.error("Task search indexes could not be warmed; they will be built on demand", e);
+        }
+        finally {
+            final Set<Long> changed = changedDuringWarm;
+            changedDuringWarm = null;
+            indexes.invalidateAll(changed);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onTaskCreated(TaskCreatedEvent event) {
+        apply(event.ownerId(), index -> index.put(event.taskId(), event.title(), event.description()));
+    }
+
+    @TransactionalEventListener
+    public void onTaskUpdated(TaskUpdatedEvent event) {
+        if (event.title() == null && event.description() == null) {
+            return;
+        }
+        apply(event.ownerId(), index -> index.update(event.taskId(), event.title(), event.description()));
+    }
+
+    @TransactionalEventListener
+    public void onTaskDeleted(TaskDeletedEvent event) {
+        apply(event.ownerId(), index -> index.remove(event.taskId()));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, indexes, "tasks.search");
+        Gauge.builder(
+            "taskmaster.task.search.index.size",
+            indexes,
+            cache -> cache.policy()
+                .eviction()
+                .map(eviction -> eviction.weightedSize()
+                    .orElse(0L))
+                .orElse(0L)
+        )
+            .description("Estimated heap used by the in-memory task indexes")
+            .baseUnit("bytes")
+            .register(registry);
+    }
+
+    // Recomputing the entry makes the cache weigh the index again
+    private void apply(Long ownerId, Consumer<TaskIndex> change) {
+        final Set<Long> changed = changedDuringWarm;
+        if (changed != null) {
+            changed.add(ownerId);
+        }
+        indexes.asMap()
+            .computeIfPresent(ownerId, (key, index) -> {
+                change.accept(index);
+                return index;
+            });
+    }
+
+    // Read-write so that routing sends it to the primary, where every commit
+    // whose event has already been handled is visible
+    private TaskIndex load(Long ownerId) {
+        return primaryTransaction.execute(status -> {
+            final TaskIndex index = new TaskIndex();
+            try (Stream<TaskText> rows = taskRepository.streamByOwnerId(ownerId, TaskText.class)) {
+                rows.forEach(row -> index.put(row.id(), row.title(), row.description()));
+            }
+            return index;
+        });
+    }
+
+    private static String likePattern(String query) {
+        final String escaped = query.trim()
+            .toLowerCase(Locale.ROOT)
+            .replace("!", "!!")
+            .replace("%", "!%")
+            .replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
+}
@@ -0,0 +1,138 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.selfstudy.taskmaster.entities.task.Task;
+import org.selfstudy.taskmaster.entities.task.dto.TaskCreateRequest;
+import org.selfstudy.taskmaster.entities.task.dto.TaskPosition;
+import org.selfstudy.taskmaster.entities.task.dto.TaskResponse;
+import org.selfstudy.taskmaster.entities.task.dto.TaskUpdateRequest;
+import org.selfstudy.taskmaster.entities.task.enums.TaskStatus;
+import org.selfstudy.taskmaster.entities.task.event.TaskCreatedEvent;
+import org.selfstudy.taskmaster.entities.task.event.TaskDeletedEvent;
+import org.selfstudy.taskmaster.entities.task.event.TaskUpdatedEvent;
+import org.selfstudy.taskmaster.exception.TaskNotFoundException;
+import org.selfstudy.taskmaster.repository.TaskRepository;
+import org.selfstudy.taskmaster.service.TaskService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.annotation.Timed;
+
+@Service
+@Timed("taskmaster.service")
+@Transactional(readOnly = true)
+public class TaskServiceImpl implements TaskService {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    // The smallest DATETIME MariaDB stores, so it sorts before every due date
+    static final LocalDateTime EARLIEST_DUE_AT = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TaskServiceImpl(
+        TaskRepository taskRepository,
+        ApplicationEventPublisher eventPublisher
+    ) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public Optional<TaskResponse> findTask(Long ownerId, Long id) {
+        return taskRepository.findByIdAndOwnerId(id, ownerId, TaskResponse.class);
+    }
+
+    /**
+     * Dated tasks come first; a page that runs out of them is topped up from
+     * the start of the undated ones, and later pages continue there.
+     */
+    @Override
+    public List<TaskResponse> findTasksAfter(
+        Long ownerId,
+        TaskStatus status,
+        TaskPosition after,
+        int limit
+    ) {
+        final int size = pageSize(limit);
+        if (after != null && after.dueAt() == null) {
+            return taskRepository.findUndatedAfter(ownerId, status, after.id(), Limit.of(size));
+        }
+
+        final List<TaskResponse> dated = after == null
+            ? taskRepository.findDatedAfter(ownerId, status, EARLIEST_DUE_AT, 0L, Limit.of(size))
+            : taskRepository.findDatedAfter(ownerId, status, after.dueAt(), after.id(), Limit.of(size));
+        if (dated.size() == size) {
+            return dated;
+        }
+        final List<TaskResponse> page = new ArrayList<>(size);
+        page.addAll(dated);
+        page.addAll(taskRepository.findUndatedAfter(ownerId, status, 0L, Limit.of(size - dated.size())));
+        return page;
+    }
+
+    @Override
+    @Transactional
+    public TaskResponse createTask(Long ownerId, TaskCreateRequest request) {
+        final Task task = taskRepository.save(Task.createFromDto(ownerId, request));
+        eventPublisher.publishEvent(
+            new TaskCreatedEvent(ownerId, task.getId(), task.getTitle(), task.getDescription(), task.getDueAt())
+        );
+        return TaskResponse.from(task);
+    }
+
+    // One guarded UPDATE instead of load, modify and save: no SELECT, no
+    // dirty checking, and only the columns the request names are written
+    @Override
+    @Transactional
+    public void updateTask(Long ownerId, Long id, TaskUpdateRequest request) {
+        final boolean found = request.isEmpty()
+            ? taskRepository.existsByIdAndOwnerId(id, ownerId)
+            : taskRepository.updateByIdAndOwnerId(id, ownerId, request, now()) > 0;
+        if (!found) {
+            throw new TaskNotFoundException("Task not found with ID: " + id);
+        }
+        if (request.title() != null || request.description() != null || request.dueAt() != null) {
+            eventPublisher.publishEvent(
+                new TaskUpdatedEvent(
+                    ownerId,
+                    id,
+                    request.title(),
+                    request.description(),
+                    request.dueAt() == null ? null : request.dueAt()
+                        .map(Task::truncate)
+                )
+            );
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteTask(Long ownerId, Long id) {
+        if (taskRepository.deleteByIdAndOwnerId(id, ownerId) == 0) {
+            throw new TaskNotFoundException("Task not found with ID: " + id);
+        }
+        eventPublisher.publishEvent(new TaskDeletedEvent(ownerId, id));
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now()
+            .truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static int pageSize(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + limit);
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+}
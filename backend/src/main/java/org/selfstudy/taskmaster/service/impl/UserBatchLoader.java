@@ -0,0 +1,113 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.selfstudy.taskmaster.config.UserBatchProperties;
+import org.selfstudy.taskmaster.entities.user.dto.UserResponse;
+import org.selfstudy.taskmaster.repository.UserRepository;
+import org.selfstudy.taskmaster.util.BatchLoader;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Turns concurrent cache misses for users into {@code id IN (...)} and
+ * {@code email IN (...)} queries. Each batch runs on whichever caller leads
+ * it, outside any transaction, which keeps it on the primary: what it loads
+ * goes into the user cache, and a replica that has not caught up with a
+ * write would put the old row back there after the write evicted it.
+ * Lookups inside a transaction need its uncommitted writes and are loaded
+ * directly instead.
+ */
+@Component
+@EnableConfigurationProperties(UserBatchProperties.class)
+public class UserBatchLoader implements MeterBinder {
+
+    private final boolean enabled;
+    private final BatchLoader<Long, UserResponse> byId;
+    private final BatchLoader<String, Long> idByEmail;
+
+    public UserBatchLoader(
+        UserRepository userRepository,
+        PlatformTransactionManager transactionManager,
+        UserBatchProperties properties
+    ) {
+        // Without a transaction the routing data source picks the primary
+        final TransactionTemplate primary = new TransactionTemplate(transactionManager);
+        primary.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+
+        this.enabled   = properties.enabled();
+        this.byId      = new BatchLoader<>(
+            "users.byId",
+            ids -> primary.execute(
+                status -> userRepository.findByIdIn(ids, UserResponse.class)
+                    .stream()
+                    .collect(Collectors.toMap(UserResponse::id, Function.identity()))
+            ),
+            properties.window(),
+            properties.maxBatchSize()
+        );
+        this.idByEmail = new BatchLoader<>(
+            "users.byEmail",
+            emails -> primary.execute(
+                status -> idsByEmail(emails, userRepository.findByEmailIn(emails, UserResponse.class))
+            ),
+            properties.window(),
+            properties.maxBatchSize()
+        );
+    }
+
+    public boolean canCoalesce() {
+        return enabled && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    public Optional<UserResponse> loadById(Long id) {
+        return byId.load(id);
+    }
+
+    public Optional<Long> loadIdByEmail(String email) {
+        return idByEmail.load(email);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        byId.bindTo(registry);
+        idByEmail.bindTo(registry);
+    }
+
+    // The IN list matches under the column collation, which may ignore case,
+    // so fall back to a case-insensitive match when no row matches exactly
+    private static Map<String, Long> idsByEmail(Set<String> emails, Iterable<UserResponse> users) {
+        final Map<String, Long> exact = new HashMap<>();
+        final Map<String, Long> folded = new HashMap<>();
+        for (UserResponse user : users) {
+            exact.put(user.email(), user.id());
+            folded.putIfAbsent(fold(user.email()), user.id());
+        }
+        final Map<String, Long> ids = new HashMap<>();
+        for (String email : emails) {
+            final Long id = exact.containsKey(email) ? exact.get(email) : folded.get(fold(email));
+            if (id != null) {
+                ids.put(email, id);
+            }
+        }
+        return ids;
+    }
+
+    private static String fold(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+}
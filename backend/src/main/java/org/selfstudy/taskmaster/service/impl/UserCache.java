@@ -0,0 +1,132 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.selfstudy.taskmaster.config.UserCacheProperties;
+import org.selfstudy.taskmaster.entities.user.dto.UserResponse;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded (W-TinyLFU) cache of user lookups. Entries are loaded through the
+ * cache's atomic per-key compute, and writers invalidate both immediately and
+ * again once their transaction completes. An invalidation that races a load
+ * waits for it and then removes its result, so a value read before a commit
+ * cannot outlive that commit.
+ *
+ * Lookups by email resolve to an id and then go through the id cache, so only
+ * email changes have to touch the email mappings. Those are keyed by the
+ * trimmed, lower-cased address, as the column collation may ignore case, so
+ * evicting an address evicts every spelling of it.
+ */
+@Component
+@EnableConfigurationProperties(UserCacheProperties.class)
+public class UserCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final Cache<Long, UserResponse> byId;
+    private final Cache<String, Long> idByEmail;
+
+    public UserCache(UserCacheProperties properties) {
+        this.enabled   = properties.enabled();
+        this.byId      = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .recordStats()
+            .build();
+        this.idByEmail = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .recordStats()
+            .build();
+    }
+
+    public Optional<UserResponse> getById(
+        Long id,
+        Function<Long, Optional<UserResponse>> loader
+    ) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        return Optional.ofNullable(
+            byId.get(id, key -> loader.apply(key)
+                .orElse(null))
+        );
+    }
+
+    public Optional<UserResponse> getByEmail(
+        String email,
+        Function<String, Optional<Long>> idLoader,
+        Function<Long, Optional<UserResponse>> loader
+    ) {
+        if (!enabled) {
+            return idLoader.apply(email)
+                .flatMap(loader);
+        }
+        final Long id = idByEmail.get(
+            normalize(email),
+            key -> idLoader.apply(email)
+                .orElse(null)
+        );
+        return id == null ? Optional.empty() : getById(id, loader);
+    }
+
+    public void invalidate(Long id) {
+        byId.invalidate(id);
+        afterCompletion(() -> byId.invalidate(id));
+    }
+
+    public void invalidateAll() {
+        byId.invalidateAll();
+        idByEmail.invalidateAll();
+        afterCompletion(() -> {
+            byId.invalidateAll();
+            idByEmail.invalidateAll();
+        });
+    }
+
+    public void invalidateEmail(String email) {
+        final String key = normalize(email);
+        idByEmail.invalidate(key);
+        afterCompletion(() -> idByEmail.invalidate(key));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, byId, "users.byId");
+        CaffeineCacheMetrics.monitor(registry, idByEmail, "users.byEmail");
+    }
+
+    private static String normalize(String email) {
+        return email.trim()
+            .toLowerCase(Locale.ROOT);
+    }
+
+    private static void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+
+            }
+        );
+    }
+
+}
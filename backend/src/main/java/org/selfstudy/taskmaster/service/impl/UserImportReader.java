@@ -0,0 +1,185 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.selfstudy.taskmaster.entities.user.enums.UserImportFormat;
+import org.selfstudy.taskmaster.exception.InvalidImportException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads import rows one line at a time so an upload of any size is never held
+ * in memory. A line that cannot be parsed becomes a row carrying an error
+ * rather than failing the import.
+ *
+ * CSV input needs a header naming the email and password columns. Fields may
+ * be quoted, but a field cannot span lines.
+ */
+class UserImportReader {
+
+    record Row(long line, String email, String password, String error) {
+
+        boolean isMalformed() {
+            return error != null;
+        }
+
+    }
+
+    private final BufferedReader reader;
+    private final UserImportFormat format;
+    private final ObjectMapper objectMapper;
+    private long line;
+    private int emailColumn = -1;
+    private int passwordColumn = -1;
+
+    UserImportReader(InputStream input, UserImportFormat format, ObjectMapper objectMapper) {
+        this.reader       = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format       = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return the next non-blank row, or {@code null} at the end of input
+     */
+    Row next() {
+        String text;
+        while ((text = readLine()) != null) {
+            if (text.isBlank()) {
+                continue;
+            }
+            if (format == UserImportFormat.CSV && emailColumn < 0) {
+                readHeader(text);
+                continue;
+            }
+            return format == UserImportFormat.CSV ? parseCsv(text) : parseJson(text);
+        }
+        if (format == UserImportFormat.CSV && emailColumn < 0) {
+            throw new InvalidImportException("CSV import is missing a header row");
+        }
+        return null;
+    }
+
+    private String readLine() {
+        try {
+            final String text = reader.readLine();
+            if (text != null) {
+                line++;
+            }
+            return text;
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void readHeader(String text) {
+        final List<String> columns = splitCsv(text);
+        if (columns == null) {
+            throw new InvalidImportException("CSV header on line " + line + " is malformed");
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i)
+                .trim()
+                .toLowerCase(Locale.ROOT)) {
+                case "email" -> emailColumn = i;
+                case "password" -> passwordColumn = i;
+                default -> {
+                }
+            }
+        }
+        if (emailColumn < 0 || passwordColumn < 0) {
+            throw new InvalidImportException("CSV header must name email and password columns");
+        }
+    }
+
+    private Row parseCsv(String text) {
+        final List<String> fields = splitCsv(text);
+        if (fields == null) {
+            return new Row(line, null, null, "Unterminated quoted field");
+        }
+        final int required = Math.max(emailColumn, passwordColumn) + 1;
+        if (fields.size() < required) {
+            return new Row(line, null, null, "Expected at least " + required + " fields");
+        }
+        return new Row(
+            line,
+            fields.get(emailColumn)
+                .trim(),
+            fields.get(passwordColumn),
+            null
+        );
+    }
+
+    private Row parseJson(String text) {
+        final JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        }
+        catch (JsonProcessingException e) {
+            return new Row(line, null, null, "Invalid JSON");
+        }
+        if (!node.isObject()) {
+            return new Row(line, null, null, "Expected a JSON object");
+        }
+        final JsonNode email = node.get("email");
+        final JsonNode password = node.get("password");
+        return new Row(
+            line,
+            email != null && email.isTextual() ? email.asText().trim() : null,
+            password != null && password.isTextual() ? password.asText() : null,
+            null
+        );
+    }
+
+    /**
+     * @return the fields of an RFC 4180 record, or {@code null} if a quoted
+     *         field is left open
+     */
+    private static List<String> splitCsv(String text) {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                }
+                else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                }
+                else {
+                    quoted = false;
+                }
+            }
+            else if (c == '"') {
+                quoted = true;
+            }
+            else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            }
+            else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+}
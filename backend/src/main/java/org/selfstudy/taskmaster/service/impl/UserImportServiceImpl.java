@@ -0,0 +1,245 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.selfstudy.taskmaster.config.UserImportProperties;
+import org.selfstudy.taskmaster.entities.user.User;
+import org.selfstudy.taskmaster.entities.user.dto.UserCreateRequest;
+import org.selfstudy.taskmaster.entities.user.dto.UserEmail;
+import org.selfstudy.taskmaster.entities.user.dto.UserImportError;
+import org.selfstudy.taskmaster.entities.user.dto.UserImportResult;
+import org.selfstudy.taskmaster.entities.user.enums.UserImportErrorReason;
+import org.selfstudy.taskmaster.entities.user.enums.UserImportFormat;
+import org.selfstudy.taskmaster.entities.user.event.UserCreatedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UsersCreatedEvent;
+import org.selfstudy.taskmaster.repository.UserRepository;
+import org.selfstudy.taskmaster.service.EmailFilterService;
+import org.selfstudy.taskmaster.service.PasswordHashingService;
+import org.selfstudy.taskmaster.service.UserImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Streams an upload in batches. Each batch is checked against existing emails
+ * with a single query, hashed in parallel and inserted in its own transaction,
+ * so one bad row costs only its own entry in the result. If a concurrent
+ * writer claims an email after the check, that batch is retried row by row.
+ */
+@Service
+@Timed("taskmaster.service")
+@EnableConfigurationProperties(UserImportProperties.class)
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserImportServiceImpl.class);
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmailFilterService emailFilterService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public UserImportServiceImpl(
+        UserRepository userRepository,
+        PasswordHashingService passwordHashingService,
+        PlatformTransactionManager transactionManager,
+        ApplicationEventPublisher eventPublisher,
+        EmailFilterService emailFilterService,
+        Validator validator,
+        ObjectMapper objectMapper,
+        UserImportProperties properties
+    ) {
+        this.userRepository         = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.transactionTemplate    = new TransactionTemplate(transactionManager);
+        this.eventPublisher         = eventPublisher;
+        this.emailFilterService     = emailFilterService;
+        this.validator              = validator;
+        this.objectMapper           = objectMapper;
+        this.batchSize              = properties.batchSize();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserImportResult importUsers(InputStream input, UserImportFormat format) {
+        final UserImportReader reader = new UserImportReader(input, format, objectMapper);
+        final List<UserImportError> errors = new ArrayList<>();
+        final Set<String> seen = new HashSet<>();
+        final List<UserImportReader.Row> batch = new ArrayList<>(batchSize);
+        long received = 0;
+        long imported = 0;
+
+        UserImportReader.Row row;
+        while ((row = reader.next()) != null) {
+            received++;
+            final UserImportError error = check(row, seen);
+            if (error != null) {
+                errors.add(error);
+                continue;
+            }
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                imported += importBatch(batch, errors);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            imported += importBatch(batch, errors);
+        }
+
+        errors.sort(Comparator.comparingLong(UserImportError::line));
+        log.info("User import finished: {} rows, {} imported, {} rejected", received, imported, errors.size());
+        return new UserImportResult(received, imported, errors);
+    }
+
+    private UserImportError check(UserImportReader.Row row, Set<String> seen) {
+        if (row.isMalformed()) {
+            return error(row, UserImportErrorReason.MALFORMED, row.error());
+        }
+
+        final Set<ConstraintViolation<UserCreateRequest>> violations = validator.validate(
+            new UserCreateRequest(row.email(), row.password())
+        );
+        if (!violations.isEmpty()) {
+            return error(
+                row,
+                UserImportErrorReason.INVALID,
+                violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "))
+            );
+        }
+
+        if (!seen.add(normalize(row.email()))) {
+            return error(row, UserImportErrorReason.DUPLICATE, "Email appears earlier in this import");
+        }
+        return null;
+    }
+
+    private long importBatch(List<UserImportReader.Row> batch, List<UserImportError> errors) {
+        final Set<String> taken = userRepository.findByEmailIn(
+            batch.stream()
+                .map(UserImportReader.Row::email)
+                .toList(),
+            UserEmail.class
+        )
+            .stream()
+            .map(email -> normalize(email.email()))
+            .collect(Collectors.toSet());
+
+        final List<UserImportReader.Row> rows = new ArrayList<>(batch.size());
+        for (UserImportReader.Row row : batch) {
+            if (taken.contains(normalize(row.email()))) {
+                errors.add(emailTaken(row));
+            }
+            else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        final List<String> hashes = passwordHashingService.encodeAll(
+            rows.stream()
+                .map(UserImportReader.Row::password)
+                .toList()
+        );
+        rows.forEach(row -> emailFilterService.recordTaken(row.email()));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                final List<User> users = userRepository.saveAllAndFlush(users(rows, hashes));
+                users.stream()
+                    .collect(
+                        Collectors.groupingBy(
+                            User::getStatus,
+                            Collectors.mapping(User::getId, Collectors.toList())
+                        )
+                    )
+                    .forEach(
+                        (userStatus, userIds) -> eventPublisher.publishEvent(
+                            new UsersCreatedEvent(userIds, userStatus)
+                        )
+                    );
+            });
+            return rows.size();
+        }
+        catch (DataIntegrityViolationException e) {
+            return importIndividually(rows, hashes, errors);
+        }
+    }
+
+    private long importIndividually(
+        List<UserImportReader.Row> rows,
+        List<String> hashes,
+        List<UserImportError> errors
+    ) {
+        long imported = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            final User user = User.createWithPasswordHash(rows.get(i).email(), hashes.get(i));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    userRepository.saveAndFlush(user);
+                    eventPublisher.publishEvent(new UserCreatedEvent(user.getId(), user.getStatus()));
+                });
+                imported++;
+            }
+            catch (DataIntegrityViolationException e) {
+                errors.add(emailTaken(rows.get(i)));
+            }
+        }
+        return imported;
+    }
+
+    // Built per attempt: a rolled-back persist leaves ids on the instances
+    private static List<User> users(List<UserImportReader.Row> rows, List<String> hashes) {
+        final List<User> users = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            users.add(User.createWithPasswordHash(rows.get(i).email(), hashes.get(i)));
+        }
+        return users;
+    }
+
+    private static UserImportError emailTaken(UserImportReader.Row row) {
+        return error(row, UserImportErrorReason.EMAIL_TAKEN, "Email is already registered");
+    }
+
+    private static UserImportError error(
+        UserImportReader.Row row,
+        UserImportErrorReason reason,
+        String message
+    ) {
+        return new UserImportError(row.line(), row.email(), reason, message);
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+}
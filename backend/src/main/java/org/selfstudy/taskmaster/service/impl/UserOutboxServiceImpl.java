@@ -0,0 +1,203 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.selfstudy.taskmaster.config.UserOutboxProperties;
+import org.selfstudy.taskmaster.entities.user.UserOutboxEntry;
+import org.selfstudy.taskmaster.entities.user.dto.UserChange;
+import org.selfstudy.taskmaster.entities.user.event.UserCreatedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UserPasswordChangedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UserStatusChangedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UsersCreatedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UsersStatusChangedEvent;
+import org.selfstudy.taskmaster.repository.UserOutboxRepository;
+import org.selfstudy.taskmaster.service.UserChangeSubscriber;
+import org.selfstudy.taskmaster.service.UserOutboxService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Transactional outbox for user changes. The events that user writes
+ * already publish are recorded just before their transaction commits, in
+ * that transaction, so a change and its outbox row commit or roll back
+ * together. The relay then feeds pending rows to every
+ * {@link UserChangeSubscriber} in id order, a batch at a time, and marks a
+ * batch delivered only after all of them accepted it.
+ *
+ * Ids come from a pooled sequence, so a row can commit after rows with
+ * higher ids were delivered. Every relay pass therefore starts again from
+ * the first undelivered row rather than from a stored position; such a row
+ * is delivered on the next pass, out of order but not lost. One instance
+ * should relay: on the others {@code relay-enabled} is turned off.
+ */
+@Service
+@EnableConfigurationProperties(UserOutboxProperties.class)
+public class UserOutboxServiceImpl implements UserOutboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserOutboxServiceImpl.class);
+
+    private final UserOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<UserChangeSubscriber> subscribers;
+    private final UserOutboxProperties properties;
+
+    private final Timer lag;
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder pruned = new LongAdder();
+
+    public UserOutboxServiceImpl(
+        UserOutboxRepository outboxRepository,
+        PlatformTransactionManager transactionManager,
+        ObjectProvider<UserChangeSubscriber> subscribers,
+        UserOutboxProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.outboxRepository    = outboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.subscribers         = subscribers;
+        this.properties          = properties;
+        this.lag                 = Timer.builder("taskmaster.user.outbox.lag")
+            .description("Time from a user change being recorded to its delivery to subscribers")
+            .register(meterRegistry);
+        FunctionCounter.builder("taskmaster.user.outbox.delivered", delivered, LongAdder::sum)
+            .description("User changes delivered to every subscriber")
+            .register(meterRegistry);
+        FunctionCounter.builder("taskmaster.user.outbox.failures", failures, LongAdder::sum)
+            .description("Batches a subscriber rejected, to be delivered again")
+            .register(meterRegistry);
+        FunctionCounter.builder("taskmaster.user.outbox.pruned", pruned, LongAdder::sum)
+            .description("Delivered user changes deleted from the outbox")
+            .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserCreated(UserCreatedEvent event) {
+        outboxRepository.save(UserOutboxEntry.created(event.userId(), event.status()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onStatusChanged(UserStatusChangedEvent event) {
+        outboxRepository.save(
+            UserOutboxEntry.statusChanged(event.userId(), event.previousStatus(), event.status())
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUsersCreated(UsersCreatedEvent event) {
+        outboxRepository.saveAll(
+            event.userIds()
+                .stream()
+                .map(userId -> UserOutboxEntry.created(userId, event.status()))
+                .toList()
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onStatusesChanged(UsersStatusChangedEvent event) {
+        outboxRepository.saveAll(
+            event.userIds()
+                .stream()
+                .map(userId -> UserOutboxEntry.statusChanged(userId, event.previousStatus(), event.status()))
+                .toList()
+        );
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onPasswordChanged(UserPasswordChangedEvent event) {
+        outboxRepository.save(UserOutboxEntry.passwordChanged(event.userId()));
+    }
+
+    // The reads run outside a transaction, which routes them to the primary:
+    // a replica could still show delivered rows as pending
+    @Override
+    @Scheduled(fixedDelayString = "${taskmaster.user-outbox.poll-interval:500ms}")
+    public synchronized int relay() {
+        if (!properties.relayEnabled()) {
+            return 0;
+        }
+        final List<UserChangeSubscriber> targets = subscribers.orderedStream()
+            .toList();
+        final Limit limit = Limit.of(properties.batchSize());
+        int relayed = 0;
+        long after = 0;
+        List<UserChange> batch;
+        do {
+            batch = outboxRepository.findPendingAfter(after, limit);
+            if (batch.isEmpty()) {
+                break;
+            }
+            try {
+                for (UserChangeSubscriber subscriber : targets) {
+                    subscriber.onUserChanges(batch);
+                }
+            }
+            catch (RuntimeException e) {
+                failures.increment();
+                log.warn("User change subscriber failed; {} changes will be delivered again", batch.size(), e);
+                break;
+            }
+
+            final List<Long> ids = batch.stream()
+                .map(UserChange::id)
+                .toList();
+            final LocalDateTime deliveredAt = now();
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.markDelivered(ids, deliveredAt));
+            for (UserChange change : batch) {
+                lag.record(Duration.between(change.occurredAt(), deliveredAt));
+            }
+            delivered.add(batch.size());
+            relayed += batch.size();
+            after = batch.getLast()
+                .id();
+        }
+        while (batch.size() == properties.batchSize());
+        return relayed;
+    }
+
+    // One transaction per chunk keeps each DELETE's locks and undo small
+    @Override
+    @Scheduled(fixedDelayString = "${taskmaster.user-outbox.prune-interval:1m}")
+    public int prune() {
+        if (!properties.relayEnabled()) {
+            return 0;
+        }
+        final LocalDateTime before = now().minus(properties.retention());
+        final Limit limit = Limit.of(properties.pruneChunkSize());
+        int deleted = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> {
+                final List<Long> ids = outboxRepository.findDeliveredBefore(before, limit);
+                return ids.isEmpty() ? 0 : outboxRepository.deleteByIdIn(ids);
+            });
+            deleted += chunk;
+            pruned.add(chunk);
+        }
+        while (chunk == properties.pruneChunkSize());
+        return deleted;
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now()
+            .truncatedTo(ChronoUnit.MICROS);
+    }
+
+}
@@ -1,105 +1,342 @@
 package org.selfstudy.taskmaster.service.impl;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.selfstudy.taskmaster.entities.user.User;
+import org.selfstudy.taskmaster.entities.user.dto.UserBulkChangeStatusRequest;
+import org.selfstudy.taskmaster.entities.user.dto.UserChangeEmailRequest;
 import org.selfstudy.taskmaster.entities.user.dto.UserChangePasswordRequest;
 import org.selfstudy.taskmaster.entities.user.dto.UserChangeStatusRequest;
 import org.selfstudy.taskmaster.entities.user.dto.UserCreateRequest;
+import org.selfstudy.taskmaster.entities.user.dto.UserId;
+import org.selfstudy.taskmaster.entities.user.dto.UserIdStatus;
+import org.selfstudy.taskmaster.entities.user.dto.UserResponse;
 import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+import org.selfstudy.taskmaster.entities.user.event.UserCreatedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UserPasswordChangedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UserStatusChangedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UsersStatusChangedEvent;
 import org.selfstudy.taskmaster.exception.UserAlreadyExistsException;
 import org.selfstudy.taskmaster.exception.UserNotFoundException;
 import org.selfstudy.taskmaster.repository.UserRepository;
+import org.selfstudy.taskmaster.service.EmailFilterService;
+import org.selfstudy.taskmaster.service.PasswordHashingService;
 import org.selfstudy.taskmaster.service.UserService;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.annotation.Timed;
 
 @Service
+@Timed("taskmaster.service")
 @Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
 
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int BULK_UPDATE_CHUNK_SIZE = 1000;
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmailFilterService emailFilterService;
+    private final UserCache userCache;
+    private final UserBatchLoader userBatchLoader;
 
     public UserServiceImpl(
         UserRepository userRepository,
-        PasswordEncoder passwordEncoder
+        PasswordHashingService passwordHashingService,
+        PlatformTransactionManager transactionManager,
+        ApplicationEventPublisher eventPublisher,
+        EmailFilterService emailFilterService,
+        UserCache userCache,
+        UserBatchLoader userBatchLoader
     ) {
-        this.userRepository  = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.userRepository         = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.transactionTemplate    = new TransactionTemplate(transactionManager);
+        this.eventPublisher         = eventPublisher;
+        this.emailFilterService     = emailFilterService;
+        this.userCache              = userCache;
+        this.userBatchLoader        = userBatchLoader;
+    }
+
+    // SUPPORTS keeps a caller's transaction but opens none of its own, so no
+    // connection is held while a lookup waits for its batch
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<UserResponse> findUserById(Long id) {
+        return userCache.getById(id, this::loadUserResponse);
     }
 
     @Override
-    public Optional<User> findUserById(Long id) {
-        return userRepository.findById(id);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<UserResponse> findUserByEmail(String email) {
+        return userCache.getByEmail(email, this::loadUserId, this::loadUserResponse);
     }
 
     @Override
-    public Optional<User> findUserByEmail(String email) {
-        return userRepository.findByEmail(email);
+    public List<UserResponse> findUsersByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        final Map<Long, UserResponse> found = userRepository.findByIdIn(ids, UserResponse.class)
+            .stream()
+            .collect(Collectors.toMap(UserResponse::id, Function.identity()));
+        return ids.stream()
+            .distinct()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .toList();
     }
 
     @Override
-    public List<User> findAllUsers() {
-        return userRepository.findAll();
+    public List<UserResponse> findAllUsers() {
+        return userRepository.findAllByOrderByIdAsc(UserResponse.class);
     }
 
     @Override
-    public List<User> findUsersByStatus(UserStatus status) {
-        return userRepository.findByStatus(status);
+    public List<UserResponse> findUsersByStatus(UserStatus status) {
+        return userRepository.findByStatusOrderByIdAsc(status, UserResponse.class);
     }
 
     @Override
-    public List<User> findRecentUsers(LocalDateTime since) {
-        return userRepository.findByCreatedAtAfter(since);
+    public List<UserResponse> findRecentUsers(LocalDateTime since) {
+        return userRepository.findByCreatedAtAfterOrderByIdAsc(since, UserResponse.class);
     }
 
     @Override
-    public List<User> findRecentUsersByStatus(
+    public List<UserResponse> findRecentUsersByStatus(
         LocalDateTime since,
         UserStatus status
     ) {
-        return userRepository.findByCreatedAtAfterAndStatus(since, status);
+        return userRepository.findByCreatedAtAfterAndStatusOrderByIdAsc(
+            since,
+            status,
+            UserResponse.class
+        );
+    }
+
+    @Override
+    public List<UserResponse> findUsersByMultipleStatus(List<UserStatus> status) {
+        return userRepository.findByStatusInOrderByIdAsc(status, UserResponse.class);
+    }
+
+    @Override
+    public Window<UserResponse> findAllUsers(ScrollPosition position, int limit) {
+        return userRepository.findAllByOrderByIdAsc(
+            position,
+            pageLimit(limit),
+            UserResponse.class
+        );
+    }
+
+    @Override
+    public Window<UserResponse> findUsersByStatus(
+        UserStatus status,
+        ScrollPosition position,
+        int limit
+    ) {
+        return userRepository.findByStatusOrderByIdAsc(
+            status,
+            position,
+            pageLimit(limit),
+            UserResponse.class
+        );
     }
 
     @Override
-    public List<User> findUsersByMultipleStatus(List<UserStatus> status) {
-        return userRepository.findByStatusIn(status);
+    public Window<UserResponse> findUsersByMultipleStatus(
+        List<UserStatus> status,
+        ScrollPosition position,
+        int limit
+    ) {
+        return userRepository.findByStatusInOrderByIdAsc(
+            status,
+            position,
+            pageLimit(limit),
+            UserResponse.class
+        );
     }
 
     @Override
+    public Window<UserResponse> findRecentUsers(
+        LocalDateTime since,
+        ScrollPosition position,
+        int limit
+    ) {
+        return userRepository.findByCreatedAtAfterOrderByCreatedAtAscIdAsc(
+            since,
+            position,
+            pageLimit(limit),
+            UserResponse.class
+        );
+    }
+
+    @Override
+    public Window<UserResponse> findRecentUsersByStatus(
+        LocalDateTime since,
+        UserStatus status,
+        ScrollPosition position,
+        int limit
+    ) {
+        return userRepository.findByCreatedAtAfterAndStatusOrderByCreatedAtAscIdAsc(
+            since,
+            status,
+            position,
+            pageLimit(limit),
+            UserResponse.class
+        );
+    }
+
+    @Override
+    public List<UserResponse> findUsersByStatusAfter(
+        UserStatus status,
+        long afterId,
+        int limit
+    ) {
+        return userRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+            status,
+            afterId,
+            pageLimit(limit),
+            UserResponse.class
+        );
+    }
+
+    @Override
+    public List<UserResponse> findRecentUsersAfter(
+        LocalDateTime afterCreatedAt,
+        long afterId,
+        int limit
+    ) {
+        return userRepository.findByCreatedAtAndIdAfter(
+            afterCreatedAt,
+            afterId,
+            pageLimit(limit)
+        );
+    }
+
+    @Override
+    public void forEachUser(Consumer<UserResponse> action) {
+        consume(userRepository.streamAllByOrderByIdAsc(UserResponse.class), action);
+    }
+
+    @Override
+    public void forEachUserByStatus(UserStatus status, Consumer<UserResponse> action) {
+        consume(userRepository.streamByStatusOrderByIdAsc(status, UserResponse.class), action);
+    }
+
+    @Override
+    public void forEachUserByMultipleStatus(
+        List<UserStatus> status,
+        Consumer<UserResponse> action
+    ) {
+        consume(userRepository.streamByStatusInOrderByIdAsc(status, UserResponse.class), action);
+    }
+
+    @Override
+    public void forEachRecentUser(LocalDateTime since, Consumer<UserResponse> action) {
+        consume(userRepository.streamByCreatedAtAfterOrderByIdAsc(since, UserResponse.class), action);
+    }
+
+    // No transaction of its own: when the filter rules the email out, the
+    // check must not take a connection at all
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isEmailTaken(String email) {
-        return userRepository.existsByEmail(email);
+        return emailExists(email);
     }
 
+    // Hashing runs before the transaction opens so that no JDBC connection
+    // is held while Argon2 works; only the insert/update is transactional.
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User createUser(UserCreateRequest request) {
-        if (userRepository.existsByEmail(request.email())) {
+        if (emailExists(request.email())) {
             throw new UserAlreadyExistsException(
                 "User already exists with Email: " + request.email()
             );
         }
 
-        return userRepository.save(
-            User.createFromDto(request, passwordEncoder)
-        );
+        final String passwordHash = passwordHashingService.encode(request.password());
+        emailFilterService.recordTaken(request.email());
+
+        try {
+            return transactionTemplate.execute(status -> {
+                final User user = userRepository.save(
+                    User.createWithPasswordHash(request.email(), passwordHash)
+                );
+                eventPublisher.publishEvent(new UserCreatedEvent(user.getId(), user.getStatus()));
+                return user;
+            });
+        }
+        catch (DataIntegrityViolationException e) {
+            throw new UserAlreadyExistsException(
+                "User already exists with Email: " + request.email(),
+                e
+            );
+        }
     }
 
     @Override
     @Transactional
-    public void changeUserPassword(UserChangePasswordRequest request) {
+    public void changeUserEmail(UserChangeEmailRequest request) {
         User user = userRepository.findById(request.id())
             .orElseThrow(
                 () -> new UserNotFoundException(
                     "User not found with ID: " + request.id()
                 )
             );
-        user.changePassword(request.password(), passwordEncoder);
+        if (emailExists(request.email())) {
+            throw new UserAlreadyExistsException(
+                "User already exists with Email: " + request.email()
+            );
+        }
+        emailFilterService.recordTaken(request.email());
+        final String previousEmail = user.getEmail();
+        user.changeEmail(request.email());
         userRepository.save(user);
+        userCache.invalidate(user.getId());
+        // Only the two addresses this change touches
+        userCache.invalidateEmail(previousEmail);
+        userCache.invalidateEmail(request.email());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void changeUserPassword(UserChangePasswordRequest request) {
+        final String passwordHash = passwordHashingService.encode(request.password());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findById(request.id())
+                .orElseThrow(
+                    () -> new UserNotFoundException(
+                        "User not found with ID: " + request.id()
+                    )
+                );
+            user.changePasswordHash(passwordHash);
+            userRepository.save(user);
+            userCache.invalidate(user.getId());
+            eventPublisher.publishEvent(new UserPasswordChangedEvent(user.getId()));
+        });
     }
 
     @Override
@@ -111,8 +348,160 @@ public class UserServiceImpl implements UserService {
                     "User not found with ID: " + request.id()
                 )
             );
+        final UserStatus previousStatus = user.getStatus();
         user.changeStatus(request.status());
-        userRepository.save(user);
+        userCache.invalidate(user.getId());
+        eventPublisher.publishEvent(
+            new UserStatusChangedEvent(user.getId(), previousStatus, request.status())
+        );
+    }
+
+    /**
+     * Each chunk reads the current status of its ids once and issues one
+     * UPDATE per distinct status, in its own transaction, so row locks are
+     * held only for one chunk.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long changeUserStatuses(UserBulkChangeStatusRequest request) {
+        final List<Long> ids = request.ids()
+            .stream()
+            .distinct()
+            .toList();
+        long changed = 0;
+        for (int from = 0; from < ids.size(); from += BULK_UPDATE_CHUNK_SIZE) {
+            final List<Long> chunk = ids.subList(
+                from,
+                Math.min(from + BULK_UPDATE_CHUNK_SIZE, ids.size())
+            );
+            changed += transactionTemplate.execute(
+                status -> changeStatus(
+                    userRepository.findByIdIn(chunk, UserIdStatus.class),
+                    request.status()
+                )
+            );
+        }
+        return changed;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long changeStatusOfUsersCreatedBefore(
+        LocalDateTime before,
+        UserStatus currentStatus,
+        UserStatus status
+    ) {
+        if (currentStatus == status) {
+            return 0;
+        }
+        long changed = 0;
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<UserId> chunk;
+        do {
+            chunk = userRepository.findByCreatedAtBeforeAndStatusOrderByIdAsc(
+                before,
+                currentStatus,
+                position,
+                Limit.of(BULK_UPDATE_CHUNK_SIZE),
+                UserId.class
+            );
+            if (chunk.isEmpty()) {
+                break;
+            }
+            final List<UserIdStatus> rows = chunk.stream()
+                .map(row -> new UserIdStatus(row.id(), currentStatus))
+                .toList();
+            changed += transactionTemplate.execute(tx -> changeStatus(rows, status));
+            position = chunk.positionAt(chunk.size() - 1);
+        }
+        while (chunk.hasNext());
+        return changed;
+    }
+
+    private int changeStatus(List<UserIdStatus> rows, UserStatus status) {
+        final LocalDateTime modifiedAt = LocalDateTime.now()
+            .truncatedTo(ChronoUnit.MICROS);
+        final Map<UserStatus, List<Long>> idsByStatus = rows.stream()
+            .filter(row -> row.status() != status)
+            .collect(
+                Collectors.groupingBy(
+                    UserIdStatus::status,
+                    Collectors.mapping(UserIdStatus::id, Collectors.toList())
+                )
+            );
+
+        int changed = 0;
+        for (Map.Entry<UserStatus, List<Long>> group : idsByStatus.entrySet()) {
+            final int updated = userRepository.updateStatusByIdInAndStatus(
+                group.getValue(),
+                group.getKey(),
+                status,
+                modifiedAt
+            );
+            group.getValue()
+                .forEach(userCache::invalidate);
+            eventPublisher.publishEvent(
+                new UsersStatusChangedEvent(
+                    movedIds(group.getValue(), status, updated),
+                    group.getKey(),
+                    status,
+                    updated
+                )
+            );
+            changed += updated;
+        }
+        return changed;
+    }
+
+    // A row that changed since the chunk was read is skipped by the UPDATE's
+    // status guard; listeners must only hear about the ones it moved
+    private List<Long> movedIds(List<Long> ids, UserStatus status, int updated) {
+        if (updated == ids.size()) {
+            return ids;
+        }
+        return userRepository.findByIdInAndStatus(ids, status, UserId.class)
+            .stream()
+            .map(UserId::id)
+            .toList();
+    }
+
+    private Optional<UserResponse> loadUserResponse(Long id) {
+        if (userBatchLoader.canCoalesce()) {
+            return userBatchLoader.loadById(id);
+        }
+        return userRepository.findById(id, UserResponse.class);
+    }
+
+    private Optional<Long> loadUserId(String email) {
+        if (userBatchLoader.canCoalesce()) {
+            return userBatchLoader.loadIdByEmail(email);
+        }
+        return userRepository.findByEmail(email, UserId.class)
+            .map(UserId::id);
+    }
+
+    private boolean emailExists(String email) {
+        if (!emailFilterService.mightBeTaken(email)) {
+            return false;
+        }
+        final boolean exists = userRepository.existsByEmail(email);
+        if (!exists) {
+            emailFilterService.recordFalsePositive();
+        }
+        return exists;
+    }
+
+    private static <T> void consume(Stream<T> rows, Consumer<T> action) {
+        try (rows) {
+            rows.forEach(action);
+        }
+    }
+
+    private static Limit pageLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + limit);
+        }
+        return Limit.of(Math.min(limit, MAX_PAGE_SIZE));
     }
 
 }
@@ -0,0 +1,201 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.selfstudy.taskmaster.entities.user.dto.UserStatusCount;
+import org.selfstudy.taskmaster.entities.user.dto.UserStatusCounts;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+import org.selfstudy.taskmaster.entities.user.event.UserCreatedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UserStatusChangedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UsersCreatedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UsersStatusChangedEvent;
+import org.selfstudy.taskmaster.repository.UserRepository;
+import org.selfstudy.taskmaster.service.UserStatusCountService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Users per status, kept in memory so reading them never touches the
+ * database. Committed creates and status changes adjust the counters; a
+ * grouped count, first at startup and then every reconcile interval,
+ * corrects whatever they missed, such as rows written by another instance
+ * or by hand.
+ *
+ * Reconciliation adds the difference to each counter instead of overwriting
+ * it, and changes committed while the count query runs are replayed on top
+ * of its result, so no update is lost. A commit that races the start of the
+ * query may be counted twice until the next run.
+ */
+@Service
+@Timed("taskmaster.service")
+public class UserStatusCountServiceImpl implements UserStatusCountService, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(UserStatusCountServiceImpl.class);
+
+    private final UserRepository userRepository;
+    private final Map<UserStatus, LongAdder> counts = counters();
+    private final ReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+    private final LongAdder drift = new LongAdder();
+
+    // Changes applied since the running reconciliation started its query;
+    // null when none is running
+    private volatile Map<UserStatus, LongAdder> pending;
+    private volatile Instant reconciledAt;
+
+    public UserStatusCountServiceImpl(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public UserStatusCounts getCounts() {
+        final Map<UserStatus, Long> snapshot = new EnumMap<>(UserStatus.class);
+        long total = 0;
+        for (Map.Entry<UserStatus, LongAdder> entry : counts.entrySet()) {
+            final long count = entry.getValue()
+                .sum();
+            snapshot.put(entry.getKey(), count);
+            total += count;
+        }
+        return new UserStatusCounts(snapshot, total, reconciledAt);
+    }
+
+    // Runs outside a transaction on purpose: that routes the query to the
+    // primary, where a lagging replica cannot make the counts go backwards
+    @Override
+    @Scheduled(fixedDelayString = "${taskmaster.user-status-count.reconcile-interval:5m}")
+    public synchronized void reconcile() {
+        final Map<UserStatus, LongAdder> replay = counters();
+        pending = replay;
+        try {
+            final Map<UserStatus, Long> actual = new EnumMap<>(UserStatus.class);
+            for (UserStatusCount row : userRepository.countGroupedByStatus()) {
+                actual.put(row.status(), row.count());
+            }
+
+            reconcileLock.writeLock()
+                .lock();
+            try {
+                long corrected = 0;
+                for (UserStatus status : UserStatus.values()) {
+                    final LongAdder counter = counts.get(status);
+                    final long replayed = replay.get(status)
+                        .sum();
+                    final long difference = actual.getOrDefault(status, 0L) + replayed - counter.sum();
+                    counter.add(difference);
+                    corrected += Math.abs(difference);
+                }
+                // The first run fills empty counters; that is not drift
+                if (reconciledAt != null && corrected > 0) {
+                    drift.add(corrected);
+                    log.info("Corrected user status counts by {}", corrected);
+                }
+            }
+            finally {
+                pending = null;
+                reconcileLock.writeLock()
+                    .unlock();
+            }
+            reconciledAt = Instant.now();
+        }
+        catch (RuntimeException e) {
+            pending = null;
+            log.warn("User status counts could not be reconciled", e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onUserCreated(UserCreatedEvent event) {
+        add(event.status(), 1);
+    }
+
+    @TransactionalEventListener
+    public void onUsersCreated(UsersCreatedEvent event) {
+        add(event.status(), event.userIds()
+            .size());
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(UserStatusChangedEvent event) {
+        move(event.previousStatus(), event.status(), 1);
+    }
+
+    @TransactionalEventListener
+    public void onStatusesChanged(UsersStatusChangedEvent event) {
+        move(event.previousStatus(), event.status(), event.changed());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Map.Entry<UserStatus, LongAdder> entry : counts.entrySet()) {
+            Gauge.builder("taskmaster.users", entry.getValue(), LongAdder::sum)
+                .description("Users per status, as last counted in memory")
+                .tag("status", entry.getKey()
+                    .name())
+                .register(registry);
+        }
+        FunctionCounter.builder("taskmaster.users.count.drift", drift, LongAdder::sum)
+            .description("Total correction applied to the in-memory counts by reconciliation")
+            .register(registry);
+    }
+
+    private void move(UserStatus from, UserStatus to, int users) {
+        if (from == to || users == 0) {
+            return;
+        }
+        reconcileLock.readLock()
+            .lock();
+        try {
+            apply(from, -users);
+            apply(to, users);
+        }
+        finally {
+            reconcileLock.readLock()
+                .unlock();
+        }
+    }
+
+    private void add(UserStatus status, int users) {
+        reconcileLock.readLock()
+            .lock();
+        try {
+            apply(status, users);
+        }
+        finally {
+            reconcileLock.readLock()
+                .unlock();
+        }
+    }
+
+    private void apply(UserStatus status, int users) {
+        counts.get(status)
+            .add(users);
+        final Map<UserStatus, LongAdder> replay = pending;
+        if (replay != null) {
+            replay.get(status)
+                .add(users);
+        }
+    }
+
+    private static Map<UserStatus, LongAdder> counters() {
+        final Map<UserStatus, LongAdder> counters = new EnumMap<>(UserStatus.class);
+        for (UserStatus status : UserStatus.values()) {
+            counters.put(status, new LongAdder());
+        }
+        return counters;
+    }
+
+}
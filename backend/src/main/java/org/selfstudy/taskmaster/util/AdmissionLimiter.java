@@ -0,0 +1,102 @@
+package org.selfstudy.taskmaster.util;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Fair semaphore in front of a scarce resource. Callers park here, cheaply
+ * when they run on virtual threads, for at most {@code timeout} instead of
+ * piling up inside the resource's own queue.
+ */
+public class AdmissionLimiter implements MeterBinder {
+
+    private final String name;
+    private final int permits;
+    private final Duration timeout;
+    private final Semaphore semaphore;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public AdmissionLimiter(String name, int permits, Duration timeout) {
+        this.name      = name;
+        this.permits   = permits;
+        this.timeout   = timeout;
+        this.semaphore = new Semaphore(permits, true);
+    }
+
+    /**
+     * @return {@code true} once a permit is held; {@code false} if none freed
+     *         up within the timeout or the thread was interrupted
+     */
+    public boolean tryAcquire() {
+        waiting.incrementAndGet();
+        try {
+            if (semaphore.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                admitted.increment();
+                return true;
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+        }
+        finally {
+            waiting.decrementAndGet();
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    public int permits() {
+        return permits;
+    }
+
+    public Duration timeout() {
+        return timeout;
+    }
+
+    public int inUse() {
+        return permits - semaphore.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("taskmaster.admission.permits", this, AdmissionLimiter::permits)
+            .description("Permits configured for the limiter")
+            .tag("limiter", name)
+            .register(registry);
+        Gauge.builder("taskmaster.admission.active", this, AdmissionLimiter::inUse)
+            .description("Permits currently held")
+            .tag("limiter", name)
+            .register(registry);
+        Gauge.builder("taskmaster.admission.waiting", waiting, AtomicInteger::get)
+            .description("Callers parked waiting for a permit")
+            .tag("limiter", name)
+            .register(registry);
+        FunctionCounter.builder("taskmaster.admission.requests", admitted, LongAdder::sum)
+            .description("Admission attempts by outcome")
+            .tag("limiter", name)
+            .tag("outcome", "admitted")
+            .register(registry);
+        FunctionCounter.builder("taskmaster.admission.requests", rejected, LongAdder::sum)
+            .description("Admission attempts by outcome")
+            .tag("limiter", name)
+            .tag("outcome", "rejected")
+            .register(registry);
+    }
+
+}
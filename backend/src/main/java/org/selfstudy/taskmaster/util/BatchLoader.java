@@ -0,0 +1,206 @@
+package org.selfstudy.taskmaster.util;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Coalesces concurrent single-key lookups into batched loads, in the style
+ * of DataLoader. The first caller to find no open batch becomes its leader:
+ * it waits up to {@code window} for others to join, or until the batch holds
+ * {@code maxBatchSize} keys, then runs one load for every key on its own
+ * thread while the rest park on their results. A key already queued or being
+ * loaded is not queued again; later callers share the pending result.
+ *
+ * The loader receives distinct keys and returns values for the keys it
+ * found; missing keys resolve to empty.
+ */
+public class BatchLoader<K, V> implements MeterBinder {
+
+    private final String name;
+    private final Function<Set<K>, Map<K, V>> loader;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, CompletableFuture<V>> inFlight = new HashMap<>();
+    private Batch<K, V> open;
+
+    private final LongAdder requested = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedKeys = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    public BatchLoader(
+        String name,
+        Function<Set<K>, Map<K, V>> loader,
+        Duration window,
+        int maxBatchSize
+    ) {
+        this.name         = name;
+        this.loader       = loader;
+        this.windowNanos  = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Optional<V> load(K key) {
+        requested.increment();
+        final CompletableFuture<V> result;
+        Batch<K, V> led = null;
+
+        lock.lock();
+        try {
+            final CompletableFuture<V> pending = inFlight.get(key);
+            if (pending != null) {
+                deduplicated.increment();
+                result = pending;
+            }
+            else {
+                if (open == null) {
+                    open = new Batch<>();
+                    led  = open;
+                }
+                result = new CompletableFuture<>();
+                open.keys.put(key, result);
+                inFlight.put(key, result);
+                if (open.keys.size() >= maxBatchSize) {
+                    open.full.countDown();
+                    open = null;
+                }
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+
+        if (led != null) {
+            lead(led);
+        }
+        try {
+            return Optional.ofNullable(result.join());
+        }
+        catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void lead(Batch<K, V> batch) {
+        final long waitStart = System.nanoTime();
+        try {
+            batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+        }
+
+        // Close the batch first so nobody joins it while it loads
+        lock.lock();
+        try {
+            if (open == batch) {
+                open = null;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+        final long loadStart = System.nanoTime();
+        waitNanos.add(loadStart - waitStart);
+
+        Map<K, V> values = null;
+        RuntimeException failure = null;
+        try {
+            values = loader.apply(batch.keys.keySet());
+        }
+        catch (RuntimeException e) {
+            failure = e;
+        }
+        loadNanos.add(System.nanoTime() - loadStart);
+        batches.increment();
+        batchedKeys.add(batch.keys.size());
+
+        // Retire the keys before completing them, so a lookup that starts
+        // after this point queries again rather than reusing this result
+        lock.lock();
+        try {
+            batch.keys.forEach(inFlight::remove);
+        }
+        finally {
+            lock.unlock();
+        }
+        for (Map.Entry<K, CompletableFuture<V>> entry : batch.keys.entrySet()) {
+            if (failure != null) {
+                entry.getValue()
+                    .completeExceptionally(failure);
+            }
+            else {
+                entry.getValue()
+                    .complete(values.get(entry.getKey()));
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("taskmaster.batch.requests", requested, LongAdder::sum)
+            .description("Lookups submitted to the batch loader")
+            .tag("loader", name)
+            .register(registry);
+        FunctionCounter.builder("taskmaster.batch.deduplicated", deduplicated, LongAdder::sum)
+            .description("Lookups that shared an identical pending lookup")
+            .tag("loader", name)
+            .register(registry);
+        FunctionCounter.builder("taskmaster.batch.keys", batchedKeys, LongAdder::sum)
+            .description("Distinct keys loaded; divide by batch count for the mean batch size")
+            .tag("loader", name)
+            .register(registry);
+        FunctionTimer.builder(
+            "taskmaster.batch.wait",
+            this,
+            loader -> loader.batches.sum(),
+            loader -> loader.waitNanos.sum(),
+            TimeUnit.NANOSECONDS
+        )
+            .description("Time a batch stayed open collecting keys")
+            .tag("loader", name)
+            .register(registry);
+        FunctionTimer.builder(
+            "taskmaster.batch.load",
+            this,
+            loader -> loader.batches.sum(),
+            loader -> loader.loadNanos.sum(),
+            TimeUnit.NANOSECONDS
+        )
+            .description("Time spent running batched loads")
+            .tag("loader", name)
+            .register(registry);
+    }
+
+    private static final class Batch<K, V> {
+
+        private final Map<K, CompletableFuture<V>> keys = new LinkedHashMap<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+
+    }
+
+}
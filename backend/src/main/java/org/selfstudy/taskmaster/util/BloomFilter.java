@@ -0,0 +1,178 @@
+package org.selfstudy.taskmaster.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free Bloom filter over strings. Bits live in an {@link AtomicLongArray}
+ * so concurrent {@link #put} and {@link #mightContain} calls need no locking.
+ * Index positions are derived from one 128-bit Murmur3 hash using the
+ * Kirsch-Mitzenmacher double hashing scheme.
+ */
+public class BloomFilter {
+
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(
+        long[].class,
+        ByteOrder.LITTLE_ENDIAN
+    );
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final LongAdder setBits = new LongAdder();
+
+    private BloomFilter(long bitSize, int hashFunctions) {
+        this.bitSize       = bitSize;
+        this.hashFunctions = hashFunctions;
+        this.words         = new AtomicLongArray(Math.toIntExact((bitSize + 63) >>> 6));
+    }
+
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (falsePositiveRate <= 0.0d || falsePositiveRate >= 1.0d) {
+            throw new IllegalArgumentException("False positive rate must be in (0, 1)");
+        }
+        final double ln2 = Math.log(2.0d);
+        final long bits = Math.max(
+            64L,
+            (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2))
+        );
+        final int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    /**
+     * @return {@code true} if this call set at least one previously clear bit
+     */
+    public boolean put(String value) {
+        final long[] hash = hash(value);
+        long combined = hash[0];
+        boolean changed = false;
+        for (int i = 0; i < hashFunctions; i++) {
+            final long index = (combined & Long.MAX_VALUE) % bitSize;
+            final long mask = 1L << index;
+            final long previous = words.getAndAccumulate((int) (index >>> 6), mask, (a, b) -> a | b);
+            if ((previous & mask) == 0L) {
+                setBits.increment();
+                changed = true;
+            }
+            combined += hash[1];
+        }
+        return changed;
+    }
+
+    public boolean mightContain(String value) {
+        final long[] hash = hash(value);
+        long combined = hash[0];
+        for (int i = 0; i < hashFunctions; i++) {
+            final long index = (combined & Long.MAX_VALUE) % bitSize;
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0L) {
+                return false;
+            }
+            combined += hash[1];
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    public long sizeInBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    public long approximateElementCount() {
+        final double fraction = (double) setBits.sum() / bitSize;
+        if (fraction >= 1.0d) {
+            return Long.MAX_VALUE;
+        }
+        return Math.round(-Math.log1p(-fraction) * bitSize / hashFunctions);
+    }
+
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) setBits.sum() / bitSize, hashFunctions);
+    }
+
+    // MurmurHash3 x64 128-bit, seed 0
+    private static long[] hash(String value) {
+        final byte[] data = value.getBytes(StandardCharsets.UTF_8);
+        final int length = data.length;
+        final int blockEnd = length & ~15;
+        long h1 = 0L;
+        long h2 = 0L;
+
+        for (int i = 0; i < blockEnd; i += 16) {
+            long k1 = (long) LONG_LE.get(data, i);
+            long k2 = (long) LONG_LE.get(data, i + 8);
+
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        long k1 = 0L;
+        long k2 = 0L;
+        for (int i = blockEnd; i < length; i++) {
+            final int offset = i - blockEnd;
+            if (offset < 8) {
+                k1 ^= (data[i] & 0xffL) << (offset * 8);
+            }
+            else {
+                k2 ^= (data[i] & 0xffL) << ((offset - 8) * 8);
+            }
+        }
+        if (length - blockEnd > 8) {
+            h2 ^= mixK2(k2);
+        }
+        if (length > blockEnd) {
+            h1 ^= mixK1(k1);
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+
+        return new long[] { h1, h2 };
+    }
+
+    private static long mixK1(long k1) {
+        return Long.rotateLeft(k1 * C1, 31) * C2;
+    }
+
+    private static long mixK2(long k2) {
+        return Long.rotateLeft(k2 * C2, 33) * C1;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+}
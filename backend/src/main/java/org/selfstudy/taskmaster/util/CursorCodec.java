@@ -0,0 +1,52 @@
+package org.selfstudy.taskmaster.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+import org.selfstudy.taskmaster.exception.InvalidQueryParameterException;
+
+/**
+ * Packs keyset positions into opaque, URL-safe cursors. The version prefix
+ * lets the layout change later without misreading cursors clients still hold.
+ */
+public final class CursorCodec {
+
+    private static final String VERSION = "1";
+    private static final String SEPARATOR = "|";
+    private static final Pattern SPLITTER = Pattern.compile(Pattern.quote(SEPARATOR));
+
+    private CursorCodec() {
+    }
+
+    public static String encode(String... parts) {
+        final String raw = VERSION + SEPARATOR + String.join(SEPARATOR, parts);
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws InvalidQueryParameterException if the cursor was not produced by
+     *                                        {@link #encode} with
+     *                                        {@code expectedParts} parts
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        final String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder()
+                .decode(cursor), StandardCharsets.UTF_8);
+        }
+        catch (IllegalArgumentException e) {
+            throw new InvalidQueryParameterException("Malformed cursor", e);
+        }
+        final String[] parts = SPLITTER.split(raw, -1);
+        if (parts.length != expectedParts + 1 || !VERSION.equals(parts[0])) {
+            throw new InvalidQueryParameterException("Malformed cursor");
+        }
+        final String[] values = new String[expectedParts];
+        System.arraycopy(parts, 1, values, 0, expectedParts);
+        return values;
+    }
+
+}
@@ -0,0 +1,110 @@
+package org.selfstudy.taskmaster.util;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ * Each slot carries a sequence number telling whose turn it is: producers
+ * claim a position with one CAS and publish the element by advancing the
+ * slot's sequence, and the consumer hands the slot back to the next lap the
+ * same way. Neither side ever waits on the other; a full buffer makes
+ * {@link #offer} fail instead.
+ *
+ * Only one thread at a time may call {@link #drain}.
+ */
+public class RingBuffer<E> {
+
+    private final int mask;
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    public RingBuffer(int capacity) {
+        if (Integer.bitCount(capacity) != 1 || capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be a power of two, was " + capacity);
+        }
+        this.mask      = capacity - 1;
+        this.elements  = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return whether the element was added, which it is not if the buffer
+     *         is full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("Element must not be null");
+        }
+        long position = tail.get();
+        while (true) {
+            final int slot = (int) position & mask;
+            final long turn = sequences.get(slot) - position;
+            if (turn == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[slot] = element;
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            }
+            else if (turn < 0) {
+                // The consumer has not taken this slot's element from the
+                // previous lap yet
+                return false;
+            }
+            else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code max} elements into {@code target}, oldest first.
+     * Stops early at an element a producer has claimed but not yet
+     * published.
+     *
+     * @return the number of elements moved
+     */
+    @SuppressWarnings("unchecked")
+    public int drain(Collection<? super E> target, int max) {
+        long position = head.get();
+        int drained = 0;
+        while (drained < max) {
+            final int slot = (int) position & mask;
+            if (sequences.get(slot) != position + 1) {
+                break;
+            }
+            target.add((E) elements[slot]);
+            elements[slot] = null;
+            sequences.set(slot, position + elements.length);
+            position++;
+            drained++;
+        }
+        head.lazySet(position);
+        return drained;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Elements claimed and not yet drained; exact only while no one is
+     * offering or draining.
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+}
@@ -0,0 +1,234 @@
+package org.selfstudy.taskmaster.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel: {@code levels} rings of {@code wheelSize}
+ * slots, where a slot on level {@code n} spans {@code wheelSize^n} ticks.
+ * Scheduling and cancelling are O(1); advancing costs O(1) per tick plus the
+ * work of moving each entry down a level at most {@code levels} times, so
+ * the cost does not depend on how many entries are waiting.
+ *
+ * An entry sits on the lowest level whose ring still covers its deadline
+ * from the current tick. Deadlines beyond the top ring wait in its next
+ * slot and are placed again each time that slot comes round. Entries
+ * expire on the first tick at or after their deadline, never before it.
+ *
+ * Keys are unique: scheduling a key again moves it. Not thread-safe.
+ */
+public class TimingWheel<K, V> {
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final Slot<K, V>[][] levels;
+    private final Map<K, Entry<K, V>> entries = new HashMap<>();
+    private final List<Entry<K, V>> overdue = new ArrayList<>();
+
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(Duration tick, int wheelSize, int levels, long nowMillis) {
+        if (Integer.bitCount(wheelSize) != 1 || wheelSize < 2) {
+            throw new IllegalArgumentException("Wheel size must be a power of two, was " + wheelSize);
+        }
+        if (levels < 1 || Integer.numberOfTrailingZeros(wheelSize) * levels >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("Unsupported number of levels: " + levels);
+        }
+        @SuppressWarnings("unchecked")
+        final Slot<K, V>[][] slots = (Slot<K, V>[][]) new Slot<?, ?>[levels][wheelSize];
+        this.tickMillis  = tick.toMillis();
+        this.bits        = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask        = wheelSize - 1;
+        this.levels      = slots;
+        this.currentTick = Math.floorDiv(nowMillis, tickMillis);
+        for (Slot<K, V>[] level : this.levels) {
+            for (int i = 0; i < wheelSize; i++) {
+                level[i] = new Slot<>();
+            }
+        }
+    }
+
+    /**
+     * Schedules {@code value} under {@code key}, replacing any entry the key
+     * already has.
+     */
+    public void schedule(K key, V value, long deadlineMillis) {
+        cancel(key);
+        add(key, value, deadlineMillis);
+    }
+
+    /**
+     * @return whether the entry was added, which it is not if the key is
+     *         already scheduled
+     */
+    public boolean scheduleIfAbsent(K key, V value, long deadlineMillis) {
+        if (entries.containsKey(key)) {
+            return false;
+        }
+        add(key, value, deadlineMillis);
+        return true;
+    }
+
+    public boolean cancel(K key) {
+        final Entry<K, V> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.slot == null) {
+            overdue.remove(entry);
+        }
+        else {
+            entry.slot.unlink(entry);
+        }
+        return true;
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis} and removes what expired on the
+     * way, in tick order.
+     */
+    public List<V> advance(long nowMillis) {
+        final List<V> expired = new ArrayList<>();
+        drainOverdue(expired);
+        final long target = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < target) {
+            currentTick++;
+            // Top down, so entries cascading from a higher level can land in
+            // the lower slot that is cascaded next
+            for (int level = levels.length - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (bits * level)) - 1)) == 0) {
+                    cascade(levels[level][index(currentTick, level)]);
+                }
+            }
+            drainOverdue(expired);
+            final Slot<K, V> slot = levels[0][index(currentTick, 0)];
+            for (Entry<K, V> entry = slot.head; entry != null; entry = entry.next) {
+                entries.remove(entry.key);
+                expired.add(entry.value);
+            }
+            slot.head = null;
+        }
+        return expired;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long tickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Start of the next tick, when {@link #advance} can next expire
+     * anything.
+     */
+    public long nextTickMillis() {
+        return (currentTick + 1) * tickMillis;
+    }
+
+    private void add(K key, V value, long deadlineMillis) {
+        final Entry<K, V> entry = new Entry<>(key, value, Math.ceilDiv(deadlineMillis, tickMillis));
+        entries.put(key, entry);
+        place(entry);
+    }
+
+    private void place(Entry<K, V> entry) {
+        if (entry.deadlineTick <= currentTick) {
+            entry.slot = null;
+            overdue.add(entry);
+            return;
+        }
+        for (int level = 0; level < levels.length; level++) {
+            final int above = bits * (level + 1);
+            if (entry.deadlineTick >>> above == currentTick >>> above) {
+                levels[level][index(entry.deadlineTick, level)].link(entry);
+                return;
+            }
+        }
+        // Beyond the top ring: wait in the next top slot, which is cascaded
+        // before the deadline, and try again from there
+        final int top = levels.length - 1;
+        levels[top][(index(currentTick, top) + 1) & mask].link(entry);
+    }
+
+    private void cascade(Slot<K, V> slot) {
+        Entry<K, V> entry = slot.head;
+        slot.head = null;
+        while (entry != null) {
+            final Entry<K, V> next = entry.next;
+            entry.prev = null;
+            entry.next = null;
+            place(entry);
+            entry = next;
+        }
+    }
+
+    private void drainOverdue(List<V> expired) {
+        for (Entry<K, V> entry : overdue) {
+            entries.remove(entry.key);
+            expired.add(entry.value);
+        }
+        overdue.clear();
+    }
+
+    private int index(long tick, int level) {
+        return (int) (tick >>> (bits * level)) & mask;
+    }
+
+    private static final class Entry<K, V> {
+
+        private final K key;
+        private final V value;
+        private final long deadlineTick;
+
+        private Slot<K, V> slot;
+        private Entry<K, V> prev;
+        private Entry<K, V> next;
+
+        private Entry(K key, V value, long deadlineTick) {
+            this.key          = key;
+            this.value        = value;
+            this.deadlineTick = deadlineTick;
+        }
+
+    }
+
+    // Intrusive doubly linked list, so an entry unlinks itself in O(1)
+    private static final class Slot<K, V> {
+
+        private Entry<K, V> head;
+
+        private void link(Entry<K, V> entry) {
+            entry.slot = this;
+            entry.prev = null;
+            entry.next = head;
+            if (head != null) {
+                head.prev = entry;
+            }
+            head = entry;
+        }
+
+        private void unlink(Entry<K, V> entry) {
+            if (entry.prev == null) {
+                head = entry.next;
+            }
+            else {
+                entry.prev.next = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.prev = entry.prev;
+            }
+            entry.prev = null;
+            entry.next = null;
+            entry.slot = null;
+        }
+
+    }
+
+}
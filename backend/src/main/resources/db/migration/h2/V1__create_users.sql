@@ -0,0 +1,10 @@
+CREATE TABLE users (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    email         VARCHAR(255) NOT NULL,
+    password_hash VARCHAR(255) NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    last_modified TIMESTAMP(6),
+    status        ENUM ('ACTIVE', 'INACTIVE', 'SUSPENDED', 'PENDING', 'DELETED') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
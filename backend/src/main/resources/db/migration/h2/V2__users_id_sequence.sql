@@ -0,0 +1,7 @@
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE users_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 1 FROM users);
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+
+ALTER TABLE users ALTER COLUMN id SET DEFAULT NEXT VALUE FOR users_seq;
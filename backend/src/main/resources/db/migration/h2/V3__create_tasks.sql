@@ -0,0 +1,17 @@
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tasks (
+    id            BIGINT        DEFAULT NEXT VALUE FOR tasks_seq NOT NULL,
+    owner_id      BIGINT        NOT NULL,
+    title         VARCHAR(200)  NOT NULL,
+    description   VARCHAR(4000),
+    status        ENUM ('TODO', 'IN_PROGRESS', 'DONE') NOT NULL,
+    due_at        TIMESTAMP(6),
+    created_at    TIMESTAMP(6)  NOT NULL,
+    last_modified TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_tasks_owner_status_due_at ON tasks (owner_id, status, due_at, id);
+
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_owner FOREIGN KEY (owner_id) REFERENCES users (id);
@@ -0,0 +1,3 @@
+ALTER TABLE tasks ADD COLUMN reminded_at TIMESTAMP(6);
+
+CREATE INDEX idx_tasks_due_at ON tasks (due_at, id);
@@ -0,0 +1,14 @@
+CREATE SEQUENCE user_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE user_outbox (
+    id              BIGINT       DEFAULT NEXT VALUE FOR user_outbox_seq NOT NULL,
+    user_id         BIGINT       NOT NULL,
+    type            ENUM ('CREATED', 'STATUS_CHANGED', 'PASSWORD_CHANGED') NOT NULL,
+    previous_status ENUM ('ACTIVE', 'INACTIVE', 'SUSPENDED', 'PENDING', 'DELETED'),
+    status          ENUM ('ACTIVE', 'INACTIVE', 'SUSPENDED', 'PENDING', 'DELETED'),
+    occurred_at     TIMESTAMP(6) NOT NULL,
+    delivered_at    TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_user_outbox_delivered_at ON user_outbox (delivered_at, id);
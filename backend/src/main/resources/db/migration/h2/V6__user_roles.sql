@@ -0,0 +1 @@
+ALTER TABLE users ADD COLUMN role ENUM ('USER', 'ADMIN') DEFAULT 'USER' NOT NULL;
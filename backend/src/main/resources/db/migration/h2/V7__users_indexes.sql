@@ -0,0 +1,8 @@
+-- Kept out of V1 so that schemas created by the old ddl-auto=update, which
+-- Flyway baselines at V1, get them too
+
+CREATE INDEX IF NOT EXISTS idx_users_status_id ON users (status, id);
+
+CREATE INDEX IF NOT EXISTS idx_users_status_created_at ON users (status, created_at, id);
+
+CREATE INDEX IF NOT EXISTS idx_users_created_at ON users (created_at, id);
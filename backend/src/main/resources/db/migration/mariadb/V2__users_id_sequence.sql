@@ -0,0 +1,13 @@
+-- Ids come from a sequence so Hibernate can batch inserts. The increment must
+-- match User's allocationSize: the pooled-lo optimizer hands out NEXTVAL
+-- through NEXTVAL + 49 before asking again.
+SET @users_seq_start = (SELECT COALESCE(MAX(id), 0) + 1 FROM users);
+SET @users_seq_ddl = CONCAT(
+    'CREATE SEQUENCE users_seq START WITH ', @users_seq_start, ' INCREMENT BY 50'
+);
+PREPARE users_seq_stmt FROM @users_seq_ddl;
+EXECUTE users_seq_stmt;
+DEALLOCATE PREPARE users_seq_stmt;
+
+-- Rows inserted outside Hibernate still draw from the same sequence
+ALTER TABLE users MODIFY id BIGINT NOT NULL DEFAULT NEXTVAL(users_seq);
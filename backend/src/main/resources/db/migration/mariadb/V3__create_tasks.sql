@@ -0,0 +1,22 @@
+-- Same pooled-lo scheme as users_seq: the increment must match Task's
+-- allocationSize
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tasks (
+    id            BIGINT        NOT NULL DEFAULT NEXTVAL(tasks_seq),
+    owner_id      BIGINT        NOT NULL,
+    title         VARCHAR(200)  NOT NULL,
+    description   VARCHAR(4000) NULL,
+    status        ENUM ('TODO', 'IN_PROGRESS', 'DONE') NOT NULL,
+    due_at        DATETIME(6)   NULL,
+    created_at    DATETIME(6)   NOT NULL,
+    last_modified DATETIME(6)   NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- findDatedAfter, findUndatedAfter: keyset on (due_at, id) within one owner's
+-- status. Created before the foreign key so that it also serves as the
+-- owner_id index the constraint needs, instead of a second one.
+CREATE INDEX idx_tasks_owner_status_due_at ON tasks (owner_id, status, due_at, id);
+
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_owner FOREIGN KEY (owner_id) REFERENCES users (id);
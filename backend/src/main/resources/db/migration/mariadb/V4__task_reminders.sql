@@ -0,0 +1,7 @@
+-- Set when a task's reminder is claimed, so that it fires once across
+-- restarts and instances; cleared whenever the due date changes
+ALTER TABLE tasks ADD COLUMN reminded_at DATETIME(6) NULL;
+
+-- findRemindersAfter: keyset over every owner's due dates within the
+-- scheduler's horizon
+CREATE INDEX idx_tasks_due_at ON tasks (due_at, id);
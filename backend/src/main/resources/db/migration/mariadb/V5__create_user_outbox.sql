@@ -0,0 +1,18 @@
+-- User changes, written in the transaction that makes them and relayed to
+-- subscribers afterwards. Same pooled-lo scheme as users_seq.
+CREATE SEQUENCE user_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE user_outbox (
+    id              BIGINT       NOT NULL DEFAULT NEXTVAL(user_outbox_seq),
+    user_id         BIGINT       NOT NULL,
+    type            ENUM ('CREATED', 'STATUS_CHANGED', 'PASSWORD_CHANGED') NOT NULL,
+    previous_status ENUM ('ACTIVE', 'INACTIVE', 'SUSPENDED', 'PENDING', 'DELETED') NULL,
+    status          ENUM ('ACTIVE', 'INACTIVE', 'SUSPENDED', 'PENDING', 'DELETED') NULL,
+    occurred_at     DATETIME(6)  NOT NULL,
+    delivered_at    DATETIME(6)  NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- findPendingAfter reads the NULL range in id order; findDeliveredBefore
+-- the range of delivered rows old enough to prune
+CREATE INDEX idx_user_outbox_delivered_at ON user_outbox (delivered_at, id);
@@ -0,0 +1,4 @@
+-- Carried into access tokens as their roles. There is no endpoint to grant
+-- ADMIN; an operator sets it directly, e.g.
+--   UPDATE users SET role = 'ADMIN' WHERE email = 'ops@example.com';
+ALTER TABLE users ADD COLUMN role ENUM ('USER', 'ADMIN') NOT NULL DEFAULT 'USER';
@@ -0,0 +1,11 @@
+-- Kept out of V1 so that schemas created by the old ddl-auto=update, which
+-- Flyway baselines at V1, get them too
+
+-- findByStatus*, countByStatus: keyset on id within a status
+CREATE INDEX IF NOT EXISTS idx_users_status_id ON users (status, id);
+
+-- findByCreatedAtAfterAndStatus*: range on created_at within a status
+CREATE INDEX IF NOT EXISTS idx_users_status_created_at ON users (status, created_at, id);
+
+-- findByCreatedAtAfter*: keyset on (created_at, id)
+CREATE INDEX IF NOT EXISTS idx_users_created_at ON users (created_at, id);
@@ -0,0 +1,76 @@
+package org.selfstudy.taskmaster;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+import org.selfstudy.taskmaster.entities.user.dto.UserCreateRequest;
+import org.selfstudy.taskmaster.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.datasource.url=jdbc:h2:mem:prometheus;DB_CLOSE_DELAY=-1",
+        "management.server.port=0"
+    }
+)
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+public class PrometheusMetricsTest {
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void testPrometheusEndpointShouldExposeHotPathTimersWithoutAuthentication() {
+        userService.createUser(new UserCreateRequest("metrics@example.com", "password123"));
+        userService.findUserByEmail("metrics@example.com");
+
+        final ResponseEntity<String> response = restTemplate.getForEntity(
+            "http://localhost:" + managementPort + "/actuator/prometheus",
+            String.class
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertThat(response.getBody(), containsString(
+            "taskmaster_service_seconds_bucket{application=\"taskmaster\",class=\"org.selfstudy.taskmaster.service.impl.UserServiceImpl\""
+        ));
+        assertThat(response.getBody(), containsString(
+            "taskmaster_hashing_duration_seconds_bucket{application=\"taskmaster\",operation=\"encode\""
+        ));
+        assertThat(response.getBody(), containsString("spring_data_repository_invocations_seconds_bucket"));
+        assertThat(response.getBody(), containsString("hikaricp_connections_acquire_seconds_bucket"));
+        assertThat(response.getBody(), containsString("hibernate_statements_total"));
+    }
+
+    @Test
+    void testPrometheusEndpointShouldNotBeServedOnApplicationPort() {
+        final ResponseEntity<String> response = restTemplate.getForEntity(
+            "http://localhost:" + port + "/actuator/prometheus",
+            String.class
+        );
+
+        assertNotEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
+}
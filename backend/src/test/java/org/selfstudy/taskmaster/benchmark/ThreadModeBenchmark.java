@@ -0,0 +1,160 @@
+package org.selfstudy.taskmaster.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.selfstudy.taskmaster.TaskmasterApplication;
+import org.selfstudy.taskmaster.datasource.AdmissionControlledDataSource;
+import org.selfstudy.taskmaster.entities.user.dto.UserCreateRequest;
+import org.selfstudy.taskmaster.service.UserService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application once with platform request threads and once with
+ * virtual threads, then fires the same burst of concurrent logins at each.
+ * A login does one query and one Argon2 verification, so it exercises both
+ * admission limits. Run with {@code mvn test -Pbenchmark}; tune with
+ * {@code -Dbenchmark.requests} and {@code -Dbenchmark.concurrency}.
+ */
+@Tag("benchmark")
+public class ThreadModeBenchmark {
+
+    private static final String EMAIL = "benchmark@example.com";
+    private static final String PASSWORD = "benchmark-password";
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 2000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1000);
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        final List<String> report = new ArrayList<>();
+        for (boolean virtual : new boolean[] { false, true }) {
+            try (ConfigurableApplicationContext context = start(virtual)) {
+                assertInstanceOf(
+                    AdmissionControlledDataSource.class,
+                    context.getBean("dataSource")
+                );
+                context.getBean(UserService.class)
+                    .createUser(new UserCreateRequest(EMAIL, PASSWORD));
+
+                final int port = ((WebServerApplicationContext) context).getWebServer()
+                    .getPort();
+                fire(port, Math.min(REQUESTS, 100));
+                report.add(fire(port, REQUESTS).format(virtual ? "virtual" : "platform"));
+            }
+        }
+
+        System.out.println();
+        System.out.printf(
+            "%-9s %8s %10s %9s %9s %9s  %s%n",
+            "mode", "requests", "req/s", "p50 ms", "p99 ms", "max ms", "statuses"
+        );
+        report.forEach(System.out::println);
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(TaskmasterApplication.class).run(
+            "--spring.profiles.active=test",
+            "--server.port=0",
+            "--spring.threads.virtual.enabled=" + virtual,
+            "--spring.datasource.url=jdbc:h2:mem:benchmark_" + virtual + ";DB_CLOSE_DELAY=-1",
+            "--taskmaster.rate-limit.enabled=false",
+            "--taskmaster.concurrency-limit.enabled=false",
+            "--logging.level.root=WARN"
+        );
+    }
+
+    private static Result fire(int port, int requests) throws Exception {
+        final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+        final HttpRequest request = HttpRequest.newBuilder(
+            URI.create("http://localhost:" + port + "/api/auth/login")
+        )
+            .header("Content-Type", "application/json")
+            .timeout(Duration.ofSeconds(60))
+            .POST(
+                HttpRequest.BodyPublishers.ofString(
+                    "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}"
+                )
+            )
+            .build();
+
+        final Semaphore inFlight = new Semaphore(CONCURRENCY);
+        final List<Future<long[]>> calls = new ArrayList<>(requests);
+        final long started = System.nanoTime();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                inFlight.acquire();
+                calls.add(callers.submit(() -> {
+                    final long begin = System.nanoTime();
+                    int status;
+                    try {
+                        status = client.send(request, HttpResponse.BodyHandlers.discarding())
+                            .statusCode();
+                    }
+                    catch (Exception e) {
+                        status = -1;
+                    }
+                    finally {
+                        inFlight.release();
+                    }
+                    return new long[] { System.nanoTime() - begin, status };
+                }));
+            }
+        }
+        final long elapsed = System.nanoTime() - started;
+
+        final long[] latencies = new long[requests];
+        final Map<Long, Integer> statuses = new TreeMap<>();
+        for (int i = 0; i < requests; i++) {
+            final long[] call = calls.get(i)
+                .get();
+            latencies[i] = call[0];
+            statuses.merge(call[1], 1, Integer::sum);
+        }
+        Arrays.sort(latencies);
+        return new Result(requests, elapsed, latencies, statuses);
+    }
+
+    private record Result(int requests, long elapsedNanos, long[] latencies, Map<Long, Integer> statuses) {
+
+        String format(String mode) {
+            return String.format(
+                "%-9s %8d %10.1f %9.1f %9.1f %9.1f  %s",
+                mode,
+                requests,
+                requests / (elapsedNanos / 1e9),
+                percentile(0.50),
+                percentile(0.99),
+                latencies[latencies.length - 1] / 1e6,
+                statuses
+            );
+        }
+
+        double percentile(double p) {
+            return latencies[(int) Math.ceil(p * latencies.length) - 1] / 1e6;
+        }
+
+    }
+
+}
@@ -0,0 +1,138 @@
+package org.selfstudy.taskmaster.controller;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.selfstudy.taskmaster.entities.task.dto.TaskPosition;
+import org.selfstudy.taskmaster.entities.task.dto.TaskResponse;
+import org.selfstudy.taskmaster.entities.task.dto.TaskUpdateRequest;
+import org.selfstudy.taskmaster.entities.task.enums.TaskStatus;
+import org.selfstudy.taskmaster.exception.GlobalExceptionHandler;
+import org.selfstudy.taskmaster.service.TaskSearchService;
+import org.selfstudy.taskmaster.service.TaskService;
+import org.selfstudy.taskmaster.util.CursorCodec;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskControllerTest {
+
+    private static final Long OWNER_ID = 7L;
+    private static final LocalDateTime DUE_AT = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private TaskSearchService taskSearchService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setup() {
+        final Jwt jwt = Jwt.withTokenValue("token")
+            .header("alg", "HS256")
+            .subject(String.valueOf(OWNER_ID))
+            .build();
+        SecurityContextHolder.getContext()
+            .setAuthentication(new JwtAuthenticationToken(jwt));
+        mockMvc = MockMvcBuilders.standaloneSetup(new TaskController(taskService, taskSearchService))
+            .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @AfterEach
+    void teardown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testGetTasksShouldCarryUndatedPositionInCursor() throws Exception {
+        when(taskService.findTasksAfter(OWNER_ID, TaskStatus.TODO, null, 2))
+            .thenReturn(List.of(task(1L, DUE_AT), task(2L, null)));
+        when(taskService.findTasksAfter(OWNER_ID, TaskStatus.TODO, new TaskPosition(null, 2L), 2))
+            .thenReturn(List.of(task(3L, null)));
+
+        mockMvc.perform(get("/api/tasks").param("status", "TODO")
+            .param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andExpect(jsonPath("$.nextCursor").value(CursorCodec.encode("", "2")));
+
+        mockMvc.perform(get("/api/tasks").param("status", "TODO")
+            .param("limit", "2")
+            .param("cursor", CursorCodec.encode("", "2")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].id").value(3))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testGetTaskShouldReturnNotFoundWhenTaskIsNotOwnedByCaller() throws Exception {
+        when(taskService.findTask(OWNER_ID, 9L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/tasks/9"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testUpdateTaskShouldTellAbsentFieldsFromClearedOnes() throws Exception {
+        mockMvc.perform(
+            patch("/api/tasks/9").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"DONE\",\"dueAt\":null}")
+        )
+            .andExpect(status().isNoContent());
+
+        verify(taskService).updateTask(
+            eq(OWNER_ID),
+            eq(9L),
+            eq(new TaskUpdateRequest(null, null, TaskStatus.DONE, Optional.empty()))
+        );
+    }
+
+    @Test
+    void testUpdateTaskShouldRejectBlankTitle() throws Exception {
+        mockMvc.perform(
+            patch("/api/tasks/9").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"  \"}")
+        )
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSearchTasksShouldSearchOnlyCallersTasks() throws Exception {
+        when(taskSearchService.search(OWNER_ID, "groc list", 5)).thenReturn(List.of(task(3L, null)));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "groc list")
+            .param("limit", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].id").value(3));
+    }
+
+    private static TaskResponse task(Long id, LocalDateTime dueAt) {
+        return new TaskResponse(id, "Task " + id, null, TaskStatus.TODO, dueAt, DUE_AT.minusDays(1), null);
+    }
+
+}
@@ -0,0 +1,63 @@
+package org.selfstudy.taskmaster.controller;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:useraccess;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class UserAccessTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testGetUserShouldOnlyAllowOwnerOrAdmin() throws Exception {
+        // No such users exist, so getting past security means a 404
+        mockMvc.perform(get("/api/users/41").with(token("41", "ROLE_USER")))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/users/42").with(token("41", "ROLE_USER")))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/users/42").with(token("41", "ROLE_USER", "ROLE_ADMIN")))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/users/42"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testUserListingsShouldRequireAdminRole() throws Exception {
+        mockMvc.perform(get("/api/users").param("status", "ACTIVE").with(token("41", "ROLE_USER")))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/users").param("ids", "1,2").with(token("41", "ROLE_USER")))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/users/recent").param("since", "2025-01-01T00:00:00").with(token("41", "ROLE_USER")))
+            .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/users").param("status", "ACTIVE").with(token("41", "ROLE_USER", "ROLE_ADMIN")))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users").param("ids", "1,2").with(token("41", "ROLE_USER", "ROLE_ADMIN")))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users/recent").param("since", "2025-01-01T00:00:00").with(token("41", "ROLE_USER", "ROLE_ADMIN")))
+            .andExpect(status().isOk());
+    }
+
+    private static JwtRequestPostProcessor token(String subject, String... roles) {
+        final SimpleGrantedAuthority[] authorities = new SimpleGrantedAuthority[roles.length];
+        for (int i = 0; i < roles.length; i++) {
+            authorities[i] = new SimpleGrantedAuthority(roles[i]);
+        }
+        return jwt().jwt(jwt -> jwt.subject(subject))
+            .authorities(authorities);
+    }
+
+}
@@ -0,0 +1,133 @@
+package org.selfstudy.taskmaster.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.selfstudy.taskmaster.entities.user.dto.UserResponse;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+import org.selfstudy.taskmaster.exception.GlobalExceptionHandler;
+import org.selfstudy.taskmaster.service.UserService;
+import org.selfstudy.taskmaster.util.CursorCodec;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@ExtendWith(MockitoExtension.class)
+public class UserControllerTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Mock
+    private UserService userService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserController(userService))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    void testGetUserShouldReturnNotModifiedWhenEtagMatches() throws Exception {
+        when(userService.findUserById(1L)).thenReturn(Optional.of(user(1L)));
+
+        final String etag = mockMvc.perform(get("/api/users/1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.email").value("user1@example.com"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/users/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void testGetUserShouldReturnNotFoundWhenUserDoesNotExist() throws Exception {
+        when(userService.findUserById(9L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/users/9"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetUsersByStatusShouldReturnCursorOnlyWhenPageIsFull() throws Exception {
+        when(userService.findUsersByStatusAfter(UserStatus.ACTIVE, 0L, 2))
+            .thenReturn(List.of(user(1L), user(2L)));
+        when(userService.findUsersByStatusAfter(UserStatus.ACTIVE, 2L, 2))
+            .thenReturn(List.of(user(3L)));
+
+        mockMvc.perform(get("/api/users").param("status", "ACTIVE")
+            .param("limit", "2")
+            .param("fields", "id,email"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andExpect(jsonPath("$.items[0].email").value("user1@example.com"))
+            .andExpect(jsonPath("$.items[0].status").doesNotExist())
+            .andExpect(jsonPath("$.nextCursor").value(CursorCodec.encode("2")));
+
+        mockMvc.perform(get("/api/users").param("status", "ACTIVE")
+            .param("limit", "2")
+            .param("cursor", CursorCodec.encode("2")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].id").value(3))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testGetRecentUsersShouldStartStrictlyAfterSince() throws Exception {
+        when(userService.findRecentUsersAfter(CREATED_AT, Long.MAX_VALUE, 20))
+            .thenReturn(List.of(user(1L)));
+
+        mockMvc.perform(get("/api/users/recent").param("since", CREATED_AT.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].id").value(1));
+    }
+
+    @Test
+    void testGetUsersShouldRejectUnknownFieldsAndBadCursors() throws Exception {
+        mockMvc.perform(get("/api/users").param("ids", "1,2")
+            .param("fields", "passwordHash"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/users").param("status", "ACTIVE")
+            .param("cursor", "garbage"))
+            .andExpect(status().isBadRequest());
+        when(userService.findUsersByIds(any())).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/users").param("ids", "1,2"))
+            .andExpect(status().isOk());
+
+        verify(userService).findUsersByIds(eq(List.of(1L, 2L)));
+    }
+
+    private static UserResponse user(Long id) {
+        return new UserResponse(
+            id,
+            "user" + id + "@example.com",
+            UserStatus.ACTIVE,
+            CREATED_AT.plusMinutes(id),
+            null
+        );
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.selfstudy.taskmaster.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.selfstudy.taskmaster.util.AdmissionLimiter;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+public class AdmissionControlledDataSourceTest {
+
+    private final AdmissionLimiter limiter = new AdmissionLimiter("db", 1, Duration.ofMillis(50));
+
+    private final AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(
+        new SimpleDriverDataSource(new org.h2.Driver(), "jdbc:h2:mem:admission", "sa", ""),
+        limiter
+    );
+
+    @Test
+    void testGetConnectionShouldFailFastWhileAllPermitsAreHeld() throws SQLException {
+        try (Connection held = dataSource.getConnection()) {
+            assertTrue(held.isValid(1));
+            assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        }
+    }
+
+    @Test
+    void testCloseShouldReleasePermitExactlyOnce() throws SQLException {
+        final Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        assertEquals(0, limiter.inUse());
+        try (Connection next = dataSource.getConnection()) {
+            assertTrue(next.isValid(1));
+            assertEquals(1, limiter.inUse());
+        }
+    }
+
+}
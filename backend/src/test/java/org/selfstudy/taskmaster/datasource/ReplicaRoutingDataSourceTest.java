@@ -0,0 +1,171 @@
+package org.selfstudy.taskmaster.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.selfstudy.taskmaster.entities.user.User;
+import org.selfstudy.taskmaster.entities.user.dto.UserChangeStatusRequest;
+import org.selfstudy.taskmaster.entities.user.dto.UserCreateRequest;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+import org.selfstudy.taskmaster.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Runs against two in-memory H2 databases. Nothing replicates between them,
+ * so a row only visible on one side shows which side served a read.
+ */
+@SpringBootTest(
+    properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1",
+        "taskmaster.datasource.replicas[0].url=" + ReplicaRoutingDataSourceTest.REPLICA_URL,
+        "taskmaster.datasource.read-your-writes-window=1m"
+    }
+)
+@ActiveProfiles("test")
+public class ReplicaRoutingDataSourceTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1";
+
+    private static JdbcTemplate replica;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void migrateReplica() {
+        final DriverManagerDataSource dataSource = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration/h2")
+            .load()
+            .migrate();
+        replica = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void teardown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testReadOnlyLookupShouldBeServedByReplica() {
+        final String email = "replica-only@example.com";
+        // Clear of the ids the primary hands out, which other tests copy here
+        final Long id = 1000L;
+        replica.update(
+            "INSERT INTO users (id, email, password_hash, created_at, status) VALUES (?, ?, ?, ?, 'ACTIVE')",
+            id,
+            email,
+            "hash",
+            LocalDateTime.now()
+        );
+
+        assertEquals(1, userService.findUsersByIds(List.of(id))
+            .size());
+        assertEquals(
+            0,
+            new JdbcTemplate(primaryDataSource).queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email = ?",
+                Integer.class,
+                email
+            )
+        );
+        assertTrue(
+            meterRegistry.get("taskmaster.datasource.routing")
+                .tags("target", "replica", "reason", "read")
+                .functionCounter()
+                .count() > 0
+        );
+    }
+
+    @Test
+    void testReadAfterWriteShouldStayOnPrimaryForSameCallerOnly() {
+        final String email = "fresh@example.com";
+        authenticate("writer");
+        final Long id = userService.createUser(new UserCreateRequest(email, "password123"))
+            .getId();
+
+        assertEquals(1, userService.findUsersByIds(List.of(id))
+            .size());
+
+        authenticate("someone-else");
+        assertTrue(userService.findUsersByIds(List.of(id))
+            .isEmpty());
+    }
+
+    @Test
+    void testCachedLookupShouldSeeStatusChangeReplicasHaveNotCaughtUpWith() {
+        final String email = "cached@example.com";
+        authenticate("writer");
+        final User user = userService.createUser(new UserCreateRequest(email, "password123"));
+        replica.update(
+            "INSERT INTO users (id, email, password_hash, created_at, status) VALUES (?, ?, ?, ?, ?)",
+            user.getId(),
+            email,
+            "hash",
+            LocalDateTime.now(),
+            user.getStatus()
+                .name()
+        );
+
+        authenticate("someone-else");
+        assertEquals(user.getStatus(), userService.findUserById(user.getId())
+            .orElseThrow()
+            .status());
+
+        authenticate("writer");
+        userService.changeUserStatus(new UserChangeStatusRequest(user.getId(), UserStatus.SUSPENDED));
+
+        // The replica still has the old status, so only the primary can
+        // refill the cache with the new one
+        authenticate("someone-else");
+        assertEquals(UserStatus.SUSPENDED, userService.findUserById(user.getId())
+            .orElseThrow()
+            .status());
+    }
+
+    @Test
+    void testAdmissionShouldBeLimitedOnPrimaryPoolOnly() {
+        assertInstanceOf(AdmissionControlledDataSource.class, routingDataSource.getResolvedDefaultDataSource());
+        assertInstanceOf(
+            HikariDataSource.class,
+            routingDataSource.getResolvedDataSources()
+                .get("replica-0")
+        );
+    }
+
+    private static void authenticate(String name) {
+        SecurityContextHolder.getContext()
+            .setAuthentication(new TestingAuthenticationToken(name, null, "ROLE_USER"));
+    }
+
+}
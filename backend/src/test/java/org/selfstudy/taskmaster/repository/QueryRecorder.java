@@ -0,0 +1,172 @@
+package org.selfstudy.taskmaster.repository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Wraps the test's data source and, while {@link #record} runs, remembers
+ * every query prepared on the calling thread together with the values bound
+ * to it. A test can then EXPLAIN exactly the SQL a repository method ran
+ * instead of a copy of it. Add it to a test context with {@code @Import}.
+ */
+public class QueryRecorder implements BeanPostProcessor {
+
+    private static final ThreadLocal<List<Query>> RECORDING = new ThreadLocal<>();
+
+    /**
+     * A prepared query and the setter calls that bound its parameters, in
+     * order.
+     */
+    public record Query(String sql, List<Binding> bindings) {
+
+        /**
+         * Runs {@code prefix} followed by the query, with the same values
+         * bound, and returns the first column of the first row.
+         */
+        public String explain(DataSource dataSource, String prefix) throws SQLException {
+            try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(prefix + sql)
+            ) {
+                for (Binding binding : bindings) {
+                    binding.applyTo(statement);
+                }
+                try (ResultSet result = statement.executeQuery()) {
+                    result.next();
+                    return result.getString(1);
+                }
+            }
+        }
+
+    }
+
+    public record Binding(Method setter, Object[] arguments) {
+
+        void applyTo(PreparedStatement statement) throws SQLException {
+            try {
+                setter.invoke(statement, arguments);
+            }
+            catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+            catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+    }
+
+    /**
+     * @return the queries {@code action} executed on this thread
+     */
+    public static List<Query> record(Runnable action) {
+        final List<Query> queries = new ArrayList<>();
+        RECORDING.set(queries);
+        try {
+            action.run();
+        }
+        finally {
+            RECORDING.remove();
+        }
+        return queries;
+    }
+
+    /**
+     * @return the one query {@code action} executed on this thread
+     */
+    public static Query recordOne(Runnable action) {
+        final List<Query> queries = record(action);
+        if (queries.size() != 1) {
+            throw new IllegalStateException("Expected one query but ran " + queries.size() + ": " + queries);
+        }
+        return queries.getFirst();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return new DelegatingDataSource(dataSource) {
+
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return recording(super.getConnection());
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return recording(super.getConnection(username, password));
+                }
+
+            };
+        }
+        return bean;
+    }
+
+    private static Connection recording(Connection connection) {
+        return proxy(Connection.class, connection, (method, arguments, result) -> {
+            if (method.getName()
+                .equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                return recording(statement, (String) arguments[0]);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement recording(PreparedStatement statement, String sql) {
+        final List<Binding> bindings = new ArrayList<>();
+        return proxy(PreparedStatement.class, statement, (method, arguments, result) -> {
+            final String name = method.getName();
+            if (name.startsWith("set") && arguments != null && arguments.length >= 2 && arguments[0] instanceof Integer) {
+                bindings.add(new Binding(method, arguments.clone()));
+            }
+            else if (name.equals("clearParameters")) {
+                bindings.clear();
+            }
+            else if (name.equals("executeQuery") && (arguments == null || arguments.length == 0)) {
+                final List<Query> queries = RECORDING.get();
+                if (queries != null) {
+                    queries.add(new Query(sql, List.copyOf(bindings)));
+                }
+            }
+            return result;
+        });
+    }
+
+    private interface AfterCall {
+
+        Object apply(Method method, Object[] arguments, Object result);
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+        final InvocationHandler handler = (proxy, method, arguments) -> {
+            final Object result;
+            try {
+                result = method.invoke(target, arguments);
+            }
+            catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return afterCall.apply(method, arguments, result);
+        };
+        return (T) Proxy.newProxyInstance(QueryRecorder.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+}
@@ -0,0 +1,198 @@
+package org.selfstudy.taskmaster.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.selfstudy.taskmaster.entities.task.dto.TaskPosition;
+import org.selfstudy.taskmaster.entities.task.dto.TaskResponse;
+import org.selfstudy.taskmaster.entities.task.enums.TaskStatus;
+import org.selfstudy.taskmaster.service.TaskService;
+import org.selfstudy.taskmaster.service.impl.TaskServiceImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * One user owns 100k tasks, another owns twenty. Keyset pages read the same
+ * number of index rows wherever they start, so a page deep into the large
+ * list should cost about as much as the small user's only page.
+ */
+@DataJpaTest
+@Import(QueryRecorder.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class TaskListLatencyTest {
+
+    private static final int TASKS = 100_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int SAMPLES = 400;
+
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private JdbcTemplate jdbcTemplate;
+    private TaskService taskService;
+    private long largeOwnerId;
+    private long smallOwnerId;
+    private TaskPosition middle;
+    private TaskPosition deepDated;
+    private TaskPosition deepUndated;
+
+    @BeforeAll
+    void setup() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        taskService  = new TaskServiceImpl(taskRepository, event -> {});
+        largeOwnerId = insertUser("large@example.com");
+        smallOwnerId = insertUser("small@example.com");
+
+        // Every tenth task is undated, every seventh is done, and due dates
+        // repeat in runs of ten so that pages break inside ties
+        jdbcTemplate.update(
+            """
+                INSERT INTO tasks (owner_id, title, status, due_at, created_at)
+                SELECT ?, CONCAT('Task ', X),
+                    CASE WHEN MOD(X, 7) = 0 THEN 'DONE' ELSE 'TODO' END,
+                    CASE WHEN MOD(X, 10) = 0 THEN NULL
+                        ELSE DATEADD('HOUR', X / 10, TIMESTAMP '2026-01-01 00:00:00') END,
+                    CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, ?)
+                """,
+            largeOwnerId,
+            TASKS
+        );
+        jdbcTemplate.update(
+            """
+                INSERT INTO tasks (owner_id, title, status, due_at, created_at)
+                SELECT ?, CONCAT('Task ', X), 'TODO',
+                    DATEADD('HOUR', X, TIMESTAMP '2026-01-01 00:00:00'), CURRENT_TIMESTAMP
+                FROM SYSTEM_RANGE(1, 20)
+                """,
+            smallOwnerId
+        );
+        jdbcTemplate.execute("ANALYZE TABLE tasks");
+
+        middle      = positionAt(30_000);
+        deepDated   = positionAt(75_000);
+        deepUndated = positionAt(82_000);
+    }
+
+    @AfterAll
+    void teardown() {
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void testEveryPageShouldBeAnIndexRangeScanOfPageSize() throws SQLException {
+        assertReadsOnePage(null);
+        assertReadsOnePage(deepDated);
+        assertReadsOnePage(deepUndated);
+    }
+
+    @Test
+    void testP99ListLatencyShouldNotGrowWithListSizeOrDepth() {
+        final long small = p99(() -> taskService.findTasksAfter(smallOwnerId, TaskStatus.TODO, null, PAGE_SIZE));
+        final long first = p99(() -> taskService.findTasksAfter(largeOwnerId, TaskStatus.TODO, null, PAGE_SIZE));
+        final long deep = Math.max(
+            p99(() -> taskService.findTasksAfter(largeOwnerId, TaskStatus.TODO, middle, PAGE_SIZE)),
+            Math.max(
+                p99(() -> taskService.findTasksAfter(largeOwnerId, TaskStatus.TODO, deepDated, PAGE_SIZE)),
+                p99(() -> taskService.findTasksAfter(largeOwnerId, TaskStatus.TODO, deepUndated, PAGE_SIZE))
+            )
+        );
+
+        // Reading every match before cutting at the limit, as an OFFSET or a
+        // sort does, is over ten times slower here; the slack only absorbs
+        // GC and scheduling noise
+        final long bound = 4 * Math.max(small, first) + 5_000_000L;
+        assertTrue(
+            deep < bound,
+            () -> "Deep pages p99 " + deep + " ns exceeds " + bound + " ns (20 tasks " + small
+                + " ns, first page of 100k " + first + " ns)"
+        );
+    }
+
+    // Walks the list page by page, so the position is also a real cursor. Of
+    // the 85,714 TODO tasks, the first 77,143 are dated.
+    private TaskPosition positionAt(int tasks) {
+        TaskPosition position = null;
+        for (int seen = 0; seen < tasks; ) {
+            final List<TaskResponse> page = taskService.findTasksAfter(
+                largeOwnerId,
+                TaskStatus.TODO,
+                position,
+                Math.min(tasks - seen, TaskServiceImpl.MAX_PAGE_SIZE)
+            );
+            final TaskResponse last = page.getLast();
+            position = new TaskPosition(last.dueAt(), last.id());
+            seen += page.size();
+        }
+        return position;
+    }
+
+    // EXPLAINs the SQL the page query actually ran
+    private void assertReadsOnePage(TaskPosition after) throws SQLException {
+        final String plan = QueryRecorder.recordOne(
+            () -> taskService.findTasksAfter(largeOwnerId, TaskStatus.TODO, after, PAGE_SIZE)
+        )
+            .explain(dataSource, "EXPLAIN ANALYZE ");
+
+        assertTrue(
+            plan.toUpperCase(Locale.ROOT)
+                .contains("IDX_TASKS_OWNER_STATUS_DUE_AT"),
+            () -> "Expected plan to use IDX_TASKS_OWNER_STATUS_DUE_AT but was:\n" + plan
+        );
+        final Matcher scanCount = SCAN_COUNT.matcher(plan);
+        assertTrue(scanCount.find(), () -> "No scan count in plan:\n" + plan);
+        // The page, one row to find its end, and at most one run of due-date
+        // ties before the cursor
+        final int scanned = Integer.parseInt(scanCount.group(1));
+        assertTrue(scanned <= PAGE_SIZE + 11, () -> "Scanned " + scanned + " rows:\n" + plan);
+    }
+
+    private static long p99(Supplier<List<TaskResponse>> page) {
+        for (int i = 0; i < SAMPLES; i++) {
+            assertEquals(PAGE_SIZE, page.get()
+                .size());
+        }
+        final long[] latencies = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            final long started = System.nanoTime();
+            page.get();
+            latencies[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(latencies);
+        return latencies[(int) Math.ceil(0.99 * SAMPLES) - 1];
+    }
+
+    private long insertUser(String email) {
+        jdbcTemplate.update(
+            "INSERT INTO users (email, password_hash, created_at, status) VALUES (?, 'hash', CURRENT_TIMESTAMP, 'ACTIVE')",
+            email
+        );
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+    }
+
+}
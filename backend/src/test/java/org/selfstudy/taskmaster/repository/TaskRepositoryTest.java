@@ -0,0 +1,220 @@
+package org.selfstudy.taskmaster.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.selfstudy.taskmaster.entities.task.Task;
+import org.selfstudy.taskmaster.entities.task.dto.TaskCreateRequest;
+import org.selfstudy.taskmaster.entities.task.dto.TaskReminder;
+import org.selfstudy.taskmaster.entities.task.dto.TaskResponse;
+import org.selfstudy.taskmaster.entities.task.dto.TaskUpdateRequest;
+import org.selfstudy.taskmaster.entities.task.enums.TaskStatus;
+import org.selfstudy.taskmaster.entities.user.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+@DataJpaTest
+public class TaskRepositoryTest {
+
+    private static final LocalDateTime DUE_AT = LocalDateTime.of(2026, 3, 1, 9, 0);
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Long ownerId;
+    private Long otherOwnerId;
+
+    @BeforeEach
+    void setup() {
+        ownerId      = entityManager.persistFlushFind(User.createWithPasswordHash("owner@example.com", "hash"))
+            .getId();
+        otherOwnerId = entityManager.persistFlushFind(User.createWithPasswordHash("other@example.com", "hash"))
+            .getId();
+    }
+
+    @Test
+    void testFindDatedAfterShouldOrderByDueAtAndBreakTiesById() {
+        final Task later = persist(ownerId, "later", DUE_AT.plusDays(1));
+        final Task first = persist(ownerId, "first", DUE_AT);
+        final Task second = persist(ownerId, "second", DUE_AT);
+        persist(ownerId, "undated", null);
+        persist(otherOwnerId, "not mine", DUE_AT);
+
+        final List<TaskResponse> page = taskRepository.findDatedAfter(
+            ownerId,
+            TaskStatus.TODO,
+            EARLIEST,
+            0L,
+            Limit.of(2)
+        );
+        final List<TaskResponse> next = taskRepository.findDatedAfter(
+            ownerId,
+            TaskStatus.TODO,
+            page.getLast()
+                .dueAt(),
+            page.getLast()
+                .id(),
+            Limit.of(2)
+        );
+
+        assertEquals(List.of(first.getId(), second.getId()), ids(page));
+        assertEquals(List.of(later.getId()), ids(next));
+    }
+
+    @Test
+    void testFindUndatedAfterShouldReturnOnlyUndatedTasksById() {
+        final Task first = persist(ownerId, "first", null);
+        persist(ownerId, "dated", DUE_AT);
+        final Task second = persist(ownerId, "second", null);
+        persist(otherOwnerId, "not mine", null);
+
+        final List<TaskResponse> result = taskRepository.findUndatedAfter(
+            ownerId,
+            TaskStatus.TODO,
+            first.getId(),
+            Limit.of(10)
+        );
+
+        assertEquals(List.of(second.getId()), ids(result));
+    }
+
+    @Test
+    void testUpdateByIdAndOwnerIdShouldWriteOnlyGivenFields() {
+        final Task task = persist(ownerId, "title", DUE_AT);
+        final LocalDateTime modifiedAt = LocalDateTime.of(2026, 2, 1, 12, 0);
+
+        final int updated = taskRepository.updateByIdAndOwnerId(
+            task.getId(),
+            ownerId,
+            new TaskUpdateRequest(null, Optional.of("notes"), TaskStatus.DONE, Optional.empty()),
+            modifiedAt
+        );
+
+        final TaskResponse result = taskRepository.findByIdAndOwnerId(task.getId(), ownerId, TaskResponse.class)
+            .orElseThrow();
+        assertEquals(1, updated);
+        assertEquals("title", result.title());
+        assertEquals("notes", result.description());
+        assertEquals(TaskStatus.DONE, result.status());
+        assertNull(result.dueAt());
+        assertEquals(modifiedAt, result.lastModified());
+    }
+
+    @Test
+    void testUpdateByIdAndOwnerIdShouldNotTouchOtherOwnersTasks() {
+        final Task task = persist(otherOwnerId, "title", DUE_AT);
+
+        final int updated = taskRepository.updateByIdAndOwnerId(
+            task.getId(),
+            ownerId,
+            new TaskUpdateRequest("stolen", null, null, null),
+            LocalDateTime.now()
+        );
+
+        assertEquals(0, updated);
+        assertEquals(
+            "title",
+            taskRepository.findByIdAndOwnerId(task.getId(), otherOwnerId, TaskResponse.class)
+                .orElseThrow()
+                .title()
+        );
+    }
+
+    @Test
+    void testDeleteByIdAndOwnerIdShouldNotTouchOtherOwnersTasks() {
+        final Task mine = persist(ownerId, "mine", null);
+        final Task theirs = persist(otherOwnerId, "theirs", null);
+
+        assertEquals(1, taskRepository.deleteByIdAndOwnerId(mine.getId(), ownerId));
+        assertEquals(0, taskRepository.deleteByIdAndOwnerId(theirs.getId(), ownerId));
+        assertTrue(taskRepository.findByIdAndOwnerId(mine.getId(), ownerId, TaskResponse.class)
+            .isEmpty());
+        assertNotNull(taskRepository.findByIdAndOwnerId(theirs.getId(), otherOwnerId, TaskResponse.class)
+            .orElse(null));
+    }
+
+    @Test
+    void testSearchByOwnerIdAndPatternShouldTreatEscapedWildcardsLiterally() {
+        final Task percent = persist(ownerId, "Raise budget 10%", null);
+        persist(ownerId, "Raise budget 100", null);
+        final Task newer = persist(ownerId, "RAISE BUDGET 10% again", null);
+        persist(otherOwnerId, "raise budget 10%", null);
+
+        final List<TaskResponse> result = taskRepository.searchByOwnerIdAndPattern(
+            ownerId,
+            "%budget 10!%%",
+            Limit.of(10)
+        );
+
+        assertEquals(List.of(newer.getId(), percent.getId()), ids(result));
+    }
+
+    @Test
+    void testClaimReminderShouldSucceedOncePerDueDate() {
+        final Task task = persist(ownerId, "title", DUE_AT);
+        final Task other = persist(otherOwnerId, "other", DUE_AT.plusMinutes(1));
+        final LocalDateTime until = DUE_AT.plusHours(1);
+
+        assertEquals(0, taskRepository.claimReminder(task.getId(), DUE_AT.minusDays(1), DUE_AT));
+        assertEquals(1, taskRepository.claimReminder(task.getId(), DUE_AT, DUE_AT));
+        assertEquals(0, taskRepository.claimReminder(task.getId(), DUE_AT, DUE_AT));
+        assertEquals(
+            List.of(other.getId()),
+            taskRepository.findRemindersAfter(EARLIEST, 0L, until, Limit.of(10))
+                .stream()
+                .map(TaskReminder::taskId)
+                .toList()
+        );
+
+        taskRepository.updateByIdAndOwnerId(
+            task.getId(),
+            ownerId,
+            new TaskUpdateRequest(null, null, null, Optional.of(DUE_AT.plusMinutes(2))),
+            DUE_AT
+        );
+
+        assertEquals(2, taskRepository.findRemindersAfter(EARLIEST, 0L, until, Limit.of(10))
+            .size());
+        assertEquals(1, taskRepository.claimReminder(task.getId(), DUE_AT.plusMinutes(2), DUE_AT));
+    }
+
+    @Test
+    void testClaimReminderShouldSkipDoneTasks() {
+        final Task task = persist(ownerId, "title", DUE_AT);
+        taskRepository.updateByIdAndOwnerId(
+            task.getId(),
+            ownerId,
+            new TaskUpdateRequest(null, null, TaskStatus.DONE, null),
+            DUE_AT
+        );
+
+        assertEquals(0, taskRepository.claimReminder(task.getId(), DUE_AT, DUE_AT));
+    }
+
+    private Task persist(Long owner, String title, LocalDateTime dueAt) {
+        return entityManager.persistAndFlush(
+            Task.createFromDto(owner, new TaskCreateRequest(title, null, dueAt))
+        );
+    }
+
+    private static List<Long> ids(List<TaskResponse> tasks) {
+        return tasks.stream()
+            .map(TaskResponse::id)
+            .toList();
+    }
+
+}
@@ -5,17 +5,27 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
-import java.util.Arrays;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.selfstudy.taskmaster.model.entity.User;
-import org.selfstudy.taskmaster.model.enums.UserStatus;
+import org.selfstudy.taskmaster.entities.user.User;
+import org.selfstudy.taskmaster.entities.user.dto.UserEmail;
+import org.selfstudy.taskmaster.entities.user.dto.UserResponse;
+import org.selfstudy.taskmaster.entities.user.dto.UserStatusCount;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 @DataJpaTest
 public class UserRepositoryTest {
@@ -48,21 +58,17 @@ public class UserRepositoryTest {
     @BeforeEach
     void setup() {
 
-        activeTestUser = new User();
-        activeTestUser.setId(null);
-        activeTestUser.setEmail(ACTIVE_TEST_USER_EMAIL);
-        activeTestUser.setPasswordHash(ACTIVE_TEST_USER_PASSWORD_HASH);
-        activeTestUser.setCreatedAt(LocalDateTime.now());
-        activeTestUser.setLastModified(null);
-        activeTestUser.setStatus(ACTIVE_TEST_USER_STATUS);
+        activeTestUser = User.createWithPasswordHash(
+            ACTIVE_TEST_USER_EMAIL,
+            ACTIVE_TEST_USER_PASSWORD_HASH
+        );
+        activeTestUser.changeStatus(ACTIVE_TEST_USER_STATUS);
 
-        inactiveTestUser = new User();
-        inactiveTestUser.setId(null);
-        inactiveTestUser.setEmail(INACTIVE_TEST_USER_EMAIL);
-        inactiveTestUser.setPasswordHash(INACTIVE_TEST_USER_PASSWORD_HASH);
-        inactiveTestUser.setCreatedAt(LocalDateTime.now());
-        inactiveTestUser.setLastModified(null);
-        inactiveTestUser.setStatus(INACTIVE_TEST_USER_STATUS);
+        inactiveTestUser = User.createWithPasswordHash(
+            INACTIVE_TEST_USER_EMAIL,
+            INACTIVE_TEST_USER_PASSWORD_HASH
+        );
+        inactiveTestUser.changeStatus(INACTIVE_TEST_USER_STATUS);
 
     }
 
@@ -201,4 +207,266 @@ public class UserRepositoryTest {
         assertEquals(1, result);
     }
 
+    @Test
+    void testCountGroupedByStatusShouldReturnOneRowPerPresentStatus() {
+        entityManager.persistFlushFind(activeTestUser);
+        entityManager.persistFlushFind(inactiveTestUser);
+        persistUsers(2, INACTIVE_TEST_USER_STATUS);
+
+        final List<UserStatusCount> result = userRepository.countGroupedByStatus();
+
+        assertEquals(
+            Set.of(
+                new UserStatusCount(ACTIVE_TEST_USER_STATUS, 1),
+                new UserStatusCount(INACTIVE_TEST_USER_STATUS, 3)
+            ),
+            Set.copyOf(result)
+        );
+    }
+
+    @Test
+    void testFindAllByOrderByIdAscShouldWalkAllUsersByKeyset() {
+        final List<User> persisted = persistUsers(5, ACTIVE_TEST_USER_STATUS);
+
+        final Window<User> first = userRepository.findAllByOrderByIdAsc(
+            ScrollPosition.keyset(),
+            Limit.of(2),
+            User.class
+        );
+        final Window<User> second = userRepository.findAllByOrderByIdAsc(
+            first.positionAt(first.size() - 1),
+            Limit.of(2),
+            User.class
+        );
+        final Window<User> third = userRepository.findAllByOrderByIdAsc(
+            second.positionAt(second.size() - 1),
+            Limit.of(2),
+            User.class
+        );
+
+        assertEquals(persisted.subList(0, 2), first.getContent());
+        assertTrue(first.hasNext());
+        assertEquals(persisted.subList(2, 4), second.getContent());
+        assertEquals(persisted.subList(4, 5), third.getContent());
+        assertFalse(third.hasNext());
+    }
+
+    @Test
+    void testFindByStatusOrderByIdAscShouldOnlyReturnMatchingStatus() {
+        persistUsers(3, ACTIVE_TEST_USER_STATUS);
+        final List<User> inactive = persistUsers(3, INACTIVE_TEST_USER_STATUS);
+
+        final Window<User> result = userRepository.findByStatusOrderByIdAsc(
+            INACTIVE_TEST_USER_STATUS,
+            ScrollPosition.keyset(),
+            Limit.of(10),
+            User.class
+        );
+
+        assertEquals(inactive, result.getContent());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    void testFindByCreatedAtAfterShouldPageByCreatedAtAndId() {
+        final LocalDateTime since = LocalDateTime.now()
+            .minusDays(7L);
+        final List<User> persisted = persistUsers(3, ACTIVE_TEST_USER_STATUS);
+
+        final Window<User> first = userRepository
+            .findByCreatedAtAfterOrderByCreatedAtAscIdAsc(
+                since,
+                ScrollPosition.keyset(),
+                Limit.of(2),
+                User.class
+            );
+        final Window<User> second = userRepository
+            .findByCreatedAtAfterOrderByCreatedAtAscIdAsc(
+                since,
+                first.positionAt(first.size() - 1),
+                Limit.of(2),
+                User.class
+            );
+
+        assertEquals(2, first.size());
+        assertEquals(1, second.size());
+        assertEquals(
+            persisted.size(),
+            Stream.concat(first.stream(), second.stream())
+                .distinct()
+                .count()
+        );
+    }
+
+    @Test
+    void testStreamByStatusOrderByIdAscShouldStreamMatchingUsers() {
+        final List<User> active = persistUsers(3, ACTIVE_TEST_USER_STATUS);
+        persistUsers(2, INACTIVE_TEST_USER_STATUS);
+        entityManager.clear();
+
+        final List<User> result;
+        try (Stream<User> users = userRepository.streamByStatusOrderByIdAsc(
+            ACTIVE_TEST_USER_STATUS,
+            User.class
+        )) {
+            result = users.toList();
+        }
+
+        assertEquals(active, result);
+    }
+
+    @Test
+    void testFindByEmailShouldProjectToResponseWithoutManagingEntity() {
+        entityManager.persistAndFlush(activeTestUser);
+        entityManager.clear();
+
+        final Optional<UserResponse> result
+            = userRepository.findByEmail(ACTIVE_TEST_USER_EMAIL, UserResponse.class);
+
+        assertTrue(result.isPresent());
+        assertEquals(UserResponse.from(activeTestUser), result.get());
+        assertEquals(
+            0,
+            entityManager.getEntityManager()
+                .unwrap(Session.class)
+                .getStatistics()
+                .getEntityCount()
+        );
+    }
+
+    @Test
+    void testFindByStatusInOrderByIdAscShouldProjectWindowToResponse() {
+        final List<User> active = persistUsers(3, ACTIVE_TEST_USER_STATUS);
+        entityManager.clear();
+
+        final Window<UserResponse> first = userRepository.findByStatusInOrderByIdAsc(
+            List.of(ACTIVE_TEST_USER_STATUS),
+            ScrollPosition.keyset(),
+            Limit.of(2),
+            UserResponse.class
+        );
+        final Window<UserResponse> second = userRepository.findByStatusInOrderByIdAsc(
+            List.of(ACTIVE_TEST_USER_STATUS),
+            first.positionAt(first.size() - 1),
+            Limit.of(2),
+            UserResponse.class
+        );
+
+        assertEquals(
+            active.stream()
+                .map(UserResponse::from)
+                .toList(),
+            Stream.concat(first.stream(), second.stream())
+                .toList()
+        );
+    }
+
+    @Test
+    void testFindByEmailInShouldReturnOnlyRegisteredEmails() {
+        entityManager.persistAndFlush(activeTestUser);
+        entityManager.persistAndFlush(inactiveTestUser);
+
+        final List<UserEmail> result = userRepository.findByEmailIn(
+            List.of(ACTIVE_TEST_USER_EMAIL, NON_EXIST_EMAIL),
+            UserEmail.class
+        );
+
+        assertEquals(List.of(new UserEmail(ACTIVE_TEST_USER_EMAIL)), result);
+    }
+
+    @Test
+    void testUpdateStatusByIdInAndStatusShouldOnlyTouchRowsInCurrentStatus() {
+        entityManager.persistAndFlush(activeTestUser);
+        entityManager.persistAndFlush(inactiveTestUser);
+        final LocalDateTime modifiedAt = LocalDateTime.now()
+            .withNano(0);
+
+        final int updated = userRepository.updateStatusByIdInAndStatus(
+            List.of(activeTestUser.getId(), inactiveTestUser.getId()),
+            UserStatus.ACTIVE,
+            UserStatus.SUSPENDED,
+            modifiedAt
+        );
+
+        assertEquals(1, updated);
+        final User suspended = userRepository.findById(activeTestUser.getId())
+            .orElseThrow();
+        assertEquals(UserStatus.SUSPENDED, suspended.getStatus());
+        assertEquals(modifiedAt, suspended.getLastModified());
+        assertEquals(
+            INACTIVE_TEST_USER_STATUS,
+            userRepository.findById(inactiveTestUser.getId())
+                .orElseThrow()
+                .getStatus()
+        );
+    }
+
+    @Test
+    void testSaveAllShouldAssignConsecutiveIdsFromOneSequenceBlock() {
+        final List<User> users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            users.add(User.createWithPasswordHash("batch" + i + "@example.com", "hash"));
+        }
+
+        userRepository.saveAllAndFlush(users);
+
+        assertEquals(
+            users.get(0)
+                .getId() + 2,
+            users.get(2)
+                .getId()
+        );
+    }
+
+    @Test
+    void testKeysetQueriesShouldReturnExactlyOnePageAfterPosition() {
+        final List<User> users = persistUsers(5, UserStatus.ACTIVE);
+        final User second = users.get(1);
+
+        final List<UserResponse> byStatus = userRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+            UserStatus.ACTIVE,
+            second.getId(),
+            Limit.of(2),
+            UserResponse.class
+        );
+        final List<UserResponse> recent = userRepository.findByCreatedAtAndIdAfter(
+            second.getCreatedAt(),
+            second.getId(),
+            Limit.of(2)
+        );
+
+        final List<Long> expected = List.of(
+            users.get(2)
+                .getId(),
+            users.get(3)
+                .getId()
+        );
+        assertEquals(
+            expected,
+            byStatus.stream()
+                .map(UserResponse::id)
+                .toList()
+        );
+        assertEquals(
+            expected,
+            recent.stream()
+                .map(UserResponse::id)
+                .toList()
+        );
+    }
+
+    private List<User> persistUsers(int count, UserStatus status) {
+        final List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = User.createWithPasswordHash(
+                status.name()
+                    .toLowerCase() + i + "@example.com",
+                ACTIVE_TEST_USER_PASSWORD_HASH
+            );
+            user.changeStatus(status);
+            users.add(entityManager.persistAndFlush(user));
+        }
+        return users;
+    }
+
 }
@@ -0,0 +1,167 @@
+package org.selfstudy.taskmaster.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.selfstudy.taskmaster.entities.user.dto.UserResponse;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// ANALYZE commits, so rows are managed here instead of by a rolled-back test transaction
+@DataJpaTest
+@Import(QueryRecorder.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class UserSchemaMigrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        for (int i = 0; i < 200; i++) {
+            jdbcTemplate.update(
+                "INSERT INTO users (email, password_hash, created_at, status) VALUES (?, ?, ?, ?)",
+                "user" + i + "@example.com",
+                "hash",
+                LocalDateTime.now()
+                    .minusDays(i),
+                i % 5 == 0 ? "SUSPENDED" : "ACTIVE"
+            );
+        }
+        jdbcTemplate.execute("ANALYZE TABLE users");
+    }
+
+    @AfterEach
+    void teardown() {
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void testFindByStatusShouldUseStatusIdIndex() throws SQLException {
+        assertPlanUses(
+            () -> userRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                UserStatus.SUSPENDED,
+                10L,
+                Limit.of(20),
+                UserResponse.class
+            ),
+            "IDX_USERS_STATUS_ID"
+        );
+    }
+
+    @Test
+    void testCountByStatusShouldUseStatusIndex() throws SQLException {
+        assertPlanUses(() -> userRepository.countByStatus(UserStatus.SUSPENDED), "IDX_USERS_STATUS_");
+    }
+
+    @Test
+    void testFindByCreatedAtAfterAndStatusShouldUseStatusCreatedAtIndex() throws SQLException {
+        assertPlanUses(
+            () -> userRepository.findByCreatedAtAfterAndStatusOrderByCreatedAtAscIdAsc(
+                LocalDateTime.now()
+                    .minusDays(3),
+                UserStatus.ACTIVE,
+                ScrollPosition.keyset(),
+                Limit.of(20),
+                UserResponse.class
+            ),
+            "IDX_USERS_STATUS_CREATED_AT"
+        );
+    }
+
+    @Test
+    void testFindByCreatedAtAfterShouldUseCreatedAtIndex() throws SQLException {
+        assertPlanUses(
+            () -> userRepository.findByCreatedAtAfterOrderByCreatedAtAscIdAsc(
+                LocalDateTime.now()
+                    .minusDays(3),
+                ScrollPosition.keyset(),
+                Limit.of(20),
+                UserResponse.class
+            ),
+            "IDX_USERS_CREATED_AT"
+        );
+    }
+
+    @Test
+    void testExistsByEmailShouldUseUniqueEmailIndex() throws SQLException {
+        assertPlanUses(() -> userRepository.existsByEmail("user1@example.com"), "UK_USERS_EMAIL");
+    }
+
+    @Test
+    void testBaselinedSchemaShouldGetUserIndexesFromMigrations() {
+        final DriverManagerDataSource legacy = new DriverManagerDataSource(
+            "jdbc:h2:mem:legacy_users;DB_CLOSE_DELAY=-1",
+            "sa",
+            ""
+        );
+        final JdbcTemplate legacyJdbc = new JdbcTemplate(legacy);
+        // The table as ddl-auto=update left it, with no Flyway history
+        legacyJdbc.execute("""
+            CREATE TABLE users (
+                id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                email VARCHAR(255) NOT NULL UNIQUE,
+                password_hash VARCHAR(255) NOT NULL,
+                created_at TIMESTAMP(6) NOT NULL,
+                last_modified TIMESTAMP(6),
+                status ENUM ('ACTIVE', 'INACTIVE', 'SUSPENDED', 'PENDING', 'DELETED') NOT NULL
+            )
+            """);
+
+        Flyway.configure()
+            .dataSource(legacy)
+            .locations("classpath:db/migration/h2")
+            .baselineOnMigrate(true)
+            .baselineVersion("1")
+            .load()
+            .migrate();
+
+        assertEquals(
+            List.of("IDX_USERS_CREATED_AT", "IDX_USERS_STATUS_CREATED_AT", "IDX_USERS_STATUS_ID"),
+            legacyJdbc.queryForList(
+                "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES "
+                    + "WHERE TABLE_NAME = 'USERS' AND INDEX_NAME LIKE 'IDX_USERS_%' ORDER BY INDEX_NAME",
+                String.class
+            )
+        );
+        legacyJdbc.execute("DROP ALL OBJECTS");
+    }
+
+    // EXPLAINs the SQL the repository method actually ran
+    private void assertPlanUses(Runnable query, String index) throws SQLException {
+        final String plan = QueryRecorder.recordOne(query)
+            .explain(dataSource, "EXPLAIN ");
+
+        assertTrue(
+            plan.toUpperCase(Locale.ROOT)
+                .contains(index),
+            () -> "Expected plan to use " + index + " but was:\n" + plan
+        );
+    }
+
+}
@@ -0,0 +1,96 @@
+package org.selfstudy.taskmaster.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.selfstudy.taskmaster.config.Argon2Properties;
+import org.selfstudy.taskmaster.security.AdaptiveArgon2PasswordEncoder.Parameters;
+
+public class AdaptiveArgon2PasswordEncoderTest {
+
+    private static final Argon2Properties PROPERTIES = new Argon2Properties(
+        false,
+        Duration.ofMillis(100),
+        16,
+        32,
+        1,
+        1024,
+        2,
+        8192,
+        20,
+        2.0,
+        true
+    );
+
+    private final Argon2MemoryPool pool = new Argon2MemoryPool(1, 8192);
+
+    @Test
+    void testCalibrateShouldRaiseMemoryThenIterationsUpToTarget() {
+        // 1 ms per MiB-iteration: memory stops at the 8 MiB cap, then twelve
+        // iterations take 96 ms and a thirteenth would overshoot the target
+        final Parameters calibrated = AdaptiveArgon2PasswordEncoder.calibrate(
+            PROPERTIES,
+            parameters -> parameters.cost() / 1024 * 1_000_000L
+        );
+
+        assertEquals(new Parameters(8192, 12, 1), calibrated);
+    }
+
+    @Test
+    void testCalibrateShouldKeepFloorWhenHostIsTooSlow() {
+        final Parameters calibrated = AdaptiveArgon2PasswordEncoder.calibrate(
+            PROPERTIES,
+            parameters -> Long.MAX_VALUE
+        );
+
+        assertEquals(new Parameters(1024, 2, 1), calibrated);
+    }
+
+    @Test
+    void testUpgradeEncodingShouldFlagHashesOutsideTolerance() {
+        final AdaptiveArgon2PasswordEncoder encoder = new AdaptiveArgon2PasswordEncoder(
+            PROPERTIES,
+            new Parameters(2048, 3, 1),
+            pool
+        );
+
+        assertTrue(encoder.upgradeEncoding("{bcrypt}$2a$10$abcdefghijklmnopqrstuv"));
+        assertTrue(encoder.upgradeEncoding("$argon2id$v=19$m=512,t=3,p=1$c2FsdA$aGFzaA"));
+        assertFalse(encoder.upgradeEncoding("$argon2id$v=19$m=2048,t=3,p=1$c2FsdA$aGFzaA"));
+        assertFalse(encoder.upgradeEncoding("$argon2id$v=19$m=2048,t=2,p=1$c2FsdA$aGFzaA"));
+        assertTrue(encoder.upgradeEncoding("$argon2id$v=19$m=1024,t=2,p=1$c2FsdA$aGFzaA"));
+        assertTrue(encoder.upgradeEncoding("$argon2id$v=19$m=8192,t=3,p=1$c2FsdA$aGFzaA"));
+    }
+
+    @Test
+    void testMatchesShouldVerifyHashesMadeWithOtherParameters() {
+        final String oldHash = new AdaptiveArgon2PasswordEncoder(
+            PROPERTIES,
+            new Parameters(1024, 2, 1),
+            pool
+        ).encode("password");
+        final AdaptiveArgon2PasswordEncoder encoder = new AdaptiveArgon2PasswordEncoder(
+            PROPERTIES,
+            new Parameters(4096, 3, 1),
+            pool
+        );
+
+        assertTrue(encoder.matches("password", oldHash));
+        assertTrue(encoder.upgradeEncoding(oldHash));
+        assertEquals(new Parameters(4096, 3, 1), Parameters.parse(encoder.encode("password")));
+    }
+
+    @Test
+    void testParseShouldRejectMalformedHashes() {
+        assertNull(Parameters.parse(null));
+        assertNull(Parameters.parse("plain"));
+        assertNull(Parameters.parse("$argon2id$v=19$m=x,t=3,p=1$c2FsdA$aGFzaA"));
+        assertNull(Parameters.parse("$argon2id$v=19$t=3,p=1$c2FsdA$aGFzaA"));
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.selfstudy.taskmaster.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void testTryAcquireShouldRejectWhenLimitIsReached() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10);
+
+        assertEquals(1, limiter.tryAcquire());
+        assertEquals(2, limiter.tryAcquire());
+        assertEquals(0, limiter.tryAcquire());
+
+        limiter.release(2, 0, false);
+
+        assertEquals(2, limiter.tryAcquire());
+    }
+
+    @Test
+    void testReleaseShouldRaiseLimitWhenLatencyStaysAtBaseline() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 1, 100);
+
+        saturate(limiter, FAST, false, 20);
+
+        assertTrue(limiter.limit() > 10);
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void testReleaseShouldLowerLimitWhenLatencyQueuesUp() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 50, 1, 100);
+        saturate(limiter, FAST, false, 1);
+
+        saturate(limiter, SLOW, false, 20);
+
+        assertTrue(limiter.limit() < 50);
+    }
+
+    @Test
+    void testReleaseShouldBackOffOnDropsDownToMinimum() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 20, 5, 100);
+        saturate(limiter, FAST, false, 1);
+
+        saturate(limiter, FAST, true, 200);
+
+        assertEquals(5, limiter.limit());
+    }
+
+    @Test
+    void testReleaseShouldKeepLimitWhenMostlyIdle() {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 50, 1, 100);
+        limiter.release(limiter.tryAcquire(), FAST, false);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.release(limiter.tryAcquire(), SLOW, false);
+        }
+
+        assertEquals(50, limiter.limit());
+    }
+
+    /**
+     * Fills every slot of the current limit, then releases each one with the
+     * given latency, {@code rounds} times.
+     */
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long rttNanos, boolean dropped, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            final int admitted = limiter.limit();
+            for (int i = 0; i < admitted; i++) {
+                limiter.tryAcquire();
+            }
+            for (int i = admitted; i > 0; i--) {
+                limiter.release(admitted, rttNanos, dropped);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+package org.selfstudy.taskmaster.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+
+public class AuthRateLimitFilterTest {
+
+    private AuthRateLimitFilter filter;
+
+    @BeforeEach
+    void setup() {
+        filter = new AuthRateLimitFilter(
+            new TokenBucketLimiter("ip", 10, Duration.ofMinutes(1), 1024, 4),
+            new TokenBucketLimiter("email", 2, Duration.ofMinutes(1), 1024, 4),
+            new ObjectMapper(),
+            1024
+        );
+    }
+
+    @Test
+    void testFilterShouldReplayBodyToDownstream() throws ServletException, IOException {
+        final MockFilterChain chain = new MockFilterChain();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(login("testUser@example.com"), response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(
+            "{\"email\":\"testUser@example.com\",\"password\":\"secret\"}",
+            new String(
+                chain.getRequest()
+                    .getInputStream()
+                    .readAllBytes(),
+                StandardCharsets.UTF_8
+            )
+        );
+    }
+
+    @Test
+    void testReplayedBodyShouldNotifyReadListenerOfAsyncRequest() throws ServletException, IOException {
+        final MockFilterChain chain = new MockFilterChain();
+        final MockHttpServletRequest request = login("testUser@example.com");
+        request.setAsyncSupported(true);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        final ServletInputStream body = chain.getRequest()
+            .getInputStream();
+        final ByteArrayOutputStream read = new ByteArrayOutputStream();
+        final AtomicBoolean allRead = new AtomicBoolean();
+
+        assertThrows(IllegalStateException.class, () -> body.setReadListener(listener(body, read, allRead)));
+
+        chain.getRequest()
+            .startAsync();
+        body.setReadListener(listener(body, read, allRead));
+
+        assertTrue(allRead.get());
+        assertEquals(
+            "{\"email\":\"testUser@example.com\",\"password\":\"secret\"}",
+            read.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void testFilterShouldRejectRepeatedAttemptsForSameEmail() throws ServletException, IOException {
+        filter.doFilter(login("testUser@example.com"), new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(login("TESTUSER@example.com"), new MockHttpServletResponse(), new MockFilterChain());
+
+        final MockFilterChain chain = new MockFilterChain();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(login("testuser@example.com "), response, chain);
+
+        assertEquals(429, response.getStatus());
+        assertNotNull(response.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void testFilterShouldIgnoreOtherEndpoints() throws ServletException, IOException {
+        for (int i = 0; i < 20; i++) {
+            final MockHttpServletRequest request = login("testUser@example.com");
+            request.setServletPath("/api/auth/refresh");
+            final MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(request, response, new MockFilterChain());
+
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    private static ReadListener listener(ServletInputStream body, ByteArrayOutputStream read, AtomicBoolean allRead) {
+        return new ReadListener() {
+
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (body.isReady() && !body.isFinished()) {
+                    read.write(body.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                throw new AssertionError(t);
+            }
+
+        };
+    }
+
+    private static MockHttpServletRequest login(String email) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setServletPath("/api/auth/login");
+        request.setContentType("application/json");
+        request.setContent(
+            ("{\"email\":\"" + email + "\",\"password\":\"secret\"}")
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        return request;
+    }
+
+}
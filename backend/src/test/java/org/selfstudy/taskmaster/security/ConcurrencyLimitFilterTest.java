@@ -0,0 +1,149 @@
+package org.selfstudy.taskmaster.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.selfstudy.taskmaster.security.ConcurrencyLimitFilter.EndpointClass;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.ServletException;
+
+public class ConcurrencyLimitFilterTest {
+
+    private AdaptiveConcurrencyLimiter hashing;
+    private AdaptiveConcurrencyLimiter write;
+    private AdaptiveConcurrencyLimiter read;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setup() {
+        hashing = new AdaptiveConcurrencyLimiter("hashing", 1, 1, 1);
+        write   = new AdaptiveConcurrencyLimiter("write", 1, 1, 1);
+        read    = new AdaptiveConcurrencyLimiter("read", 1, 1, 1);
+        filter  = new ConcurrencyLimitFilter(
+            Map.of(EndpointClass.HASHING, hashing, EndpointClass.WRITE, write, EndpointClass.READ, read),
+            Duration.ofSeconds(2)
+        );
+    }
+
+    @Test
+    void testClassifyShouldSeparateHashingWriteAndReadEndpoints() {
+        assertEquals(EndpointClass.HASHING, ConcurrencyLimitFilter.classify(request("POST", "/api/auth/login")));
+        assertEquals(EndpointClass.HASHING, ConcurrencyLimitFilter.classify(request("POST", "/api/auth/register")));
+        assertEquals(EndpointClass.WRITE, ConcurrencyLimitFilter.classify(request("POST", "/api/auth/refresh")));
+        assertEquals(EndpointClass.WRITE, ConcurrencyLimitFilter.classify(request("PATCH", "/api/admin/users/status")));
+        assertEquals(EndpointClass.READ, ConcurrencyLimitFilter.classify(request("GET", "/api/users/1")));
+    }
+
+    @Test
+    void testFilterShouldRejectWith503WhenEndpointClassIsFull() throws ServletException, IOException {
+        hashing.tryAcquire();
+
+        final MockFilterChain chain = new MockFilterChain();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "/api/auth/login"), response, chain);
+
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void testFilterShouldAdmitOtherClassesWhileOneIsFull() throws ServletException, IOException {
+        hashing.tryAcquire();
+
+        final MockFilterChain chain = new MockFilterChain();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/api/users/1"), response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(0, read.inFlight());
+    }
+
+    @Test
+    void testFilterShouldReleasePermitWhenChainThrows() {
+        final MockFilterChain chain = new MockFilterChain() {
+
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response)
+                throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+        };
+
+        assertThrows(
+            IOException.class,
+            () -> filter.doFilter(request("PUT", "/api/users/1"), new MockHttpServletResponse(), chain)
+        );
+        assertEquals(0, write.inFlight());
+    }
+
+    @Test
+    void testFilterShouldSkipActuatorEndpoints() throws ServletException, IOException {
+        read.tryAcquire();
+
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/actuator/health"), response, new MockFilterChain());
+
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void testFilterShouldNotLetFastRejectionsCollapseHashingLimit() throws ServletException, IOException {
+        final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("hashing", 20, 1, 20);
+        final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            Map.of(EndpointClass.HASHING, limiter, EndpointClass.WRITE, write, EndpointClass.READ, read),
+            Duration.ofSeconds(2)
+        );
+        // Half the slots busy, so every sample counts towards the limit
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+        }
+
+        // Rate-limited signups answer at once; real ones take a hash
+        for (int i = 0; i < 20; i++) {
+            filter.doFilter(request("POST", "/api/auth/register"), new MockHttpServletResponse(), respond(429, 0));
+            filter.doFilter(request("POST", "/api/auth/register"), new MockHttpServletResponse(), respond(401, 0));
+            filter.doFilter(request("POST", "/api/auth/register"), new MockHttpServletResponse(), respond(201, 5));
+        }
+
+        assertEquals(20, limiter.limit());
+    }
+
+    private static MockFilterChain respond(int status, long millis) {
+        return new MockFilterChain() {
+
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+                try {
+                    Thread.sleep(millis);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread()
+                        .interrupt();
+                }
+                ((MockHttpServletResponse) response).setStatus(status);
+            }
+
+        };
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        final MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+
+}
@@ -0,0 +1,105 @@
+package org.selfstudy.taskmaster.security;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+
+public class PooledArgon2PasswordEncoderTest {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private final Argon2MemoryPool pool = new Argon2MemoryPool(1, 4096);
+
+    @ParameterizedTest
+    @CsvSource({
+        // type, version, memory KiB, iterations, lanes, hash length
+        "2, 19, 1024, 3, 1, 32",
+        "2, 19, 256, 2, 4, 64",
+        "2, 19, 8, 1, 1, 4",
+        "1, 19, 65, 2, 2, 80",
+        "0, 16, 32, 2, 1, 32",
+        "2, 16, 131, 1, 3, 1024"
+    })
+    void testEngineShouldMatchBouncyCastleByteForByte(
+        int type,
+        int version,
+        int memory,
+        int iterations,
+        int lanes,
+        int hashLength
+    ) {
+        final byte[] password = PASSWORD.getBytes(StandardCharsets.UTF_8);
+        final byte[] salt = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+        final byte[] expected = new byte[hashLength];
+        final Argon2BytesGenerator generator = new Argon2BytesGenerator();
+        generator.init(
+            new Argon2Parameters.Builder(type)
+                .withVersion(version)
+                .withMemoryAsKB(memory)
+                .withIterations(iterations)
+                .withParallelism(lanes)
+                .withSalt(salt)
+                .build()
+        );
+        generator.generateBytes(password, expected);
+
+        // Dirty, oversized memory from an earlier hash must not leak into the
+        // next one
+        final Argon2Engine engine = pool.acquire();
+        engine.hash(Argon2Parameters.ARGON2_id, 19, 2048, 1, 1, password, salt, new byte[32]);
+        for (int run = 0; run < 2; run++) {
+            final byte[] actual = new byte[hashLength];
+            engine.hash(type, version, memory, iterations, lanes, password, salt, actual);
+            assertArrayEquals(expected, actual);
+        }
+        pool.release(engine);
+    }
+
+    @Test
+    void testHashesShouldBeInterchangeableWithSpringEncoder() {
+        final PooledArgon2PasswordEncoder pooled = new PooledArgon2PasswordEncoder(16, 32, 1, 1024, 2, pool);
+        final Argon2PasswordEncoder spring = new Argon2PasswordEncoder(16, 32, 1, 1024, 2);
+
+        assertTrue(spring.matches(PASSWORD, pooled.encode(PASSWORD)));
+        assertTrue(pooled.matches(PASSWORD, spring.encode(PASSWORD)));
+        assertTrue(pooled.matches(PASSWORD, new Argon2PasswordEncoder(8, 16, 2, 64, 1).encode(PASSWORD)));
+        assertFalse(pooled.matches("wrong password", spring.encode(PASSWORD)));
+    }
+
+    @Test
+    void testMatchesShouldRejectMalformedHashes() {
+        final PooledArgon2PasswordEncoder pooled = new PooledArgon2PasswordEncoder(16, 32, 1, 1024, 2, pool);
+
+        assertFalse(pooled.matches(PASSWORD, null));
+        assertFalse(pooled.matches(PASSWORD, "$argon2id$v=19$m=1024,t=2$c2FsdA$aGFzaA"));
+        assertFalse(pooled.matches(PASSWORD, "$argon2x$v=19$m=1024,t=2,p=1$c2FsdA$aGFzaA"));
+        assertFalse(pooled.matches(PASSWORD, "$argon2id$v=19$m=1024,t=0,p=1$c2FsdA$aGFzaA"));
+        assertFalse(pooled.matches(PASSWORD, "$argon2id$v=19$m=2147483647,t=1,p=1$c2FsdA$aGFzaA"));
+        assertFalse(pooled.matches(PASSWORD, "$argon2id$v=19$m=1024,t=2,p=1$c2FsdA$!!"));
+    }
+
+    @Test
+    void testPoolShouldReuseEnginesUpToRetentionLimit() {
+        final Argon2Engine engine = pool.acquire();
+        pool.release(engine);
+        assertSame(engine, pool.acquire());
+
+        final byte[] out = new byte[32];
+        engine.hash(Argon2Parameters.ARGON2_id, 19, 8192, 1, 1, new byte[0], new byte[8], out);
+        pool.release(engine);
+        assertNotSame(engine, pool.acquire());
+    }
+
+}
@@ -0,0 +1,82 @@
+package org.selfstudy.taskmaster.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class TokenBucketLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void testTryAcquireShouldRejectOnceCapacityIsSpent() {
+        final TokenBucketLimiter limiter = limiter(3, 1024);
+
+        assertEquals(0L, limiter.tryAcquire("a"));
+        assertEquals(0L, limiter.tryAcquire("a"));
+        assertEquals(0L, limiter.tryAcquire("a"));
+
+        final long wait = limiter.tryAcquire("a");
+
+        assertTrue(wait > 0L);
+        assertTrue(wait <= Duration.ofSeconds(20).toNanos());
+        assertEquals(0L, limiter.tryAcquire("b"));
+    }
+
+    @Test
+    void testTryAcquireShouldRefillOverTime() {
+        final TokenBucketLimiter limiter = limiter(3, 1024);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("a");
+
+        now.addAndGet(Duration.ofSeconds(20).toNanos());
+
+        assertEquals(0L, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0L);
+    }
+
+    @Test
+    void testTrackedKeysShouldStayBoundedAndCountEvictions() {
+        final TokenBucketLimiter limiter = limiter(3, 16);
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        limiter.bindTo(registry);
+
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire("key-" + i);
+        }
+
+        assertTrue(limiter.trackedKeys() <= 16);
+        assertEquals(
+            1000.0d - limiter.trackedKeys(),
+            registry.get("taskmaster.ratelimit.evictions")
+                .functionCounter()
+                .count()
+        );
+        assertEquals(
+            1000.0d,
+            registry.get("taskmaster.ratelimit.requests")
+                .tag("outcome", "allowed")
+                .functionCounter()
+                .count()
+        );
+    }
+
+    private TokenBucketLimiter limiter(int capacity, int maxKeys) {
+        return new TokenBucketLimiter(
+            "test",
+            capacity,
+            Duration.ofMinutes(1),
+            maxKeys,
+            4,
+            now::get
+        );
+    }
+
+}
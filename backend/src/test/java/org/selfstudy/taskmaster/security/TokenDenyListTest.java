@@ -0,0 +1,122 @@
+package org.selfstudy.taskmaster.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.selfstudy.taskmaster.config.TokenProperties;
+import org.selfstudy.taskmaster.service.AuthService;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public class TokenDenyListTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    private static final TokenProperties PROPERTIES = new TokenProperties(
+        null,
+        "taskmaster",
+        Duration.ofMinutes(15),
+        Duration.ofDays(7)
+    );
+
+    @Test
+    void testIsRevokedShouldRejectTokensIssuedBeforeRevocation() {
+        final TokenDenyList denyList
+            = new TokenDenyList(PROPERTIES, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        denyList.revoke(1L);
+
+        assertTrue(denyList.isRevoked(1L, NOW.minusSeconds(60)));
+        assertTrue(denyList.isRevoked(1L, NOW.minusSeconds(1)));
+        assertFalse(denyList.isRevoked(1L, NOW.plusSeconds(1)));
+        assertFalse(denyList.isRevoked(2L, NOW.minusSeconds(60)));
+    }
+
+    @Test
+    void testIsRevokedShouldOrderTokensWithinSameSecondByMillisecond() {
+        final TokenDenyList denyList
+            = new TokenDenyList(PROPERTIES, Clock.fixed(NOW.plusMillis(700), ZoneOffset.UTC));
+
+        denyList.revoke(1L);
+
+        assertTrue(denyList.isRevoked(1L, NOW.plusMillis(699)));
+        assertTrue(denyList.isRevoked(1L, NOW.plusMillis(700)));
+        assertFalse(denyList.isRevoked(1L, NOW.plusMillis(701)));
+    }
+
+    @Test
+    void testIssuedAtShouldPreferMillisecondClaimOverIat() {
+        final Jwt.Builder token = Jwt.withTokenValue("token")
+            .header("alg", "HS256")
+            .issuedAt(NOW);
+
+        assertEquals(
+            NOW.plusMillis(5),
+            TokenDenyList.issuedAt(
+                token.claim(AuthService.ISSUED_AT_MILLIS_CLAIM, NOW.plusMillis(5)
+                    .toEpochMilli())
+                    .build()
+            )
+        );
+        assertEquals(
+            NOW,
+            TokenDenyList.issuedAt(
+                Jwt.withTokenValue("token")
+                    .header("alg", "HS256")
+                    .issuedAt(NOW)
+                    .build()
+            )
+        );
+    }
+
+    @Test
+    void testRevokeShouldPruneEntriesOlderThanAccessTokenTtl() {
+        final MutableClock clock = new MutableClock(NOW);
+        final TokenDenyList denyList = new TokenDenyList(PROPERTIES, clock);
+        denyList.revoke(1L);
+
+        clock.advance(Duration.ofMinutes(30));
+        denyList.revoke(2L);
+
+        assertEquals(1, denyList.size());
+        assertFalse(denyList.isRevoked(1L, NOW.minusSeconds(60)));
+        assertTrue(denyList.isRevoked(2L, NOW));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+    }
+
+}
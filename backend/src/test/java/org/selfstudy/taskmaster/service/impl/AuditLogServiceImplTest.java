@@ -0,0 +1,114 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.selfstudy.taskmaster.config.AuditLogProperties;
+import org.selfstudy.taskmaster.entities.user.dto.UserAuditRecord;
+import org.selfstudy.taskmaster.entities.user.enums.UserChangeType;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+import org.selfstudy.taskmaster.entities.user.event.UserCreatedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UserPasswordChangedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UserStatusChangedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UsersStatusChangedEvent;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class AuditLogServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T09:00:00Z");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    private Path directory;
+
+    private AuditLogServiceImpl auditLogService;
+
+    @AfterEach
+    void teardown() throws InterruptedException {
+        auditLogService.stop();
+    }
+
+    @Test
+    void testFindByUserShouldReturnCommittedChangesOnceWritten() {
+        auditLogService = service(8);
+        auditLogService.onUserCreated(new UserCreatedEvent(7L, UserStatus.PENDING));
+        auditLogService.onStatusChanged(new UserStatusChangedEvent(7L, UserStatus.PENDING, UserStatus.ACTIVE));
+        auditLogService.onPasswordChanged(new UserPasswordChangedEvent(8L));
+        auditLogService.onPasswordChanged(new UserPasswordChangedEvent(7L));
+
+        assertEquals(List.of(), auditLogService.findByUser(7L, null, null, null, 10));
+        assertEquals(4, auditLogService.drain());
+
+        assertEquals(
+            List.of(
+                new UserAuditRecord(0L, 7L, UserChangeType.CREATED, null, UserStatus.PENDING, NOW),
+                new UserAuditRecord(1L, 7L, UserChangeType.STATUS_CHANGED, UserStatus.PENDING, UserStatus.ACTIVE, NOW),
+                new UserAuditRecord(3L, 7L, UserChangeType.PASSWORD_CHANGED, null, null, NOW)
+            ),
+            auditLogService.findByUser(7L, NOW, NOW.plusSeconds(1), null, 10)
+        );
+        assertEquals(List.of(), auditLogService.findByUser(7L, NOW.plusSeconds(1), null, null, 10));
+    }
+
+    @Test
+    void testBulkStatusChangeShouldBeRecordedForEachMovedUser() {
+        auditLogService = service(8);
+        auditLogService.onStatusesChanged(
+            new UsersStatusChangedEvent(List.of(7L, 8L), UserStatus.ACTIVE, UserStatus.SUSPENDED, 2)
+        );
+
+        assertEquals(2, auditLogService.drain());
+        assertEquals(
+            List.of(new UserAuditRecord(0L, 7L, UserChangeType.STATUS_CHANGED, UserStatus.ACTIVE, UserStatus.SUSPENDED, NOW)),
+            auditLogService.findByUser(7L, null, null, null, 10)
+        );
+        assertEquals(
+            List.of(new UserAuditRecord(1L, 8L, UserChangeType.STATUS_CHANGED, UserStatus.ACTIVE, UserStatus.SUSPENDED, NOW)),
+            auditLogService.findByUser(8L, null, null, null, 10)
+        );
+    }
+
+    @Test
+    void testChangeShouldBeDroppedAndCountedWhenBufferStaysFull() {
+        auditLogService = service(2);
+        for (long userId = 1; userId <= 3; userId++) {
+            auditLogService.onPasswordChanged(new UserPasswordChangedEvent(userId));
+        }
+
+        assertEquals(2, auditLogService.drain());
+        assertEquals(1.0, meterRegistry.get("taskmaster.audit.records")
+            .tag("outcome", "dropped")
+            .functionCounter()
+            .count());
+        assertEquals(List.of(), auditLogService.findByUser(3L, null, null, null, 10));
+    }
+
+    private AuditLogServiceImpl service(int bufferCapacity) {
+        return new AuditLogServiceImpl(
+            new AuditLogProperties(
+                true,
+                directory,
+                DataSize.ofKilobytes(4),
+                bufferCapacity,
+                512,
+                false,
+                Duration.ofMillis(1)
+            ),
+            meterRegistry,
+            Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+    }
+
+}
@@ -0,0 +1,124 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.selfstudy.taskmaster.entities.user.dto.UserAuditRecord;
+import org.selfstudy.taskmaster.entities.user.enums.UserChangeType;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+
+public class AuditLogTest {
+
+    private static final Instant START = Instant.parse("2026-03-01T09:00:00.123456Z");
+    // Room for four records per segment
+    private static final long SEGMENT_BYTES = AuditLog.HEADER_BYTES + 4L * AuditLog.RECORD_BYTES;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testScanShouldReadOneUsersRecordsInRangeAcrossSegments() throws IOException {
+        try (AuditLog log = AuditLog.open(directory, SEGMENT_BYTES, true)) {
+            for (int i = 0; i < 10; i++) {
+                log.append((long) i % 2, UserChangeType.STATUS_CHANGED, UserStatus.ACTIVE, UserStatus.SUSPENDED, at(i));
+            }
+            log.flush();
+
+            assertEquals(3, segments());
+            assertEquals(List.of(1L, 3L, 5L, 7L, 9L), sequences(log.scan(1L, null, null, null, 100)));
+            assertEquals(List.of(4L, 6L), sequences(log.scan(0L, at(3), at(8), null, 100)));
+            assertEquals(List.of(2L, 4L), sequences(log.scan(0L, at(1), null, null, 2)));
+            assertEquals(
+                new UserAuditRecord(3L, 1L, UserChangeType.STATUS_CHANGED, UserStatus.ACTIVE, UserStatus.SUSPENDED, at(3)),
+                log.scan(1L, at(3), at(4), null, 1)
+                    .getFirst()
+            );
+        }
+    }
+
+    @Test
+    void testScanShouldPageBySequenceThroughRecordsWithSameTime() throws IOException {
+        try (AuditLog log = AuditLog.open(directory, SEGMENT_BYTES, false)) {
+            for (int i = 0; i < 10; i++) {
+                log.append(1L, UserChangeType.PASSWORD_CHANGED, null, null, at(0));
+            }
+            log.flush();
+
+            final List<Long> read = new ArrayList<>();
+            Long after = null;
+            List<UserAuditRecord> page;
+            while (!(page = log.scan(1L, at(0), null, after, 3)).isEmpty()) {
+                read.addAll(sequences(page));
+                after = page.getLast()
+                    .sequence();
+            }
+
+            assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), read);
+            assertEquals(List.of(9L), sequences(log.scan(1L, null, null, 8L, 100)));
+        }
+    }
+
+    @Test
+    void testOpenShouldResumeAfterLastIntactRecord() throws IOException {
+        try (AuditLog log = AuditLog.open(directory, SEGMENT_BYTES, false)) {
+            for (int i = 0; i < 6; i++) {
+                log.append(1L, UserChangeType.PASSWORD_CHANGED, null, null, at(i));
+            }
+        }
+        // Tear the last record, which is the second in the second segment
+        final Path last = lastSegment();
+        try (FileChannel channel = FileChannel.open(last, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0x7f }), AuditLog.HEADER_BYTES + AuditLog.RECORD_BYTES + 9);
+        }
+
+        try (AuditLog log = AuditLog.open(directory, SEGMENT_BYTES, false)) {
+            assertEquals(5, log.nextSequence());
+            assertEquals(List.of(0L, 1L, 2L, 3L, 4L), sequences(log.scan(1L, null, null, null, 100)));
+
+            assertEquals(5, log.append(1L, UserChangeType.CREATED, null, UserStatus.PENDING, at(9)));
+            log.flush();
+            final List<UserAuditRecord> records = log.scan(1L, at(6), null, null, 100);
+            assertEquals(1, records.size());
+            assertEquals(UserChangeType.CREATED, records.getFirst()
+                .type());
+            assertEquals(SEGMENT_BYTES, Files.size(last));
+        }
+    }
+
+    private int segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return (int) files.count();
+        }
+    }
+
+    private Path lastSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted()
+                .toList()
+                .getLast();
+        }
+    }
+
+    private static List<Long> sequences(List<UserAuditRecord> records) {
+        return records.stream()
+            .map(UserAuditRecord::sequence)
+            .toList();
+    }
+
+    private static Instant at(int seconds) {
+        return START.plusSeconds(seconds);
+    }
+
+}
@@ -0,0 +1,321 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.selfstudy.taskmaster.config.TokenConfig;
+import org.selfstudy.taskmaster.config.TokenProperties;
+import org.selfstudy.taskmaster.entities.auth.dto.LoginRequest;
+import org.selfstudy.taskmaster.entities.auth.dto.RefreshTokenRequest;
+import org.selfstudy.taskmaster.entities.auth.dto.TokenResponse;
+import org.selfstudy.taskmaster.entities.user.User;
+import org.selfstudy.taskmaster.entities.user.enums.UserRole;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+import org.selfstudy.taskmaster.exception.InvalidCredentialsException;
+import org.selfstudy.taskmaster.repository.UserRepository;
+import org.selfstudy.taskmaster.security.TokenDenyList;
+import org.selfstudy.taskmaster.service.AuthService;
+import org.selfstudy.taskmaster.service.PasswordHashingService;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthServiceImplTest {
+
+    private static final Long TEST_USER_ID = 1L;
+    private static final String TEST_USER_EMAIL = "testUser@example.com";
+    private static final String TEST_USER_PASSWORD = "testUserPassword";
+    private static final String TEST_USER_PASSWORD_HASH = "testUserPasswordHash";
+
+    private static final TokenProperties PROPERTIES = new TokenProperties(
+        null,
+        "taskmaster",
+        Duration.ofMinutes(15),
+        Duration.ofDays(7)
+    );
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    private final TokenConfig tokenConfig = new TokenConfig();
+
+    private TokenDenyList tokenDenyList;
+    private JwtDecoder accessTokenDecoder;
+    private AuthServiceImpl authService;
+    private User testUser;
+
+    @BeforeEach
+    void setup() {
+        final SecretKey key = new SecretKeySpec(new byte[32], "HmacSHA256");
+        tokenDenyList      = new TokenDenyList(PROPERTIES);
+        accessTokenDecoder = tokenConfig.jwtDecoder(key, PROPERTIES, tokenDenyList);
+        authService        = new AuthServiceImpl(
+            userRepository,
+            passwordHashingService,
+            tokenConfig.jwtEncoder(key),
+            key,
+            PROPERTIES
+        );
+
+        testUser = User.createWithPasswordHash(TEST_USER_EMAIL, TEST_USER_PASSWORD_HASH);
+        ReflectionTestUtils.setField(testUser, "id", TEST_USER_ID);
+    }
+
+    @Test
+    void testLoginShouldIssueAccessTokenWhenCredentialsMatch() {
+        when(userRepository.findByEmail(TEST_USER_EMAIL))
+            .thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches(TEST_USER_PASSWORD, TEST_USER_PASSWORD_HASH))
+            .thenReturn(true);
+
+        final TokenResponse result = authService.login(
+            new LoginRequest(TEST_USER_EMAIL, TEST_USER_PASSWORD)
+        );
+
+        final Jwt accessToken = accessTokenDecoder.decode(result.accessToken());
+        assertEquals(String.valueOf(TEST_USER_ID), accessToken.getSubject());
+        assertEquals(900L, result.expiresIn());
+        assertNotNull(result.refreshToken());
+    }
+
+    @Test
+    void testLoginShouldRehashPasswordOffHashingThreadWhenEncodingIsOutdated() {
+        when(userRepository.findByEmail(TEST_USER_EMAIL))
+            .thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches(TEST_USER_PASSWORD, TEST_USER_PASSWORD_HASH))
+            .thenReturn(true);
+        when(passwordHashingService.upgradeEncoding(TEST_USER_PASSWORD_HASH))
+            .thenReturn(true);
+        when(passwordHashingService.encodeInBackground(TEST_USER_PASSWORD))
+            .thenReturn(CompletableFuture.completedFuture("newPasswordHash"));
+        final AtomicReference<Thread> writer = new AtomicReference<>();
+        when(userRepository.updatePasswordHash(TEST_USER_ID, TEST_USER_PASSWORD_HASH, "newPasswordHash"))
+            .thenAnswer(invocation -> {
+                writer.set(Thread.currentThread());
+                return 1;
+            });
+
+        authService.login(new LoginRequest(TEST_USER_EMAIL, TEST_USER_PASSWORD));
+
+        verify(userRepository, timeout(1000)).updatePasswordHash(
+            TEST_USER_ID,
+            TEST_USER_PASSWORD_HASH,
+            "newPasswordHash"
+        );
+        assertTrue(writer.get()
+            .isVirtual());
+    }
+
+    @Test
+    void testLoginShouldThrowErrorWhenPasswordDoesNotMatch() {
+        when(userRepository.findByEmail(TEST_USER_EMAIL))
+            .thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches(TEST_USER_PASSWORD, TEST_USER_PASSWORD_HASH))
+            .thenReturn(false);
+
+        assertThrows(
+            InvalidCredentialsException.class,
+            () -> authService.login(new LoginRequest(TEST_USER_EMAIL, TEST_USER_PASSWORD))
+        );
+    }
+
+    @Test
+    void testLoginShouldVerifyAgainstDummyHashWhenEmailDoesNotExist() {
+        when(userRepository.findByEmail(TEST_USER_EMAIL))
+            .thenReturn(Optional.empty());
+        when(passwordHashingService.encode(anyString()))
+            .thenReturn("dummyHash");
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(
+                InvalidCredentialsException.class,
+                () -> authService.login(new LoginRequest(TEST_USER_EMAIL, TEST_USER_PASSWORD))
+            );
+        }
+
+        // Hashed once, then reused while its parameters are current
+        verify(passwordHashingService, times(1)).encode(anyString());
+        verify(passwordHashingService, times(2)).matches(TEST_USER_PASSWORD, "dummyHash");
+    }
+
+    @Test
+    void testLoginShouldGrantAdminRoleOnlyToAdminAccounts() {
+        when(userRepository.findByEmail(TEST_USER_EMAIL))
+            .thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches(TEST_USER_PASSWORD, TEST_USER_PASSWORD_HASH))
+            .thenReturn(true);
+        final LoginRequest request = new LoginRequest(TEST_USER_EMAIL, TEST_USER_PASSWORD);
+
+        assertEquals(
+            List.of("USER"),
+            accessTokenDecoder.decode(authService.login(request)
+                .accessToken())
+                .getClaimAsStringList(AuthService.ROLES_CLAIM)
+        );
+
+        ReflectionTestUtils.setField(testUser, "role", UserRole.ADMIN);
+        assertEquals(
+            List.of("USER", "ADMIN"),
+            accessTokenDecoder.decode(authService.login(request)
+                .accessToken())
+                .getClaimAsStringList(AuthService.ROLES_CLAIM)
+        );
+    }
+
+    @Test
+    void testLoginShouldThrowErrorWhenStatusCannotLogin() {
+        testUser.changeStatus(UserStatus.SUSPENDED);
+        when(userRepository.findByEmail(TEST_USER_EMAIL))
+            .thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches(TEST_USER_PASSWORD, TEST_USER_PASSWORD_HASH))
+            .thenReturn(true);
+
+        assertThrows(
+            InvalidCredentialsException.class,
+            () -> authService.login(new LoginRequest(TEST_USER_EMAIL, TEST_USER_PASSWORD))
+        );
+    }
+
+    @Test
+    void testAccessTokenShouldBeRejectedAfterRevocation() {
+        when(userRepository.findByEmail(TEST_USER_EMAIL))
+            .thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches(TEST_USER_PASSWORD, TEST_USER_PASSWORD_HASH))
+            .thenReturn(true);
+        final TokenResponse tokens = authService.login(
+            new LoginRequest(TEST_USER_EMAIL, TEST_USER_PASSWORD)
+        );
+
+        tokenDenyList.revoke(TEST_USER_ID);
+
+        assertThrows(
+            JwtValidationException.class,
+            () -> accessTokenDecoder.decode(tokens.accessToken())
+        );
+    }
+
+    @Test
+    void testRefreshShouldIssueNewTokensForValidRefreshToken() {
+        when(userRepository.findByEmail(TEST_USER_EMAIL))
+            .thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches(TEST_USER_PASSWORD, TEST_USER_PASSWORD_HASH))
+            .thenReturn(true);
+        when(userRepository.findById(TEST_USER_ID))
+            .thenReturn(Optional.of(testUser));
+        final TokenResponse tokens = authService.login(
+            new LoginRequest(TEST_USER_EMAIL, TEST_USER_PASSWORD)
+        );
+
+        final TokenResponse result = authService.refresh(
+            new RefreshTokenRequest(tokens.refreshToken())
+        );
+
+        assertEquals(
+            String.valueOf(TEST_USER_ID),
+            accessTokenDecoder.decode(result.accessToken())
+                .getSubject()
+        );
+    }
+
+    @Test
+    void testRefreshShouldOrderTokenAgainstAccountChangeWithinSameSecond() {
+        final Instant issuedAt = Instant.now()
+            .truncatedTo(ChronoUnit.SECONDS)
+            .plusMillis(500);
+        final AuthServiceImpl authService = authServiceAt(Clock.fixed(issuedAt, ZoneOffset.UTC));
+        when(userRepository.findByEmail(TEST_USER_EMAIL))
+            .thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches(TEST_USER_PASSWORD, TEST_USER_PASSWORD_HASH))
+            .thenReturn(true);
+        when(userRepository.findById(TEST_USER_ID))
+            .thenReturn(Optional.of(testUser));
+        final TokenResponse tokens = authService.login(
+            new LoginRequest(TEST_USER_EMAIL, TEST_USER_PASSWORD)
+        );
+
+        setLastModified(issuedAt.minusMillis(1));
+        assertNotNull(authService.refresh(new RefreshTokenRequest(tokens.refreshToken())));
+
+        // A change later in the same second, or in the same millisecond,
+        // invalidates the token
+        setLastModified(issuedAt.plusMillis(1));
+        assertThrows(
+            InvalidCredentialsException.class,
+            () -> authService.refresh(new RefreshTokenRequest(tokens.refreshToken()))
+        );
+        setLastModified(issuedAt);
+        assertThrows(
+            InvalidCredentialsException.class,
+            () -> authService.refresh(new RefreshTokenRequest(tokens.refreshToken()))
+        );
+    }
+
+    @Test
+    void testRefreshShouldRejectAccessToken() {
+        when(userRepository.findByEmail(TEST_USER_EMAIL))
+            .thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches(TEST_USER_PASSWORD, TEST_USER_PASSWORD_HASH))
+            .thenReturn(true);
+        final TokenResponse tokens = authService.login(
+            new LoginRequest(TEST_USER_EMAIL, TEST_USER_PASSWORD)
+        );
+
+        assertThrows(
+            InvalidCredentialsException.class,
+            () -> authService.refresh(new RefreshTokenRequest(tokens.accessToken()))
+        );
+    }
+
+    private AuthServiceImpl authServiceAt(Clock clock) {
+        final SecretKey key = new SecretKeySpec(new byte[32], "HmacSHA256");
+        return new AuthServiceImpl(
+            userRepository,
+            passwordHashingService,
+            tokenConfig.jwtEncoder(key),
+            key,
+            PROPERTIES,
+            clock
+        );
+    }
+
+    private void setLastModified(Instant instant) {
+        ReflectionTestUtils.setField(
+            testUser,
+            "lastModified",
+            LocalDateTime.ofInstant(instant, ZoneId.systemDefault())
+        );
+    }
+
+}
@@ -0,0 +1,61 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.selfstudy.taskmaster.config.EmailFilterProperties;
+import org.selfstudy.taskmaster.entities.user.dto.UserEmail;
+import org.selfstudy.taskmaster.repository.UserRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+
+public class EmailFilterServiceImplTest {
+
+    private UserRepository userRepository;
+    private EmailFilterServiceImpl emailFilterService;
+
+    @BeforeEach
+    void setup() {
+        userRepository     = mock(UserRepository.class);
+        emailFilterService = new EmailFilterServiceImpl(
+            userRepository,
+            mock(PlatformTransactionManager.class),
+            new EmailFilterProperties(true, 1_000, 0.01d)
+        );
+    }
+
+    @Test
+    void testMightBeTakenShouldBeConservativeUntilLoaded() {
+        assertFalse(emailFilterService.isReady());
+        assertTrue(emailFilterService.mightBeTaken("free@example.com"));
+    }
+
+    @Test
+    void testMightBeTakenShouldAnswerLocallyAfterLoad() {
+        when(userRepository.streamAllByOrderByIdAsc(UserEmail.class))
+            .thenReturn(Stream.of(new UserEmail("Taken@Example.com")));
+
+        emailFilterService.load();
+
+        assertTrue(emailFilterService.isReady());
+        assertTrue(emailFilterService.mightBeTaken(" taken@example.com"));
+        assertFalse(emailFilterService.mightBeTaken("free@example.com"));
+    }
+
+    @Test
+    void testRecordTakenShouldMakeEmailVisibleImmediately() {
+        when(userRepository.streamAllByOrderByIdAsc(UserEmail.class))
+            .thenReturn(Stream.empty());
+        emailFilterService.load();
+
+        emailFilterService.recordTaken("new@example.com");
+
+        assertTrue(emailFilterService.mightBeTaken("NEW@example.com"));
+    }
+
+}
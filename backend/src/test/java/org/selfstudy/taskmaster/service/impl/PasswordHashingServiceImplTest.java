@@ -0,0 +1,257 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.selfstudy.taskmaster.config.PasswordHashingProperties;
+import org.selfstudy.taskmaster.exception.PasswordHashingUnavailableException;
+import org.selfstudy.taskmaster.util.AdmissionLimiter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class PasswordHashingServiceImplTest {
+
+    private ThreadPoolExecutor executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setup() {
+        executor = new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new SynchronousQueue<>()
+        );
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void teardown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testEncodeShouldRunOnHashingExecutor() {
+        final PasswordHashingServiceImpl service = new PasswordHashingServiceImpl(
+            new ThreadNameEncoder(),
+            executor,
+            new AdmissionLimiter("hashing", 2, Duration.ofSeconds(5)),
+            new PasswordHashingProperties(1, 1, Duration.ofSeconds(5))
+        );
+
+        final String result = service.encode("password");
+
+        assertTrue(result.startsWith("pool-"));
+    }
+
+    @Test
+    void testEncodeShouldRejectWhenExecutorIsSaturated() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final PasswordHashingServiceImpl service = new PasswordHashingServiceImpl(
+            new BlockingEncoder(started, release),
+            executor,
+            new AdmissionLimiter("hashing", 2, Duration.ofSeconds(5)),
+            new PasswordHashingProperties(1, 1, Duration.ofSeconds(5))
+        );
+
+        final Thread occupying = new Thread(() -> service.encode("first"));
+        occupying.start();
+        started.await();
+
+        assertThrows(
+            PasswordHashingUnavailableException.class,
+            () -> service.encode("second")
+        );
+    }
+
+    @Test
+    void testEncodeShouldTimeOutWhenHashingTakesTooLong() {
+        final PasswordHashingServiceImpl service = new PasswordHashingServiceImpl(
+            new BlockingEncoder(new CountDownLatch(1), release),
+            executor,
+            new AdmissionLimiter("hashing", 2, Duration.ofSeconds(5)),
+            new PasswordHashingProperties(1, 1, Duration.ofMillis(50))
+        );
+
+        final PasswordHashingUnavailableException exception = assertThrows(
+            PasswordHashingUnavailableException.class,
+            () -> service.encode("password")
+        );
+
+        assertEquals(
+            "Password hashing timed out after PT0.05S",
+            exception.getMessage()
+        );
+    }
+
+    @Test
+    void testEncodeAllShouldKeepInputOrderAndWaitForHashingThreadWhenSaturated() {
+        final PasswordHashingServiceImpl service = new PasswordHashingServiceImpl(
+            new PrefixEncoder(),
+            executor,
+            new AdmissionLimiter("hashing", 2, Duration.ofSeconds(5)),
+            new PasswordHashingProperties(2, 1, Duration.ofSeconds(5))
+        );
+
+        final List<String> result = service.encodeAll(List.of("a", "b", "c", "d"));
+
+        assertEquals(List.of("hash:a", "hash:b", "hash:c", "hash:d"), result);
+    }
+
+    @Test
+    void testEncodeAllShouldFailInsteadOfHashingOnCallerWhenExecutorStaysSaturated() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final PasswordHashingServiceImpl service = new PasswordHashingServiceImpl(
+            new PrefixEncoder(),
+            executor,
+            new AdmissionLimiter("hashing", 2, Duration.ofSeconds(5)),
+            new PasswordHashingProperties(1, 1, Duration.ofMillis(50))
+        );
+
+        executor.execute(() -> new BlockingEncoder(started, release).encode("first"));
+        started.await();
+
+        final PasswordHashingUnavailableException exception = assertThrows(
+            PasswordHashingUnavailableException.class,
+            () -> service.encodeAll(List.of("a", "b"))
+        );
+
+        assertEquals("Password hashing capacity exceeded", exception.getMessage());
+    }
+
+    @Test
+    void testEncodeAllShouldTimeOutWhenEarlierHashNeverFinishes() {
+        final PasswordHashingServiceImpl service = new PasswordHashingServiceImpl(
+            new BlockingEncoder(new CountDownLatch(1), release),
+            executor,
+            new AdmissionLimiter("hashing", 2, Duration.ofSeconds(5)),
+            new PasswordHashingProperties(1, 1, Duration.ofMillis(50))
+        );
+
+        final PasswordHashingUnavailableException exception = assertThrows(
+            PasswordHashingUnavailableException.class,
+            () -> service.encodeAll(List.of("a", "b"))
+        );
+
+        assertEquals("Password hashing timed out after PT0.05S", exception.getMessage());
+    }
+
+    @Test
+    void testEncodeAllShouldTakeAdmissionPermits() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final PasswordHashingServiceImpl service = new PasswordHashingServiceImpl(
+            new BlockingEncoder(started, release),
+            executor,
+            new AdmissionLimiter("hashing", 1, Duration.ofMillis(50)),
+            new PasswordHashingProperties(1, 1, Duration.ofSeconds(5))
+        );
+
+        final Thread occupying = new Thread(() -> service.encode("first"));
+        occupying.start();
+        started.await();
+
+        final PasswordHashingUnavailableException exception = assertThrows(
+            PasswordHashingUnavailableException.class,
+            () -> service.encodeAll(List.of("a", "b"))
+        );
+
+        assertEquals("Timed out waiting for password hashing capacity", exception.getMessage());
+    }
+
+    @Test
+    void testEncodeShouldFailFastWhenNoAdmissionPermitFreesUp() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final PasswordHashingServiceImpl service = new PasswordHashingServiceImpl(
+            new BlockingEncoder(started, release),
+            executor,
+            new AdmissionLimiter("hashing", 1, Duration.ofMillis(50)),
+            new PasswordHashingProperties(1, 1, Duration.ofSeconds(5))
+        );
+
+        final Thread occupying = new Thread(() -> service.encode("first"));
+        occupying.start();
+        started.await();
+
+        final PasswordHashingUnavailableException exception = assertThrows(
+            PasswordHashingUnavailableException.class,
+            () -> service.encode("second")
+        );
+
+        assertEquals(
+            "Timed out waiting for password hashing capacity",
+            exception.getMessage()
+        );
+    }
+
+    private static class PrefixEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+
+    }
+
+    private static class ThreadNameEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return Thread.currentThread()
+                .getName();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+
+    }
+
+    private static class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        BlockingEncoder(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread()
+                    .interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+
+    }
+
+}
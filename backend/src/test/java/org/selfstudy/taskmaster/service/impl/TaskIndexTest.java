@@ -0,0 +1,75 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskIndexTest {
+
+    @Test
+    void testSearchShouldMatchEveryTermAsPrefixNewestFirst() {
+        final TaskIndex index = new TaskIndex();
+        index.put(1L, "Buy groceries", "milk, eggs");
+        index.put(2L, "Grocery list", null);
+        index.put(3L, "Groom the dog", "Buy shampoo");
+
+        assertEquals(List.of(3L, 2L, 1L), index.search(List.of("gro"), 10));
+        assertEquals(List.of(3L, 1L), index.search(List.of("buy", "gro"), 10));
+        assertEquals(List.of(3L), index.search(List.of("gro"), 1));
+        assertEquals(List.of(), index.search(List.of("buy", "list"), 10));
+    }
+
+    @Test
+    void testUpdateShouldReplaceOnlyTheGivenField() {
+        final TaskIndex index = new TaskIndex();
+        index.put(1L, "Quarterly report", "draft numbers");
+
+        index.update(1L, "Annual report", null);
+        assertEquals(List.of(), index.search(List.of("quarterly"), 10));
+        assertEquals(List.of(1L), index.search(List.of("annual", "draft"), 10));
+
+        index.update(1L, null, Optional.empty());
+        assertEquals(List.of(), index.search(List.of("draft"), 10));
+        assertEquals(List.of(1L), index.search(List.of("report"), 10));
+    }
+
+    @Test
+    void testUpdateShouldIgnoreUnknownTaskUnlessBothFieldsAreGiven() {
+        final TaskIndex index = new TaskIndex();
+
+        index.update(1L, "Partial", null);
+        index.update(2L, "Complete", Optional.empty());
+
+        assertEquals(List.of(), index.search(List.of("partial"), 10));
+        assertEquals(List.of(2L), index.search(List.of("complete"), 10));
+    }
+
+    @Test
+    void testRemoveShouldReleaseTermsAndWeight() {
+        final TaskIndex index = new TaskIndex();
+        final int empty = index.weight();
+        index.put(1L, "Renew passport", "book appointment");
+        assertTrue(index.weight() > empty);
+
+        index.remove(1L);
+
+        assertEquals(0, index.size());
+        assertEquals(empty, index.weight());
+        assertEquals(List.of(), index.search(List.of("renew"), 10));
+    }
+
+    @Test
+    void testTokenizeShouldSplitOnNonAlphanumericsAndLowerCase() {
+        assertArrayEquals(
+            new String[] { "fix", "bug", "42", "in", "café", "module" },
+            TaskIndex.tokenize("Fix BUG-42 in café_module; fix!")
+        );
+        assertEquals(TaskIndex.MAX_TOKEN_LENGTH, TaskIndex.tokenize("x".repeat(100))[0].length());
+    }
+
+}
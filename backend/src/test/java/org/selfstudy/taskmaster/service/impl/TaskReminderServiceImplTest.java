@@ -0,0 +1,185 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.selfstudy.taskmaster.config.TaskReminderProperties;
+import org.selfstudy.taskmaster.entities.task.dto.TaskReminder;
+import org.selfstudy.taskmaster.entities.task.event.TaskCreatedEvent;
+import org.selfstudy.taskmaster.entities.task.event.TaskDeletedEvent;
+import org.selfstudy.taskmaster.entities.task.event.TaskReminderEvent;
+import org.selfstudy.taskmaster.entities.task.event.TaskUpdatedEvent;
+import org.selfstudy.taskmaster.repository.TaskRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class TaskReminderServiceImplTest {
+
+    private static final Long OWNER_ID = 7L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock(NOW.toInstant(ZoneOffset.UTC));
+
+    private TaskReminderServiceImpl reminderService;
+
+    @BeforeEach
+    void setup() {
+        reminderService = new TaskReminderServiceImpl(
+            taskRepository,
+            mock(PlatformTransactionManager.class),
+            eventPublisher,
+            new TaskReminderProperties(
+                true,
+                Duration.ofSeconds(1),
+                64,
+                3,
+                Duration.ofHours(1),
+                Duration.ofMinutes(15),
+                Duration.ofHours(1),
+                2
+            ),
+            meterRegistry,
+            clock
+        );
+    }
+
+    @Test
+    void testRefillShouldPageThroughHorizonIncludingMissedReminders() {
+        final TaskReminder missed = reminder(1L, NOW.minusMinutes(10));
+        final TaskReminder soon = reminder(2L, NOW.plusMinutes(5));
+        final TaskReminder later = reminder(3L, NOW.plusMinutes(50));
+        when(taskRepository.findRemindersAfter(NOW.minusHours(1), 0L, NOW.plusHours(1), Limit.of(2)))
+            .thenReturn(List.of(missed, soon));
+        when(taskRepository.findRemindersAfter(soon.dueAt(), 2L, NOW.plusHours(1), Limit.of(2)))
+            .thenReturn(List.of(later));
+
+        reminderService.refill();
+
+        assertEquals(3, reminderService.pending());
+    }
+
+    @Test
+    void testFireDueShouldPublishClaimedRemindersAndRecordLag() {
+        final TaskReminder done = reminder(1L, NOW.plusSeconds(2));
+        final TaskReminder due = reminder(2L, NOW.plusSeconds(3));
+        when(taskRepository.findRemindersAfter(any(), any(), any(), any()))
+            .thenReturn(List.of(done, due))
+            .thenReturn(List.of());
+        reminderService.refill();
+        when(taskRepository.claimReminder(1L, done.dueAt(), NOW.plusSeconds(4))).thenReturn(0);
+        when(taskRepository.claimReminder(2L, due.dueAt(), NOW.plusSeconds(4))).thenReturn(1);
+
+        clock.set(NOW.plusSeconds(4));
+        reminderService.fireDue();
+
+        verify(eventPublisher).publishEvent(new TaskReminderEvent(OWNER_ID, 2L, due.dueAt(), NOW.plusSeconds(4)));
+        assertEquals(0, reminderService.pending());
+        assertEquals(
+            1_000d,
+            meterRegistry.get("taskmaster.task.reminder.lag")
+                .timer()
+                .totalTime(TimeUnit.MILLISECONDS)
+        );
+        assertEquals(
+            1d,
+            meterRegistry.get("taskmaster.task.reminders")
+                .tag("outcome", "skipped")
+                .functionCounter()
+                .count()
+        );
+    }
+
+    @Test
+    void testTaskChangesShouldMoveRemindersWithinHorizonOnly() {
+        when(taskRepository.findRemindersAfter(any(), any(), any(), any())).thenReturn(List.of());
+        reminderService.refill();
+
+        reminderService.onTaskCreated(new TaskCreatedEvent(OWNER_ID, 1L, "soon", null, NOW.plusMinutes(1)));
+        reminderService.onTaskCreated(new TaskCreatedEvent(OWNER_ID, 2L, "far", null, NOW.plusDays(1)));
+        reminderService.onTaskCreated(new TaskCreatedEvent(OWNER_ID, 3L, "gone", null, NOW.plusMinutes(1)));
+        reminderService.onTaskUpdated(
+            new TaskUpdatedEvent(OWNER_ID, 1L, null, null, Optional.of(NOW.plusMinutes(2)))
+        );
+        reminderService.onTaskDeleted(new TaskDeletedEvent(OWNER_ID, 3L));
+        assertEquals(1, reminderService.pending());
+
+        clock.set(NOW.plusMinutes(1));
+        reminderService.fireDue();
+        verify(taskRepository, never()).claimReminder(any(), any(), any());
+
+        when(taskRepository.claimReminder(1L, NOW.plusMinutes(2), NOW.plusMinutes(2))).thenReturn(1);
+        clock.set(NOW.plusMinutes(2));
+        reminderService.fireDue();
+        verify(eventPublisher).publishEvent(any(TaskReminderEvent.class));
+    }
+
+    @Test
+    void testFireDueShouldKeepRemindersWhenClaimFails() {
+        final TaskReminder due = reminder(1L, NOW.plusSeconds(1));
+        when(taskRepository.findRemindersAfter(any(), any(), any(), any())).thenReturn(List.of(due));
+        reminderService.refill();
+        when(taskRepository.claimReminder(any(), any(), any())).thenThrow(new QueryTimeoutException("timeout"));
+
+        clock.set(NOW.plusSeconds(1));
+        reminderService.fireDue();
+
+        assertEquals(1, reminderService.pending());
+    }
+
+    private static TaskReminder reminder(Long taskId, LocalDateTime dueAt) {
+        return new TaskReminder(taskId, OWNER_ID, dueAt);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(LocalDateTime dateTime) {
+            now = dateTime.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+    }
+
+}
@@ -0,0 +1,118 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.selfstudy.taskmaster.config.TaskSearchProperties;
+import org.selfstudy.taskmaster.entities.task.dto.TaskResponse;
+import org.selfstudy.taskmaster.entities.task.dto.TaskText;
+import org.selfstudy.taskmaster.entities.task.enums.TaskStatus;
+import org.selfstudy.taskmaster.entities.task.event.TaskCreatedEvent;
+import org.selfstudy.taskmaster.entities.task.event.TaskDeletedEvent;
+import org.selfstudy.taskmaster.entities.task.event.TaskUpdatedEvent;
+import org.selfstudy.taskmaster.repository.TaskRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+public class TaskSearchServiceImplTest {
+
+    private static final Long OWNER_ID = 7L;
+    private static final Long OTHER_OWNER_ID = 8L;
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+
+    @Test
+    void testSearchShouldBuildIndexOnceAndReturnTasksInIndexOrder() {
+        final TaskSearchServiceImpl service = service(true, DataSize.ofMegabytes(1));
+        when(taskRepository.streamByOwnerId(OWNER_ID, TaskText.class)).thenReturn(
+            Stream.of(text(1L, "Buy groceries"), text(2L, "Call plumber"), text(3L, "Grocery list"))
+        );
+        when(taskRepository.findByOwnerIdAndIdIn(OWNER_ID, List.of(3L, 1L), TaskResponse.class))
+            .thenReturn(List.of(task(1L), task(3L)));
+
+        assertEquals(List.of(3L, 1L), ids(service.search(OWNER_ID, "groc", 10)));
+        assertEquals(List.of(), service.search(OWNER_ID, "dentist", 10));
+        verify(taskRepository, times(1)).streamByOwnerId(OWNER_ID, TaskText.class);
+    }
+
+    @Test
+    void testCommittedChangesShouldUpdateLoadedIndexAndIgnoreOthers() {
+        final TaskSearchServiceImpl service = service(true, DataSize.ofMegabytes(1));
+        when(taskRepository.streamByOwnerId(OWNER_ID, TaskText.class))
+            .thenReturn(Stream.of(text(1L, "Buy groceries")));
+        service.search(OWNER_ID, "buy", 10);
+
+        service.onTaskCreated(new TaskCreatedEvent(OWNER_ID, 2L, "Buy stamps", null, null));
+        service.onTaskUpdated(new TaskUpdatedEvent(OWNER_ID, 1L, "Sell groceries", null, null));
+        service.onTaskDeleted(new TaskDeletedEvent(OTHER_OWNER_ID, 5L));
+        when(taskRepository.findByOwnerIdAndIdIn(OWNER_ID, List.of(2L), TaskResponse.class))
+            .thenReturn(List.of(task(2L)));
+
+        assertEquals(List.of(2L), ids(service.search(OWNER_ID, "buy", 10)));
+        verify(taskRepository, never()).streamByOwnerId(OTHER_OWNER_ID, TaskText.class);
+    }
+
+    @Test
+    void testWarmShouldIndexOwnersUntilBudgetIsFull() {
+        // Room for exactly the first owner's index
+        final TaskIndex first = new TaskIndex();
+        first.put(1L, "Buy groceries", null);
+        final TaskSearchServiceImpl service = service(true, DataSize.ofBytes(first.weight()));
+        when(taskRepository.streamAllByOrderByOwnerIdAsc(TaskText.class)).thenReturn(
+            Stream.of(text(1L, "Buy groceries"), new TaskText(2L, OTHER_OWNER_ID, "Pay rent", null))
+        );
+        when(taskRepository.findByOwnerIdAndIdIn(any(), any(), any())).thenReturn(List.of());
+        when(taskRepository.streamByOwnerId(OTHER_OWNER_ID, TaskText.class)).thenReturn(Stream.empty());
+
+        service.warm();
+        service.search(OWNER_ID, "buy", 10);
+        service.search(OTHER_OWNER_ID, "pay", 10);
+
+        verify(taskRepository, never()).streamByOwnerId(OWNER_ID, TaskText.class);
+        verify(taskRepository).streamByOwnerId(OTHER_OWNER_ID, TaskText.class);
+    }
+
+    @Test
+    void testSearchShouldFallBackToEscapedLikeWhenIndexIsDisabled() {
+        final TaskSearchServiceImpl service = service(false, DataSize.ofMegabytes(1));
+        when(taskRepository.searchByOwnerIdAndPattern(OWNER_ID, "%50!% off!_sale%", Limit.of(10)))
+            .thenReturn(List.of(task(4L)));
+
+        assertEquals(List.of(4L), ids(service.search(OWNER_ID, " 50% OFF_sale ", 10)));
+        verify(taskRepository, never()).streamByOwnerId(any(), any());
+    }
+
+    private TaskSearchServiceImpl service(boolean enabled, DataSize maxMemory) {
+        return new TaskSearchServiceImpl(
+            taskRepository,
+            mock(PlatformTransactionManager.class),
+            new TaskSearchProperties(enabled, maxMemory, false)
+        );
+    }
+
+    private static TaskText text(Long id, String title) {
+        return new TaskText(id, OWNER_ID, title, null);
+    }
+
+    private static TaskResponse task(Long id) {
+        return new TaskResponse(id, "Task " + id, null, TaskStatus.TODO, null, null, null);
+    }
+
+    private static List<Long> ids(List<TaskResponse> tasks) {
+        return tasks.stream()
+            .map(TaskResponse::id)
+            .toList();
+    }
+
+}
@@ -0,0 +1,158 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.selfstudy.taskmaster.entities.task.dto.TaskPosition;
+import org.selfstudy.taskmaster.entities.task.dto.TaskResponse;
+import org.selfstudy.taskmaster.entities.task.dto.TaskUpdateRequest;
+import org.selfstudy.taskmaster.entities.task.enums.TaskStatus;
+import org.selfstudy.taskmaster.entities.task.event.TaskDeletedEvent;
+import org.selfstudy.taskmaster.entities.task.event.TaskUpdatedEvent;
+import org.selfstudy.taskmaster.exception.TaskNotFoundException;
+import org.selfstudy.taskmaster.repository.TaskRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskServiceImplTest {
+
+    private static final Long OWNER_ID = 7L;
+    private static final LocalDateTime DUE_AT = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TaskServiceImpl taskService;
+
+    @Test
+    void testFindTasksAfterShouldTopUpLastDatedPageWithUndatedTasks() {
+        when(
+            taskRepository.findDatedAfter(
+                OWNER_ID,
+                TaskStatus.TODO,
+                TaskServiceImpl.EARLIEST_DUE_AT,
+                0L,
+                Limit.of(3)
+            )
+        ).thenReturn(List.of(task(1L, DUE_AT)));
+        when(taskRepository.findUndatedAfter(OWNER_ID, TaskStatus.TODO, 0L, Limit.of(2)))
+            .thenReturn(List.of(task(2L, null), task(3L, null)));
+
+        final List<TaskResponse> result = taskService.findTasksAfter(OWNER_ID, TaskStatus.TODO, null, 3);
+
+        assertEquals(
+            List.of(1L, 2L, 3L),
+            result.stream()
+                .map(TaskResponse::id)
+                .toList()
+        );
+    }
+
+    @Test
+    void testFindTasksAfterShouldSkipUndatedTasksWhilePageIsFull() {
+        when(taskRepository.findDatedAfter(OWNER_ID, TaskStatus.TODO, DUE_AT, 1L, Limit.of(1)))
+            .thenReturn(List.of(task(4L, DUE_AT)));
+
+        final List<TaskResponse> result = taskService.findTasksAfter(
+            OWNER_ID,
+            TaskStatus.TODO,
+            new TaskPosition(DUE_AT, 1L),
+            1
+        );
+
+        assertEquals(1, result.size());
+        verify(taskRepository, never()).findUndatedAfter(any(), any(), any(), any());
+    }
+
+    @Test
+    void testFindTasksAfterShouldContinueInUndatedTasksWhenPositionHasNoDueAt() {
+        when(taskRepository.findUndatedAfter(OWNER_ID, TaskStatus.TODO, 3L, Limit.of(2)))
+            .thenReturn(List.of(task(5L, null)));
+
+        final List<TaskResponse> result = taskService.findTasksAfter(
+            OWNER_ID,
+            TaskStatus.TODO,
+            new TaskPosition(null, 3L),
+            2
+        );
+
+        assertEquals(1, result.size());
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    void testUpdateTaskShouldIssueSingleUpdateWithoutLoadingTask() {
+        final TaskUpdateRequest request = new TaskUpdateRequest(null, null, TaskStatus.DONE, null);
+        when(taskRepository.updateByIdAndOwnerId(eq(9L), eq(OWNER_ID), eq(request), any()))
+            .thenReturn(1);
+
+        taskService.updateTask(OWNER_ID, 9L, request);
+
+        verifyNoMoreInteractions(taskRepository);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testUpdateTaskShouldPublishTextChangeWhenTitleOrDescriptionChanges() {
+        final TaskUpdateRequest request = new TaskUpdateRequest(null, Optional.empty(), null, null);
+        when(taskRepository.updateByIdAndOwnerId(eq(9L), eq(OWNER_ID), eq(request), any()))
+            .thenReturn(1);
+
+        taskService.updateTask(OWNER_ID, 9L, request);
+
+        verify(eventPublisher).publishEvent(new TaskUpdatedEvent(OWNER_ID, 9L, null, Optional.empty(), null));
+    }
+
+    @Test
+    void testUpdateTaskShouldThrowTaskNotFoundWhenNoRowMatches() {
+        final TaskUpdateRequest request = new TaskUpdateRequest("title", null, null, Optional.empty());
+        when(taskRepository.updateByIdAndOwnerId(eq(9L), eq(OWNER_ID), eq(request), any()))
+            .thenReturn(0);
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.updateTask(OWNER_ID, 9L, request));
+    }
+
+    @Test
+    void testUpdateTaskShouldOnlyCheckExistenceWhenRequestIsEmpty() {
+        when(taskRepository.existsByIdAndOwnerId(9L, OWNER_ID)).thenReturn(false);
+
+        assertThrows(
+            TaskNotFoundException.class,
+            () -> taskService.updateTask(OWNER_ID, 9L, new TaskUpdateRequest(null, null, null, null))
+        );
+        verify(taskRepository, never()).updateByIdAndOwnerId(any(), any(), any(), any());
+    }
+
+    @Test
+    void testDeleteTaskShouldThrowTaskNotFoundWhenNoRowMatches() {
+        when(taskRepository.deleteByIdAndOwnerId(9L, OWNER_ID)).thenReturn(0);
+
+        assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(OWNER_ID, 9L));
+        verify(eventPublisher, never()).publishEvent(any(TaskDeletedEvent.class));
+    }
+
+    private static TaskResponse task(Long id, LocalDateTime dueAt) {
+        return new TaskResponse(id, "Task " + id, null, TaskStatus.TODO, dueAt, DUE_AT.minusDays(1), null);
+    }
+
+}
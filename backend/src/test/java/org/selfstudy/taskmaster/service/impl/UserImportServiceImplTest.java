@@ -0,0 +1,213 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.selfstudy.taskmaster.config.UserImportProperties;
+import org.selfstudy.taskmaster.entities.user.User;
+import org.selfstudy.taskmaster.entities.user.dto.UserEmail;
+import org.selfstudy.taskmaster.entities.user.dto.UserImportError;
+import org.selfstudy.taskmaster.entities.user.dto.UserImportResult;
+import org.selfstudy.taskmaster.entities.user.enums.UserImportErrorReason;
+import org.selfstudy.taskmaster.entities.user.enums.UserImportFormat;
+import org.selfstudy.taskmaster.exception.InvalidImportException;
+import org.selfstudy.taskmaster.repository.UserRepository;
+import org.selfstudy.taskmaster.service.EmailFilterService;
+import org.selfstudy.taskmaster.service.PasswordHashingService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+@ExtendWith(MockitoExtension.class)
+public class UserImportServiceImplTest {
+
+    private static final ValidatorFactory validatorFactory
+        = Validation.buildDefaultValidatorFactory();
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmailFilterService emailFilterService;
+
+    private UserImportServiceImpl userImportService;
+
+    @BeforeEach
+    void setup() {
+        userImportService = new UserImportServiceImpl(
+            userRepository,
+            passwordHashingService,
+            transactionManager,
+            eventPublisher,
+            emailFilterService,
+            validatorFactory.getValidator(),
+            new ObjectMapper(),
+            new UserImportProperties(2)
+        );
+    }
+
+    @AfterAll
+    static void teardown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void testImportUsersShouldReportRowErrorsAndInsertTheRestInBatches() {
+        when(userRepository.findByEmailIn(anyCollection(), eq(UserEmail.class)))
+            .thenReturn(List.of(new UserEmail("Taken@example.com")))
+            .thenReturn(List.of());
+        when(passwordHashingService.encodeAll(anyList()))
+            .thenAnswer(invocation -> hashes(invocation.getArgument(0)));
+
+        final UserImportResult result = userImportService.importUsers(
+            input(
+                "password,email",
+                "password1,first@example.com",
+                "password2,taken@example.com",
+                "\"pass,word3\",second@example.com",
+                "short,third@example.com",
+                "password5,FIRST@example.com",
+                "\"unterminated,fourth@example.com",
+                "password7,fifth@example.com"
+            ),
+            UserImportFormat.CSV
+        );
+
+        assertEquals(7, result.received());
+        assertEquals(3, result.imported());
+        assertEquals(
+            List.of(
+                UserImportErrorReason.EMAIL_TAKEN,
+                UserImportErrorReason.INVALID,
+                UserImportErrorReason.DUPLICATE,
+                UserImportErrorReason.MALFORMED
+            ),
+            result.errors()
+                .stream()
+                .map(UserImportError::reason)
+                .toList()
+        );
+        assertEquals(
+            List.of(3L, 5L, 6L, 7L),
+            result.errors()
+                .stream()
+                .map(UserImportError::line)
+                .toList()
+        );
+        verify(userRepository, times(2)).saveAllAndFlush(anyList());
+        verify(emailFilterService).recordTaken("second@example.com");
+    }
+
+    @Test
+    void testImportUsersShouldRetryRowByRowWhenBatchHitsConcurrentInsert() {
+        when(userRepository.findByEmailIn(anyCollection(), eq(UserEmail.class)))
+            .thenReturn(List.of());
+        when(passwordHashingService.encodeAll(anyList()))
+            .thenAnswer(invocation -> hashes(invocation.getArgument(0)));
+        when(userRepository.saveAllAndFlush(anyList()))
+            .thenThrow(new DataIntegrityViolationException("Duplicate email"));
+        when(userRepository.saveAndFlush(any(User.class)))
+            .thenThrow(new DataIntegrityViolationException("Duplicate email"))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+
+        final UserImportResult result = userImportService.importUsers(
+            input(
+                "{\"email\":\"raced@example.com\",\"password\":\"password1\"}",
+                "{\"email\":\"fresh@example.com\",\"password\":\"password2\"}"
+            ),
+            UserImportFormat.NDJSON
+        );
+
+        assertEquals(2, result.received());
+        assertEquals(1, result.imported());
+        assertEquals(
+            List.of(
+                new UserImportError(
+                    1,
+                    "raced@example.com",
+                    UserImportErrorReason.EMAIL_TAKEN,
+                    "Email is already registered"
+                )
+            ),
+            result.errors()
+        );
+    }
+
+    @Test
+    void testImportUsersShouldReportMalformedJsonWithoutAbortingImport() {
+        final UserImportResult result = userImportService.importUsers(
+            input(
+                "{\"email\":",
+                "[\"not\",\"an\",\"object\"]"
+            ),
+            UserImportFormat.NDJSON
+        );
+
+        assertEquals(2, result.received());
+        assertEquals(0, result.imported());
+        assertEquals(
+            List.of(UserImportErrorReason.MALFORMED, UserImportErrorReason.MALFORMED),
+            result.errors()
+                .stream()
+                .map(UserImportError::reason)
+                .toList()
+        );
+    }
+
+    @Test
+    void testImportUsersShouldRejectCsvWithoutRequiredColumns() {
+        assertThrows(
+            InvalidImportException.class,
+            () -> userImportService.importUsers(
+                input("email,name", "first@example.com,First"),
+                UserImportFormat.CSV
+            )
+        );
+    }
+
+    private static InputStream input(String... lines) {
+        return new ByteArrayInputStream(
+            String.join("\n", lines)
+                .getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private static List<String> hashes(List<? extends CharSequence> passwords) {
+        return passwords.stream()
+            .map(password -> "hash:" + password)
+            .toList();
+    }
+
+}
@@ -0,0 +1,195 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.selfstudy.taskmaster.entities.user.dto.UserChange;
+import org.selfstudy.taskmaster.entities.user.enums.UserChangeType;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+import org.selfstudy.taskmaster.entities.user.event.UserCreatedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UserPasswordChangedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UserStatusChangedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UsersCreatedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UsersStatusChangedEvent;
+import org.selfstudy.taskmaster.repository.UserOutboxRepository;
+import org.selfstudy.taskmaster.service.UserChangeSubscriber;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs the outbox against the embedded database with real transactions: the
+ * user events are published inside a transaction as UserServiceImpl does,
+ * and a recording subscriber stands in for downstream consumers.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ UserOutboxServiceImpl.class, UserOutboxServiceImplTest.Harness.class })
+@TestPropertySource(properties = { "taskmaster.user-outbox.batch-size=2", "taskmaster.user-outbox.prune-chunk-size=2" })
+public class UserOutboxServiceImplTest {
+
+    @Autowired
+    private UserOutboxServiceImpl outboxService;
+
+    @Autowired
+    private UserOutboxRepository outboxRepository;
+
+    @Autowired
+    private RecordingSubscriber subscriber;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setup() {
+        transaction = new TransactionTemplate(transactionManager);
+        subscriber.reset();
+    }
+
+    @AfterEach
+    void teardown() {
+        outboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testRelayShouldDeliverCommittedChangesOnlyAndOnlyOnce() {
+        commit(new UserCreatedEvent(1L, UserStatus.ACTIVE));
+        assertThrows(IllegalStateException.class, () -> transaction.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new UserPasswordChangedEvent(1L));
+            throw new IllegalStateException("rolled back");
+        }));
+        commit(new UserStatusChangedEvent(1L, UserStatus.ACTIVE, UserStatus.SUSPENDED));
+        commit(new UserPasswordChangedEvent(2L));
+
+        assertEquals(3, outboxService.relay());
+        assertEquals(0, outboxService.relay());
+
+        assertEquals(
+            List.of(UserChangeType.CREATED, UserChangeType.STATUS_CHANGED, UserChangeType.PASSWORD_CHANGED),
+            subscriber.received.stream()
+                .map(UserChange::type)
+                .toList()
+        );
+        assertEquals(List.of(2, 1), subscriber.batchSizes);
+        assertEquals(UserStatus.ACTIVE, subscriber.received.get(1)
+            .previousStatus());
+    }
+
+    @Test
+    void testRelayShouldDeliverOneChangePerUserOfBulkEvents() {
+        commit(new UsersCreatedEvent(List.of(1L, 2L), UserStatus.ACTIVE));
+        commit(new UsersStatusChangedEvent(List.of(2L), UserStatus.ACTIVE, UserStatus.SUSPENDED, 1));
+
+        assertEquals(3, outboxService.relay());
+
+        assertEquals(
+            List.of(1L, 2L, 2L),
+            subscriber.received.stream()
+                .map(UserChange::userId)
+                .toList()
+        );
+        assertEquals(
+            List.of(UserChangeType.CREATED, UserChangeType.CREATED, UserChangeType.STATUS_CHANGED),
+            subscriber.received.stream()
+                .map(UserChange::type)
+                .toList()
+        );
+    }
+
+    @Test
+    void testRelayShouldDeliverBatchAgainAfterSubscriberFails() {
+        commit(new UserCreatedEvent(1L, UserStatus.ACTIVE));
+        subscriber.failures.set(1);
+
+        assertEquals(0, outboxService.relay());
+        assertEquals(1, outboxService.relay());
+
+        assertEquals(1, subscriber.received.size());
+        assertEquals(2, subscriber.batchSizes.size());
+    }
+
+    @Test
+    void testPruneShouldDeleteOnlyDeliveredRowsPastRetentionInChunks() {
+        for (long userId = 1; userId <= 5; userId++) {
+            commit(new UserCreatedEvent(userId, UserStatus.ACTIVE));
+        }
+        outboxService.relay();
+        commit(new UserCreatedEvent(6L, UserStatus.ACTIVE));
+        jdbcTemplate.update("UPDATE user_outbox SET delivered_at = DATEADD('DAY', -1, delivered_at)");
+
+        assertEquals(5, outboxService.prune());
+
+        assertEquals(1, outboxRepository.count());
+        assertEquals(1, outboxService.relay());
+    }
+
+    private void commit(Object event) {
+        transaction.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+    }
+
+    @TestConfiguration
+    static class Harness {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        RecordingSubscriber recordingSubscriber() {
+            return new RecordingSubscriber();
+        }
+
+    }
+
+    static class RecordingSubscriber implements UserChangeSubscriber {
+
+        private final List<UserChange> received = new ArrayList<>();
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        @Override
+        public void onUserChanges(List<UserChange> changes) {
+            batchSizes.add(changes.size());
+            if (failures.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+                throw new IllegalStateException("subscriber unavailable");
+            }
+            received.addAll(changes);
+        }
+
+        void reset() {
+            received.clear();
+            batchSizes.clear();
+            failures.set(0);
+        }
+
+    }
+
+}
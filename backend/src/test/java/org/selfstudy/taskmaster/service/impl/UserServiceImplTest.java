@@ -6,27 +6,54 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.selfstudy.taskmaster.config.UserCacheProperties;
+import org.selfstudy.taskmaster.entities.user.User;
+import org.selfstudy.taskmaster.entities.user.dto.UserBulkChangeStatusRequest;
+import org.selfstudy.taskmaster.entities.user.dto.UserChangeEmailRequest;
+import org.selfstudy.taskmaster.entities.user.dto.UserChangePasswordRequest;
+import org.selfstudy.taskmaster.entities.user.dto.UserChangeStatusRequest;
+import org.selfstudy.taskmaster.entities.user.dto.UserCreateRequest;
+import org.selfstudy.taskmaster.entities.user.dto.UserId;
+import org.selfstudy.taskmaster.entities.user.dto.UserIdStatus;
+import org.selfstudy.taskmaster.entities.user.dto.UserResponse;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+import org.selfstudy.taskmaster.entities.user.event.UserStatusChangedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UsersStatusChangedEvent;
 import org.selfstudy.taskmaster.exception.UserAlreadyExistsException;
 import org.selfstudy.taskmaster.exception.UserNotFoundException;
-import org.selfstudy.taskmaster.model.dto.request.CreateUserRequest;
-import org.selfstudy.taskmaster.model.entity.User;
-import org.selfstudy.taskmaster.model.enums.UserStatus;
-import org.selfstudy.taskmaster.model.factory.UserFactory;
 import org.selfstudy.taskmaster.repository.UserRepository;
+import org.selfstudy.taskmaster.service.EmailFilterService;
+import org.selfstudy.taskmaster.service.PasswordHashingService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceImplTest {
@@ -35,7 +62,24 @@ public class UserServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private UserFactory userFactory;
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EmailFilterService emailFilterService;
+
+    @Spy
+    private UserCache userCache = new UserCache(
+        new UserCacheProperties(true, 100, Duration.ofMinutes(1))
+    );
+
+    @Mock
+    private UserBatchLoader userBatchLoader;
 
     @InjectMocks
     private UserServiceImpl userService;
@@ -53,28 +97,31 @@ public class UserServiceImplTest {
 
     private static User testUser;
     private static User testUser2;
-    private static CreateUserRequest createUserRequest;
+    private static UserResponse testUserResponse;
+    private static UserResponse testUserResponse2;
+    private static UserCreateRequest createUserRequest;
 
     @BeforeEach
     void setup() {
 
-        testUser = new User();
-        testUser.setId(TEST_USER_ID);
-        testUser.setEmail(TEST_USER_EMAIL);
-        testUser.setPasswordHash(TEST_USER_PASSWORD_HASH);
-        testUser.setCreatedAt(LocalDateTime.now());
-        testUser.setLastModified(null);
-        testUser.setStatus(TEST_USER_STATUS);
-
-        testUser2 = new User();
-        testUser2.setId(TEST_USER_2_ID);
-        testUser2.setEmail(TEST_USER_2_EMAIL);
-        testUser2.setPasswordHash(TEST_USER_2_PASSWORD_HASH);
-        testUser2.setCreatedAt(LocalDateTime.now());
-        testUser2.setLastModified(null);
-        testUser2.setStatus(TEST_USER_2_STATUS);
-
-        createUserRequest = new CreateUserRequest(
+        testUser = User.createWithPasswordHash(
+            TEST_USER_EMAIL,
+            TEST_USER_PASSWORD_HASH
+        );
+        ReflectionTestUtils.setField(testUser, "id", TEST_USER_ID);
+        testUser.changeStatus(TEST_USER_STATUS);
+
+        testUser2 = User.createWithPasswordHash(
+            TEST_USER_2_EMAIL,
+            TEST_USER_2_PASSWORD_HASH
+        );
+        ReflectionTestUtils.setField(testUser2, "id", TEST_USER_2_ID);
+        testUser2.changeStatus(TEST_USER_2_STATUS);
+
+        testUserResponse  = UserResponse.from(testUser);
+        testUserResponse2 = UserResponse.from(testUser2);
+
+        createUserRequest = new UserCreateRequest(
             TEST_USER_EMAIL,
             TEST_USER_PASSWORD
         );
@@ -83,77 +130,178 @@ public class UserServiceImplTest {
 
     @Test
     void testFindUserByIdShouldReturnUserWhenUserExists() {
-        when(userRepository.findById(TEST_USER_ID))
-            .thenReturn(Optional.of(testUser));
+        when(userRepository.findById(TEST_USER_ID, UserResponse.class))
+            .thenReturn(Optional.of(testUserResponse));
 
-        final Optional<User> result = userService.findUserById(TEST_USER_ID);
+        final Optional<UserResponse> result = userService.findUserById(TEST_USER_ID);
 
         assertTrue(result.isPresent());
-        assertEquals(testUser, result.get());
+        assertEquals(testUserResponse, result.get());
 
-        verify(userRepository).findById(TEST_USER_ID);
+        verify(userRepository).findById(TEST_USER_ID, UserResponse.class);
+    }
+
+    @Test
+    void testFindUserByEmailShouldGoThroughBatchLoaderWhenEnabled() {
+        when(userBatchLoader.canCoalesce()).thenReturn(true);
+        when(userBatchLoader.loadIdByEmail(TEST_USER_EMAIL)).thenReturn(Optional.of(TEST_USER_ID));
+        when(userBatchLoader.loadById(TEST_USER_ID)).thenReturn(Optional.of(testUserResponse));
+
+        final Optional<UserResponse> result = userService.findUserByEmail(TEST_USER_EMAIL);
+
+        assertEquals(Optional.of(testUserResponse), result);
+        verifyNoInteractions(userRepository);
     }
 
     @Test
     void testFindUserByIdShouldReturnEmptyWhenUserDoesNotExist() {
-        when(userRepository.findById(TEST_USER_ID))
+        when(userRepository.findById(TEST_USER_ID, UserResponse.class))
             .thenReturn(Optional.empty());
 
-        final Optional<User> result = userService.findUserById(TEST_USER_ID);
+        final Optional<UserResponse> result = userService.findUserById(TEST_USER_ID);
 
         assertTrue(result.isEmpty());
 
-        verify(userRepository).findById(TEST_USER_ID);
+        verify(userRepository).findById(TEST_USER_ID, UserResponse.class);
     }
 
     @Test
     void testFindUserByEmailShouldReturnUserWhenUserExists() {
-        when(userRepository.findByEmail(TEST_USER_EMAIL))
-            .thenReturn(Optional.of(testUser));
+        when(userRepository.findByEmail(TEST_USER_EMAIL, UserId.class))
+            .thenReturn(Optional.of(new UserId(TEST_USER_ID)));
+        when(userRepository.findById(TEST_USER_ID, UserResponse.class))
+            .thenReturn(Optional.of(testUserResponse));
 
-        final Optional<User> result = userService.findUserByEmail(TEST_USER_EMAIL);
+        final Optional<UserResponse> result = userService.findUserByEmail(TEST_USER_EMAIL);
 
         assertTrue(result.isPresent());
-        assertEquals(testUser, result.get());
+        assertEquals(testUserResponse, result.get());
 
-        verify(userRepository).findByEmail(TEST_USER_EMAIL);
+        verify(userRepository).findByEmail(TEST_USER_EMAIL, UserId.class);
+        verify(userRepository).findById(TEST_USER_ID, UserResponse.class);
     }
 
     @Test
     void testFindUserByEmailShouldReturnEmptyWhenUserDoesNotExist() {
-        when(userRepository.findByEmail(TEST_USER_EMAIL))
+        when(userRepository.findByEmail(TEST_USER_EMAIL, UserId.class))
+            .thenReturn(Optional.empty());
+
+        final Optional<UserResponse> result = userService.findUserByEmail(TEST_USER_EMAIL);
+
+        assertTrue(result.isEmpty());
+
+        verify(userRepository).findByEmail(TEST_USER_EMAIL, UserId.class);
+        verify(userRepository, never()).findById(any(Long.class), any());
+    }
+
+    @Test
+    void testFindUserByIdShouldServeRepeatedLookupsFromCache() {
+        when(userRepository.findById(TEST_USER_ID, UserResponse.class))
+            .thenReturn(Optional.of(testUserResponse));
+
+        userService.findUserById(TEST_USER_ID);
+        final Optional<UserResponse> result = userService.findUserById(TEST_USER_ID);
+
+        assertEquals(testUserResponse, result.orElseThrow());
+        verify(userRepository, times(1)).findById(TEST_USER_ID, UserResponse.class);
+    }
+
+    @Test
+    void testFindUserByEmailShouldShareCachedUserWithIdLookup() {
+        when(userRepository.findByEmail(TEST_USER_EMAIL, UserId.class))
+            .thenReturn(Optional.of(new UserId(TEST_USER_ID)));
+        when(userRepository.findById(TEST_USER_ID, UserResponse.class))
+            .thenReturn(Optional.of(testUserResponse));
+
+        userService.findUserById(TEST_USER_ID);
+        userService.findUserByEmail(TEST_USER_EMAIL);
+        userService.findUserByEmail(TEST_USER_EMAIL);
+
+        verify(userRepository, times(1)).findByEmail(TEST_USER_EMAIL, UserId.class);
+        verify(userRepository, times(1)).findById(TEST_USER_ID, UserResponse.class);
+    }
+
+    @Test
+    void testChangeUserStatusShouldEvictCachedUser() {
+        final UserResponse before = UserResponse.from(testUser);
+        when(userRepository.findById(TEST_USER_ID, UserResponse.class))
+            .thenReturn(Optional.of(before));
+        when(userRepository.findById(TEST_USER_ID))
             .thenReturn(Optional.of(testUser));
 
-        final Optional<User> result = userService.findUserByEmail(TEST_USER_EMAIL);
+        userService.findUserById(TEST_USER_ID);
+        userService.changeUserStatus(
+            new UserChangeStatusRequest(TEST_USER_ID, UserStatus.SUSPENDED)
+        );
 
-        assertTrue(result.isPresent());
-        assertEquals(testUser, result.get());
+        final UserResponse after = UserResponse.from(testUser);
+        when(userRepository.findById(TEST_USER_ID, UserResponse.class))
+            .thenReturn(Optional.of(after));
+
+        assertEquals(UserStatus.SUSPENDED, userService.findUserById(TEST_USER_ID)
+            .orElseThrow()
+            .status());
+        verify(userCache).invalidate(TEST_USER_ID);
+    }
 
-        verify(userRepository).findByEmail(TEST_USER_EMAIL);
+    @Test
+    void testChangeUserEmailShouldEvictOnlyOldAndNewEmails() {
+        final String newEmail = "changed@example.com";
+        when(userRepository.findByEmail(TEST_USER_EMAIL, UserId.class))
+            .thenReturn(Optional.of(new UserId(TEST_USER_ID)));
+        when(userRepository.findByEmail(TEST_USER_2_EMAIL, UserId.class))
+            .thenReturn(Optional.of(new UserId(TEST_USER_2_ID)));
+        when(userRepository.findById(TEST_USER_ID, UserResponse.class))
+            .thenReturn(Optional.of(testUserResponse));
+        when(userRepository.findById(TEST_USER_2_ID, UserResponse.class))
+            .thenReturn(Optional.of(testUserResponse2));
+        when(userRepository.findById(TEST_USER_ID))
+            .thenReturn(Optional.of(testUser));
+        final String otherCase = TEST_USER_EMAIL.toUpperCase(Locale.ROOT);
+        when(userRepository.findByEmail(otherCase, UserId.class))
+            .thenReturn(Optional.empty());
+        userService.findUserByEmail(TEST_USER_EMAIL);
+        userService.findUserByEmail(TEST_USER_2_EMAIL);
+        assertTrue(userService.findUserByEmail(otherCase)
+            .isPresent());
+
+        userService.changeUserEmail(new UserChangeEmailRequest(TEST_USER_ID, newEmail));
+        // Every spelling of the old address is evicted with it
+        assertTrue(userService.findUserByEmail(otherCase)
+            .isEmpty());
+        userService.findUserByEmail(TEST_USER_EMAIL);
+        userService.findUserByEmail(TEST_USER_2_EMAIL);
+
+        verify(userCache).invalidateEmail(TEST_USER_EMAIL);
+        verify(userCache).invalidateEmail(newEmail);
+        verify(userRepository, times(2)).findByEmail(TEST_USER_EMAIL, UserId.class);
+        verify(userRepository, times(1)).findByEmail(TEST_USER_2_EMAIL, UserId.class);
     }
 
     @Test
     void testFindAllUsersShouldReturnAllUsers() {
 
-        final List<User> users = Arrays.asList(testUser, testUser2);
+        final List<UserResponse> users = Arrays.asList(testUserResponse, testUserResponse2);
 
-        when(userRepository.findAll()).thenReturn(users);
+        when(userRepository.findAllByOrderByIdAsc(UserResponse.class)).thenReturn(users);
 
-        final List<User> result = userService.findAllUsers();
+        final List<UserResponse> result = userService.findAllUsers();
 
         assertEquals(2, result.size());
         assertEquals(users, result);
 
-        verify(userRepository).findAll();
+        verify(userRepository).findAllByOrderByIdAsc(UserResponse.class);
     }
 
     @Test
     void testCreateUserShouldCreateUserWhenEmailDoesNotExist() {
+        when(emailFilterService.mightBeTaken(createUserRequest.email()))
+            .thenReturn(true);
         when(userRepository.existsByEmail(createUserRequest.email()))
             .thenReturn(false);
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(userFactory.createFromDto(createUserRequest))
-            .thenReturn(testUser);
+        when(passwordHashingService.encode(TEST_USER_PASSWORD))
+            .thenReturn(TEST_USER_PASSWORD_HASH);
 
         final User result = userService.createUser(createUserRequest);
 
@@ -163,11 +311,31 @@ public class UserServiceImplTest {
 
         verify(userRepository).existsByEmail(createUserRequest.email());
         verify(userRepository).save(any(User.class));
-        verify(userFactory).createFromDto(createUserRequest);
+        verify(passwordHashingService).encode(TEST_USER_PASSWORD);
+        verify(emailFilterService).recordTaken(createUserRequest.email());
+    }
+
+    @Test
+    void testCreateUserShouldThrowErrorWhenInsertViolatesUniqueEmail() {
+        when(emailFilterService.mightBeTaken(createUserRequest.email()))
+            .thenReturn(true);
+        when(userRepository.existsByEmail(createUserRequest.email()))
+            .thenReturn(false);
+        when(passwordHashingService.encode(TEST_USER_PASSWORD))
+            .thenReturn(TEST_USER_PASSWORD_HASH);
+        when(userRepository.save(any(User.class)))
+            .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThrows(
+            UserAlreadyExistsException.class,
+            () -> userService.createUser(createUserRequest)
+        );
     }
 
     @Test
     void testCreateUserShouldThrowErrowWhenEmailExists() {
+        when(emailFilterService.mightBeTaken(createUserRequest.email()))
+            .thenReturn(true);
         when(userRepository.existsByEmail(createUserRequest.email()))
             .thenReturn(true);
 
@@ -182,6 +350,23 @@ public class UserServiceImplTest {
         );
 
         verify(userRepository).existsByEmail(createUserRequest.email());
+        verify(passwordHashingService, never()).encode(any());
+    }
+
+    @Test
+    void testChangeUserPasswordShouldStoreNewHashWhenUserExists() {
+        final String newHash = "newPasswordHash";
+
+        when(passwordHashingService.encode("newPassword"))
+            .thenReturn(newHash);
+        when(userRepository.findById(TEST_USER_ID))
+            .thenReturn(Optional.of(testUser));
+
+        userService.changeUserPassword(
+            new UserChangePasswordRequest(TEST_USER_ID, "newPassword")
+        );
+
+        assertEquals(newHash, testUser.getPasswordHash());
     }
 
     @Test
@@ -191,11 +376,16 @@ public class UserServiceImplTest {
         when(userRepository.findById(TEST_USER_ID))
             .thenReturn(Optional.of(testUser));
 
-        userService.updateUserStatus(TEST_USER_ID, status);
+        userService.changeUserStatus(
+            new UserChangeStatusRequest(TEST_USER_ID, status)
+        );
 
         assertEquals(status, testUser.getStatus());
 
         verify(userRepository).findById(TEST_USER_ID);
+        verify(eventPublisher).publishEvent(
+            new UserStatusChangedEvent(TEST_USER_ID, TEST_USER_STATUS, status)
+        );
     }
 
     @Test
@@ -205,7 +395,9 @@ public class UserServiceImplTest {
 
         UserNotFoundException exception = assertThrows(
             UserNotFoundException.class,
-            () -> userService.updateUserStatus(userId, status)
+            () -> userService.changeUserStatus(
+                new UserChangeStatusRequest(userId, status)
+            )
         );
 
         assertEquals(
@@ -216,27 +408,137 @@ public class UserServiceImplTest {
         verify(userRepository).findById(userId);
     }
 
+    @Test
+    void testChangeUserStatusesShouldIssueOneUpdatePerCurrentStatus() {
+        final List<Long> ids = List.of(TEST_USER_ID, TEST_USER_2_ID, 3L);
+        when(userRepository.findByIdIn(ids, UserIdStatus.class))
+            .thenReturn(
+                List.of(
+                    new UserIdStatus(TEST_USER_ID, UserStatus.ACTIVE),
+                    new UserIdStatus(TEST_USER_2_ID, UserStatus.INACTIVE),
+                    new UserIdStatus(3L, UserStatus.SUSPENDED)
+                )
+            );
+        when(userRepository.updateStatusByIdInAndStatus(
+            eq(List.of(TEST_USER_ID)),
+            eq(UserStatus.ACTIVE),
+            eq(UserStatus.SUSPENDED),
+            any(LocalDateTime.class)
+        )).thenReturn(1);
+        when(userRepository.updateStatusByIdInAndStatus(
+            eq(List.of(TEST_USER_2_ID)),
+            eq(UserStatus.INACTIVE),
+            eq(UserStatus.SUSPENDED),
+            any(LocalDateTime.class)
+        )).thenReturn(1);
+
+        final long changed = userService.changeUserStatuses(
+            new UserBulkChangeStatusRequest(
+                List.of(TEST_USER_ID, TEST_USER_2_ID, 3L, TEST_USER_ID),
+                UserStatus.SUSPENDED
+            )
+        );
+
+        assertEquals(2, changed);
+        verify(eventPublisher).publishEvent(
+            new UsersStatusChangedEvent(
+                List.of(TEST_USER_ID),
+                UserStatus.ACTIVE,
+                UserStatus.SUSPENDED,
+                1
+            )
+        );
+        verify(userCache).invalidate(TEST_USER_2_ID);
+        verify(userCache, never()).invalidate(3L);
+        verify(userRepository, never()).findById(any(Long.class));
+    }
+
+    @Test
+    void testChangeUserStatusesShouldPublishOnlyUsersTheUpdateMoved() {
+        final List<Long> ids = List.of(TEST_USER_ID, TEST_USER_2_ID);
+        when(userRepository.findByIdIn(ids, UserIdStatus.class))
+            .thenReturn(
+                List.of(
+                    new UserIdStatus(TEST_USER_ID, UserStatus.ACTIVE),
+                    new UserIdStatus(TEST_USER_2_ID, UserStatus.ACTIVE)
+                )
+            );
+        when(userRepository.updateStatusByIdInAndStatus(
+            eq(ids),
+            eq(UserStatus.ACTIVE),
+            eq(UserStatus.SUSPENDED),
+            any(LocalDateTime.class)
+        )).thenReturn(1);
+        when(userRepository.findByIdInAndStatus(ids, UserStatus.SUSPENDED, UserId.class))
+            .thenReturn(List.of(new UserId(TEST_USER_2_ID)));
+
+        final long changed = userService.changeUserStatuses(
+            new UserBulkChangeStatusRequest(ids, UserStatus.SUSPENDED)
+        );
+
+        assertEquals(1, changed);
+        verify(eventPublisher).publishEvent(
+            new UsersStatusChangedEvent(
+                List.of(TEST_USER_2_ID),
+                UserStatus.ACTIVE,
+                UserStatus.SUSPENDED,
+                1
+            )
+        );
+    }
+
+    @Test
+    void testChangeStatusOfUsersCreatedBeforeShouldUpdateEachKeysetChunk() {
+        final LocalDateTime before = LocalDateTime.now();
+        final Window<UserId> chunk = Window.from(
+            List.of(new UserId(TEST_USER_ID), new UserId(TEST_USER_2_ID)),
+            index -> ScrollPosition.keyset()
+        );
+        when(userRepository.findByCreatedAtBeforeAndStatusOrderByIdAsc(
+            eq(before),
+            eq(UserStatus.ACTIVE),
+            any(ScrollPosition.class),
+            any(Limit.class),
+            eq(UserId.class)
+        )).thenReturn(chunk);
+        when(userRepository.updateStatusByIdInAndStatus(
+            eq(List.of(TEST_USER_ID, TEST_USER_2_ID)),
+            eq(UserStatus.ACTIVE),
+            eq(UserStatus.INACTIVE),
+            any(LocalDateTime.class)
+        )).thenReturn(2);
+
+        final long changed = userService.changeStatusOfUsersCreatedBefore(
+            before,
+            UserStatus.ACTIVE,
+            UserStatus.INACTIVE
+        );
+
+        assertEquals(2, changed);
+    }
+
     @Test
     void testFindRecentUsersShouldReturnRecentUsers() {
         final LocalDateTime oneWeekAgo = LocalDateTime.now()
             .minusDays(7L);
-        final List<User> recentUsers = Arrays.asList(testUser);
+        final List<UserResponse> recentUsers = Arrays.asList(testUserResponse);
 
-        when(userRepository.findByCreatedAtAfter(oneWeekAgo))
+        when(userRepository.findByCreatedAtAfterOrderByIdAsc(oneWeekAgo, UserResponse.class))
             .thenReturn(recentUsers);
 
-        final List<User> result = userService.findRecentUsers(oneWeekAgo);
+        final List<UserResponse> result = userService.findRecentUsers(oneWeekAgo);
 
         assertEquals(1, result.size());
-        assertEquals(testUser, result.get(0));
+        assertEquals(testUserResponse, result.get(0));
 
-        verify(userRepository).findByCreatedAtAfter(oneWeekAgo);
+        verify(userRepository).findByCreatedAtAfterOrderByIdAsc(oneWeekAgo, UserResponse.class);
     }
 
     @Test
     void testIsEmailTakenShouldReturnTrueWhenEmailExists() {
         final String email = "existing@example.com";
 
+        when(emailFilterService.mightBeTaken(email)).thenReturn(true);
         when(userRepository.existsByEmail(email)).thenReturn(true);
 
         final boolean result = userService.isEmailTaken(email);
@@ -249,46 +551,60 @@ public class UserServiceImplTest {
     void testIsEmailTakenShouldReturnFalseWhenEmailDoesNotExist() {
         final String email = "existing@example.com";
 
+        when(emailFilterService.mightBeTaken(email)).thenReturn(true);
         when(userRepository.existsByEmail(email)).thenReturn(false);
 
         final boolean result = userService.isEmailTaken(email);
 
         assertFalse(result);
         verify(userRepository).existsByEmail(email);
+        verify(emailFilterService).recordFalsePositive();
+    }
+
+    @Test
+    void testIsEmailTakenShouldSkipDatabaseWhenFilterSaysFree() {
+        final String email = "free@example.com";
+
+        when(emailFilterService.mightBeTaken(email)).thenReturn(false);
+
+        final boolean result = userService.isEmailTaken(email);
+
+        assertFalse(result);
+        verify(userRepository, never()).existsByEmail(email);
     }
 
     @Test
     void testFindUsersByStatusShouldReturnUsersWithGivenStatus() {
         final UserStatus queryStatus = UserStatus.ACTIVE;
-        final List<User> usersWithStatus = Arrays.asList(testUser);
+        final List<UserResponse> usersWithStatus = Arrays.asList(testUserResponse);
 
-        when(userRepository.findByStatus(queryStatus))
+        when(userRepository.findByStatusOrderByIdAsc(queryStatus, UserResponse.class))
             .thenReturn(usersWithStatus);
 
-        final List<User> result = userService.findUsersByStatus(queryStatus);
+        final List<UserResponse> result = userService.findUsersByStatus(queryStatus);
 
         assertEquals(1, result.size());
         assertEquals(usersWithStatus, result);
 
-        verify(userRepository).findByStatus(queryStatus);
+        verify(userRepository).findByStatusOrderByIdAsc(queryStatus, UserResponse.class);
     }
 
     @Test
     void testFindUsersByMultipleStatusReturnUsersWithGivenStatuses() {
         final List<UserStatus> queryStatuses
             = Arrays.asList(UserStatus.ACTIVE, UserStatus.INACTIVE);
-        final List<User> usersWithStatuses = Arrays.asList(testUser, testUser2);
+        final List<UserResponse> usersWithStatuses = Arrays.asList(testUserResponse, testUserResponse2);
 
-        when(userRepository.findByStatusIn(queryStatuses))
+        when(userRepository.findByStatusInOrderByIdAsc(queryStatuses, UserResponse.class))
             .thenReturn(usersWithStatuses);
 
-        final List<User> result
+        final List<UserResponse> result
             = userService.findUsersByMultipleStatus(queryStatuses);
 
         assertEquals(2, result.size());
         assertEquals(usersWithStatuses, result);
 
-        verify(userRepository).findByStatusIn(queryStatuses);
+        verify(userRepository).findByStatusInOrderByIdAsc(queryStatuses, UserResponse.class);
     }
 
     @Test
@@ -296,21 +612,66 @@ public class UserServiceImplTest {
         final LocalDateTime oneWeekAgo = LocalDateTime.now()
             .minusDays(7L);
         final UserStatus queryStatus = UserStatus.ACTIVE;
-        final List<User> recentUsersWithStatus = Arrays.asList(testUser);
+        final List<UserResponse> recentUsersWithStatus = Arrays.asList(testUserResponse);
 
         when(
             userRepository
-                .findByCreatedAtAfterAndStatus(oneWeekAgo, queryStatus)
+                .findByCreatedAtAfterAndStatusOrderByIdAsc(
+                    oneWeekAgo,
+                    queryStatus,
+                    UserResponse.class
+                )
         ).thenReturn(recentUsersWithStatus);
 
-        final List<User> result
+        final List<UserResponse> result
             = userService.findRecentUsersByStatus(oneWeekAgo, queryStatus);
 
         assertEquals(1, result.size());
         assertEquals(recentUsersWithStatus, result);
 
         verify(userRepository)
-            .findByCreatedAtAfterAndStatus(oneWeekAgo, queryStatus);
+            .findByCreatedAtAfterAndStatusOrderByIdAsc(
+                oneWeekAgo,
+                queryStatus,
+                UserResponse.class
+            );
+    }
+
+    @Test
+    void testFindAllUsersShouldCapPageSize() {
+        final ScrollPosition position = ScrollPosition.keyset();
+        final Window<UserResponse> window = Window.from(List.of(testUserResponse), index -> position);
+
+        when(
+            userRepository.findAllByOrderByIdAsc(
+                position,
+                Limit.of(UserServiceImpl.MAX_PAGE_SIZE),
+                UserResponse.class
+            )
+        ).thenReturn(window);
+
+        final Window<UserResponse> result = userService.findAllUsers(position, 10_000);
+
+        assertEquals(window, result);
+    }
+
+    @Test
+    void testFindAllUsersShouldRejectNonPositivePageSize() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> userService.findAllUsers(ScrollPosition.keyset(), 0)
+        );
+    }
+
+    @Test
+    void testForEachUserShouldVisitEachStreamedUser() {
+        when(userRepository.streamAllByOrderByIdAsc(UserResponse.class))
+            .thenReturn(Stream.of(testUserResponse, testUserResponse2));
+        final List<UserResponse> seen = new ArrayList<>();
+
+        userService.forEachUser(seen::add);
+
+        assertEquals(Arrays.asList(testUserResponse, testUserResponse2), seen);
     }
 
 }
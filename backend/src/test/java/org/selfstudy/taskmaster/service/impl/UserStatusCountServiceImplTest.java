@@ -0,0 +1,115 @@
+package org.selfstudy.taskmaster.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.selfstudy.taskmaster.entities.user.dto.UserStatusCount;
+import org.selfstudy.taskmaster.entities.user.dto.UserStatusCounts;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+import org.selfstudy.taskmaster.entities.user.event.UserCreatedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UserStatusChangedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UsersCreatedEvent;
+import org.selfstudy.taskmaster.entities.user.event.UsersStatusChangedEvent;
+import org.selfstudy.taskmaster.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class UserStatusCountServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserStatusCountServiceImpl userStatusCountService;
+
+    @BeforeEach
+    void setup() {
+        userStatusCountService = new UserStatusCountServiceImpl(userRepository);
+    }
+
+    @Test
+    void testGetCountsShouldFollowCommittedChangesWithoutQuerying() {
+        when(userRepository.countGroupedByStatus())
+            .thenReturn(
+                List.of(
+                    new UserStatusCount(UserStatus.ACTIVE, 10),
+                    new UserStatusCount(UserStatus.SUSPENDED, 2)
+                )
+            );
+        userStatusCountService.reconcile();
+
+        userStatusCountService.onUserCreated(new UserCreatedEvent(1L, UserStatus.ACTIVE));
+        userStatusCountService.onUsersCreated(new UsersCreatedEvent(List.of(1L, 2L, 3L, 4L, 5L), UserStatus.ACTIVE));
+        userStatusCountService.onStatusChanged(
+            new UserStatusChangedEvent(1L, UserStatus.ACTIVE, UserStatus.SUSPENDED)
+        );
+        userStatusCountService.onStatusChanged(
+            new UserStatusChangedEvent(2L, UserStatus.ACTIVE, UserStatus.ACTIVE)
+        );
+        userStatusCountService.onStatusesChanged(
+            new UsersStatusChangedEvent(List.of(3L, 4L, 5L), UserStatus.ACTIVE, UserStatus.DELETED, 2)
+        );
+
+        final UserStatusCounts result = userStatusCountService.getCounts();
+
+        assertEquals(13L, result.counts().get(UserStatus.ACTIVE));
+        assertEquals(3L, result.counts().get(UserStatus.SUSPENDED));
+        assertEquals(2L, result.counts().get(UserStatus.DELETED));
+        assertEquals(0L, result.counts().get(UserStatus.PENDING));
+        assertEquals(18L, result.total());
+        assertNotNull(result.reconciledAt());
+    }
+
+    @Test
+    void testReconcileShouldCorrectDriftAndKeepChangesCommittedDuringQuery() {
+        userStatusCountService.onUsersCreated(
+            new UsersCreatedEvent(
+                List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L),
+                UserStatus.ACTIVE
+            )
+        );
+        when(userRepository.countGroupedByStatus())
+            .thenAnswer(invocation -> {
+                // Committed after the query's snapshot, so not in its result
+                userStatusCountService.onUserCreated(new UserCreatedEvent(9L, UserStatus.PENDING));
+                return List.of(new UserStatusCount(UserStatus.ACTIVE, 4));
+            });
+
+        userStatusCountService.reconcile();
+
+        final UserStatusCounts result = userStatusCountService.getCounts();
+        assertEquals(4L, result.counts().get(UserStatus.ACTIVE));
+        assertEquals(1L, result.counts().get(UserStatus.PENDING));
+        assertEquals(5L, result.total());
+    }
+
+    @Test
+    void testReconcileShouldKeepCountsWhenQueryFails() {
+        userStatusCountService.onUsersCreated(new UsersCreatedEvent(List.of(1L, 2L, 3L), UserStatus.ACTIVE));
+        when(userRepository.countGroupedByStatus())
+            .thenThrow(new IllegalStateException("Database unavailable"));
+
+        userStatusCountService.reconcile();
+        userStatusCountService.onUserCreated(new UserCreatedEvent(4L, UserStatus.ACTIVE));
+
+        final UserStatusCounts result = userStatusCountService.getCounts();
+        assertEquals(4L, result.counts().get(UserStatus.ACTIVE));
+        assertNull(result.reconciledAt());
+    }
+
+    @Test
+    void testGetCountsShouldNotTouchDatabase() {
+        userStatusCountService.getCounts();
+
+        verifyNoInteractions(userRepository);
+    }
+
+}
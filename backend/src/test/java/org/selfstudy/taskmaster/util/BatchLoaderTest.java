@@ -0,0 +1,112 @@
+package org.selfstudy.taskmaster.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchLoaderTest {
+
+    private final List<Set<Integer>> loads = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testLoadShouldCoalesceConcurrentLookupsIntoOneBatch() throws Exception {
+        final BatchLoader<Integer, String> loader = loader(Duration.ofMillis(200), 100);
+
+        final List<Optional<String>> results = loadConcurrently(loader, List.of(1, 2, 3, 2, 1, 99));
+
+        assertEquals(1, loads.size());
+        assertEquals(Set.of(1, 2, 3, 99), loads.getFirst());
+        assertEquals(
+            List.of(
+                Optional.of("v1"),
+                Optional.of("v2"),
+                Optional.of("v3"),
+                Optional.of("v2"),
+                Optional.of("v1"),
+                Optional.empty()
+            ),
+            results
+        );
+    }
+
+    @Test
+    void testLoadShouldDispatchFullBatchBeforeWindowEnds() throws Exception {
+        final BatchLoader<Integer, String> loader = loader(Duration.ofSeconds(30), 2);
+
+        final long start = System.nanoTime();
+        loadConcurrently(loader, List.of(1, 2, 3, 4));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start)
+            .compareTo(Duration.ofSeconds(10)) < 0);
+        assertTrue(loads.stream()
+            .allMatch(keys -> keys.size() <= 2));
+        assertEquals(
+            Set.of(1, 2, 3, 4),
+            loads.stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet())
+        );
+    }
+
+    @Test
+    void testLoadShouldRethrowLoaderFailureAndLoadAgainNextTime() {
+        final BatchLoader<Integer, String> failing = new BatchLoader<>(
+            "test",
+            keys -> {
+                throw new IllegalStateException("Database down");
+            },
+            Duration.ZERO,
+            10
+        );
+
+        assertThrows(IllegalStateException.class, () -> failing.load(1));
+        assertThrows(IllegalStateException.class, () -> failing.load(1));
+    }
+
+    private BatchLoader<Integer, String> loader(Duration window, int maxBatchSize) {
+        return new BatchLoader<>(
+            "test",
+            keys -> {
+                loads.add(new HashSet<>(keys));
+                return keys.stream()
+                    .filter(key -> key < 10)
+                    .collect(Collectors.toMap(Function.identity(), key -> "v" + key));
+            },
+            window,
+            maxBatchSize
+        );
+    }
+
+    private static List<Optional<String>> loadConcurrently(
+        BatchLoader<Integer, String> loader,
+        List<Integer> keys
+    ) throws Exception {
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<Optional<String>>> futures = new ArrayList<>();
+            for (Integer key : keys) {
+                futures.add(callers.submit(() -> loader.load(key)));
+            }
+            final List<Optional<String>> results = new ArrayList<>();
+            for (Future<Optional<String>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.selfstudy.taskmaster.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class BloomFilterTest {
+
+    @Test
+    void testMightContainShouldNeverReturnFalseNegatives() {
+        final BloomFilter filter = BloomFilter.create(10_000, 0.01d);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    void testFalsePositiveRateShouldStayNearConfiguredRate() {
+        final BloomFilter filter = BloomFilter.create(10_000, 0.01d);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.02d);
+    }
+
+    @Test
+    void testSizingShouldFollowStandardFormula() {
+        final BloomFilter filter = BloomFilter.create(1_000_000, 0.01d);
+
+        assertEquals(9_585_059L, filter.bitSize());
+        assertEquals(7, filter.hashFunctions());
+        assertEquals(1_198_136L, filter.sizeInBytes());
+    }
+
+    @Test
+    void testApproximateElementCountShouldTrackInsertions() {
+        final BloomFilter filter = BloomFilter.create(10_000, 0.01d);
+        for (int i = 0; i < 5_000; i++) {
+            filter.put("user" + i + "@example.com");
+        }
+
+        final long count = filter.approximateElementCount();
+
+        assertTrue(count > 4_800 && count < 5_200, "count: " + count);
+        assertFalse(filter.put("user1@example.com"));
+    }
+
+    @Test
+    void testCreateShouldRejectInvalidRate() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(10, 1.0d));
+    }
+
+}
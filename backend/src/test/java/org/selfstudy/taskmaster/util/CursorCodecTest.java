@@ -0,0 +1,30 @@
+package org.selfstudy.taskmaster.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.selfstudy.taskmaster.exception.InvalidQueryParameterException;
+
+public class CursorCodecTest {
+
+    @Test
+    void testDecodeShouldReturnEncodedParts() {
+        final String cursor = CursorCodec.encode("2025-01-01T10:15:30.123456", "42");
+
+        assertArrayEquals(
+            new String[] { "2025-01-01T10:15:30.123456", "42" },
+            CursorCodec.decode(cursor, 2)
+        );
+    }
+
+    @Test
+    void testDecodeShouldRejectTamperedOrMismatchedCursors() {
+        final String cursor = CursorCodec.encode("42");
+
+        assertThrows(InvalidQueryParameterException.class, () -> CursorCodec.decode(cursor, 2));
+        assertThrows(InvalidQueryParameterException.class, () -> CursorCodec.decode("not base64!", 1));
+        assertThrows(InvalidQueryParameterException.class, () -> CursorCodec.decode("Mnw0Mg", 1));
+    }
+
+}
@@ -0,0 +1,79 @@
+package org.selfstudy.taskmaster.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class RingBufferTest {
+
+    @Test
+    void testOfferShouldFailWhenFullUntilDrainFreesSlots() {
+        final RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        final List<Integer> drained = new ArrayList<>();
+        // Three laps, so every slot is reused
+        for (int i = 0; i < 12; i += 4) {
+            for (int j = i; j < i + 4; j++) {
+                assertTrue(buffer.offer(j));
+            }
+            assertFalse(buffer.offer(-1));
+            assertEquals(4, buffer.size());
+
+            assertEquals(3, buffer.drain(drained, 3));
+            assertTrue(buffer.offer(-1));
+            assertEquals(2, buffer.drain(new ArrayList<>(), 10));
+            assertTrue(buffer.isEmpty());
+        }
+
+        assertEquals(List.of(0, 1, 2, 4, 5, 6, 8, 9, 10), drained);
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(6));
+    }
+
+    @Test
+    void testDrainShouldReceiveEveryElementOnceInEachProducersOrder() throws Exception {
+        final int producers = 4;
+        final int perProducer = 20_000;
+        final RingBuffer<long[]> buffer = new RingBuffer<>(64);
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                final int producer = p;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        final long[] element = { producer, i };
+                        while (!buffer.offer(element)) {
+                            Thread.yield();
+                        }
+                    }
+                }));
+            }
+
+            final int[] next = new int[producers];
+            final List<long[]> batch = new ArrayList<>();
+            for (int received = 0; received < producers * perProducer; ) {
+                batch.clear();
+                received += buffer.drain(batch, 16);
+                for (long[] element : batch) {
+                    assertEquals(next[(int) element[0]]++, element[1]);
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            assertTrue(buffer.isEmpty());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
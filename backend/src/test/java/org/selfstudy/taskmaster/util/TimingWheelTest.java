@@ -0,0 +1,85 @@
+package org.selfstudy.taskmaster.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    void testAdvanceShouldExpireEntriesOnFirstTickAtOrAfterDeadline() {
+        final TimingWheel<String, String> wheel = new TimingWheel<>(Duration.ofMillis(10), 4, 2, START);
+        wheel.schedule("a", "a", START + 25);
+
+        assertEquals(List.of(), wheel.advance(START + 29));
+        assertEquals(List.of("a"), wheel.advance(START + 30));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvanceShouldCascadeAndReplaceEntriesBeyondTopLevel() {
+        // 4 slots on 2 levels cover 16 ticks; the rest wait on the top level
+        final TimingWheel<Integer, Integer> wheel = new TimingWheel<>(Duration.ofMillis(1), 4, 2, START);
+        final Random random = new Random(42);
+        final List<Integer> deadlines = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            final int offset = random.nextInt(200);
+            deadlines.add(offset);
+            wheel.schedule(i, offset, START + offset);
+        }
+
+        final List<Integer> fired = new ArrayList<>();
+        for (long now = START; now <= START + 200; now++) {
+            for (int offset : wheel.advance(now)) {
+                assertEquals(now - START, offset, "fired at the wrong tick");
+                fired.add(offset);
+            }
+        }
+
+        assertEquals(deadlines.size(), fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvanceShouldExpireEverythingPassedInOneLargeStep() {
+        final TimingWheel<Integer, Integer> wheel = new TimingWheel<>(Duration.ofMillis(1), 8, 3, START);
+        wheel.schedule(1, 1, START + 3);
+        wheel.schedule(2, 2, START + 700);
+        wheel.schedule(3, 3, START + 100_000);
+
+        assertEquals(List.of(1, 2), wheel.advance(START + 5_000));
+        assertEquals(List.of(3), wheel.advance(START + 100_000));
+    }
+
+    @Test
+    void testScheduleShouldMoveExistingKeyAndCancelShouldRemoveIt() {
+        final TimingWheel<String, String> wheel = new TimingWheel<>(Duration.ofMillis(1), 4, 3, START);
+        wheel.schedule("moved", "early", START + 5);
+        wheel.schedule("moved", "late", START + 50);
+        wheel.schedule("cancelled", "x", START + 5);
+        wheel.schedule("overdue", "now", START - 5);
+
+        assertFalse(wheel.scheduleIfAbsent("moved", "again", START + 1));
+        assertTrue(wheel.cancel("cancelled"));
+        assertFalse(wheel.cancel("cancelled"));
+
+        assertEquals(List.of("now"), wheel.advance(START + 10));
+        assertEquals(List.of("late"), wheel.advance(START + 50));
+    }
+
+    @Test
+    void testConstructorShouldRejectWheelSizeThatIsNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<>(Duration.ofSeconds(1), 60, 3, START));
+    }
+
+}
@@ -0,0 +1,75 @@
+package org.selfstudy.taskmaster.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.selfstudy.taskmaster.security.Argon2MemoryPool;
+import org.selfstudy.taskmaster.security.PooledArgon2PasswordEncoder;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Spring's Argon2 encoder against the pooled one under concurrent logins.
+ * Sample mode reports p50/p99 per verification; run with {@code -prof gc}
+ * for the allocation rate, where {@code gc.alloc.rate.norm} is bytes per
+ * verification, e.g.
+ * {@code -Djmh.args="Argon2AllocationBenchmark -prof gc -rf json -rff target/argon2.json"}.
+ * Each parameter set reads {@code memoryKiB/iterations}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 4)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = { "-Xms512m", "-Xmx512m" })
+public class Argon2AllocationBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({ "bouncycastle", "pooled" })
+    public String implementation;
+
+    @Param({ "4096/3", "19456/2" })
+    public String parameters;
+
+    private PasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setup() {
+        final String[] values = parameters.split("/");
+        final int memory = Integer.parseInt(values[0]);
+        final int iterations = Integer.parseInt(values[1]);
+        encoder = switch (implementation) {
+            case "bouncycastle" -> new Argon2PasswordEncoder(16, 32, 1, memory, iterations);
+            case "pooled" -> new PooledArgon2PasswordEncoder(
+                16,
+                32,
+                1,
+                memory,
+                iterations,
+                new Argon2MemoryPool(4, memory)
+            );
+            default -> throw new IllegalArgumentException(implementation);
+        };
+        hash    = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, hash);
+    }
+
+}
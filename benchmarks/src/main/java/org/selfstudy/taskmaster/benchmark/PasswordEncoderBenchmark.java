@@ -0,0 +1,69 @@
+package org.selfstudy.taskmaster.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+
+/**
+ * Argon2 cost at the production parameters and the alternatives we would
+ * consider moving to. Each parameter set reads
+ * {@code saltLength,hashLength,parallelism,memoryKiB,iterations}; the first
+ * is what {@code SecurityConfig} uses today.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({
+        "16,32,1,4096,3",
+        "16,32,1,19456,2",
+        "16,32,1,47104,1",
+        "16,32,1,65536,3",
+        "16,32,2,16384,3"
+    })
+    public String parameters;
+
+    private Argon2PasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setup() {
+        final String[] values = parameters.split(",");
+        encoder = new Argon2PasswordEncoder(
+            Integer.parseInt(values[0]),
+            Integer.parseInt(values[1]),
+            Integer.parseInt(values[2]),
+            Integer.parseInt(values[3]),
+            Integer.parseInt(values[4])
+        );
+        hash    = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, hash);
+    }
+
+}
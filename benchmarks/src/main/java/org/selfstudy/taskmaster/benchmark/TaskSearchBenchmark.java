@@ -0,0 +1,124 @@
+package org.selfstudy.taskmaster.benchmark;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.selfstudy.taskmaster.TaskmasterApplication;
+import org.selfstudy.taskmaster.entities.task.dto.TaskResponse;
+import org.selfstudy.taskmaster.repository.TaskRepository;
+import org.selfstudy.taskmaster.service.TaskSearchService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Task search for one user owning {@code tasks} tasks, through the in-memory
+ * index and through the {@code LIKE '%term%'} query it replaces, on an
+ * embedded H2 file database seeded once per size.
+ *
+ * Task {@code n} is titled with one of eight topics and the quarter
+ * {@code q1} to {@code q4}, so "rep" matches an eighth of the tasks as a
+ * prefix and "report q3" a thirty-second. Both paths return the newest
+ * {@value #LIMIT} matches as full rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TaskSearchBenchmark {
+
+    private static final int LIMIT = 20;
+
+    @Param({ "1000", "10000", "100000" })
+    public int tasks;
+
+    @Param({ "rep", "report q3" })
+    public String query;
+
+    private ConfigurableApplicationContext context;
+    private TaskSearchService taskSearchService;
+    private TaskRepository taskRepository;
+    private Long ownerId;
+    private String pattern;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context           = new SpringApplicationBuilder(TaskmasterApplication.class).run(
+            "--spring.profiles.active=test",
+            "--spring.main.web-application-type=none",
+            "--spring.datasource.url=jdbc:h2:file:./target/h2/tasks-" + tasks,
+            "--spring.jpa.properties.hibernate.generate_statistics=false",
+            "--taskmaster.user-cache.enabled=false",
+            "--taskmaster.email-filter.enabled=false",
+            "--taskmaster.task-search.warm-on-startup=false",
+            "--logging.level.root=WARN"
+        );
+        taskSearchService = context.getBean(TaskSearchService.class);
+        taskRepository    = context.getBean(TaskRepository.class);
+        ownerId           = seed(context.getBean(JdbcTemplate.class), tasks);
+        pattern           = "%" + query.toLowerCase(Locale.ROOT) + "%";
+        // Build the index outside the measurement
+        taskSearchService.search(ownerId, query, LIMIT);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        context.close();
+    }
+
+    private static Long seed(JdbcTemplate jdbc, int tasks) {
+        final Long existing = jdbc.queryForObject("SELECT COUNT(*) FROM tasks", Long.class);
+        if (existing == null || existing != tasks) {
+            jdbc.update("DELETE FROM tasks");
+            jdbc.update("DELETE FROM users");
+            jdbc.update(
+                "INSERT INTO users (email, password_hash, created_at, status) VALUES ('owner@example.com', 'hash', CURRENT_TIMESTAMP, 'ACTIVE')"
+            );
+            jdbc.update(
+                """
+                    INSERT INTO tasks (owner_id, title, description, status, created_at)
+                    SELECT (SELECT id FROM users),
+                           CASE MOD(X, 8) WHEN 0 THEN 'Report' WHEN 1 THEN 'Invoice' WHEN 2 THEN 'Meeting'
+                                WHEN 3 THEN 'Review' WHEN 4 THEN 'Deploy' WHEN 5 THEN 'Budget'
+                                WHEN 6 THEN 'Hiring' ELSE 'Backlog' END
+                               || ' q' || (MOD(X / 8, 4) + 1) || ' #' || X,
+                           'Follow up on item ' || X || ' with the team',
+                           'TODO',
+                           CURRENT_TIMESTAMP
+                    FROM SYSTEM_RANGE(1, ?)
+                    """,
+                tasks
+            );
+            jdbc.execute("ANALYZE");
+        }
+        return jdbc.queryForObject("SELECT id FROM users", Long.class);
+    }
+
+    @Benchmark
+    public List<TaskResponse> index() {
+        return taskSearchService.search(ownerId, query, LIMIT);
+    }
+
+    @Benchmark
+    public List<TaskResponse> like() {
+        return taskRepository.searchByOwnerIdAndPattern(ownerId, pattern, Limit.of(LIMIT));
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.selfstudy.taskmaster.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.selfstudy.taskmaster.entities.user.User;
+import org.selfstudy.taskmaster.entities.user.dto.UserCreateRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Cost of building a {@link User} from a request with hashing taken out, so
+ * changes to the entity itself are visible under the Argon2 noise.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserCreateBenchmark {
+
+    private static final PasswordEncoder PASS_THROUGH = new PasswordEncoder() {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.contentEquals(rawPassword);
+        }
+
+    };
+
+    private final UserCreateRequest request = new UserCreateRequest("bench@example.com", "password123");
+
+    @Benchmark
+    public User createFromDto() {
+        return User.createFromDto(request, PASS_THROUGH);
+    }
+
+}
@@ -0,0 +1,298 @@
+package org.selfstudy.taskmaster.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.selfstudy.taskmaster.TaskmasterApplication;
+import org.selfstudy.taskmaster.entities.user.User;
+import org.selfstudy.taskmaster.entities.user.dto.UserEmail;
+import org.selfstudy.taskmaster.entities.user.dto.UserId;
+import org.selfstudy.taskmaster.entities.user.dto.UserResponse;
+import org.selfstudy.taskmaster.entities.user.enums.UserStatus;
+import org.selfstudy.taskmaster.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Every bounded {@link UserRepository} query against an embedded H2 file
+ * database seeded with {@code rows} users. Seeding happens once per size and
+ * is reused by later runs, since the 10M database takes minutes to build.
+ *
+ * User {@code n} has email {@code user<n>@example.com}, was created {@code n}
+ * seconds after 2020-01-01 and is SUSPENDED every 100th row, INACTIVE every
+ * 10th and ACTIVE otherwise. "Recent" queries therefore return the newest
+ * {@value #RECENT_ROWS} rows. Queries without a bound on their result, such
+ * as {@code findAll} or {@code findByStatus}, scale with the table rather
+ * than the query plan and are measured through their paged variants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class UserRepositoryBenchmark {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final int PAGE_SIZE = 50;
+    private static final int BATCH_SIZE = 100;
+    private static final int RECENT_ROWS = 1000;
+
+    @Param({ "10000", "1000000", "10000000" })
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private TransactionTemplate readOnly;
+    private LocalDateTime recent;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context        = new SpringApplicationBuilder(TaskmasterApplication.class).run(
+            "--spring.profiles.active=test",
+            "--spring.main.web-application-type=none",
+            "--spring.datasource.url=jdbc:h2:file:./target/h2/users-" + rows,
+            "--spring.jpa.properties.hibernate.generate_statistics=false",
+            "--taskmaster.user-cache.enabled=false",
+            "--taskmaster.email-filter.enabled=false",
+            "--logging.level.root=WARN"
+        );
+        userRepository = context.getBean(UserRepository.class);
+        readOnly       = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        recent         = EPOCH.plusSeconds(rows - RECENT_ROWS);
+        seed(context.getBean(JdbcTemplate.class), rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        context.close();
+    }
+
+    private static void seed(JdbcTemplate jdbc, int rows) {
+        final Long existing = jdbc.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        if (existing != null && existing == rows) {
+            return;
+        }
+        jdbc.update("DELETE FROM users");
+        jdbc.update(
+            """
+                INSERT INTO users (id, email, password_hash, created_at, status)
+                SELECT X,
+                       'user' || X || '@example.com',
+                       'hash',
+                       DATEADD(SECOND, X, TIMESTAMP '2020-01-01 00:00:00'),
+                       CASE WHEN MOD(X, 100) = 0 THEN 'SUSPENDED'
+                            WHEN MOD(X, 10) = 0 THEN 'INACTIVE'
+                            ELSE 'ACTIVE' END
+                FROM SYSTEM_RANGE(1, ?)
+                """,
+            rows
+        );
+        jdbc.execute("ALTER SEQUENCE users_seq RESTART WITH " + (rows + 1));
+        jdbc.execute("ANALYZE");
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current()
+            .nextLong(1, rows + 1);
+    }
+
+    private String randomEmail() {
+        return "user" + randomId() + "@example.com";
+    }
+
+    private List<Long> randomIds() {
+        final List<Long> ids = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            ids.add(randomId());
+        }
+        return ids;
+    }
+
+    private ScrollPosition randomIdPosition() {
+        return ScrollPosition.forward(Map.of("id", randomId()));
+    }
+
+    @Benchmark
+    public Optional<User> findById() {
+        return userRepository.findById(randomId());
+    }
+
+    @Benchmark
+    public Optional<UserResponse> findByIdProjection() {
+        return userRepository.findById(randomId(), UserResponse.class);
+    }
+
+    @Benchmark
+    public Optional<User> findByEmail() {
+        return userRepository.findByEmail(randomEmail());
+    }
+
+    @Benchmark
+    public Optional<UserId> findByEmailProjection() {
+        return userRepository.findByEmail(randomEmail(), UserId.class);
+    }
+
+    @Benchmark
+    public boolean existsByEmail() {
+        return userRepository.existsByEmail(randomEmail());
+    }
+
+    @Benchmark
+    public List<UserEmail> findByEmailIn() {
+        final List<String> emails = randomIds().stream()
+            .map(id -> "user" + id + "@example.com")
+            .toList();
+        return userRepository.findByEmailIn(emails, UserEmail.class);
+    }
+
+    @Benchmark
+    public List<UserResponse> findByIdIn() {
+        return userRepository.findByIdIn(randomIds(), UserResponse.class);
+    }
+
+    @Benchmark
+    public long countByStatus() {
+        return userRepository.countByStatus(UserStatus.SUSPENDED);
+    }
+
+    @Benchmark
+    public List<User> findByCreatedAtAfter() {
+        return userRepository.findByCreatedAtAfter(recent);
+    }
+
+    @Benchmark
+    public List<User> findByCreatedAtAfterAndStatus() {
+        return userRepository.findByCreatedAtAfterAndStatus(recent, UserStatus.ACTIVE);
+    }
+
+    @Benchmark
+    public List<UserResponse> findByCreatedAtAfterOrderByIdAsc() {
+        return userRepository.findByCreatedAtAfterOrderByIdAsc(recent, UserResponse.class);
+    }
+
+    @Benchmark
+    public List<UserResponse> findByCreatedAtAfterAndStatusOrderByIdAsc() {
+        return userRepository.findByCreatedAtAfterAndStatusOrderByIdAsc(
+            recent,
+            UserStatus.ACTIVE,
+            UserResponse.class
+        );
+    }
+
+    @Benchmark
+    public long streamByCreatedAtAfterOrderByIdAsc() {
+        return readOnly.execute(status -> {
+            try (var users = userRepository.streamByCreatedAtAfterOrderByIdAsc(recent, UserResponse.class)) {
+                return users.count();
+            }
+        });
+    }
+
+    @Benchmark
+    public Window<UserResponse> findAllByOrderByIdAscPage() {
+        return userRepository.findAllByOrderByIdAsc(
+            randomIdPosition(),
+            Limit.of(PAGE_SIZE),
+            UserResponse.class
+        );
+    }
+
+    @Benchmark
+    public Window<UserResponse> findByStatusOrderByIdAscPage() {
+        return userRepository.findByStatusOrderByIdAsc(
+            UserStatus.INACTIVE,
+            randomIdPosition(),
+            Limit.of(PAGE_SIZE),
+            UserResponse.class
+        );
+    }
+
+    @Benchmark
+    public Window<UserResponse> findByStatusInOrderByIdAscPage() {
+        return userRepository.findByStatusInOrderByIdAsc(
+            List.of(UserStatus.INACTIVE, UserStatus.SUSPENDED),
+            randomIdPosition(),
+            Limit.of(PAGE_SIZE),
+            UserResponse.class
+        );
+    }
+
+    @Benchmark
+    public Window<UserResponse> findByCreatedAtAfterOrderByCreatedAtAscIdAscPage() {
+        return userRepository.findByCreatedAtAfterOrderByCreatedAtAscIdAsc(
+            EPOCH.plusSeconds(randomId()),
+            ScrollPosition.keyset(),
+            Limit.of(PAGE_SIZE),
+            UserResponse.class
+        );
+    }
+
+    @Benchmark
+    public Window<UserResponse> findByCreatedAtAfterAndStatusOrderByCreatedAtAscIdAscPage() {
+        return userRepository.findByCreatedAtAfterAndStatusOrderByCreatedAtAscIdAsc(
+            EPOCH.plusSeconds(randomId()),
+            UserStatus.INACTIVE,
+            ScrollPosition.keyset(),
+            Limit.of(PAGE_SIZE),
+            UserResponse.class
+        );
+    }
+
+    @Benchmark
+    public Window<UserResponse> findByCreatedAtBeforeAndStatusOrderByIdAscPage() {
+        return userRepository.findByCreatedAtBeforeAndStatusOrderByIdAsc(
+            EPOCH.plusSeconds(rows),
+            UserStatus.SUSPENDED,
+            randomIdPosition(),
+            Limit.of(PAGE_SIZE),
+            UserResponse.class
+        );
+    }
+
+    @Benchmark
+    public List<UserResponse> findByStatusAndIdGreaterThanOrderByIdAsc() {
+        return userRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+            UserStatus.INACTIVE,
+            randomId(),
+            Limit.of(PAGE_SIZE),
+            UserResponse.class
+        );
+    }
+
+    @Benchmark
+    public List<UserResponse> findByCreatedAtAndIdAfter() {
+        final long id = randomId();
+        return userRepository.findByCreatedAtAndIdAfter(
+            EPOCH.plusSeconds(id),
+            id,
+            Limit.of(PAGE_SIZE)
+        );
+    }
+
+}